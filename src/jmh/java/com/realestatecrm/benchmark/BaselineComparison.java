@@ -0,0 +1,110 @@
+package com.realestatecrm.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline of the same format and exits with status 1 when
+ * any benchmark is worse than its baseline by more than the tolerance and the two 99.9% confidence
+ * intervals ({@code score ± scoreError}) do not overlap, so run-to-run noise of a single fork does not fail
+ * the build. Benchmarks are matched by name and parameters; for average-time modes lower is better, for
+ * throughput higher is better. Benchmarks missing from either file are listed but never fail the comparison.
+ * <p>
+ * Arguments: {@code <result.json> <baseline.json> <tolerance percent>}. Without a baseline file the
+ * comparison is skipped; to record one, copy a result file to the baseline path. No baseline is committed:
+ * scores only compare on the machine that produced them, so record it on the machine that runs the check.
+ */
+public final class BaselineComparison {
+
+    private BaselineComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BaselineComparison <result.json> <baseline.json> <tolerance percent>");
+            System.exit(2);
+        }
+        File resultFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        double tolerance = Double.parseDouble(args[2]) / 100;
+
+        if (!baselineFile.isFile()) {
+            System.out.printf("No baseline at %s, comparison skipped. Copy %s there to record one.%n",
+                    baselineFile, resultFile);
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> results = byKey(objectMapper.readTree(resultFile));
+        Map<String, JsonNode> baseline = byKey(objectMapper.readTree(baselineFile));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("NEW        %s%n", entry.getKey());
+                continue;
+            }
+            JsonNode current = entry.getValue();
+            double score = current.path("primaryMetric").path("score").asDouble();
+            double error = error(current);
+            double baselineScore = previous.path("primaryMetric").path("score").asDouble();
+            double baselineError = error(previous);
+            String unit = current.path("primaryMetric").path("scoreUnit").asText();
+            boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+
+            // Positive change = slower, whatever the mode
+            double change = baselineScore == 0 ? 0
+                    : (higherIsBetter ? baselineScore - score : score - baselineScore) / baselineScore;
+            boolean separated = higherIsBetter
+                    ? score + error < baselineScore - baselineError
+                    : score - error > baselineScore + baselineError;
+            boolean regressed = change > tolerance && separated;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f +/- %.3f %s (baseline %.3f +/- %.3f, %+.1f%%)%n",
+                    regressed ? "REGRESSED" : change > tolerance ? "NOISY" : "OK", entry.getKey(), score, error,
+                    unit, baselineScore, baselineError, change * 100);
+        }
+        for (String key : baseline.keySet()) {
+            if (!results.containsKey(key)) {
+                System.out.printf("NOT RUN    %s%n", key);
+            }
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) more than %s%% slower than the baseline, outside its error%n",
+                    regressions, args[2]);
+            System.exit(1);
+        }
+    }
+
+    // Half-width of the confidence interval; JMH writes NaN when there were too few iterations to compute one
+    private static double error(JsonNode run) {
+        double error = run.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    // benchmark name plus its parameters, e.g. "...SearchMatchBenchmark.match{attributeValues=100000}"
+    private static Map<String, JsonNode> byKey(JsonNode runs) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            Map<String, String> params = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.put(field.getKey(), field.getValue().asText());
+            }
+            byKey.put(run.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString()), run);
+        }
+        return byKey;
+    }
+}
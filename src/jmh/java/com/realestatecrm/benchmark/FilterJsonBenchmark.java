@@ -0,0 +1,83 @@
+package com.realestatecrm.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
+import com.realestatecrm.enums.PropertyDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saved search filter JSON, written on every save and read on every execution and listing. The mapper is
+ * configured like the one in SavedSearchService; the filter list has one filter of each data type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterJsonBenchmark {
+
+    private static final TypeReference<List<SearchFilterDTO>> SEARCH_FILTER_LIST_TYPE = new TypeReference<>() {};
+
+    private ObjectMapper objectMapper;
+    private List<SearchFilterDTO> filters;
+    private String filtersJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        SearchFilterDTO bedrooms = filter(1L, PropertyDataType.NUMBER);
+        bedrooms.setMinValue(BigDecimal.valueOf(2));
+        bedrooms.setMaxValue(BigDecimal.valueOf(4));
+        SearchFilterDTO listed = filter(2L, PropertyDataType.DATE);
+        listed.setMinDate(LocalDate.of(2024, 1, 1));
+        listed.setMaxDate(LocalDate.of(2024, 12, 31));
+        SearchFilterDTO city = filter(3L, PropertyDataType.TEXT);
+        city.setTextValue("Springfield");
+        SearchFilterDTO style = filter(4L, PropertyDataType.SINGLE_SELECT);
+        style.setSelectedValues(List.of("Colonial", "Ranch"));
+        SearchFilterDTO features = filter(5L, PropertyDataType.MULTI_SELECT);
+        features.setSelectedValues(List.of("pool", "garden", "fireplace"));
+        SearchFilterDTO garage = filter(6L, PropertyDataType.BOOLEAN);
+        garage.setBooleanValue(true);
+
+        filters = List.of(bedrooms, listed, city, style, features, garage);
+        filtersJson = objectMapper.writeValueAsString(filters);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(filters);
+    }
+
+    @Benchmark
+    public List<SearchFilterDTO> deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(filtersJson, SEARCH_FILTER_LIST_TYPE);
+    }
+
+    private static SearchFilterDTO filter(long attributeId, PropertyDataType dataType) {
+        SearchFilterDTO filter = new SearchFilterDTO();
+        filter.setAttributeId(attributeId);
+        filter.setDataType(dataType);
+        return filter;
+    }
+}
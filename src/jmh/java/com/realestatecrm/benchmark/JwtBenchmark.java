@@ -0,0 +1,70 @@
+package com.realestatecrm.benchmark;
+
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.security.JwtUtils;
+import com.realestatecrm.service.CustomUserDetailsService.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing at login and verification, which AuthTokenFilter does twice on every authenticated
+ * request (validate, then read the subject).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    // 512-bit key, as produced by `openssl rand -base64 64`
+    private static final String SECRET = "bS6w1u0Yk3mJqvZ9pXr4eT7yH2cN8aLdF5gK1sQzV0xW3oP6iU9jB4nM7tR2eY5hA8cD1fG4kL7qS0vX3zC6bN9m";
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        // @Value fields in the application
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+
+        User user = new User("agent", "password", "agent@example.com", Role.AGENT);
+        user.setId(1L);
+        UserPrincipal principal = UserPrincipal.create(user);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String verifyAndReadSubject() {
+        return jwtUtils.getUsernameFromJwtToken(token);
+    }
+}
@@ -0,0 +1,114 @@
+package com.realestatecrm.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.realestatecrm.dto.property.response.AttributeValueResponse;
+import com.realestatecrm.dto.property.response.PropertyResponse;
+import com.realestatecrm.dto.savedsearch.SavedSearchResponse;
+import com.realestatecrm.entity.AttributeValue;
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.entity.PropertyAttribute;
+import com.realestatecrm.entity.SavedSearch;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.PropertyCategory;
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.mapper.PropertyMapper;
+import com.realestatecrm.mapper.SavedSearchMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers on the response path: a listing with and without its attribute values, and a saved
+ * search, whose mapping parses the stored filter JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    // Attribute values of a typical detailed listing
+    private static final int ATTRIBUTE_VALUES = 20;
+
+    private PropertyMapper propertyMapper;
+    private SavedSearchMapper savedSearchMapper;
+    private Property property;
+    private List<AttributeValueResponse> attributeValues;
+    private SavedSearch savedSearch;
+
+    @Setup
+    public void setUp() {
+        propertyMapper = Mappers.getMapper(PropertyMapper.class);
+        savedSearchMapper = Mappers.getMapper(SavedSearchMapper.class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        // Injected by Spring in the application
+        ReflectionTestUtils.setField(savedSearchMapper, "objectMapper", objectMapper);
+
+        User agent = new User("agent", "password", "agent@example.com", Role.AGENT);
+        agent.setId(1L);
+        agent.setFirstName("Jane");
+        agent.setLastName("Agent");
+
+        property = new Property("Colonial on Elm Street", new BigDecimal("485000"), agent);
+        property.setId(10L);
+        property.setDescription("Four bedroom colonial with a renovated kitchen");
+        property.setCreatedDate(LocalDateTime.of(2024, 5, 1, 9, 0));
+
+        List<AttributeValue> values = new ArrayList<>(ATTRIBUTE_VALUES);
+        for (int i = 0; i < ATTRIBUTE_VALUES; i++) {
+            PropertyAttribute attribute = new PropertyAttribute("Attribute " + i, PropertyDataType.NUMBER, PropertyCategory.BASIC);
+            attribute.setId((long) i);
+            AttributeValue value = new AttributeValue(property, attribute);
+            value.setId(100L + i);
+            value.setNumberValue(BigDecimal.valueOf(i));
+            values.add(value);
+        }
+        // The with-attributes endpoint gets its values already mapped from the attribute-value query
+        attributeValues = propertyMapper.toAttributeValueResponseList(values);
+
+        Customer customer = new Customer("John", "Buyer", "555-0100", agent);
+        customer.setId(20L);
+        savedSearch = new SavedSearch(customer, "Family homes", "Three bedrooms and up with a garden",
+                "[{\"attributeId\":1,\"dataType\":\"NUMBER\",\"minValue\":3,\"maxValue\":5},"
+                        + "{\"attributeId\":3,\"dataType\":\"MULTI_SELECT\",\"selectedValues\":[\"garden\",\"pool\"]},"
+                        + "{\"attributeId\":6,\"dataType\":\"BOOLEAN\",\"booleanValue\":true}]");
+        savedSearch.setId(30L);
+        savedSearch.setCreatedDate(LocalDateTime.of(2024, 6, 1, 9, 0));
+    }
+
+    @Benchmark
+    public PropertyResponse property() {
+        return propertyMapper.toResponse(property);
+    }
+
+    @Benchmark
+    public PropertyResponse propertyWithAttributes() {
+        return propertyMapper.toResponse(property, attributeValues);
+    }
+
+    @Benchmark
+    public SavedSearchResponse savedSearch() {
+        return savedSearchMapper.toResponse(savedSearch);
+    }
+}
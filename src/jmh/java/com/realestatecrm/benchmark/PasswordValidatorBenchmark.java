@@ -0,0 +1,72 @@
+package com.realestatecrm.benchmark;
+
+import com.realestatecrm.dto.user.request.CreateUserRequest;
+import com.realestatecrm.validation.PasswordValidator;
+import com.realestatecrm.validation.ValidPassword;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password strength check: the validator on its own for an accepted password, and through Bean
+ * Validation on CreateUserRequest for accepted and rejected ones (a rejection builds its message).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordValidatorBenchmark {
+
+    private static final String STRONG_PASSWORD = "Str0ng!Passw0rd";
+    private static final String WEAK_PASSWORD = "weakpassword";
+
+    private PasswordValidator passwordValidator;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        passwordValidator = new PasswordValidator();
+        passwordValidator.initialize(CreateUserRequest.class.getDeclaredField("password").getAnnotation(ValidPassword.class));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean validatorAccepts() {
+        // An accepted password never touches the context
+        return passwordValidator.isValid(STRONG_PASSWORD, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateUserRequest>> beanValidationAccepts() {
+        return validator.validateValue(CreateUserRequest.class, "password", STRONG_PASSWORD);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateUserRequest>> beanValidationRejects() {
+        return validator.validateValue(CreateUserRequest.class, "password", WEAK_PASSWORD);
+    }
+}
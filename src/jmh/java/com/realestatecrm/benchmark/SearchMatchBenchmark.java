@@ -0,0 +1,119 @@
+package com.realestatecrm.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.repository.projection.AttributeValueRow;
+import com.realestatecrm.repository.projection.PropertySearchRow;
+import com.realestatecrm.search.PropertySearchMatcher;
+import com.realestatecrm.search.PropertySearchSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Match stage of the property search over synthetic snapshots of 10k, 100k and 1M attribute values:
+ * building the per-listing index from the fetched rows, then filtering and sorting it with one filter
+ * per common data type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SearchMatchBenchmark {
+
+    private static final long BEDROOMS = 1L;
+    private static final long GARAGE = 2L;
+    private static final long FEATURES = 3L;
+    private static final long CITY = 4L;
+    // Every listing has a value for each attribute above
+    private static final int ATTRIBUTES_PER_LISTING = 4;
+
+    private static final String[] FEATURE_OPTIONS = {"pool", "garden", "balcony", "fireplace", "basement"};
+    private static final String[] CITIES = {"Springfield", "Riverside", "Fairview", "Greenville", "Madison"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int attributeValues;
+
+    private PropertySearchMatcher matcher;
+    private List<PropertySearchRow> candidates;
+    private List<AttributeValueRow> valueRows;
+    private PropertySearchSnapshot snapshot;
+    private List<SearchFilterDTO> filters;
+    private Comparator<PropertySearchRow> ordering;
+
+    @Setup
+    public void setUp() {
+        matcher = new PropertySearchMatcher(new ObjectMapper());
+        SplittableRandom random = new SplittableRandom(42);
+        int listings = attributeValues / ATTRIBUTES_PER_LISTING;
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        candidates = new ArrayList<>(listings);
+        valueRows = new ArrayList<>(attributeValues);
+        long valueId = 1;
+        for (long id = 1; id <= listings; id++) {
+            candidates.add(new PropertySearchRow(id, "Listing " + id,
+                    BigDecimal.valueOf(100_000 + random.nextInt(900_000)),
+                    created.plusMinutes(id), created.plusMinutes(id)));
+            valueRows.add(new AttributeValueRow(valueId++, id, BEDROOMS, null,
+                    BigDecimal.valueOf(1 + random.nextInt(6)), null, null, null));
+            valueRows.add(new AttributeValueRow(valueId++, id, GARAGE, null, null, random.nextBoolean(), null, null));
+            valueRows.add(new AttributeValueRow(valueId++, id, FEATURES, null, null, null,
+                    "[\"" + FEATURE_OPTIONS[random.nextInt(FEATURE_OPTIONS.length)] + "\",\""
+                            + FEATURE_OPTIONS[random.nextInt(FEATURE_OPTIONS.length)] + "\"]", null));
+            valueRows.add(new AttributeValueRow(valueId++, id, CITY,
+                    CITIES[random.nextInt(CITIES.length)], null, null, null, null));
+        }
+        snapshot = PropertySearchSnapshot.of(candidates, valueRows);
+
+        filters = List.of(
+                filter(BEDROOMS, PropertyDataType.NUMBER, f -> {
+                    f.setMinValue(BigDecimal.valueOf(3));
+                    f.setMaxValue(BigDecimal.valueOf(5));
+                }),
+                filter(GARAGE, PropertyDataType.BOOLEAN, f -> f.setBooleanValue(true)),
+                filter(CITY, PropertyDataType.TEXT, f -> f.setTextValue("spring")),
+                filter(FEATURES, PropertyDataType.MULTI_SELECT, f -> f.setSelectedValues(List.of("pool", "garden"))));
+        ordering = matcher.ordering(Sort.by(Sort.Direction.DESC, "price"));
+    }
+
+    @Benchmark
+    public PropertySearchSnapshot buildSnapshot() {
+        return PropertySearchSnapshot.of(candidates, valueRows);
+    }
+
+    @Benchmark
+    public List<Long> match() {
+        return matcher.match(snapshot, filters, ordering);
+    }
+
+    private static SearchFilterDTO filter(long attributeId, PropertyDataType dataType,
+                                          Consumer<SearchFilterDTO> criteria) {
+        SearchFilterDTO filter = new SearchFilterDTO();
+        filter.setAttributeId(attributeId);
+        filter.setDataType(dataType);
+        criteria.accept(filter);
+        return filter;
+    }
+}
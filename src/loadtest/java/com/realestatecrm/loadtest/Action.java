@@ -0,0 +1,155 @@
+package com.realestatecrm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.realestatecrm.loadtest.ApiClient.Credentials;
+import com.realestatecrm.loadtest.ApiClient.Response;
+import com.realestatecrm.loadtest.Fixture.Agent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * One request of a workload, made as the given agent. The name is the endpoint's key in the report and
+ * in the SLO file. An action returns null when the agent has nothing it applies to (no saved search, say);
+ * such arrivals are counted as skipped. The random is split per arrival from the run's seeded generator, so
+ * a seed reproduces the request parameters as well as the arrival schedule. For an action that sheds load by design, a 429 is a rejection
+ * rather than an error (see {@link LoadReport}).
+ */
+enum Action {
+
+    // The login bulkhead answers a burst beyond its queue with 429 + Retry-After
+    LOGIN("login", true) {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            return context.client().postJson("/api/auth/login", null,
+                    new Credentials(agent.username(), context.password()));
+        }
+    },
+    PROPERTY_LIST("properties.list") {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            return context.client().get("/api/properties?size=20&count=approx&page=" + random.nextInt(5), agent.token());
+        }
+    },
+    PROPERTY_DETAIL("properties.detail") {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            Long id = pick(agent.propertyIds(), random);
+            return id == null ? null
+                    : context.client().get("/api/properties/" + id + "/with-attributes", agent.token());
+        }
+    },
+    CUSTOMER_LIST("customers.list") {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            return context.client().get("/api/customers?size=20&count=approx&page=" + random.nextInt(5), agent.token());
+        }
+    },
+    CUSTOMER_TIMELINE("customers.timeline") {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            Long id = pick(agent.customerIds(), random);
+            return id == null ? null
+                    : context.client().get("/api/customers/" + id + "/interactions/timeline?size=20", agent.token());
+        }
+    },
+    DASHBOARD("dashboard") {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            return context.client().get("/api/dashboard", agent.token());
+        }
+    },
+    // Searches run on the search bulkhead, which turns a burst beyond its queue away with 429
+    CRITERIA_SEARCH("search.criteria", true) {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            List<Map<String, Object>> filters = new ArrayList<>();
+            JsonNode city = context.fixture().attribute("City");
+            if (!city.isMissingNode()) {
+                filters.add(Map.of("attributeId", city.path("id").asLong(), "dataType", "TEXT",
+                        "textValue", CITIES[random.nextInt(CITIES.length)]));
+            }
+            JsonNode bedrooms = context.fixture().attribute("Bedrooms");
+            if (!bedrooms.isMissingNode() && random.nextDouble() < 0.8) {
+                filters.add(Map.of("attributeId", bedrooms.path("id").asLong(), "dataType", "NUMBER",
+                        "minValue", 1 + random.nextInt(4)));
+            }
+            JsonNode type = context.fixture().attribute("Property Type");
+            if (!type.isMissingNode() && type.path("options").size() > 0 && random.nextBoolean()) {
+                JsonNode options = type.path("options");
+                filters.add(Map.of("attributeId", type.path("id").asLong(), "dataType", "SINGLE_SELECT",
+                        "selectedValues", List.of(options.get(random.nextInt(Math.min(3, options.size())))
+                                .path("optionValue").asText())));
+            }
+            if (filters.isEmpty()) {
+                return null;
+            }
+            return context.client().postJson("/api/properties/search/by-criteria", agent.token(),
+                    Map.of("filters", filters, "page", 0, "size", 20));
+        }
+    },
+    SAVED_SEARCH("search.saved", true) {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            Long id = pick(agent.savedSearchIds(), random);
+            return id == null ? null
+                    : context.client().get("/api/saved-searches/" + id + "/execute?size=20", agent.token());
+        }
+    },
+    // Uploads beyond the import queue's capacity get 429 before the file is stored
+    PROPERTY_IMPORT("import.properties", true) {
+        @Override
+        Response execute(Context context, Agent agent, SplittableRandom random) throws IOException, InterruptedException {
+            StringBuilder csv = new StringBuilder(
+                    "title,price,status,Address,City,State,ZIP Code,Property Type,Bedrooms,Bathrooms,Square Footage\n");
+            for (int i = 0; i < context.importRows(); i++) {
+                int bedrooms = 1 + random.nextInt(5);
+                csv.append("Load test listing ").append(random.nextInt(1_000_000)).append(',')
+                        .append(150_000 + random.nextInt(900_000)).append(",ACTIVE,")
+                        .append(100 + random.nextInt(9900)).append(" Test St,Austin,TX,787")
+                        .append(String.format("%02d", random.nextInt(100))).append(',')
+                        .append(random.nextBoolean() ? "Condo" : "Single Family Home").append(',')
+                        .append(bedrooms).append(',').append(Math.max(1, bedrooms - 1)).append(',')
+                        .append(500 + bedrooms * 400 + random.nextInt(400)).append('\n');
+            }
+            return context.client().postFile("/api/imports/properties", agent.token(), "listings.csv", csv.toString());
+        }
+    };
+
+    // Cities of the generated data set, so text searches find listings
+    private static final String[] CITIES = {"Springfield", "Metropolis", "Miami Beach", "Portland", "Austin",
+            "Charlotte", "Seattle", "Phoenix", "Columbus", "Nashville", "Denver", "Atlanta"};
+
+    private final String endpoint;
+    private final boolean shedsLoad;
+
+    Action(String endpoint) {
+        this(endpoint, false);
+    }
+
+    Action(String endpoint, boolean shedsLoad) {
+        this.endpoint = endpoint;
+        this.shedsLoad = shedsLoad;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    boolean shedsLoad() {
+        return shedsLoad;
+    }
+
+    abstract Response execute(Context context, Agent agent, SplittableRandom random)
+            throws IOException, InterruptedException;
+
+    private static Long pick(List<Long> ids, SplittableRandom random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+
+    record Context(ApiClient client, Fixture fixture, String password, int importRows) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.realestatecrm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Blocking JSON client for the API. Calls are made from virtual threads, so a blocked call costs no
+ * platform thread; the client's own work runs on virtual threads as well.
+ */
+final class ApiClient {
+
+    private static final String BOUNDARY = "loadtest-boundary";
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ApiClient(URI baseUri, Duration timeout) {
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    Response get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET());
+    }
+
+    Response postJson(String path, String token, Object body) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))));
+    }
+
+    Response postFile(String path, String token, String filename, String content) throws IOException, InterruptedException {
+        String body = "--" + BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n" +
+                "Content-Type: text/csv\r\n\r\n" +
+                content + "\r\n" +
+                "--" + BOUNDARY + "--\r\n";
+        return send(request(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Access token for the user; fails when the login is refused.
+     */
+    String login(String username, String password) throws IOException, InterruptedException {
+        Response response = postJson("/api/auth/login", null, new Credentials(username, password));
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Login as " + username + " failed with HTTP " + response.status());
+        }
+        return json(response).path("token").asText();
+    }
+
+    JsonNode json(Response response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    /**
+     * Body of a successful GET as JSON; fails on any other status.
+     */
+    JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+        Response response = get(path, token);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("GET " + path + " failed with HTTP " + response.status());
+        }
+        return json(response);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    record Response(int status, String body) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    record Credentials(String username, String password) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.realestatecrm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What the workloads act on, discovered through the API before the run: the agents of the generated data
+ * set (signed in), a page of each agent's listings, customers and saved searches, and the searchable
+ * attributes. Nothing here is measured.
+ */
+final class Fixture {
+
+    private final List<Agent> agents;
+    private final Map<String, JsonNode> searchableAttributes;
+
+    private Fixture(List<Agent> agents, Map<String, JsonNode> searchableAttributes) {
+        this.agents = agents;
+        this.searchableAttributes = searchableAttributes;
+    }
+
+    /**
+     * Signs in as the broker, lists the generated agents (usernames starting with {@code gen-}) and signs
+     * in as the first {@code agentCount} of them.
+     */
+    static Fixture load(ApiClient client, String broker, String password, int agentCount)
+            throws IOException, InterruptedException {
+        String brokerToken = client.login(broker, password);
+
+        List<String> usernames = new ArrayList<>();
+        for (JsonNode user : client.getJson("/api/users/roles/AGENT", brokerToken)) {
+            String username = user.path("username").asText();
+            if (username.startsWith("gen-")) {
+                usernames.add(username);
+            }
+        }
+        if (usernames.isEmpty()) {
+            throw new IllegalStateException("No generated agents found; start the application with the generator profile");
+        }
+        usernames.sort(null);
+
+        List<Agent> agents = new ArrayList<>();
+        for (String username : usernames.subList(0, Math.min(agentCount, usernames.size()))) {
+            String token = client.login(username, password);
+            agents.add(new Agent(username, token,
+                    ids(client.getJson("/api/properties?size=50&count=none", token).path("content")),
+                    ids(client.getJson("/api/customers?size=50&count=none", token).path("content")),
+                    ids(client.getJson("/api/saved-searches", token))));
+        }
+
+        Map<String, JsonNode> attributes = new HashMap<>();
+        for (JsonNode attribute : client.getJson("/api/property-attributes/searchable", brokerToken)) {
+            attributes.put(attribute.path("name").asText(), attribute);
+        }
+        return new Fixture(List.copyOf(agents), attributes);
+    }
+
+    List<Agent> agents() {
+        return agents;
+    }
+
+    /**
+     * The searchable attribute with the given name, or a missing node.
+     */
+    JsonNode attribute(String name) {
+        JsonNode attribute = searchableAttributes.get(name);
+        return attribute != null ? attribute : MissingNode.getInstance();
+    }
+
+    private static List<Long> ids(JsonNode rows) {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode row : rows) {
+            ids.add(row.path("id").asLong());
+        }
+        return List.copyOf(ids);
+    }
+
+    record Agent(String username, String token, List<Long> propertyIds, List<Long> customerIds,
+                 List<Long> savedSearchIds) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.realestatecrm.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome per endpoint. Latency runs from the arrival's scheduled time, not from when the
+ * request was actually sent, so time spent queued behind a slow server is part of it (no coordinated
+ * omission). A status of 400 or above, a timeout or a connection failure is an error. 429 responses are
+ * counted as rejected, and as errors too unless the endpoint sheds load by design (login), where they are
+ * checked through the rejected rate instead.
+ */
+final class LoadReport {
+
+    static final String TOTAL = "total";
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * @param status    HTTP status, or 0 when no response came back
+     * @param shedsLoad whether a 429 is the endpoint's designed answer to overload rather than an error
+     */
+    void record(String endpoint, long latencyNanos, int status, boolean shedsLoad) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, name -> new EndpointStats());
+        stats.latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        stats.requests.increment();
+        if (status == 429) {
+            stats.rejected.increment();
+            if (shedsLoad) {
+                return;
+            }
+        }
+        if (status == 0 || status >= 400) {
+            stats.errors.increment();
+        }
+    }
+
+    // An arrival not sent because the client already had the maximum number of requests in flight
+    void dropped() {
+        dropped.increment();
+    }
+
+    // An arrival whose action did not apply to the chosen agent
+    void skipped() {
+        skipped.increment();
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    long skippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * One summary per endpoint in name order, then the {@value #TOTAL} row over all of them. Call once,
+     * after the run: reading the recorders resets them.
+     */
+    List<EndpointSummary> summarize(double seconds) {
+        Histogram all = new Histogram(3);
+        long requests = 0;
+        long errors = 0;
+        long rejected = 0;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram histogram = stats.latencies.getIntervalHistogram();
+            all.add(histogram);
+            requests += stats.requests.sum();
+            errors += stats.errors.sum();
+            rejected += stats.rejected.sum();
+            summaries.add(summary(entry.getKey(), histogram, stats.requests.sum(), stats.errors.sum(),
+                    stats.rejected.sum(), seconds));
+        }
+        summaries.add(summary(TOTAL, all, requests, errors, rejected, seconds));
+        return summaries;
+    }
+
+    static void print(List<EndpointSummary> summaries, PrintStream out) {
+        out.printf("%-22s %9s %9s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors%", "429s%", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (EndpointSummary summary : summaries) {
+            out.printf("%-22s %9d %9.1f %8.2f %8.2f %9.1f %9.1f %9.1f %9.1f%n",
+                    summary.endpoint(), summary.requests(), summary.throughput(), summary.errorRate(),
+                    summary.rejectedRate(), summary.p50(), summary.p95(), summary.p99(), summary.max());
+        }
+    }
+
+    private static EndpointSummary summary(String endpoint, Histogram histogram, long requests, long errors,
+                                           long rejected, double seconds) {
+        return new EndpointSummary(endpoint, requests, errors, rejected,
+                requests == 0 ? 0 : 100.0 * errors / requests,
+                requests == 0 ? 0 : 100.0 * rejected / requests,
+                requests / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class EndpointStats {
+
+        private final Recorder latencies = new Recorder(3);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+
+    /**
+     * Latencies in milliseconds, error and rejected (429) rates in percent, throughput in requests per second.
+     */
+    record EndpointSummary(String endpoint, long requests, long errors, long rejected, double errorRate,
+                           double rejectedRate, double throughput, double p50, double p95, double p99, double max) {
+
+        double metric(String name) {
+            return switch (name) {
+                case "p50" -> p50;
+                case "p95" -> p95;
+                case "p99" -> p99;
+                case "max" -> max;
+                case "error-rate" -> errorRate;
+                case "rejected-rate" -> rejectedRate;
+                default -> throw new IllegalArgumentException("Unknown SLO metric: " + name);
+            };
+        }
+    }
+}
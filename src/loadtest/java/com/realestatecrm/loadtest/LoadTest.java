@@ -0,0 +1,281 @@
+package com.realestatecrm.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.RealEstateCrmApplication;
+import com.realestatecrm.loadtest.ApiClient.Response;
+import com.realestatecrm.loadtest.Fixture.Agent;
+import com.realestatecrm.loadtest.LoadReport.EndpointSummary;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load test of the running API with an open arrival model: requests arrive as a Poisson process at
+ * the configured rate whether or not earlier ones have finished, each on its own virtual thread, so a slow
+ * server builds a queue instead of slowing the load down. The report gives p50/p95/p99, error rate and
+ * throughput per endpoint, and the run fails when an objective in the SLO file is missed.
+ * <p>
+ * Arguments are {@code key=value} pairs (see {@link Settings}). Without {@code base-url} the application is
+ * started in this JVM with the {@code dev,generator} profiles, which is convenient but shares the CPU
+ * with the load generator; point {@code base-url} at a separately started instance for numbers to compare.
+ * <p>
+ * Exit status: 0 when every objective is met, 1 when one is missed, 2 when the test could not run.
+ */
+public final class LoadTest {
+
+    static final int EXIT_PASSED = 0;
+    static final int EXIT_SLO_MISSED = 1;
+    static final int EXIT_FAILED = 2;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        int status;
+        try {
+            status = run(Settings.parse(args));
+        } catch (Exception e) {
+            System.err.println("Load test could not run: " + causes(e));
+            status = EXIT_FAILED;
+        }
+        // Also stops the in-process application and the HTTP client's threads
+        System.exit(status);
+    }
+
+    // "Type: message <- CauseType: message <- ...", so the root cause is on the one error line
+    static String causes(Throwable e) {
+        StringBuilder line = new StringBuilder();
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (!line.isEmpty()) {
+                line.append(" <- ");
+            }
+            line.append(cause.getClass().getSimpleName()).append(": ").append(cause.getMessage());
+        }
+        return line.toString();
+    }
+
+    private static int run(Settings settings) throws Exception {
+        ConfigurableApplicationContext application = null;
+        try {
+            URI baseUri;
+            if (settings.baseUrl().isBlank()) {
+                application = startApplication(settings.appArgs());
+                baseUri = URI.create("http://localhost:" + application.getEnvironment().getProperty("local.server.port") + "/");
+            } else {
+                baseUri = URI.create(settings.baseUrl().endsWith("/") ? settings.baseUrl() : settings.baseUrl() + "/");
+            }
+
+            ApiClient client = new ApiClient(baseUri, settings.timeout());
+            Fixture fixture = Fixture.load(client, settings.broker(), settings.password(), settings.agents());
+            Action.Context context = new Action.Context(client, fixture, settings.password(), settings.importRows());
+            Workload workload = settings.workload();
+            double targetRate = workload.meanRate(settings.rps());
+            System.out.printf("Running %s at %.1f req/s for %ds after a %ds warm-up against %s as %d agents%n",
+                    workload.displayName(), targetRate, settings.duration().toSeconds(), settings.warmup().toSeconds(),
+                    baseUri, fixture.agents().size());
+
+            LoadReport report = drive(settings, context);
+
+            double seconds = settings.duration().toMillis() / 1000.0;
+            List<EndpointSummary> summaries = report.summarize(seconds);
+            EndpointSummary total = summaries.get(summaries.size() - 1);
+            double completedRate = (total.requests() + report.skippedCount()) / seconds;
+            Slo slo = Files.isRegularFile(settings.sloFile()) ? Slo.load(settings.sloFile()) : Slo.none();
+            List<String> violations = slo.violations(summaries, targetRate, completedRate);
+
+            LoadReport.print(summaries, System.out);
+            System.out.printf("Target %.1f req/s, completed %.1f req/s, %d arrivals dropped at the in-flight limit, " +
+                    "%d skipped%n", targetRate, completedRate, report.droppedCount(), report.skippedCount());
+            writeReport(settings, workload, targetRate, completedRate, report, summaries, violations);
+
+            if (violations.isEmpty()) {
+                System.out.printf("All objectives in %s met. Report: %s%n", settings.sloFile(), settings.reportFile());
+                return EXIT_PASSED;
+            }
+            System.out.printf("%d objective(s) missed:%n", violations.size());
+            violations.forEach(violation -> System.out.println("  " + violation));
+            return EXIT_SLO_MISSED;
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    /**
+     * Schedules arrivals until the end of the run and waits for the requests still in flight. Only arrivals
+     * scheduled after the warm-up are recorded.
+     */
+    private static LoadReport drive(Settings settings, Action.Context context) {
+        LoadReport report = new LoadReport();
+        Workload workload = settings.workload();
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        List<Agent> agents = context.fixture().agents();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        long warmup = settings.warmup().toNanos();
+        long end = warmup + settings.duration().toNanos();
+
+        long start = System.nanoTime();
+        double next = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                // Exponential gaps between arrivals: a Poisson process at the current rate
+                next += -Math.log(1 - random.nextDouble()) / workload.rate(settings.rps(), (long) next) * 1e9;
+                if (next >= end) {
+                    break;
+                }
+                long scheduled = start + (long) next;
+                boolean measured = next >= warmup;
+                Action action = workload.pick(random);
+                Agent agent = agents.get(random.nextInt(agents.size()));
+                SplittableRandom parameters = random.split();
+
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        report.dropped();
+                    }
+                    continue;
+                }
+                requests.submit(() -> {
+                    try {
+                        call(action, agent, parameters, context, scheduled, measured ? report : null);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return report;
+    }
+
+    private static void call(Action action, Agent agent, SplittableRandom random, Action.Context context, long scheduled,
+                             LoadReport report) {
+        int status;
+        try {
+            Response response = action.execute(context, agent, random);
+            if (response == null) {
+                if (report != null) {
+                    report.skipped();
+                }
+                return;
+            }
+            status = response.status();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (IOException | RuntimeException e) {
+            // Timeouts and connection failures
+            status = 0;
+        }
+        if (report != null) {
+            report.record(action.endpoint(), System.nanoTime() - scheduled, status, action.shedsLoad());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(List<String> appArgs) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--spring.profiles.active=dev,generator"));
+        args.addAll(appArgs);
+        System.out.println("Starting the application in-process with " + String.join(" ", args));
+        return SpringApplication.run(RealEstateCrmApplication.class, args.toArray(String[]::new));
+    }
+
+    private static void writeReport(Settings settings, Workload workload, double targetRate, double completedRate,
+                                    LoadReport report, List<EndpointSummary> summaries, List<String> violations)
+            throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("workload", workload.displayName());
+        json.put("targetRate", targetRate);
+        json.put("completedRate", completedRate);
+        json.put("warmupSeconds", settings.warmup().toSeconds());
+        json.put("durationSeconds", settings.duration().toSeconds());
+        json.put("dropped", report.droppedCount());
+        json.put("skipped", report.skippedCount());
+        json.put("endpoints", summaries);
+        json.put("violations", violations);
+        json.put("passed", violations.isEmpty());
+
+        Path reportFile = settings.reportFile();
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), json);
+    }
+
+    /**
+     * Run settings, given as {@code key=value} arguments:
+     * {@code base-url} (empty: start the application in-process), {@code workload} (login-burst, browse,
+     * search, import, mixed), {@code rps}, {@code warmup}, {@code duration}, {@code seed}, {@code agents}
+     * (generated agents to act as), {@code broker} and {@code password} (the generated broker used to find
+     * them), {@code timeout}, {@code max-in-flight}, {@code import-rows} (listings per imported file),
+     * {@code slo} and {@code report} (file paths), and {@code app-args} (space-separated arguments for the
+     * in-process application).
+     */
+    record Settings(String baseUrl, Workload workload, double rps, Duration warmup, Duration duration, long seed,
+                    int agents, String broker, String password, Duration timeout, int maxInFlight, int importRows,
+                    Path sloFile, Path reportFile, List<String> appArgs) {
+
+        static Settings parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int equals = arg.indexOf('=');
+                if (equals < 1) {
+                    throw new IllegalArgumentException("Expected key=value, got: " + arg);
+                }
+                values.put(arg.substring(0, equals), arg.substring(equals + 1).trim());
+            }
+            String appArgs = values.getOrDefault("app-args", "");
+            return new Settings(
+                    values.getOrDefault("base-url", ""),
+                    Workload.fromName(values.getOrDefault("workload", "mixed")),
+                    Double.parseDouble(values.getOrDefault("rps", "50")),
+                    duration(values.getOrDefault("warmup", "10s")),
+                    duration(values.getOrDefault("duration", "60s")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Integer.parseInt(values.getOrDefault("agents", "20")),
+                    values.getOrDefault("broker", "gen-broker-0"),
+                    values.getOrDefault("password", "password"),
+                    duration(values.getOrDefault("timeout", "10s")),
+                    Integer.parseInt(values.getOrDefault("max-in-flight", "5000")),
+                    Integer.parseInt(values.getOrDefault("import-rows", "200")),
+                    Path.of(values.getOrDefault("slo", "src/loadtest/slo.properties")),
+                    Path.of(values.getOrDefault("report", "target/loadtest-report.json")),
+                    appArgs.isBlank() ? List.of() : Arrays.asList(appArgs.trim().split("\\s+")));
+        }
+
+        // "500ms", "30s", "2m" or an ISO-8601 duration
+        static Duration duration(String value) {
+            String text = value.toLowerCase(Locale.ROOT);
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            if (text.endsWith("s") && !text.startsWith("p")) {
+                return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            if (text.endsWith("m") && !text.startsWith("p")) {
+                return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+            }
+            return Duration.parse(value);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.realestatecrm.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestTests {
+
+    @Test
+    @DisplayName("Durations are read as ms, s or m suffixes or as ISO-8601")
+    void parsesDurations() {
+        assertThat(LoadTest.Settings.duration("500ms")).isEqualTo(Duration.ofMillis(500));
+        assertThat(LoadTest.Settings.duration("30s")).isEqualTo(Duration.ofSeconds(30));
+        assertThat(LoadTest.Settings.duration("2m")).isEqualTo(Duration.ofMinutes(2));
+        assertThat(LoadTest.Settings.duration("PT1M30S")).isEqualTo(Duration.ofSeconds(90));
+        assertThat(LoadTest.Settings.duration("pt45s")).isEqualTo(Duration.ofSeconds(45));
+    }
+
+    @Test
+    @DisplayName("The error line carries the whole cause chain")
+    void errorLineCarriesCauses() {
+        Exception e = new IllegalStateException("Fixture failed", new IOException("Connection refused"));
+
+        assertThat(LoadTest.causes(e))
+                .isEqualTo("IllegalStateException: Fixture failed <- IOException: Connection refused");
+    }
+}
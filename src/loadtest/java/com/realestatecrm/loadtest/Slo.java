@@ -0,0 +1,97 @@
+package com.realestatecrm.loadtest;
+
+import com.realestatecrm.loadtest.LoadReport.EndpointSummary;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Latency, error and throughput objectives, read from a properties file:
+ * <pre>
+ * *.p99=1000                    every endpoint: p99 at most 1000 ms
+ * search.criteria.p95=400       one endpoint; overrides the * entry for the same metric
+ * total.error-rate=1            all requests together: at most 1% errors
+ * throughput.min-ratio=0.95     at least 95% of the target arrival rate completed
+ * </pre>
+ * Metrics are {@code p50}, {@code p95}, {@code p99} and {@code max} in milliseconds and {@code error-rate}
+ * and {@code rejected-rate} (429s) in percent. Endpoints without requests are not checked.
+ */
+final class Slo {
+
+    private static final String ANY = "*";
+    private static final String THROUGHPUT_KEY = "throughput.min-ratio";
+    private static final Set<String> METRICS = Set.of("p50", "p95", "p99", "max", "error-rate", "rejected-rate");
+
+    // endpoint -> metric -> limit
+    private final Map<String, Map<String, Double>> limits;
+    private final Double minThroughputRatio;
+
+    private Slo(Map<String, Map<String, Double>> limits, Double minThroughputRatio) {
+        this.limits = limits;
+        this.minThroughputRatio = minThroughputRatio;
+    }
+
+    static Slo load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, Map<String, Double>> limits = new HashMap<>();
+        Double minThroughputRatio = null;
+        for (String key : properties.stringPropertyNames()) {
+            double limit = Double.parseDouble(properties.getProperty(key).trim());
+            if (key.equals(THROUGHPUT_KEY)) {
+                minThroughputRatio = limit;
+                continue;
+            }
+            int dot = key.lastIndexOf('.');
+            String metric = dot < 0 ? "" : key.substring(dot + 1);
+            if (!METRICS.contains(metric)) {
+                throw new IllegalArgumentException("Unknown SLO " + key + " in " + file);
+            }
+            limits.computeIfAbsent(key.substring(0, dot), endpoint -> new HashMap<>()).put(metric, limit);
+        }
+        return new Slo(limits, minThroughputRatio);
+    }
+
+    static Slo none() {
+        return new Slo(Map.of(), null);
+    }
+
+    /**
+     * One message per objective missed; empty when all are met.
+     */
+    List<String> violations(List<EndpointSummary> summaries, double targetRate, double completedRate) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointSummary summary : summaries) {
+            if (summary.requests() == 0) {
+                continue;
+            }
+            Map<String, Double> applicable = new HashMap<>();
+            if (!summary.endpoint().equals(LoadReport.TOTAL)) {
+                applicable.putAll(limits.getOrDefault(ANY, Map.of()));
+            }
+            applicable.putAll(limits.getOrDefault(summary.endpoint(), Map.of()));
+            applicable.forEach((metric, limit) -> {
+                double value = summary.metric(metric);
+                if (value > limit) {
+                    violations.add(String.format("%s %s is %.2f, limit %.2f", summary.endpoint(), metric, value, limit));
+                }
+            });
+        }
+        if (minThroughputRatio != null && completedRate < targetRate * minThroughputRatio) {
+            violations.add(String.format("throughput is %.1f req/s, below %.0f%% of the target %.1f req/s",
+                    completedRate, minThroughputRatio * 100, targetRate));
+        }
+        violations.sort(null);
+        return violations;
+    }
+}
@@ -0,0 +1,102 @@
+package com.realestatecrm.loadtest;
+
+import com.realestatecrm.loadtest.LoadReport.EndpointSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SloTests {
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    @DisplayName("An endpoint's own objective overrides the * entry for the same metric only")
+    void endpointEntryOverridesWildcard() throws IOException {
+        Slo slo = load("*.p99=1000\n*.error-rate=1\nlogin.p99=3000\n");
+
+        List<String> violations = slo.violations(List.of(
+                summary("login", 2000, 2.0),
+                summary("properties.list", 2000, 0.5)), 10, 10);
+
+        assertThat(violations).containsExactly(
+                "login error-rate is 2.00, limit 1.00",
+                "properties.list p99 is 2000.00, limit 1000.00");
+    }
+
+    @Test
+    @DisplayName("The total row is checked against total.* entries only, never the * entries")
+    void totalRowUsesOnlyTotalEntries() throws IOException {
+        Slo slo = load("*.error-rate=1\n*.p99=100\ntotal.error-rate=0.5\n");
+
+        List<String> violations = slo.violations(List.of(
+                summary("customers.list", 50, 0.8),
+                summary(LoadReport.TOTAL, 500, 0.8)), 10, 10);
+
+        assertThat(violations).containsExactly("total error-rate is 0.80, limit 0.50");
+    }
+
+    @Test
+    @DisplayName("Endpoints without requests are skipped and throughput is checked against the target rate")
+    void skipsIdleEndpointsAndChecksThroughput() throws IOException {
+        Slo slo = load("*.p99=100\nthroughput.min-ratio=0.95\n");
+        EndpointSummary idle = new EndpointSummary("search.saved", 0, 0, 0, 0, 0, 0, 0, 0, 500, 500);
+
+        assertThat(slo.violations(List.of(idle), 100, 96)).isEmpty();
+        assertThat(slo.violations(List.of(idle), 100, 90))
+                .containsExactly("throughput is 90.0 req/s, below 95% of the target 100.0 req/s");
+    }
+
+    @Test
+    @DisplayName("Login 429s count towards the rejected rate, not the error rate; elsewhere they are errors too")
+    void loginRejectionsAreNotErrors() throws IOException {
+        LoadReport report = new LoadReport();
+        for (int i = 0; i < 10; i++) {
+            report.record("login", 1_000_000, i < 3 ? 429 : 200, true);
+            report.record("dashboard", 1_000_000, i < 3 ? 429 : 200, false);
+        }
+        List<EndpointSummary> summaries = report.summarize(1);
+
+        EndpointSummary dashboard = summaries.get(0);
+        EndpointSummary login = summaries.get(1);
+        assertThat(login.errorRate()).isZero();
+        assertThat(login.rejectedRate()).isEqualTo(30.0);
+        assertThat(dashboard.errorRate()).isEqualTo(30.0);
+        assertThat(dashboard.rejectedRate()).isEqualTo(30.0);
+
+        Slo slo = load("*.error-rate=1\nlogin.rejected-rate=20\n");
+        assertThat(slo.violations(summaries.subList(0, 2), 10, 10)).containsExactly(
+                "dashboard error-rate is 30.00, limit 1.00",
+                "login rejected-rate is 30.00, limit 20.00");
+    }
+
+    @Test
+    @DisplayName("An unknown metric in the SLO file is rejected")
+    void rejectsUnknownMetric() throws IOException {
+        Path file = dir.resolve("slo.properties");
+        Files.writeString(file, "login.p90=100\n");
+
+        assertThatThrownBy(() -> Slo.load(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("login.p90");
+    }
+
+    private Slo load(String properties) throws IOException {
+        Path file = dir.resolve("slo.properties");
+        Files.writeString(file, properties);
+        return Slo.load(file);
+    }
+
+    private static EndpointSummary summary(String endpoint, double p99, double errorRate) {
+        return new EndpointSummary(endpoint, 1000, (long) (errorRate * 10), 0, errorRate, 0, 10,
+                p99 / 4, p99 / 2, p99, p99 * 2);
+    }
+}
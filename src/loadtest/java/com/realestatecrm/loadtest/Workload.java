@@ -0,0 +1,87 @@
+package com.realestatecrm.loadtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scripted request mixes. Each arrival picks one action by weight. The login burst workload multiplies the
+ * arrival rate by its burst factor for the first {@value #BURST_SECONDS} seconds of every
+ * {@value #BURST_PERIOD_SECONDS}, the pattern of a team signing in at the start of a shift.
+ */
+enum Workload {
+
+    LOGIN_BURST(5, List.of(new Weight(Action.LOGIN, 1))),
+    BROWSE(1, List.of(
+            new Weight(Action.PROPERTY_LIST, 35),
+            new Weight(Action.PROPERTY_DETAIL, 30),
+            new Weight(Action.CUSTOMER_LIST, 15),
+            new Weight(Action.CUSTOMER_TIMELINE, 10),
+            new Weight(Action.DASHBOARD, 10))),
+    SEARCH(1, List.of(
+            new Weight(Action.CRITERIA_SEARCH, 60),
+            new Weight(Action.SAVED_SEARCH, 30),
+            new Weight(Action.PROPERTY_DETAIL, 10))),
+    IMPORT(1, List.of(new Weight(Action.PROPERTY_IMPORT, 1))),
+    MIXED(1, List.of(
+            new Weight(Action.LOGIN, 3),
+            new Weight(Action.PROPERTY_LIST, 25),
+            new Weight(Action.PROPERTY_DETAIL, 20),
+            new Weight(Action.CUSTOMER_LIST, 10),
+            new Weight(Action.CUSTOMER_TIMELINE, 8),
+            new Weight(Action.DASHBOARD, 6),
+            new Weight(Action.CRITERIA_SEARCH, 18),
+            new Weight(Action.SAVED_SEARCH, 9),
+            new Weight(Action.PROPERTY_IMPORT, 1)));
+
+    static final int BURST_SECONDS = 5;
+    static final int BURST_PERIOD_SECONDS = 30;
+
+    private final double burstFactor;
+    private final List<Weight> weights;
+    private final double totalWeight;
+
+    Workload(double burstFactor, List<Weight> weights) {
+        this.burstFactor = burstFactor;
+        this.weights = weights;
+        this.totalWeight = weights.stream().mapToDouble(Weight::weight).sum();
+    }
+
+    Action pick(SplittableRandom random) {
+        double target = random.nextDouble() * totalWeight;
+        for (Weight weight : weights) {
+            target -= weight.weight();
+            if (target < 0) {
+                return weight.action();
+            }
+        }
+        return weights.get(weights.size() - 1).action();
+    }
+
+    /**
+     * Arrivals per second at the given time into the run.
+     */
+    double rate(double rps, long elapsedNanos) {
+        long second = TimeUnit.NANOSECONDS.toSeconds(elapsedNanos);
+        return second % BURST_PERIOD_SECONDS < BURST_SECONDS ? rps * burstFactor : rps;
+    }
+
+    /**
+     * Mean arrivals per second over whole burst periods.
+     */
+    double meanRate(double rps) {
+        return rps * (burstFactor * BURST_SECONDS + (BURST_PERIOD_SECONDS - BURST_SECONDS)) / BURST_PERIOD_SECONDS;
+    }
+
+    static Workload fromName(String name) {
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    String displayName() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    record Weight(Action action, double weight) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.realestatecrm.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WorkloadTests {
+
+    @Test
+    @DisplayName("The login burst multiplies the rate for the first seconds of every period")
+    void loginBurstRate() {
+        Workload workload = Workload.LOGIN_BURST;
+
+        assertThat(workload.rate(10, 0)).isEqualTo(50);
+        assertThat(workload.rate(10, TimeUnit.SECONDS.toNanos(Workload.BURST_SECONDS) - 1)).isEqualTo(50);
+        assertThat(workload.rate(10, TimeUnit.SECONDS.toNanos(Workload.BURST_SECONDS))).isEqualTo(10);
+        assertThat(workload.rate(10, TimeUnit.SECONDS.toNanos(Workload.BURST_PERIOD_SECONDS))).isEqualTo(50);
+        assertThat(Workload.BROWSE.rate(10, 0)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("The mean rate is the rate averaged over a whole burst period")
+    void meanRateAveragesOnePeriod() {
+        for (Workload workload : Workload.values()) {
+            double sum = 0;
+            for (int second = 0; second < Workload.BURST_PERIOD_SECONDS; second++) {
+                sum += workload.rate(40, TimeUnit.SECONDS.toNanos(second));
+            }
+            assertThat(workload.meanRate(40)).as(workload.displayName())
+                    .isCloseTo(sum / Workload.BURST_PERIOD_SECONDS, within(1e-9));
+        }
+        assertThat(Workload.MIXED.meanRate(40)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Workloads are named in kebab case on the command line")
+    void namesRoundTrip() {
+        for (Workload workload : Workload.values()) {
+            assertThat(Workload.fromName(workload.displayName())).isEqualTo(workload);
+        }
+        assertThat(Workload.fromName(" Login-Burst ")).isEqualTo(Workload.LOGIN_BURST);
+    }
+}
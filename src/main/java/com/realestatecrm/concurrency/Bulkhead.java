@@ -0,0 +1,152 @@
+package com.realestatecrm.concurrency;
+
+import com.realestatecrm.exception.BulkheadFullException;
+import com.realestatecrm.exception.BulkheadTimeoutException;
+import com.realestatecrm.monitoring.RequestSqlStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A fixed-size executor with a bounded queue that isolates one kind of expensive work
+ * from the rest of the application. Callers block until their task completes; when the
+ * queue is full the call fails fast with {@link BulkheadFullException} instead of piling up more
+ * work, and a task that does not finish within the configured timeout fails with
+ * {@link BulkheadTimeoutException}. The caller's security context and SQL statistics are carried over to the
+ * bulkhead thread.
+ */
+public class Bulkhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(Bulkhead.class);
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration retryAfter;
+    private final String threadNamePrefix;
+
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public Bulkhead(String name, int maxThreads, int queueCapacity, Duration timeout, Duration retryAfter,
+                    MeterRegistry meterRegistry) {
+        this.name = name;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+        this.threadNamePrefix = "bulkhead-" + name + "-";
+        this.executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(threadNamePrefix),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("bulkhead.queue.depth", executor, e -> e.getQueue().size())
+                .description("Tasks waiting for a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Tasks currently executing in the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.max.threads", executor, ThreadPoolExecutor::getMaximumPoolSize)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("bulkhead.queue.wait")
+                .description("Time tasks spend queued before execution")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("bulkhead.execution")
+                .description("Time tasks spend executing on a bulkhead thread")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                .description("Tasks rejected because the bulkhead was saturated")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("bulkhead.timeouts")
+                .description("Accepted tasks that did not complete within the bulkhead timeout")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+
+        logger.info("Bulkhead '{}' started with {} threads and queue capacity {}", name, maxThreads, queueCapacity);
+    }
+
+    /**
+     * Run the task on the bulkhead and wait for its result.
+     *
+     * @throws BulkheadFullException    if the queue is full
+     * @throws BulkheadTimeoutException if the task did not complete in time
+     */
+    public <T> T call(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Callable<T> timedTask = new DelegatingSecurityContextCallable<>(RequestSqlStats.propagate(() -> {
+            queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            return executionTimer.recordCallable(task);
+        }));
+
+        Future<T> future;
+        try {
+            future = executor.submit(timedTask);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BulkheadFullException(name, retryAfter);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new BulkheadTimeoutException(name, timeout);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for bulkhead '" + name + "'", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether the calling thread is one of this bulkhead's workers.
+     */
+    public boolean isCurrentThread() {
+        return Thread.currentThread().getName().startsWith(threadNamePrefix);
+    }
+
+    /**
+     * Stop accepting work; invoked by the container on shutdown.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,53 @@
+package com.realestatecrm.concurrency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Routes {@link Bulkheaded} methods to their bulkhead. Runs outside every other advice so the
+ * transaction, and the pooled connection it holds, is opened on the bulkhead thread: the number of
+ * connections a workload can take is then capped by its bulkhead's thread count.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkheadAspect {
+
+    private final Map<String, Bulkhead> bulkheads;
+
+    @Autowired
+    public BulkheadAspect(List<Bulkhead> bulkheads) {
+        this.bulkheads = bulkheads.stream().collect(Collectors.toMap(Bulkhead::getName, Function.identity()));
+    }
+
+    @Around("@annotation(bulkheaded)")
+    public Object runOnBulkhead(ProceedingJoinPoint joinPoint, Bulkheaded bulkheaded) throws Throwable {
+        Bulkhead bulkhead = bulkheads.get(bulkheaded.value());
+        if (bulkhead == null) {
+            throw new IllegalStateException("No bulkhead named '" + bulkheaded.value() + "' for " + joinPoint.getSignature());
+        }
+        if (bulkhead.isCurrentThread()) {
+            // Nested call from a method already running on this bulkhead
+            return joinPoint.proceed();
+        }
+        return bulkhead.call(() -> {
+            try {
+                return joinPoint.proceed();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.realestatecrm.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated method on the named {@link Bulkhead} instead of the calling thread.
+ * The call still blocks until the method returns; a saturated bulkhead rejects it with
+ * {@link com.realestatecrm.exception.BulkheadFullException}, and a call that outlasts the bulkhead's
+ * timeout fails with {@link com.realestatecrm.exception.BulkheadTimeoutException}.
+ * Like {@code @Transactional}, it only applies to calls made through the Spring proxy.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkheaded {
+
+    /**
+     * Name of the bulkhead, as passed to {@link Bulkhead}'s constructor (e.g. {@code "search"}).
+     */
+    String value();
+}
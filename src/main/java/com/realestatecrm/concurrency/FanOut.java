@@ -0,0 +1,138 @@
+package com.realestatecrm.concurrency;
+
+import com.realestatecrm.monitoring.RequestSqlStats;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs independent blocking reads at the same time, each on its own virtual thread, and waits for all
+ * of them. A small stand-in for {@code StructuredTaskScope.ShutdownOnFailure}, which is still a
+ * preview API in Java 21:
+ * <pre>
+ * try (FanOut fanOut = FanOut.open()) {
+ *     FanOut.Branch&lt;Optional&lt;Property&gt;&gt; property = fanOut.fork(() -&gt; propertyService.getPropertyById(id));
+ *     FanOut.Branch&lt;List&lt;Note&gt;&gt; notes = fanOut.fork(() -&gt; noteService.getNotes(id));
+ *     fanOut.join();
+ *     ... property.get(), notes.get()
+ * }
+ * </pre>
+ * Branches see the caller's security context, and their statements count against the caller's request
+ * ({@link RequestSqlStats}). Each branch runs its own transaction (and takes its own
+ * pooled connection), so the caller must not expect them to share one. When a branch fails, the
+ * others are cancelled and {@link #join()} rethrows the failure as the branch threw it.
+ */
+public final class FanOut implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private boolean joined;
+
+    private FanOut() {
+    }
+
+    public static FanOut open() {
+        return new FanOut();
+    }
+
+    /**
+     * Start a branch. Its result is available from {@link Branch#get()} once {@link #join()} has returned.
+     */
+    public <T> Branch<T> fork(Callable<T> task) {
+        if (joined) {
+            throw new IllegalStateException("Cannot fork after join");
+        }
+        Callable<T> branch = () -> {
+            try {
+                return task.call();
+            } catch (Exception | Error e) {
+                // Shut down on failure: the siblings' results are no longer needed
+                if (failure.compareAndSet(null, e)) {
+                    cancelAll();
+                }
+                throw e;
+            }
+        };
+        Future<T> future = executor.submit(new DelegatingSecurityContextCallable<>(RequestSqlStats.propagate(branch)));
+        futures.add(future);
+        return new Branch<>(future);
+    }
+
+    /**
+     * Wait for every branch. On the first failure the remaining branches are cancelled and the
+     * failure is rethrown: runtime exceptions and errors unchanged, checked exceptions wrapped.
+     */
+    public void join() {
+        joined = true;
+        executor.shutdown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException | CancellationException e) {
+            // Reported through the recorded failure below
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel reads", e);
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause != null) {
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Cancel anything still running; a branch never outlives the block that forked it.
+     */
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    /**
+     * Handle to one branch's result.
+     */
+    public static final class Branch<T> {
+
+        private final Future<T> future;
+
+        private Branch(Future<T> future) {
+            this.future = future;
+        }
+
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Branch result read before join");
+            }
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Branch failed", e.getCause());
+            } catch (CancellationException | InterruptedException e) {
+                throw new IllegalStateException("Branch did not complete", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.realestatecrm.config;
+
+import com.realestatecrm.concurrency.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class BulkheadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadConfig.class);
+
+    /**
+     * BCrypt checks for /api/auth/login. Capped well below the core count so a login storm
+     * cannot starve the request threads serving the rest of the API.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead loginBulkhead(@Value("${bulkhead.login.max-threads:0}") int maxThreads,
+                                  @Value("${bulkhead.login.queue-capacity:50}") int queueCapacity,
+                                  @Value("${bulkhead.login.timeout:5s}") Duration timeout,
+                                  @Value("${bulkhead.login.retry-after:2s}") Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        int threads = maxThreads > 0 ? maxThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new Bulkhead("login", threads, queueCapacity, timeout, retryAfter, meterRegistry);
+    }
+
+    /**
+     * Property searches ({@code @Bulkheaded("search")}). Each search thread holds at most one connection,
+     * so the thread count is also the share of the connection pool searches can take.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead searchBulkhead(@Value("${bulkhead.search.max-threads:4}") int maxThreads,
+                                   @Value("${bulkhead.search.queue-capacity:20}") int queueCapacity,
+                                   @Value("${bulkhead.search.timeout:15s}") Duration timeout,
+                                   @Value("${bulkhead.search.retry-after:5s}") Duration retryAfter,
+                                   MeterRegistry meterRegistry) {
+        return new Bulkhead("search", maxThreads, queueCapacity, timeout, retryAfter, meterRegistry);
+    }
+
+    /**
+     * Warn at startup when the heavy workloads (searches and imports) could together take so many
+     * connections that fewer than {@code bulkhead.interactive-connections} are left for CRUD requests.
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> connectionBudgetCheck(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${bulkhead.interactive-connections:4}") int interactiveConnections,
+            @Value("${bulkhead.search.max-threads:4}") int searchThreads,
+            @Value("${imports.max-concurrent-jobs:2}") int importJobs) {
+        return event -> {
+            int heavy = searchThreads + importJobs;
+            if (poolSize - heavy < interactiveConnections) {
+                logger.warn("Searches ({}) and imports ({}) can hold {} of {} pooled connections, leaving fewer than " +
+                                "the {} reserved for interactive requests. Lower bulkhead.search.max-threads or " +
+                                "imports.max-concurrent-jobs, or grow the pool.",
+                        searchThreads, importJobs, heavy, poolSize, interactiveConnections);
+            } else {
+                logger.info("Connection budget: {} pooled, up to {} for searches and imports, at least {} for interactive requests",
+                        poolSize, heavy, poolSize - heavy);
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.realestatecrm.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache regions. Every region is created here with its own size bound and
+ * expiry; Hibernate is set to fail on startup if an entity or collection names a region that is missing.
+ */
+@Configuration
+public class CacheConfig {
+
+    // Region names, referenced from the @Cache annotations on the entities
+    public static final String USERS_REGION = "users";
+    public static final String USER_HIERARCHY_REGION = "user-hierarchy";
+    public static final String PROPERTY_ATTRIBUTES_REGION = "property-attributes";
+    public static final String PROPERTY_ATTRIBUTE_OPTIONS_REGION = "property-attribute-options";
+    public static final String PROPERTY_ATTRIBUTE_OPTION_LISTS_REGION = "property-attributes.options";
+
+    /**
+     * Cache manager owned by this application context. A private URI keeps test contexts in the same JVM
+     * from sharing (and closing) each other's caches.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("real-estate-crm:hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        // Users are read on every authenticated request; short expiry bounds how long a change made
+        // outside Hibernate (manual SQL) can be served
+        createRegion(cacheManager, USERS_REGION, 10_000, Duration.ofMinutes(10));
+        createRegion(cacheManager, USER_HIERARCHY_REGION, 10_000, Duration.ofMinutes(10));
+
+        // The attribute catalog is small and changes only through the admin screens
+        createRegion(cacheManager, PROPERTY_ATTRIBUTES_REGION, 1_000, Duration.ofHours(1));
+        createRegion(cacheManager, PROPERTY_ATTRIBUTE_OPTIONS_REGION, 20_000, Duration.ofHours(1));
+        createRegion(cacheManager, PROPERTY_ATTRIBUTE_OPTION_LISTS_REGION, 1_000, Duration.ofHours(1));
+
+        // Query cache: result id lists, dropped whenever one of the queried tables changes
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 10_000, Duration.ofMinutes(5));
+        // Table modification timestamps backing the query cache must never be evicted or expire
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, -1, null);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        // Hibernate already stores disassembled, immutable entries; copying them on every read buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,41 @@
+package com.realestatecrm.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImportConfig {
+
+    /**
+     * Runs file imports in the background. Only a couple of jobs run at a time; further jobs
+     * wait in the queue with status QUEUED, up to {@code imports.queue-capacity}. Reports the same
+     * saturation gauges as the request bulkheads, tagged {@code bulkhead=import}.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor importExecutor(@Value("${imports.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                                 @Value("${imports.queue-capacity:20}") int queueCapacity,
+                                                 MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-");
+
+        Gauge.builder("bulkhead.queue.depth", executor, e -> e.getQueueSize())
+                .description("Tasks waiting for a bulkhead thread")
+                .tag("bulkhead", "import")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Tasks currently executing in the bulkhead")
+                .tag("bulkhead", "import")
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.max.threads", executor, ThreadPoolTaskExecutor::getMaxPoolSize)
+                .tag("bulkhead", "import")
+                .register(meterRegistry);
+        return executor;
+    }
+}
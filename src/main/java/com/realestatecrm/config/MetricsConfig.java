@@ -0,0 +1,25 @@
+package com.realestatecrm.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application meters beyond the ones Spring Boot registers itself. Histogram buckets are switched on per
+ * meter under {@code management.metrics.distribution.percentiles-histogram}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Name of the timer recorded for every public method of a @Timed service, tagged with class and method
+    public static final String SERVICE_TIMER = "service.calls";
+
+    /**
+     * Makes {@code @Timed} on service classes record timers; only calls through the Spring proxy are timed.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
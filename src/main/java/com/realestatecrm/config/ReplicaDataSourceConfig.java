@@ -0,0 +1,90 @@
+package com.realestatecrm.config;
+
+import com.realestatecrm.datasource.ReadYourWritesTracker;
+import com.realestatecrm.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Splits database traffic between the primary and a read replica when
+ * {@code app.datasource.replica.enabled} is set. Read-write transactions use the primary pool
+ * ({@code spring.datasource.*}); read-only transactions use the replica pool
+ * ({@code app.datasource.replica.*}). Without the flag the single auto-configured pool is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    // Declared here because the replica adds a second DataSourceProperties bean, which makes the
+    // auto-configured one ambiguous for anything injecting the type
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(@Qualifier("primaryDataSourceProperties") DataSourceProperties primaryProperties) {
+        HikariDataSource pool = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("primary");
+        return pool;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaPool(@Qualifier("replicaDataSourceProperties") DataSourceProperties replicaProperties) {
+        HikariDataSource pool = replicaProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("replica");
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    /**
+     * The data source JPA, Flyway and JDBC repositories see. The physical connection is only fetched at
+     * the first statement, once the transaction's read-only flag is known, and comes from the replica
+     * routing for read-only transactions and from the primary for everything else.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryPool") DataSource primaryPool,
+                                 @Qualifier("replicaPool") DataSource replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 @Value("${app.datasource.replica.failover:primary}") String failover,
+                                 @Value("${app.datasource.replica.retry-interval:30s}") Duration retryInterval) {
+        return routingDataSource(primaryPool, replicaPool, readYourWritesTracker,
+                ReplicaDataSource.Failover.valueOf(failover.trim().toUpperCase()), retryInterval);
+    }
+
+    public static DataSource routingDataSource(DataSource primary, DataSource replica,
+                                               ReadYourWritesTracker readYourWritesTracker,
+                                               ReplicaDataSource.Failover failover, Duration retryInterval) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaDataSource(primary, replica, readYourWritesTracker, failover, retryInterval));
+        return proxy;
+    }
+}
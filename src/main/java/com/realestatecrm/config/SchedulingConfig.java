@@ -0,0 +1,9 @@
+package com.realestatecrm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // Background housekeeping such as the refresh token purge
+public class SchedulingConfig {
+}
@@ -0,0 +1,44 @@
+package com.realestatecrm.config;
+
+import com.realestatecrm.monitoring.JdbcTimingSessionListener;
+import com.realestatecrm.monitoring.SqlCountingStatementInspector;
+import com.realestatecrm.monitoring.SqlMonitoringFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request SQL statement counting: Hibernate reports each statement and its JDBC time, and
+ * {@link SqlMonitoringFilter} turns them into per-endpoint metrics and N+1 warnings.
+ */
+@Configuration
+public class SqlMonitoringConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMonitoringCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+            // A class name: Hibernate creates a listener per session
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+
+    /**
+     * Runs ahead of Spring Security so the user lookup of authentication counts against the request.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlMonitoringFilter> sqlMonitoringFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sql-monitor.n-plus-one-threshold:5}") int repeatThreshold) {
+        FilterRegistrationBean<SqlMonitoringFilter> registration =
+                new FilterRegistrationBean<>(new SqlMonitoringFilter(meterRegistry, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,60 @@
+package com.realestatecrm.controller;
+
+import com.realestatecrm.dto.activity.response.ActivityFeedItemResponse;
+import com.realestatecrm.dto.common.CursorPage;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.mapper.ActivityFeedMapper;
+import com.realestatecrm.monitoring.SqlBudget;
+import com.realestatecrm.repository.projection.ActivityFeedRow;
+import com.realestatecrm.service.ActivityFeedService;
+import com.realestatecrm.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/activity")
+public class ActivityController {
+
+    private final ActivityFeedService activityFeedService;
+    private final UserService userService;
+    private final ActivityFeedMapper activityFeedMapper;
+
+    @Autowired
+    public ActivityController(ActivityFeedService activityFeedService, UserService userService,
+                              ActivityFeedMapper activityFeedMapper) {
+        this.activityFeedService = activityFeedService;
+        this.userService = userService;
+        this.activityFeedMapper = activityFeedMapper;
+    }
+
+    /**
+     * What the current user and everyone they can see did, newest first: notes, interactions, new
+     * customers and property status changes in one list. Pass the returned {@code nextCursor} as
+     * {@code cursor} for the next page.
+     */
+    @GetMapping
+    @SqlBudget(10)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<ActivityFeedItemResponse>> getActivityFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        User currentUser = userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("Current user not found"));
+        List<Long> userIds = userService.getAccessibleUsers(currentUser.getId()).stream()
+                .map(User::getId)
+                .toList();
+
+        CursorPage<ActivityFeedRow> page = activityFeedService.getFeed(userIds, cursor, size);
+        return ResponseEntity.ok(page.map(activityFeedMapper::toResponse));
+    }
+}
@@ -1,6 +1,7 @@
 package com.realestatecrm.controller;
 
 import com.realestatecrm.dto.auth.request.RefreshTokenRequest;
+import com.realestatecrm.concurrency.Bulkhead;
 import com.realestatecrm.entity.Permission;
 import com.realestatecrm.entity.RefreshToken;
 import com.realestatecrm.entity.User;
@@ -10,8 +11,13 @@ import com.realestatecrm.service.CustomUserDetailsService;
 import com.realestatecrm.service.RefreshTokenService;
 import com.realestatecrm.service.UserService;
 import com.realestatecrm.service.PermissionService;
+import com.realestatecrm.exception.BulkheadFullException;
+import com.realestatecrm.exception.BulkheadTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -38,6 +44,8 @@ public class AuthController {
     private final PermissionService permissionService;
     private final RefreshTokenService refreshTokenService;
     private final UserInfoMapper userInfoMapper;
+    private final Bulkhead loginBulkhead;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.expiration:86400000}") // 24 hours default
     private int jwtExpirationMs;
@@ -48,21 +56,44 @@ public class AuthController {
                           JwtUtils jwtUtils,
                           PermissionService permissionService,
                           RefreshTokenService refreshTokenService,
-                          UserInfoMapper userInfoMapper) {
+                          UserInfoMapper userInfoMapper,
+                          @Qualifier("loginBulkhead") Bulkhead loginBulkhead,
+                          MeterRegistry meterRegistry) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.jwtUtils = jwtUtils;
         this.permissionService = permissionService;
         this.refreshTokenService = refreshTokenService;
         this.userInfoMapper = userInfoMapper;
+        this.loginBulkhead = loginBulkhead;
+        this.meterRegistry = meterRegistry;
     }
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password())
-        );
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            // Password check (BCrypt) runs on the bounded login bulkhead, not the request thread
+            Authentication authentication = loginBulkhead.call(() -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password())
+            ));
+
+            ResponseEntity<LoginResponse> response = completeLogin(authentication);
+            outcome = "success";
+            return response;
+        } catch (BulkheadFullException ex) {
+            outcome = "rejected";
+            throw ex;
+        } catch (BulkheadTimeoutException ex) {
+            outcome = "timeout";
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.login.latency", "outcome", outcome));
+        }
+    }
 
+    private ResponseEntity<LoginResponse> completeLogin(Authentication authentication) {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtUtils.generateJwtToken(authentication);
 
@@ -97,18 +128,11 @@ public class AuthController {
             throw new RuntimeException("Refresh token is required");
         }
 
-        // Find and validate refresh token
-        RefreshToken refreshToken = refreshTokenService.findByToken(refreshTokenStr)
-                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
-
-        // Verify token is not expired or revoked
-        refreshToken = refreshTokenService.verifyExpiration(refreshToken);
-
-        // Rotate refresh token for security
+        // Validate and rotate in one step: a single lookup plus a conditional update
         RefreshToken newRefreshToken = refreshTokenService.rotateRefreshToken(refreshTokenStr);
 
         // Generate new access token
-        User user = refreshToken.getUser();
+        User user = newRefreshToken.getUser();
         CustomUserDetailsService.UserPrincipal userPrincipal = CustomUserDetailsService.UserPrincipal.create(user);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userPrincipal, null, userPrincipal.getAuthorities());
@@ -1,5 +1,7 @@
 package com.realestatecrm.controller;
 
+import com.realestatecrm.concurrency.FanOut;
+import com.realestatecrm.dto.common.CursorPage;
 import com.realestatecrm.dto.common.MessageResponse;
 import com.realestatecrm.dto.customer.request.CreateCustomerRequest;
 import com.realestatecrm.dto.customer.request.CreateCustomerInteractionRequest;
@@ -7,17 +9,28 @@ import com.realestatecrm.dto.customer.request.CreateCustomerNoteRequest;
 import com.realestatecrm.dto.customer.request.UpdateCustomerRequest;
 import com.realestatecrm.dto.customer.request.UpdateCustomerStatusRequest;
 import com.realestatecrm.dto.customer.response.CustomerInteractionResponse;
+import com.realestatecrm.dto.customer.response.CustomerInteractionSummaryResponse;
 import com.realestatecrm.dto.customer.response.CustomerNoteResponse;
+import com.realestatecrm.dto.customer.response.CustomerNoteSummaryResponse;
+import com.realestatecrm.dto.customer.response.CustomerOverviewResponse;
 import com.realestatecrm.dto.customer.response.CustomerResponse;
+import com.realestatecrm.dto.savedsearch.SavedSearchResponse;
 import com.realestatecrm.entity.*;
+import com.realestatecrm.enums.CountMode;
 import com.realestatecrm.enums.CustomerStatus;
 import com.realestatecrm.mapper.CustomerMapper;
+import com.realestatecrm.monitoring.SqlBudget;
+import com.realestatecrm.repository.projection.CustomerInteractionTimelineRow;
+import com.realestatecrm.repository.projection.CustomerListRow;
+import com.realestatecrm.repository.projection.CustomerNoteTimelineRow;
 import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.SavedSearchService;
 import com.realestatecrm.service.UserService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -33,43 +46,45 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/customers")
 public class CustomerController {
 
+    private static final int MAX_OVERVIEW_SECTION_SIZE = 50;
+
     private final CustomerService customerService;
     private final UserService userService;
+    private final SavedSearchService savedSearchService;
     private final CustomerMapper customerMapper;
 
     @Autowired
     public CustomerController(CustomerService customerService, UserService userService,
-                            CustomerMapper customerMapper) {
+                            SavedSearchService savedSearchService, CustomerMapper customerMapper) {
         this.customerService = customerService;
         this.userService = userService;
+        this.savedSearchService = savedSearchService;
         this.customerMapper = customerMapper;
     }
 
     @GetMapping
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
-    public ResponseEntity<Page<CustomerResponse>> getAllCustomers(
+    public ResponseEntity<Slice<CustomerResponse>> getAllCustomers(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) CustomerStatus status,
+            @RequestParam(required = false) String count,
             Pageable pageable) {
 
+        CountMode countMode = CountMode.fromParam(count);
         User currentUser = userService.getUserByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("Current user not found"));
 
-        Page<Customer> customers;
-        if (currentUser.getRole().name().equals("ADMIN")) {
-            customers = customerService.getAllCustomers(pageable);
-        } else {
+        // List view reads projections: only the listed columns, no entity hydration
+        List<Long> userIds = null;
+        if (!currentUser.getRole().name().equals("ADMIN")) {
             // Get customers for current user and their subordinates
             List<User> accessibleUsers = userService.getAccessibleUsers(currentUser.getId());
-            List<Long> userIds = accessibleUsers.stream().map(User::getId).collect(Collectors.toList());
-            customers = customerService.getCustomersByAgents(userIds, pageable);
-        }
-
-        if (status != null) {
-            customers = customerService.getCustomersByStatus(status, pageable);
+            userIds = accessibleUsers.stream().map(User::getId).collect(Collectors.toList());
         }
+        // count=exact (default) runs COUNT(*), count=approx uses the cached counters, count=none returns a slice
+        Slice<CustomerListRow> customers = customerService.getCustomerListRows(userIds, status, countMode, pageable);
 
-        Page<CustomerResponse> response = customers.map(customerMapper::toResponse);
+        Slice<CustomerResponse> response = customers.map(customerMapper::toResponse);
         return ResponseEntity.ok(response);
     }
 
@@ -82,6 +97,63 @@ public class CustomerController {
         return ResponseEntity.ok(customerMapper.toResponse(customer));
     }
 
+    /**
+     * Customer detail screen in one round trip: the customer, its latest notes and interactions and its
+     * saved searches. The current user and the customer are resolved first, since the customer decides
+     * whether the caller may see its saved searches; the remaining sections are then read in parallel,
+     * each on its own connection, and the saved searches only for the owning agent. Every list is cut to
+     * its limit (0-50, 0 skips the section). The budget covers the user lookup, the customer and the three
+     * sections, whose branches count against this request, plus token authentication.
+     */
+    @GetMapping("/{id}/overview")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    @SqlBudget(6)
+    public ResponseEntity<CustomerOverviewResponse> getCustomerOverview(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "10") int notes,
+            @RequestParam(defaultValue = "10") int interactions,
+            @RequestParam(defaultValue = "10") int savedSearches) {
+
+        checkSectionLimit("notes", notes);
+        checkSectionLimit("interactions", interactions);
+        checkSectionLimit("savedSearches", savedSearches);
+
+        User currentUser = userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("Current user not found"));
+        Customer customer = customerService.getCustomerById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Customer not found with id: " + id));
+        // Same rule as /api/customers/{id}/saved-searches: only the owning agent sees saved searches
+        boolean ownCustomer = customer.getAgent().getId().equals(currentUser.getId());
+
+        try (FanOut fanOut = FanOut.open()) {
+            FanOut.Branch<List<CustomerNote>> latestNotes = fanOut.fork(() -> notes == 0
+                    ? List.of() : customerService.getLatestCustomerNotes(id, notes));
+            FanOut.Branch<List<CustomerInteraction>> latestInteractions = fanOut.fork(() -> interactions == 0
+                    ? List.of() : customerService.getLatestCustomerInteractions(id, interactions));
+            FanOut.Branch<List<SavedSearchResponse>> latestSearches = ownCustomer && savedSearches > 0
+                    ? fanOut.fork(() -> savedSearchService.getLatestSavedSearchesByCustomer(id, savedSearches))
+                    : null;
+            fanOut.join();
+
+            List<SavedSearchResponse> searches = null;
+            if (ownCustomer) {
+                searches = latestSearches != null ? latestSearches.get() : List.of();
+            }
+            return ResponseEntity.ok(new CustomerOverviewResponse(
+                    customerMapper.toResponse(customer),
+                    latestNotes.get().stream().map(customerMapper::toCustomerNoteResponse).collect(Collectors.toList()),
+                    latestInteractions.get().stream().map(customerMapper::toCustomerInteractionResponse).collect(Collectors.toList()),
+                    searches));
+        }
+    }
+
+    private static void checkSectionLimit(String section, int limit) {
+        if (limit < 0 || limit > MAX_OVERVIEW_SECTION_SIZE) {
+            throw new IllegalArgumentException(section + " must be between 0 and " + MAX_OVERVIEW_SECTION_SIZE);
+        }
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
     public ResponseEntity<CustomerResponse> createCustomer(
@@ -182,6 +254,30 @@ public class CustomerController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Notes timeline, newest first, one page at a time. Pass the returned {@code nextCursor} as
+     * {@code cursor} for the next page. Entries carry a content preview; the full note is at
+     * {@code /{id}/notes/{noteId}}.
+     */
+    @GetMapping("/{id}/notes/timeline")
+    @SqlBudget(4)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<CustomerNoteSummaryResponse>> getCustomerNoteTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<CustomerNoteTimelineRow> page = customerService.getCustomerNoteTimeline(id, cursor, size);
+        return ResponseEntity.ok(page.map(customerMapper::toNoteSummaryResponse));
+    }
+
+    @GetMapping("/{id}/notes/{noteId}")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<CustomerNoteResponse> getCustomerNote(
+            @PathVariable Long id,
+            @PathVariable Long noteId) {
+        return ResponseEntity.ok(customerMapper.toCustomerNoteResponse(customerService.getCustomerNote(id, noteId)));
+    }
+
     @DeleteMapping("/{id}/notes/{noteId}")
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
     public ResponseEntity<MessageResponse> deleteCustomerNote(
@@ -225,6 +321,31 @@ public class CustomerController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Interactions timeline, most recent first, one page at a time. Pass the returned {@code nextCursor} as
+     * {@code cursor} for the next page. Entries leave out the interaction notes; the full interaction is at
+     * {@code /{id}/interactions/{interactionId}}.
+     */
+    @GetMapping("/{id}/interactions/timeline")
+    @SqlBudget(4)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<CustomerInteractionSummaryResponse>> getCustomerInteractionTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<CustomerInteractionTimelineRow> page = customerService.getCustomerInteractionTimeline(id, cursor, size);
+        return ResponseEntity.ok(page.map(customerMapper::toInteractionSummaryResponse));
+    }
+
+    @GetMapping("/{id}/interactions/{interactionId}")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<CustomerInteractionResponse> getCustomerInteraction(
+            @PathVariable Long id,
+            @PathVariable Long interactionId) {
+        return ResponseEntity.ok(customerMapper.toCustomerInteractionResponse(
+                customerService.getCustomerInteraction(id, interactionId)));
+    }
+
     @DeleteMapping("/{id}/interactions/{interactionId}")
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
     public ResponseEntity<MessageResponse> deleteCustomerInteraction(
@@ -0,0 +1,40 @@
+package com.realestatecrm.controller;
+
+import com.realestatecrm.dto.dashboard.response.DashboardResponse;
+import com.realestatecrm.monitoring.SqlBudget;
+import com.realestatecrm.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Autowired
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /**
+     * Property and customer counts per status for the current user and every agent they can see.
+     * Served from a short-lived cache; {@code generatedAt} tells how fresh the counts are. A cold load runs
+     * two statements, plus the user lookup of token authentication.
+     */
+    @GetMapping
+    @SqlBudget(3)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<DashboardResponse> getDashboard(@AuthenticationPrincipal UserDetails userDetails) {
+        // The role comes from the authenticated principal, so the dashboard needs no user lookup
+        boolean admin = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return ResponseEntity.ok(dashboardService.getDashboard(userDetails.getUsername(), admin));
+    }
+}
@@ -0,0 +1,135 @@
+package com.realestatecrm.controller;
+
+import com.realestatecrm.dto.importjob.response.ImportJobResponse;
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.mapper.ImportJobMapper;
+import com.realestatecrm.service.ImportJobService;
+import com.realestatecrm.service.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Background file imports. An upload returns 202 with the queued job; its progress, rejected records
+ * and resume action are available under /api/imports/{id}.
+ */
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private final ImportJobService importJobService;
+    private final UserService userService;
+    private final ImportJobMapper importJobMapper;
+
+    @Autowired
+    public ImportController(ImportJobService importJobService, UserService userService,
+                            ImportJobMapper importJobMapper) {
+        this.importJobService = importJobService;
+        this.userService = userService;
+        this.importJobMapper = importJobMapper;
+    }
+
+    /**
+     * Import listings from a CSV (header row required) or NDJSON file. The format is taken from
+     * the file extension unless given explicitly.
+     */
+    @PostMapping(value = "/properties", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<ImportJobResponse> importProperties(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format) {
+
+        ImportJob job = importJobService.createJob(ImportJobType.PROPERTY, file, format, currentUser(userDetails));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/imports/" + job.getId()))
+                .body(importJobMapper.toResponse(job));
+    }
+
+    /**
+     * Import customers from a CSV (header row required) or NDJSON file. Records whose email or phone
+     * matches an existing customer or an earlier record are skipped and listed in the error file.
+     */
+    @PostMapping(value = "/customers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<ImportJobResponse> importCustomers(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ImportFormat format) {
+
+        ImportJob job = importJobService.createJob(ImportJobType.CUSTOMER, file, format, currentUser(userDetails));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/imports/" + job.getId()))
+                .body(importJobMapper.toResponse(job));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<List<ImportJobResponse>> getImportJobs(@AuthenticationPrincipal UserDetails userDetails) {
+        List<ImportJobResponse> response = importJobService.getJobs(currentUser(userDetails)).stream()
+                .map(importJobMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<ImportJobResponse> getImportJob(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id) {
+
+        ImportJob job = importJobService.getJob(id, currentUser(userDetails));
+        return ResponseEntity.ok(importJobMapper.toResponse(job));
+    }
+
+    /**
+     * Rejected records of a job as CSV (record number, reason).
+     */
+    @GetMapping("/{id}/errors")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<Resource> getImportErrors(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id) {
+
+        Resource errors = new FileSystemResource(importJobService.getErrorFile(id, currentUser(userDetails)));
+        if (!errors.exists()) {
+            throw new EntityNotFoundException("Error file not found for import job: " + id);
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("import-" + id + "-errors.csv").build().toString())
+                .body(errors);
+    }
+
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<ImportJobResponse> resumeImportJob(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long id) {
+
+        ImportJob job = importJobService.resumeJob(id, currentUser(userDetails));
+        return ResponseEntity.accepted().body(importJobMapper.toResponse(job));
+    }
+
+    private User currentUser(UserDetails userDetails) {
+        return userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new EntityNotFoundException("Current user not found"));
+    }
+}
@@ -0,0 +1,19 @@
+package com.realestatecrm.controller;
+
+import java.util.List;
+
+/**
+ * The {@code include} request parameter of the property listings, which opts into related data that list
+ * views leave out by default.
+ */
+final class IncludeParam {
+
+    private IncludeParam() {}
+
+    /**
+     * Whether {@code include=attributes} asks for the attribute values of every listed property.
+     */
+    static boolean attributes(List<String> include) {
+        return include != null && include.stream().anyMatch("attributes"::equalsIgnoreCase);
+    }
+}
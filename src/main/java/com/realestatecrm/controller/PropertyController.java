@@ -1,14 +1,18 @@
 package com.realestatecrm.controller;
 
+import com.realestatecrm.concurrency.FanOut;
 import com.realestatecrm.dto.common.MessageResponse;
 import com.realestatecrm.dto.property.request.*;
 import com.realestatecrm.dto.property.response.PropertyResponse;
 import com.realestatecrm.dto.property.response.PropertySharingResponse;
 import com.realestatecrm.dto.property.response.AttributeValueResponse;
+import com.realestatecrm.dto.property.response.BulkAttributeValueResponse;
 import com.realestatecrm.dto.savedsearch.PropertySearchCriteriaRequest;
 import com.realestatecrm.entity.*;
+import com.realestatecrm.enums.CountMode;
 import com.realestatecrm.enums.PropertyStatus;
 import com.realestatecrm.mapper.PropertyMapper;
+import com.realestatecrm.repository.projection.PropertyListRow;
 import com.realestatecrm.service.PropertyService;
 import com.realestatecrm.service.SavedSearchService;
 import com.realestatecrm.service.UserService;
@@ -17,6 +21,7 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +32,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -49,27 +56,38 @@ public class PropertyController {
 
     @GetMapping
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
-    public ResponseEntity<Page<PropertyResponse>> getAllProperties(
+    public ResponseEntity<Slice<PropertyResponse>> getAllProperties(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false) PropertyStatus status,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) List<String> include,
+            @RequestParam(required = false) String count,
             Pageable pageable) {
 
+        CountMode countMode = CountMode.fromParam(count);
         User currentUser = userService.getUserByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new EntityNotFoundException("Current user not found"));
 
-        Page<Property> properties;
-        if (currentUser.getRole().name().equals("ADMIN")) {
-            properties = propertyService.getAllProperties(pageable);
-        } else {
+        // List view reads projections: only the listed columns, no entity hydration
+        List<Long> userIds = null;
+        if (!currentUser.getRole().name().equals("ADMIN")) {
             // Get properties for current user and their subordinates
             List<User> accessibleUsers = userService.getAccessibleUsers(currentUser.getId());
-            List<Long> userIds = accessibleUsers.stream().map(User::getId).collect(Collectors.toList());
-            properties = propertyService.getPropertiesByAgents(userIds, pageable);
+            userIds = accessibleUsers.stream().map(User::getId).collect(Collectors.toList());
+        }
+        // count=exact (default) runs COUNT(*), count=approx uses the cached counters, count=none returns a slice
+        Slice<PropertyListRow> properties = propertyService.getPropertyListRows(userIds, countMode, pageable);
+
+        Slice<PropertyResponse> response;
+        if (IncludeParam.attributes(include)) {
+            // One query for the attribute values of the whole page instead of one request per card
+            Map<Long, List<AttributeValueResponse>> attributes = propertyService.getAttributeValuesByProperty(
+                    properties.map(PropertyListRow::id).getContent());
+            response = properties.map(row -> propertyMapper.toResponse(row, attributes.getOrDefault(row.id(), List.of())));
+        } else {
+            response = properties.map(propertyMapper::toResponse);
         }
-
-        Page<PropertyResponse> response = properties.map(propertyMapper::toResponse);
         return ResponseEntity.ok(response);
     }
 
@@ -86,14 +104,18 @@ public class PropertyController {
 
     @GetMapping("/{id}/with-attributes")
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
-    @Transactional(readOnly = true)
     public ResponseEntity<PropertyResponse> getPropertyByIdWithAttributes(@PathVariable Long id) {
-        Property property = propertyService.getPropertyById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
-
-        // Return complete property info including all dynamic attributes
-        List<AttributeValue> values = propertyService.getAttributeValues(property.getId());
-        return ResponseEntity.ok(propertyMapper.toResponseWithAttributes(property, values));
+        // The property and its attribute values are independent reads; load them at the same time
+        try (FanOut fanOut = FanOut.open()) {
+            FanOut.Branch<Optional<Property>> property = fanOut.fork(() -> propertyService.getPropertyById(id));
+            FanOut.Branch<Map<Long, List<AttributeValueResponse>>> attributes =
+                    fanOut.fork(() -> propertyService.getAttributeValuesByProperty(List.of(id)));
+            fanOut.join();
+
+            Property found = property.get()
+                    .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
+            return ResponseEntity.ok(propertyMapper.toResponse(found, attributes.get().getOrDefault(id, List.of())));
+        }
     }
 
     @PostMapping
@@ -156,6 +178,25 @@ public class PropertyController {
         return ResponseEntity.ok(propertyMapper.toAttributeValueResponse(value));
     }
 
+    @PostMapping("/{id}/attribute-values/bulk")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkAttributeValueResponse> setAttributeValues(
+            @PathVariable Long id,
+            @Valid @RequestBody BulkSetAttributeValuesRequest request) {
+
+        int written = propertyService.setAttributeValues(Map.of(id, request.getValues()));
+        return ResponseEntity.ok(new BulkAttributeValueResponse(1, written));
+    }
+
+    @PostMapping("/attribute-values/bulk")
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<BulkAttributeValueResponse> setAttributeValuesForProperties(
+            @Valid @RequestBody BulkSetPropertiesAttributeValuesRequest request) {
+
+        int written = propertyService.setAttributeValues(request.getProperties());
+        return ResponseEntity.ok(new BulkAttributeValueResponse(request.getProperties().size(), written));
+    }
+
     @GetMapping("/{id}/attribute-values")
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
     @Transactional(readOnly = true)
@@ -218,7 +259,8 @@ public class PropertyController {
     public ResponseEntity<List<PropertyResponse>> searchProperties(
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
-            @RequestParam(required = false) PropertyStatus status) {
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(required = false) List<String> include) {
 
         List<Property> properties;
 
@@ -234,9 +276,18 @@ public class PropertyController {
                     .collect(Collectors.toList());
         }
 
-        List<PropertyResponse> responses = properties.stream()
-                .map(propertyMapper::toResponse)
-                .collect(Collectors.toList());
+        List<PropertyResponse> responses;
+        if (IncludeParam.attributes(include)) {
+            Map<Long, List<AttributeValueResponse>> attributes = propertyService.getAttributeValuesByProperty(
+                    properties.stream().map(Property::getId).toList());
+            responses = properties.stream()
+                    .map(p -> propertyMapper.toResponse(p, attributes.getOrDefault(p.getId(), List.of())))
+                    .collect(Collectors.toList());
+        } else {
+            responses = properties.stream()
+                    .map(propertyMapper::toResponse)
+                    .collect(Collectors.toList());
+        }
 
         return ResponseEntity.ok(responses);
     }
@@ -244,15 +295,26 @@ public class PropertyController {
     @PostMapping("/search/by-criteria")
     @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
     public ResponseEntity<?> searchPropertiesByCriteria(
-            @Valid @RequestBody PropertySearchCriteriaRequest request) {
+            @Valid @RequestBody PropertySearchCriteriaRequest request,
+            @RequestParam(required = false) List<String> include) {
 
         try {
             Page<Property> properties = savedSearchService.executeSearch(request);
-            Page<PropertyResponse> response = properties.map(propertyMapper::toResponse);
+            Page<PropertyResponse> response = toResponsePage(properties, include);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new MessageResponse(e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    // Maps a page of search results; with include=attributes the whole page's attribute values are loaded in one query
+    private Page<PropertyResponse> toResponsePage(Page<Property> properties, List<String> include) {
+        if (!IncludeParam.attributes(include)) {
+            return properties.map(propertyMapper::toResponse);
+        }
+        Map<Long, List<AttributeValueResponse>> attributes = propertyService.getAttributeValuesByProperty(
+                properties.map(Property::getId).getContent());
+        return properties.map(p -> propertyMapper.toResponse(p, attributes.getOrDefault(p.getId(), List.of())));
+    }
+}
@@ -0,0 +1,56 @@
+package com.realestatecrm.controller;
+
+import com.realestatecrm.dto.report.response.PipelineReportResponse;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.monitoring.SqlBudget;
+import com.realestatecrm.service.PipelineReportService;
+import com.realestatecrm.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private static final int DEFAULT_REPORT_DAYS = 30;
+
+    private final PipelineReportService pipelineReportService;
+    private final UserService userService;
+
+    @Autowired
+    public ReportController(PipelineReportService pipelineReportService, UserService userService) {
+        this.pipelineReportService = pipelineReportService;
+        this.userService = userService;
+    }
+
+    /**
+     * Customer status transitions, interactions by type and property status changes of the current user's
+     * team, per agent and per day. Dates are inclusive ISO dates; the default is the last 30 days.
+     */
+    @GetMapping("/pipeline")
+    @SqlBudget(6)
+    @PreAuthorize("hasRole('AGENT') or hasRole('BROKER') or hasRole('ADMIN')")
+    public ResponseEntity<PipelineReportResponse> getPipelineReport(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        User currentUser = userService.getUserByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("Current user not found"));
+        List<User> agents = userService.getAccessibleUsers(currentUser.getId());
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_REPORT_DAYS - 1);
+        return ResponseEntity.ok(pipelineReportService.getPipelineReport(agents, start, end));
+    }
+}
@@ -1,6 +1,7 @@
 package com.realestatecrm.controller;
 
 import com.realestatecrm.dto.common.MessageResponse;
+import com.realestatecrm.dto.property.response.AttributeValueResponse;
 import com.realestatecrm.dto.property.response.PropertyResponse;
 import com.realestatecrm.dto.savedsearch.SavedSearchRequest;
 import com.realestatecrm.dto.savedsearch.SavedSearchResponse;
@@ -9,6 +10,7 @@ import com.realestatecrm.entity.Property;
 import com.realestatecrm.entity.User;
 import com.realestatecrm.mapper.PropertyMapper;
 import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.PropertyService;
 import com.realestatecrm.service.SavedSearchService;
 import com.realestatecrm.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
@@ -33,16 +35,19 @@ public class SavedSearchController {
     private final SavedSearchService savedSearchService;
     private final CustomerService customerService;
     private final UserService userService;
+    private final PropertyService propertyService;
     private final PropertyMapper propertyMapper;
 
     @Autowired
     public SavedSearchController(SavedSearchService savedSearchService,
                                  CustomerService customerService,
                                  UserService userService,
+                                 PropertyService propertyService,
                                  PropertyMapper propertyMapper) {
         this.savedSearchService = savedSearchService;
         this.customerService = customerService;
         this.userService = userService;
+        this.propertyService = propertyService;
         this.propertyMapper = propertyMapper;
     }
 
@@ -199,14 +204,15 @@ public class SavedSearchController {
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "20") Integer size,
-            @RequestParam(required = false, defaultValue = "createdDate,desc") String sort) {
+            @RequestParam(required = false, defaultValue = "createdDate,desc") String sort,
+            @RequestParam(required = false) List<String> include) {
 
         User currentUser = userService.getUserByUsername(userDetails.getUsername())
                 .orElseThrow(() -> new RuntimeException("Current user not found"));
 
         try {
             Page<Property> properties = savedSearchService.executeSavedSearch(id, currentUser.getId(), page, size, sort);
-            Page<PropertyResponse> response = properties.map(propertyMapper::toResponse);
+            Page<PropertyResponse> response = toResponsePage(properties, include);
             return ResponseEntity.ok(response);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -219,4 +225,14 @@ public class SavedSearchController {
                     .body(new MessageResponse(e.getMessage()));
         }
     }
+
+    // Same include handling as the property search: one attribute-value query for the page, only when asked for
+    private Page<PropertyResponse> toResponsePage(Page<Property> properties, List<String> include) {
+        if (!IncludeParam.attributes(include)) {
+            return properties.map(propertyMapper::toResponse);
+        }
+        Map<Long, List<AttributeValueResponse>> attributes = propertyService.getAttributeValuesByProperty(
+                properties.map(Property::getId).getContent());
+        return properties.map(p -> propertyMapper.toResponse(p, attributes.getOrDefault(p.getId(), List.of())));
+    }
 }
@@ -0,0 +1,65 @@
+package com.realestatecrm.datasource;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pins a user to the primary database for a short window after they commit a write, so their next
+ * reads see it even while the replica is still catching up. Registered as a transaction execution
+ * listener: every committed read-write transaction of an authenticated user restarts that user's window.
+ * <p>
+ * The pins live in memory, so with several instances behind a load balancer a user only stays on the
+ * primary on the instance that served the write; sticky sessions or a shorter replica lag cover the rest.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction() || windowNanos <= 0) {
+            return;
+        }
+        String user = currentUser();
+        if (user != null) {
+            pinnedUntil.put(user, System.nanoTime() + windowNanos);
+        }
+    }
+
+    /**
+     * Whether the user on the current thread wrote within the window and must read from the primary.
+     */
+    public boolean isCurrentUserPinned() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until >= 0) {
+            pinnedUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
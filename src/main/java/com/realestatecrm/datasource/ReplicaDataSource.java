@@ -0,0 +1,89 @@
+package com.realestatecrm.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Connection source for read-only transactions. Hands out replica connections unless the current user
+ * is inside their read-your-writes window or the replica is unreachable; in both cases the primary
+ * serves the read.
+ * <p>
+ * With {@link Failover#PRIMARY} a replica that fails to hand out a connection is skipped for
+ * {@code retryInterval} and reads fall back to the primary; with {@link Failover#FAIL} the error is
+ * propagated, for deployments where the primary must never take read traffic.
+ */
+public class ReplicaDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    public enum Failover {
+        PRIMARY,
+        FAIL
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Failover failover;
+    private final long retryIntervalNanos;
+
+    private volatile long replicaDownUntil;
+    private volatile boolean replicaDown;
+
+    public ReplicaDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker,
+                             Failover failover, Duration retryInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.failover = failover;
+        this.retryIntervalNanos = retryInterval.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionFactory connect) throws SQLException {
+        if (readYourWritesTracker.isCurrentUserPinned() || isReplicaSkipped()) {
+            return connect.from(primary);
+        }
+        try {
+            Connection connection = connect.from(replica);
+            if (replicaDown) {
+                replicaDown = false;
+                logger.info("Read replica is reachable again, routing read-only transactions back to it");
+            }
+            return connection;
+        } catch (SQLException e) {
+            if (failover == Failover.FAIL) {
+                throw e;
+            }
+            replicaDownUntil = System.nanoTime() + retryIntervalNanos;
+            replicaDown = true;
+            logger.warn("Read replica unavailable, serving reads from the primary for the next {} ms: {}",
+                    Duration.ofNanos(retryIntervalNanos).toMillis(), e.getMessage());
+            return connect.from(primary);
+        }
+    }
+
+    private boolean isReplicaSkipped() {
+        return replicaDown && System.nanoTime() - replicaDownUntil < 0;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,23 @@
+package com.realestatecrm.dto.activity.response;
+
+import com.realestatecrm.enums.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the team activity feed. {@code id} is the id of the note, interaction, customer or status
+ * change, depending on {@code type}; customer and property fields are set when the entry refers to one.
+ * {@code summary} is the start of a note, the interaction type and subject, a new customer's lead source
+ * or the status transition.
+ */
+public record ActivityFeedItemResponse(ActivityType type,
+                                       LocalDateTime occurredAt,
+                                       Long id,
+                                       Long userId,
+                                       String userName,
+                                       Long customerId,
+                                       String customerName,
+                                       Long propertyId,
+                                       String propertyTitle,
+                                       String summary) {
+}
@@ -0,0 +1,27 @@
+package com.realestatecrm.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is null on the last page; otherwise it is passed
+ * back as {@code cursor} to fetch the following page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Build a page from a query that fetched up to {@code size + 1} rows: the extra row only signals that
+     * another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> position) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new CursorPage<>(items, position.apply(items.get(size - 1)).encode());
+    }
+}
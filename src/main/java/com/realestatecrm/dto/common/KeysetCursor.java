@@ -0,0 +1,39 @@
+package com.realestatecrm.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a newest-first timeline ordered by {@code (timestamp DESC, id DESC)}: the last row the client
+ * has seen. The next page holds the rows strictly after it, so the database can seek on the composite
+ * index instead of skipping an offset. Sent to clients as an opaque URL-safe string.
+ */
+public record KeysetCursor(LocalDateTime timestamp, Long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString((timestamp + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a missing or blank value (first page)
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(DECODER.decode(value.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+}
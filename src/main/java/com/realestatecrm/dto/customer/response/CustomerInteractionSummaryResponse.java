@@ -0,0 +1,20 @@
+package com.realestatecrm.dto.customer.response;
+
+import com.realestatecrm.enums.InteractionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interaction in the customer timeline, without its notes; those are at
+ * {@code GET /api/customers/{id}/interactions/{interactionId}}.
+ */
+public record CustomerInteractionSummaryResponse(Long id,
+                                                 InteractionType type,
+                                                 String subject,
+                                                 LocalDateTime interactionDate,
+                                                 Integer durationMinutes,
+                                                 Long userId,
+                                                 String userName,
+                                                 Long relatedPropertyId,
+                                                 String relatedPropertyTitle) {
+}
@@ -0,0 +1,15 @@
+package com.realestatecrm.dto.customer.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * A note in the customer timeline. {@code preview} is the start of the content; when {@code truncated} is
+ * set, the full text is at {@code GET /api/customers/{id}/notes/{noteId}}.
+ */
+public record CustomerNoteSummaryResponse(Long id,
+                                          Long createdByUserId,
+                                          String createdByUserName,
+                                          String preview,
+                                          boolean truncated,
+                                          LocalDateTime createdDate) {
+}
@@ -0,0 +1,17 @@
+package com.realestatecrm.dto.customer.response;
+
+import com.realestatecrm.dto.savedsearch.SavedSearchResponse;
+
+import java.util.List;
+
+/**
+ * Everything the customer detail screen shows, in one response: the customer, the newest notes and
+ * interactions, and the most recently updated saved searches, each list cut to its requested limit.
+ * {@code savedSearches} is null when the caller is not the customer's agent (saved searches are
+ * only visible to the owning agent).
+ */
+public record CustomerOverviewResponse(CustomerResponse customer,
+                                       List<CustomerNoteResponse> notes,
+                                       List<CustomerInteractionResponse> interactions,
+                                       List<SavedSearchResponse> savedSearches) {
+}
@@ -0,0 +1,15 @@
+package com.realestatecrm.dto.dashboard.response;
+
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.PropertyStatus;
+
+import java.util.Map;
+
+/**
+ * One agent's row of the dashboard: properties and customers per status, zero for statuses with none.
+ */
+public record AgentDashboardResponse(Long agentId,
+                                     String agentName,
+                                     Map<PropertyStatus, Long> properties,
+                                     Map<CustomerStatus, Long> customers) {
+}
@@ -0,0 +1,18 @@
+package com.realestatecrm.dto.dashboard.response;
+
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.PropertyStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Property and customer counts per status for every agent the caller can see, with team totals.
+ * The counts are as of {@code generatedAt}; the dashboard is cached for a short time.
+ */
+public record DashboardResponse(LocalDateTime generatedAt,
+                                Map<PropertyStatus, Long> properties,
+                                Map<CustomerStatus, Long> customers,
+                                List<AgentDashboardResponse> agents) {
+}
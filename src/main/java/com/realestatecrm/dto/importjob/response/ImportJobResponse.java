@@ -0,0 +1,27 @@
+package com.realestatecrm.dto.importjob.response;
+
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobStatus;
+import com.realestatecrm.enums.ImportJobType;
+
+import java.time.LocalDateTime;
+
+public record ImportJobResponse(Long id,
+                                ImportJobType type,
+                                ImportFormat format,
+                                ImportJobStatus status,
+                                String originalFilename,
+                                Long createdById,
+                                long processedCount,
+                                long importedCount,
+                                long rejectedCount,
+                                long duplicateCount,
+                                long lastCommittedRecord,
+                                String message,
+                                long lastRunRecords,
+                                long lastRunMillis,
+                                long lastRunRecordsPerSecond,
+                                LocalDateTime createdDate,
+                                LocalDateTime startedAt,
+                                LocalDateTime finishedAt) {
+}
@@ -0,0 +1,17 @@
+package com.realestatecrm.dto.property.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.Map;
+
+/**
+ * Attribute values for a single property, keyed by attribute id.
+ */
+public class BulkSetAttributeValuesRequest {
+    @NotEmpty
+    private Map<Long, Object> values;
+
+    // Getters and setters
+    public Map<Long, Object> getValues() { return values; }
+    public void setValues(Map<Long, Object> values) { this.values = values; }
+}
@@ -0,0 +1,17 @@
+package com.realestatecrm.dto.property.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.Map;
+
+/**
+ * Attribute values for many properties: propertyId -> (attributeId -> value).
+ */
+public class BulkSetPropertiesAttributeValuesRequest {
+    @NotEmpty
+    private Map<Long, Map<Long, Object>> properties;
+
+    // Getters and setters
+    public Map<Long, Map<Long, Object>> getProperties() { return properties; }
+    public void setProperties(Map<Long, Map<Long, Object>> properties) { this.properties = properties; }
+}
@@ -0,0 +1,3 @@
+package com.realestatecrm.dto.property.response;
+
+public record BulkAttributeValueResponse(int propertyCount, int valueCount) {}
@@ -0,0 +1,29 @@
+package com.realestatecrm.dto.report.response;
+
+import com.realestatecrm.enums.PipelineMetric;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pipeline counters for {@code from}..{@code to} (inclusive), read from the pre-aggregated counters only.
+ * Each counts map goes metric -> dimension (status entered or interaction type) -> count. {@code team}
+ * sums every agent the caller can see, {@code agents} breaks it down per agent and {@code days} per day
+ * (days without activity are left out).
+ */
+public record PipelineReportResponse(LocalDate from,
+                                     LocalDate to,
+                                     Map<PipelineMetric, Map<String, Long>> team,
+                                     List<AgentPipelineResponse> agents,
+                                     List<DailyPipelineResponse> days) {
+
+    public record AgentPipelineResponse(Long agentId,
+                                        String agentName,
+                                        Map<PipelineMetric, Map<String, Long>> counts) {
+    }
+
+    public record DailyPipelineResponse(LocalDate day,
+                                        Map<PipelineMetric, Map<String, Long>> counts) {
+    }
+}
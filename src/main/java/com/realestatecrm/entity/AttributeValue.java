@@ -12,7 +12,8 @@ import java.util.Date;
 public class AttributeValue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attribute_value_seq")
+    @SequenceGenerator(name = "attribute_value_seq", sequenceName = "attribute_value_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -10,12 +10,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "customer_interactions")
+@Table(name = "customer_interactions",
+        indexes = {
+                @Index(name = "idx_customer_interactions_timeline",
+                        columnList = "customer_id, interaction_date DESC, id DESC"),
+                @Index(name = "idx_customer_interactions_feed",
+                        columnList = "user_id, interaction_date DESC, id DESC")})
 @EntityListeners(AuditingEntityListener.class)
 public class CustomerInteraction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_interactions_seq")
+    @SequenceGenerator(name = "customer_interactions_seq", sequenceName = "customer_interactions_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -9,12 +9,16 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "customer_notes")
+@Table(name = "customer_notes",
+        indexes = {
+                @Index(name = "idx_customer_notes_timeline", columnList = "customer_id, created_date DESC, id DESC"),
+                @Index(name = "idx_customer_notes_feed", columnList = "created_by_user_id, created_date DESC, id DESC")})
 @EntityListeners(AuditingEntityListener.class)
 public class CustomerNote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_notes_seq")
+    @SequenceGenerator(name = "customer_notes_seq", sequenceName = "customer_notes_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -0,0 +1,39 @@
+package com.realestatecrm.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Marks a completed synthetic data set. Written only by {@code DataGenerator} once all of its rows and
+ * counters are in; the entity exists for the schema.
+ */
+@Entity
+@Table(name = "generator_runs")
+public class GeneratorRun {
+
+    @Id
+    private Long seed;
+
+    @Column(nullable = false)
+    private LocalDate asOf;
+
+    @Column(nullable = false)
+    private long rowCount;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public GeneratorRun() {}
+
+    // Getters
+    public Long getSeed() { return seed; }
+
+    public LocalDate getAsOf() { return asOf; }
+
+    public long getRowCount() { return rowCount; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+}
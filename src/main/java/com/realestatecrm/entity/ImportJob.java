@@ -0,0 +1,175 @@
+package com.realestatecrm.entity;
+
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobStatus;
+import com.realestatecrm.enums.ImportJobType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_jobs",
+        indexes = @Index(name = "idx_import_jobs_created_by", columnList = "created_by"))
+@EntityListeners(AuditingEntityListener.class)
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_jobs_seq")
+    @SequenceGenerator(name = "import_jobs_seq", sequenceName = "import_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobType type;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportFormat format;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    private User createdBy;
+
+    private String originalFilename;
+
+    // Uploaded file on local storage; kept until the job completes so it can be resumed
+    @Column(nullable = false, length = 1000)
+    private String sourcePath;
+
+    // Rejected records (record number + reason), appended after every committed chunk
+    @Column(nullable = false, length = 1000)
+    private String errorPath;
+
+    // Checkpoint: every record up to and including this number has been committed
+    @Column(nullable = false)
+    private long lastCommittedRecord = 0;
+
+    @Column(nullable = false)
+    private long processedCount = 0;
+
+    @Column(nullable = false)
+    private long importedCount = 0;
+
+    @Column(nullable = false)
+    private long rejectedCount = 0;
+
+    // Records skipped because they duplicate an existing row or an earlier record of the file
+    @Column(nullable = false)
+    private long duplicateCount = 0;
+
+    // Throughput of the most recent run (a resume starts a new run)
+    @Column(nullable = false)
+    private long lastRunRecords = 0;
+
+    @Column(nullable = false)
+    private long lastRunMillis = 0;
+
+    @Column(length = 1000)
+    private String message;
+
+    // Instance that queued or runs the job, and until when; renewed by its heartbeat while the job is active
+    @Column(length = 100)
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @LastModifiedDate
+    private LocalDateTime updatedDate;
+
+    // Constructors
+    public ImportJob() {}
+
+    public ImportJob(ImportJobType type, ImportFormat format, User createdBy, String originalFilename) {
+        this.type = type;
+        this.format = format;
+        this.createdBy = createdBy;
+        this.originalFilename = originalFilename;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public ImportJobType getType() { return type; }
+    public void setType(ImportJobType type) { this.type = type; }
+
+    public ImportFormat getFormat() { return format; }
+    public void setFormat(ImportFormat format) { this.format = format; }
+
+    public ImportJobStatus getStatus() { return status; }
+    public void setStatus(ImportJobStatus status) { this.status = status; }
+
+    public User getCreatedBy() { return createdBy; }
+    public void setCreatedBy(User createdBy) { this.createdBy = createdBy; }
+
+    public String getOriginalFilename() { return originalFilename; }
+    public void setOriginalFilename(String originalFilename) { this.originalFilename = originalFilename; }
+
+    public String getSourcePath() { return sourcePath; }
+    public void setSourcePath(String sourcePath) { this.sourcePath = sourcePath; }
+
+    public String getErrorPath() { return errorPath; }
+    public void setErrorPath(String errorPath) { this.errorPath = errorPath; }
+
+    public long getLastCommittedRecord() { return lastCommittedRecord; }
+    public void setLastCommittedRecord(long lastCommittedRecord) { this.lastCommittedRecord = lastCommittedRecord; }
+
+    public long getProcessedCount() { return processedCount; }
+    public void setProcessedCount(long processedCount) { this.processedCount = processedCount; }
+
+    public long getImportedCount() { return importedCount; }
+    public void setImportedCount(long importedCount) { this.importedCount = importedCount; }
+
+    public long getRejectedCount() { return rejectedCount; }
+    public void setRejectedCount(long rejectedCount) { this.rejectedCount = rejectedCount; }
+
+    public long getDuplicateCount() { return duplicateCount; }
+    public void setDuplicateCount(long duplicateCount) { this.duplicateCount = duplicateCount; }
+
+    public long getLastRunRecords() { return lastRunRecords; }
+    public void setLastRunRecords(long lastRunRecords) { this.lastRunRecords = lastRunRecords; }
+
+    public long getLastRunMillis() { return lastRunMillis; }
+    public void setLastRunMillis(long lastRunMillis) { this.lastRunMillis = lastRunMillis; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public String getLeaseOwner() { return leaseOwner; }
+    public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+
+    public LocalDateTime getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public LocalDateTime getCreatedDate() { return createdDate; }
+    public void setCreatedDate(LocalDateTime createdDate) { this.createdDate = createdDate; }
+
+    public LocalDateTime getUpdatedDate() { return updatedDate; }
+    public void setUpdatedDate(LocalDateTime updatedDate) { this.updatedDate = updatedDate; }
+}
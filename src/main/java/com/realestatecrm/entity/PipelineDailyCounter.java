@@ -0,0 +1,72 @@
+package com.realestatecrm.entity;
+
+import com.realestatecrm.enums.PipelineMetric;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * One pre-aggregated pipeline counter: how often an agent entered a status or logged an interaction type
+ * on a day. Written only through {@code PipelineCounterJdbcRepository} as an increment; the entity
+ * exists for reads and for the schema.
+ */
+@Entity
+@Table(name = "pipeline_daily_counters")
+public class PipelineDailyCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long total;
+
+    // Constructors
+    public PipelineDailyCounter() {}
+
+    // Getters
+    public Key getId() { return id; }
+
+    public long getTotal() { return total; }
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "agent_id", nullable = false)
+        private Long agentId;
+
+        @Column(nullable = false)
+        private LocalDate activityDate;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 50)
+        private PipelineMetric metric;
+
+        @Column(nullable = false, length = 50)
+        private String dimension;
+
+        public Key() {}
+
+        public Long getAgentId() { return agentId; }
+
+        public LocalDate getActivityDate() { return activityDate; }
+
+        public PipelineMetric getMetric() { return metric; }
+
+        public String getDimension() { return dimension; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(agentId, key.agentId) && Objects.equals(activityDate, key.activityDate)
+                    && metric == key.metric && Objects.equals(dimension, key.dimension);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(agentId, activityDate, metric, dimension);
+        }
+    }
+}
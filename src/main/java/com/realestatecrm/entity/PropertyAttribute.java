@@ -1,10 +1,13 @@
 package com.realestatecrm.entity;
 
+import com.realestatecrm.config.CacheConfig;
 import com.realestatecrm.enums.PropertyCategory;
 import com.realestatecrm.enums.PropertyDataType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,12 +16,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.PROPERTY_ATTRIBUTES_REGION)
 @Table(name = "property_attributes")
 @EntityListeners(AuditingEntityListener.class)
 public class PropertyAttribute {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_attributes_seq")
+    @SequenceGenerator(name = "property_attributes_seq", sequenceName = "property_attributes_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -56,6 +62,7 @@ public class PropertyAttribute {
     // Relationships
     @OneToMany(mappedBy = "attribute", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("displayOrder ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.PROPERTY_ATTRIBUTE_OPTION_LISTS_REGION)
     private List<PropertyAttributeOption> options;
 
     @OneToMany(mappedBy = "attribute", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
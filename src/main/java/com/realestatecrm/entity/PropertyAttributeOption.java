@@ -1,16 +1,22 @@
 package com.realestatecrm.entity;
 
+import com.realestatecrm.config.CacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.PROPERTY_ATTRIBUTE_OPTIONS_REGION)
 @Table(name = "property_attribute_options",
         uniqueConstraints = @UniqueConstraint(columnNames = {"attribute_id", "option_value"}))
 public class PropertyAttributeOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_attribute_options_seq")
+    @SequenceGenerator(name = "property_attribute_options_seq", sequenceName = "property_attribute_options_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class PropertySharing {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_sharing_seq")
+    @SequenceGenerator(name = "property_sharing_seq", sequenceName = "property_sharing_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -0,0 +1,83 @@
+package com.realestatecrm.entity;
+
+import com.realestatecrm.enums.PropertyStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status transition of a property, recorded when the status actually changes. Append-only: it is the
+ * history behind the activity feed, not a second copy of the current status.
+ */
+@Entity
+@Table(name = "property_status_changes",
+        indexes = {
+                @Index(name = "idx_property_status_changes_property", columnList = "property_id"),
+                @Index(name = "idx_property_status_changes_feed", columnList = "changed_by_user_id, changed_at DESC, id DESC")})
+@EntityListeners(AuditingEntityListener.class)
+public class PropertyStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_status_changes_seq")
+    @SequenceGenerator(name = "property_status_changes_seq", sequenceName = "property_status_changes_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "property_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Property property;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "changed_by_user_id", nullable = false)
+    private User changedBy;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PropertyStatus fromStatus;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PropertyStatus toStatus;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public PropertyStatusChange() {}
+
+    public PropertyStatusChange(Property property, User changedBy, PropertyStatus fromStatus, PropertyStatus toStatus) {
+        this.property = property;
+        this.changedBy = changedBy;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Property getProperty() { return property; }
+    public void setProperty(Property property) { this.property = property; }
+
+    public User getChangedBy() { return changedBy; }
+    public void setChangedBy(User changedBy) { this.changedBy = changedBy; }
+
+    public PropertyStatus getFromStatus() { return fromStatus; }
+    public void setFromStatus(PropertyStatus fromStatus) { this.fromStatus = fromStatus; }
+
+    public PropertyStatus getToStatus() { return toStatus; }
+    public void setToStatus(PropertyStatus toStatus) { this.toStatus = toStatus; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+}
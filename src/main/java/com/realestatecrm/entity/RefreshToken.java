@@ -4,18 +4,25 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens",
+        indexes = @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date"))
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true)
+    // SHA-256 hex digest of the token; the raw value is never persisted
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Raw token value, only populated on the instance handed out when a token is issued or rotated
+    @Transient
     private String token;
 
     @Column(nullable = false)
@@ -28,9 +35,9 @@ public class RefreshToken {
     public RefreshToken() {
     }
 
-    public RefreshToken(User user, String token, Instant expiryDate) {
+    public RefreshToken(User user, String tokenHash, Instant expiryDate) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiryDate = expiryDate;
     }
 
@@ -51,6 +58,14 @@ public class RefreshToken {
         this.user = user;
     }
 
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
     public String getToken() {
         return token;
     }
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class SavedSearch {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_searches_seq")
+    @SequenceGenerator(name = "saved_searches_seq", sequenceName = "saved_searches_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
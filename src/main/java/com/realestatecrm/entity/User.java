@@ -1,11 +1,14 @@
 package com.realestatecrm.entity;
 
+import com.realestatecrm.config.CacheConfig;
 import com.realestatecrm.enums.Role;
 import com.realestatecrm.enums.UserStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,12 +21,15 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USERS_REGION)
 @Table(name = "users")
 @EntityListeners(AuditingEntityListener.class)
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -139,6 +145,11 @@ public class User implements UserDetails {
     public void setReceivedProperties(List<PropertySharing> receivedProperties) { this.receivedProperties = receivedProperties; }
 
     public String getFullName() {
+        return fullName(firstName, lastName, username);
+    }
+
+    // Shared with the list projections, which select the name columns without loading the entity
+    public static String fullName(String firstName, String lastName, String username) {
         if (firstName != null && lastName != null) {
             return firstName + " " + lastName;
         }
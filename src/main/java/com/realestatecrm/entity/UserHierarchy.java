@@ -1,20 +1,26 @@
 package com.realestatecrm.entity;
 
+import com.realestatecrm.config.CacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USER_HIERARCHY_REGION)
 @Table(name = "user_hierarchy",
         uniqueConstraints = @UniqueConstraint(columnNames = {"supervisor_id", "subordinate_id"}))
 @EntityListeners(AuditingEntityListener.class)
 public class UserHierarchy {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_hierarchy_seq")
+    @SequenceGenerator(name = "user_hierarchy_seq", sequenceName = "user_hierarchy_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -0,0 +1,8 @@
+package com.realestatecrm.enums;
+
+public enum ActivityType {
+    NOTE_ADDED,
+    INTERACTION_LOGGED,
+    CUSTOMER_CREATED,
+    PROPERTY_STATUS_CHANGED
+}
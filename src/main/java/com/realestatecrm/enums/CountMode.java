@@ -0,0 +1,25 @@
+package com.realestatecrm.enums;
+
+import java.util.Locale;
+
+/**
+ * How a paged list endpoint reports its total: an exact {@code COUNT(*)}, an approximate
+ * total from the in-memory counters, or no total at all (a slice that only knows whether
+ * a next page exists).
+ */
+public enum CountMode {
+    EXACT,
+    APPROX,
+    NONE;
+
+    public static CountMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid count mode: " + value + " (expected exact, approx or none)");
+        }
+    }
+}
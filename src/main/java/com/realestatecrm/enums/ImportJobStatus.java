@@ -0,0 +1,9 @@
+package com.realestatecrm.enums;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    INTERRUPTED
+}
@@ -0,0 +1,6 @@
+package com.realestatecrm.enums;
+
+public enum ImportJobType {
+    PROPERTY,
+    CUSTOMER
+}
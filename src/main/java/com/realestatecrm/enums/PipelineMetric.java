@@ -0,0 +1,11 @@
+package com.realestatecrm.enums;
+
+/**
+ * Counters kept per agent and day for the pipeline reports. The counter's dimension is the status
+ * entered or the interaction type.
+ */
+public enum PipelineMetric {
+    CUSTOMER_STATUS_ENTERED,    // Customers created with or moved to a status
+    INTERACTION_LOGGED,         // Interactions by type, on the day they took place
+    PROPERTY_STATUS_CHANGED     // Properties moved to a status
+}
@@ -0,0 +1,27 @@
+package com.realestatecrm.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a bulkhead cannot accept more work because its queue is full.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkheadName;
+    private final Duration retryAfter;
+
+    public BulkheadFullException(String bulkheadName, Duration retryAfter) {
+        super("Too many concurrent requests for '" + bulkheadName + "'. Please retry later.");
+        this.bulkheadName = bulkheadName;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getBulkheadName() {
+        return bulkheadName;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
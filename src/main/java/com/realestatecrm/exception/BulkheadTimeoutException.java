@@ -0,0 +1,28 @@
+package com.realestatecrm.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a task accepted by a bulkhead does not finish (queue wait plus execution) within the
+ * bulkhead's timeout. Unlike {@link BulkheadFullException} the bulkhead took the work, so this is a
+ * slow dependency rather than too many callers; mapped to 503 Service Unavailable.
+ */
+public class BulkheadTimeoutException extends RuntimeException {
+
+    private final String bulkheadName;
+    private final Duration timeout;
+
+    public BulkheadTimeoutException(String bulkheadName, Duration timeout) {
+        super("'" + bulkheadName + "' did not complete within " + timeout.toMillis() + " ms. Please retry later.");
+        this.bulkheadName = bulkheadName;
+        this.timeout = timeout;
+    }
+
+    public String getBulkheadName() {
+        return bulkheadName;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
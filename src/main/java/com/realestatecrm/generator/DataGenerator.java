@@ -0,0 +1,720 @@
+package com.realestatecrm.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.enums.PipelineMetric;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.enums.UserStatus;
+import com.realestatecrm.generator.ListingValues.Listing;
+import com.realestatecrm.repository.PipelineCounterJdbcRepository;
+import com.realestatecrm.repository.PipelineCounterJdbcRepository.CounterDelta;
+import com.realestatecrm.service.ApproximateCountService;
+import com.realestatecrm.service.PropertyAttributeCatalog;
+import com.realestatecrm.service.PropertyAttributeCatalog.CachedAttribute;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Synthetic data set for load tests and benchmarks, enabled with the {@code generator} profile on top of
+ * the usual one (for example {@code dev,generator}). Once DataLoader has created the attribute catalog it
+ * adds a hierarchy of users (managing brokers, team-lead brokers, agents, assistants), listings with values
+ * for the catalog's attributes and the status history that led to their status, and customers with notes,
+ * interactions and saved searches, sized by the {@code generator.*} properties.
+ * <p>
+ * Rows are built on one thread from a {@link SplittableRandom} seeded with {@code generator.seed}, one
+ * chunk at a time, so the same seed, sizes and {@code generator.as-of} date produce the same data (the
+ * shared BCrypt password hash aside). Each chunk is inserted by a pool of writers as plain JDBC batches in
+ * its own transaction, which bypasses the entity listeners: the pipeline counters are written from the
+ * generated rows at the end, and the Hibernate caches and approximate counts are refreshed.
+ * <p>
+ * A row in {@code generator_runs}, written once the counters are in, marks the data set complete: nothing
+ * is generated when it exists, so restarting on a persistent database does not double the data. Generated
+ * users without that marker are left from a run that stopped half way, and everything hanging off them is
+ * deleted before generating again.
+ */
+@Component
+@Profile("generator")
+public class DataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGenerator.class);
+
+    static final String USERNAME_PREFIX = "gen-";
+
+    // Every generated user signs in with this password
+    private static final String PASSWORD = "password";
+
+    // Share of the catalog's optional attributes a listing has a value for, searchable ones being filled more
+    private static final double SEARCHABLE_FILL_RATE = 0.55;
+    private static final double OTHER_FILL_RATE = 0.22;
+
+    private static final int COUNTER_BATCH_SIZE = 1000;
+
+    private static final String GENERATED_USERS = "SELECT id FROM users WHERE username LIKE ?";
+    private static final String GENERATED_CUSTOMERS = "SELECT id FROM customers WHERE agent_id IN (" +
+            GENERATED_USERS + ")";
+    private static final String GENERATED_PROPERTIES = "SELECT id FROM properties WHERE agent_id IN (" +
+            GENERATED_USERS + ")";
+
+    // Children first; each statement takes the username pattern as its only parameter
+    private static final String[] PARTIAL_RUN_DELETES = {
+            "DELETE FROM saved_searches WHERE customer_id IN (" + GENERATED_CUSTOMERS + ")",
+            "DELETE FROM customer_notes WHERE customer_id IN (" + GENERATED_CUSTOMERS + ")",
+            "DELETE FROM customer_interactions WHERE customer_id IN (" + GENERATED_CUSTOMERS + ")",
+            "DELETE FROM customers WHERE agent_id IN (" + GENERATED_USERS + ")",
+            "DELETE FROM attribute_value WHERE property_id IN (" + GENERATED_PROPERTIES + ")",
+            "DELETE FROM property_status_changes WHERE property_id IN (" + GENERATED_PROPERTIES + ")",
+            "DELETE FROM properties WHERE agent_id IN (" + GENERATED_USERS + ")",
+            "DELETE FROM pipeline_daily_counters WHERE agent_id IN (" + GENERATED_USERS + ")",
+            "DELETE FROM user_hierarchy WHERE subordinate_id IN (" + GENERATED_USERS + ")",
+            "DELETE FROM refresh_tokens WHERE user_id IN (" + GENERATED_USERS + ")",
+            "DELETE FROM users WHERE username LIKE ?"};
+
+    private static final String RUN_SQL = "INSERT INTO generator_runs (seed, as_of, row_count, completed_at) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael",
+            "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Carlos", "Karen", "Wei", "Nancy", "Ahmed", "Lisa", "Daniel", "Priya", "Matthew", "Sofia",
+            "Anthony", "Emily", "Kevin", "Aisha"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Chen", "Clark",
+            "Patel", "Lewis", "Walker", "Nguyen", "Kim"};
+    private static final String[] LEAD_SOURCES = {"Website", "Referral", "Open House", "Zillow", "Social Media",
+            "Sign Call", "Walk-in"};
+    private static final String[] NOTES = {"Prefers a quiet street, works from home.",
+            "Pre-approved with their bank, waiting on the letter.", "Wants to be close to the elementary school.",
+            "Needs to sell their current home first.", "Asked for comparables in the neighborhood.",
+            "Interested in new construction only.", "Flexible on closing date.", "Follow up after the holidays.",
+            "Second showing requested for the weekend.", "Concerned about HOA fees."};
+    private static final String[] SUBJECTS = {"Initial consultation", "Follow-up", "Showing feedback",
+            "Offer discussion", "Financing questions", "New listings sent", "Inspection results", "Check-in"};
+
+    private static final CustomerStatus[] CUSTOMER_STATUSES = CustomerStatus.values();
+    private static final double[] CUSTOMER_STATUS_WEIGHTS = {40, 25, 12, 10, 13};
+    private static final InteractionType[] INTERACTION_TYPES = InteractionType.values();
+    private static final double[] INTERACTION_TYPE_WEIGHTS = {30, 28, 10, 12, 12, 5, 3};
+
+    private static final String USER_SQL = "INSERT INTO users (id, username, password, email, first_name, " +
+            "last_name, role, status, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] USER_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String HIERARCHY_SQL = "INSERT INTO user_hierarchy (id, supervisor_id, subordinate_id, " +
+            "created_date) VALUES (?, ?, ?, ?)";
+    private static final int[] HIERARCHY_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP};
+
+    private static final String PROPERTY_SQL = "INSERT INTO properties (id, title, description, price, agent_id, " +
+            "status, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] PROPERTY_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC,
+            Types.BIGINT, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String STATUS_CHANGE_SQL = "INSERT INTO property_status_changes (id, property_id, " +
+            "changed_by_user_id, from_status, to_status, changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final int[] STATUS_CHANGE_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR,
+            Types.VARCHAR, Types.TIMESTAMP};
+
+    private static final String VALUE_SQL = "INSERT INTO attribute_value (id, property_id, attribute_id, " +
+            "text_value, number_value, boolean_value, multi_select_value, date_value) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] VALUE_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR,
+            Types.NUMERIC, Types.BOOLEAN, Types.VARCHAR, Types.TIMESTAMP};
+
+    private static final String CUSTOMER_SQL = "INSERT INTO customers (id, first_name, last_name, phone, email, " +
+            "budget_min, budget_max, notes, lead_source, status, agent_id, created_date, updated_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] CUSTOMER_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.NUMERIC, Types.NUMERIC, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+            Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private static final String NOTE_SQL = "INSERT INTO customer_notes (id, customer_id, created_by_user_id, " +
+            "content, created_date) VALUES (?, ?, ?, ?, ?)";
+    private static final int[] NOTE_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR,
+            Types.TIMESTAMP};
+
+    private static final String INTERACTION_SQL = "INSERT INTO customer_interactions (id, customer_id, user_id, " +
+            "type, subject, notes, interaction_date, duration_minutes, related_property_id, created_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] INTERACTION_TYPES_SQL = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.INTEGER, Types.BIGINT, Types.TIMESTAMP};
+
+    private static final String SAVED_SEARCH_SQL = "INSERT INTO saved_searches (id, customer_id, name, " +
+            "description, filters_json, created_date, updated_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] SAVED_SEARCH_TYPES = {Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PropertyAttributeCatalog catalog;
+    private final PasswordEncoder passwordEncoder;
+    private final PipelineCounterJdbcRepository pipelineCounterJdbcRepository;
+    private final ApproximateCountService approximateCountService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext applicationContext;
+
+    private final long seed;
+    private final int users;
+    private final int properties;
+    private final int customers;
+    private final int notesPerCustomer;
+    private final int interactionsPerCustomer;
+    private final int savedSearchesPerCustomer;
+    private final int batchSize;
+    private final int threads;
+    private final String asOf;
+    private final boolean exitWhenDone;
+
+    @Autowired
+    public DataGenerator(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         PropertyAttributeCatalog catalog,
+                         PasswordEncoder passwordEncoder,
+                         PipelineCounterJdbcRepository pipelineCounterJdbcRepository,
+                         ApproximateCountService approximateCountService,
+                         EntityManagerFactory entityManagerFactory,
+                         ObjectMapper objectMapper,
+                         ApplicationContext applicationContext,
+                         @Value("${generator.seed:42}") long seed,
+                         @Value("${generator.users:200}") int users,
+                         @Value("${generator.properties:100000}") int properties,
+                         @Value("${generator.customers:50000}") int customers,
+                         @Value("${generator.notes-per-customer:3}") int notesPerCustomer,
+                         @Value("${generator.interactions-per-customer:4}") int interactionsPerCustomer,
+                         @Value("${generator.saved-searches-per-customer:1}") int savedSearchesPerCustomer,
+                         @Value("${generator.batch-size:1000}") int batchSize,
+                         @Value("${generator.threads:4}") int threads,
+                         @Value("${generator.as-of:}") String asOf,
+                         @Value("${generator.exit-when-done:false}") boolean exitWhenDone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catalog = catalog;
+        this.passwordEncoder = passwordEncoder;
+        this.pipelineCounterJdbcRepository = pipelineCounterJdbcRepository;
+        this.approximateCountService = approximateCountService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.objectMapper = objectMapper;
+        this.applicationContext = applicationContext;
+        this.seed = seed;
+        this.users = Math.max(4, users);
+        this.properties = Math.max(0, properties);
+        this.customers = Math.max(0, customers);
+        this.notesPerCustomer = Math.max(0, notesPerCustomer);
+        this.interactionsPerCustomer = Math.max(0, interactionsPerCustomer);
+        this.savedSearchesPerCustomer = Math.max(0, savedSearchesPerCustomer);
+        this.batchSize = Math.max(1, batchSize);
+        this.threads = Math.max(1, threads);
+        this.asOf = asOf;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    // After every CommandLineRunner, so DataLoader's catalog exists
+    @EventListener(ApplicationReadyEvent.class)
+    public void generate() {
+        List<CachedAttribute> attributes = catalog.getAll().stream()
+                .sorted(Comparator.comparing(CachedAttribute::id))
+                .toList();
+        Integer completed = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM generator_runs", Integer.class);
+        if (attributes.isEmpty()) {
+            logger.warn("No property attributes defined, skipping data generation");
+        } else if (completed != null && completed > 0) {
+            logger.info("Generated data already present, skipping data generation");
+        } else {
+            removePartialRun();
+            run(attributes);
+        }
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void run(List<CachedAttribute> attributes) {
+        LocalDateTime reference = (asOf == null || asOf.isBlank() ? LocalDate.now() : LocalDate.parse(asOf))
+                .atStartOfDay();
+        logger.info("Generating {} users, {} properties and {} customers (seed {}, as of {})",
+                users, properties, customers, seed, reference.toLocalDate());
+        long started = System.nanoTime();
+
+        Generation generation = new Generation(new SplittableRandom(seed), reference, attributes);
+        try (Writer writer = new Writer()) {
+            generation.users(writer);
+            generation.properties(writer);
+            generation.customers(writer);
+        }
+        generation.writeCounters();
+        jdbcTemplate.update(RUN_SQL, seed, Date.valueOf(reference.toLocalDate()), generation.rowCount(),
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        // The rows went around Hibernate: drop whatever the caches hold and recount
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        approximateCountService.refresh();
+
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        logger.info("Generated {} users, {} properties, {} status changes, {} attribute values, {} customers, {} notes, " +
+                        "{} interactions and {} saved searches in {}s ({} rows/s)",
+                generation.userCount, properties, generation.statusChangeCount, generation.valueCount, customers,
+                generation.noteCount, generation.interactionCount, generation.savedSearchCount, seconds,
+                generation.rowCount() / seconds);
+    }
+
+    // Rows of a run that stopped before writing its marker, which would otherwise collide with the new ones
+    private void removePartialRun() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username LIKE ?",
+                Integer.class, USERNAME_PREFIX + "%");
+        if (existing == null || existing == 0) {
+            return;
+        }
+        logger.warn("Found {} generated users from an incomplete run, deleting its data before generating again",
+                existing);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String sql : PARTIAL_RUN_DELETES) {
+                jdbcTemplate.update(sql, USERNAME_PREFIX + "%");
+            }
+        });
+    }
+
+    /**
+     * State of one run. Everything here runs on the calling thread; only the prepared batches go to the writers.
+     */
+    private final class Generation {
+
+        private final SplittableRandom random;
+        private final LocalDateTime reference;
+        private final List<CachedAttribute> attributes;
+        private final Map<String, CachedAttribute> attributesByName;
+        private final ListingValues values;
+        private final IdBlocks idBlocks;
+        private final Map<CounterKey, Long> counters = new HashMap<>();
+
+        // Listing owners: team leads and agents
+        private long[] owners;
+        private long[] propertyIds;
+
+        private long userCount;
+        private long valueCount;
+        private long statusChangeCount;
+        private long noteCount;
+        private long interactionCount;
+        private long savedSearchCount;
+
+        Generation(SplittableRandom random, LocalDateTime reference, List<CachedAttribute> attributes) {
+            this.random = random;
+            this.reference = reference;
+            this.attributes = attributes;
+            this.attributesByName = attributes.stream()
+                    .collect(Collectors.toMap(CachedAttribute::name, Function.identity(), (first, second) -> first));
+            this.values = new ListingValues(objectMapper, reference);
+            this.idBlocks = new IdBlocks(jdbcTemplate);
+        }
+
+        /**
+         * Managing brokers supervise team-lead brokers, who supervise agents; each assistant works for an agent.
+         */
+        void users(Writer writer) {
+            SplittableRandom random = this.random.split();
+            int managingBrokers = Math.max(1, users / 50);
+            int teamLeads = Math.max(1, users / 10);
+            int assistants = users / 10;
+            int agents = Math.max(1, users - managingBrokers - teamLeads - assistants);
+            int total = managingBrokers + teamLeads + agents + assistants;
+
+            long[] ids = idBlocks.reserve("users_seq", total);
+            String passwordHash = passwordEncoder.encode(PASSWORD);
+            List<Object[]> userRows = new ArrayList<>(total);
+            List<Object[]> hierarchyRows = new ArrayList<>(total);
+            Timestamp[] created = new Timestamp[total];
+            for (int i = 0; i < total; i++) {
+                Role role = i < managingBrokers + teamLeads ? Role.BROKER
+                        : i < managingBrokers + teamLeads + agents ? Role.AGENT : Role.ASSISTANT;
+                String username = USERNAME_PREFIX + role.name().toLowerCase() + "-" + i;
+                created[i] = Timestamp.valueOf(reference.minusMinutes(random.nextLong(5L * 365 * 24 * 60)));
+                userRows.add(new Object[]{ids[i], username, passwordHash, username + "@example.com",
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                        role.name(), UserStatus.ACTIVE.name(), created[i], created[i]});
+            }
+            for (int i = managingBrokers; i < total; i++) {
+                int supervisor;
+                if (i < managingBrokers + teamLeads) {
+                    supervisor = i % managingBrokers;
+                } else if (i < managingBrokers + teamLeads + agents) {
+                    supervisor = managingBrokers + i % teamLeads;
+                } else {
+                    supervisor = managingBrokers + teamLeads + random.nextInt(agents);
+                }
+                hierarchyRows.add(new Object[]{0L, ids[supervisor], ids[i], created[i]});
+            }
+            assignIds(hierarchyRows, "user_hierarchy_seq");
+
+            writer.submit(List.of(new Batch(USER_SQL, userRows, USER_TYPES),
+                    new Batch(HIERARCHY_SQL, hierarchyRows, HIERARCHY_TYPES)));
+            writer.await();
+
+            owners = new long[teamLeads + agents];
+            System.arraycopy(ids, managingBrokers, owners, 0, owners.length);
+            userCount = total;
+        }
+
+        void properties(Writer writer) {
+            SplittableRandom random = this.random.split();
+            propertyIds = new long[properties];
+            Progress progress = new Progress("properties", properties);
+            for (int start = 0; start < properties; start += batchSize) {
+                SplittableRandom chunk = random.split();
+                int size = Math.min(batchSize, properties - start);
+                long[] ids = idBlocks.reserve("properties_seq", size);
+                List<Object[]> propertyRows = new ArrayList<>(size);
+                List<Object[]> statusChangeRows = new ArrayList<>();
+                List<Object[]> valueRows = new ArrayList<>(size * 32);
+                for (int i = 0; i < size; i++) {
+                    Listing listing = values.newListing(chunk);
+                    String description = values.description(listing, chunk);
+                    long ownerId = owner(chunk);
+                    Timestamp listed = Timestamp.valueOf(listing.listed());
+                    Timestamp updated = listing.statusChanged() != null ? Timestamp.valueOf(listing.statusChanged()) : listed;
+                    propertyRows.add(new Object[]{ids[i], listing.title(), description,
+                            listing.price(), ownerId, listing.status().name(), listed, updated});
+                    statusHistory(listing, ids[i], ownerId, chunk, statusChangeRows);
+                    for (CachedAttribute attribute : attributes) {
+                        if (!attribute.required() && chunk.nextDouble()
+                                >= (attribute.searchable() ? SEARCHABLE_FILL_RATE : OTHER_FILL_RATE)) {
+                            continue;
+                        }
+                        Object[] cell = values.value(attribute, listing, chunk);
+                        if (cell != null) {
+                            Object[] row = new Object[3 + cell.length];
+                            row[1] = ids[i];
+                            row[2] = attribute.id();
+                            System.arraycopy(cell, 0, row, 3, cell.length);
+                            valueRows.add(row);
+                        }
+                    }
+                }
+                assignIds(statusChangeRows, "property_status_changes_seq");
+                assignIds(valueRows, "attribute_value_seq");
+                System.arraycopy(ids, 0, propertyIds, start, size);
+                statusChangeCount += statusChangeRows.size();
+                valueCount += valueRows.size();
+
+                writer.submit(List.of(new Batch(PROPERTY_SQL, propertyRows, PROPERTY_TYPES),
+                        new Batch(STATUS_CHANGE_SQL, statusChangeRows, STATUS_CHANGE_TYPES),
+                        new Batch(VALUE_SQL, valueRows, VALUE_TYPES)));
+                progress.advance(size);
+            }
+            // Interactions refer to the listings
+            writer.await();
+        }
+
+        /**
+         * Every listing starts ACTIVE; a sold one went through PENDING first. The changes are the listing agent's.
+         */
+        private void statusHistory(Listing listing, long propertyId, long ownerId, SplittableRandom random,
+                                   List<Object[]> statusChangeRows) {
+            if (listing.status() == PropertyStatus.ACTIVE) {
+                return;
+            }
+            PropertyStatus from = PropertyStatus.ACTIVE;
+            if (listing.status() == PropertyStatus.SOLD) {
+                LocalDateTime pending = values.between(listing.listed(), listing.statusChanged(), random);
+                statusChangeRows.add(new Object[]{0L, propertyId, ownerId, from.name(),
+                        PropertyStatus.PENDING.name(), Timestamp.valueOf(pending)});
+                count(ownerId, pending.toLocalDate(), PipelineMetric.PROPERTY_STATUS_CHANGED, PropertyStatus.PENDING);
+                from = PropertyStatus.PENDING;
+            }
+            statusChangeRows.add(new Object[]{0L, propertyId, ownerId, from.name(), listing.status().name(),
+                    Timestamp.valueOf(listing.statusChanged())});
+            count(ownerId, listing.statusChanged().toLocalDate(), PipelineMetric.PROPERTY_STATUS_CHANGED, listing.status());
+        }
+
+        void customers(Writer writer) {
+            SplittableRandom random = this.random.split();
+            Progress progress = new Progress("customers", customers);
+            for (int start = 0; start < customers; start += batchSize) {
+                SplittableRandom chunk = random.split();
+                int size = Math.min(batchSize, customers - start);
+                long[] ids = idBlocks.reserve("customers_seq", size);
+                List<Object[]> customerRows = new ArrayList<>(size);
+                List<Object[]> noteRows = new ArrayList<>();
+                List<Object[]> interactionRows = new ArrayList<>();
+                List<Object[]> savedSearchRows = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    customer(chunk, start + i, ids[i], customerRows, noteRows, interactionRows, savedSearchRows);
+                }
+                assignIds(noteRows, "customer_notes_seq");
+                assignIds(interactionRows, "customer_interactions_seq");
+                assignIds(savedSearchRows, "saved_searches_seq");
+                noteCount += noteRows.size();
+                interactionCount += interactionRows.size();
+                savedSearchCount += savedSearchRows.size();
+
+                writer.submit(List.of(new Batch(CUSTOMER_SQL, customerRows, CUSTOMER_TYPES),
+                        new Batch(NOTE_SQL, noteRows, NOTE_TYPES),
+                        new Batch(INTERACTION_SQL, interactionRows, INTERACTION_TYPES_SQL),
+                        new Batch(SAVED_SEARCH_SQL, savedSearchRows, SAVED_SEARCH_TYPES)));
+                progress.advance(size);
+            }
+            writer.await();
+        }
+
+        private void customer(SplittableRandom random, int index, long id, List<Object[]> customerRows,
+                              List<Object[]> noteRows, List<Object[]> interactionRows, List<Object[]> savedSearchRows) {
+            long agentId = owner(random);
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            CustomerStatus status = ListingValues.weighted(random, CUSTOMER_STATUSES, CUSTOMER_STATUS_WEIGHTS);
+            LocalDateTime created = reference.minusMinutes(random.nextLong(2L * 365 * 24 * 60));
+            LocalDateTime updated = values.between(created, reference, random);
+            BigDecimal budgetMin = money(Math.exp(12.9 + 0.5 * random.nextGaussian()));
+            BigDecimal budgetMax = money(budgetMin.doubleValue() * (1.15 + random.nextDouble() * 0.45));
+            customerRows.add(new Object[]{id, firstName, lastName,
+                    String.format("555-%03d-%04d", random.nextInt(1000), random.nextInt(10000)),
+                    (firstName + "." + lastName + "." + index + "@example.net").toLowerCase(),
+                    budgetMin, budgetMax, random.nextDouble() < 0.3 ? NOTES[random.nextInt(NOTES.length)] : null,
+                    LEAD_SOURCES[ListingValues.skewed(random, LEAD_SOURCES.length)], status.name(), agentId,
+                    Timestamp.valueOf(created), Timestamp.valueOf(updated)});
+            count(agentId, created.toLocalDate(), PipelineMetric.CUSTOMER_STATUS_ENTERED, CustomerStatus.LEAD);
+            if (status != CustomerStatus.LEAD) {
+                count(agentId, updated.toLocalDate(), PipelineMetric.CUSTOMER_STATUS_ENTERED, status);
+            }
+
+            int notes = random.nextInt(2 * notesPerCustomer + 1);
+            for (int n = 0; n < notes; n++) {
+                noteRows.add(new Object[]{0L, id, agentId, NOTES[random.nextInt(NOTES.length)],
+                        Timestamp.valueOf(values.between(created, reference, random))});
+            }
+
+            int interactions = random.nextInt(2 * interactionsPerCustomer + 1);
+            for (int n = 0; n < interactions; n++) {
+                InteractionType type = ListingValues.weighted(random, INTERACTION_TYPES, INTERACTION_TYPE_WEIGHTS);
+                LocalDateTime date = values.between(created, reference, random);
+                Long relatedProperty = propertyIds.length > 0
+                        && (type == InteractionType.PROPERTY_VIEWING || random.nextDouble() < 0.1)
+                        ? propertyIds[random.nextInt(propertyIds.length)] : null;
+                interactionRows.add(new Object[]{0L, id, agentId, type.name(),
+                        SUBJECTS[random.nextInt(SUBJECTS.length)],
+                        random.nextBoolean() ? NOTES[random.nextInt(NOTES.length)] : null,
+                        Timestamp.valueOf(date), duration(type, random), relatedProperty, Timestamp.valueOf(date)});
+                count(agentId, date.toLocalDate(), PipelineMetric.INTERACTION_LOGGED, type);
+            }
+
+            int savedSearches = random.nextInt(2 * savedSearchesPerCustomer + 1);
+            for (int n = 0; n < savedSearches; n++) {
+                Timestamp savedAt = Timestamp.valueOf(values.between(created, reference, random));
+                String city = values.typicalCity(random);
+                savedSearchRows.add(new Object[]{0L, id, "Homes in " + city + " #" + (n + 1),
+                        "Generated search for " + firstName + " " + lastName,
+                        json(filters(city, random)), savedAt, savedAt});
+            }
+        }
+
+        /**
+         * A city plus up to four of the filters buyers use most. Attributes missing from the catalog are skipped.
+         */
+        private List<SearchFilterDTO> filters(String city, SplittableRandom random) {
+            List<SearchFilterDTO> filters = new ArrayList<>();
+            attribute("City").ifPresent(attribute -> filters.add(filter(attribute, f -> f.setTextValue(city))));
+            attribute("Bedrooms").filter(attribute -> random.nextDouble() < 0.8).ifPresent(attribute ->
+                    filters.add(filter(attribute, f -> f.setMinValue(BigDecimal.valueOf(1 + random.nextInt(4))))));
+            attribute("Square Footage").filter(attribute -> random.nextDouble() < 0.4).ifPresent(attribute ->
+                    filters.add(filter(attribute, f -> f.setMinValue(values.typicalNumber(attribute.name(), random)
+                            .setScale(-2, RoundingMode.HALF_UP).setScale(2, RoundingMode.UNNECESSARY)))));
+            attribute("Property Type").filter(attribute -> random.nextDouble() < 0.5).ifPresent(attribute ->
+                    filters.add(filter(attribute, f -> f.setSelectedValues(
+                            values.pick(attribute.options(), 1 + random.nextInt(2), random)))));
+            attribute("Has Pool").filter(attribute -> random.nextDouble() < 0.15).ifPresent(attribute ->
+                    filters.add(filter(attribute, f -> f.setBooleanValue(true))));
+            return filters;
+        }
+
+        private Optional<CachedAttribute> attribute(String name) {
+            return Optional.ofNullable(attributesByName.get(name));
+        }
+
+        private SearchFilterDTO filter(CachedAttribute attribute, Consumer<SearchFilterDTO> criteria) {
+            SearchFilterDTO filter = new SearchFilterDTO();
+            filter.setAttributeId(attribute.id());
+            filter.setDataType(attribute.dataType());
+            criteria.accept(filter);
+            return filter;
+        }
+
+        // Pipeline counters the entity listeners would have maintained for the generated rows
+        void writeCounters() {
+            List<CounterDelta> deltas = counters.entrySet().stream()
+                    .map(entry -> entry.getKey().withDelta(entry.getValue()))
+                    .toList();
+            for (int start = 0; start < deltas.size(); start += COUNTER_BATCH_SIZE) {
+                List<CounterDelta> batch = deltas.subList(start, Math.min(deltas.size(), start + COUNTER_BATCH_SIZE));
+                transactionTemplate.executeWithoutResult(status -> pipelineCounterJdbcRepository.batchIncrement(batch));
+            }
+        }
+
+        long rowCount() {
+            return userCount * 2 + properties + statusChangeCount + valueCount + customers + noteCount + interactionCount
+                    + savedSearchCount;
+        }
+
+        // A few top producers hold a large share of the listings and customers
+        private long owner(SplittableRandom random) {
+            return owners[ListingValues.skewed(random, owners.length)];
+        }
+
+        private void count(long agentId, LocalDate day, PipelineMetric metric, Enum<?> dimension) {
+            counters.merge(new CounterKey(agentId, day, metric, dimension.name()), 1L, Long::sum);
+        }
+
+        // The id is the first column of every row
+        private void assignIds(List<Object[]> rows, String sequence) {
+            long[] ids = idBlocks.reserve(sequence, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i)[0] = ids[i];
+            }
+        }
+    }
+
+    private static Integer duration(InteractionType type, SplittableRandom random) {
+        return switch (type) {
+            case PHONE_CALL -> 2 + random.nextInt(30);
+            case MEETING -> 30 + random.nextInt(90);
+            case PROPERTY_VIEWING -> 20 + random.nextInt(60);
+            case VIDEO_CALL -> 10 + random.nextInt(50);
+            default -> null;
+        };
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(Math.round(value / 1000) * 1000L).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private String json(List<SearchFilterDTO> filters) {
+        try {
+            return objectMapper.writeValueAsString(filters);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize search filters", e);
+        }
+    }
+
+    /**
+     * Inserts prepared chunks on a fixed pool, each chunk in its own transaction. At most two chunks per
+     * writer are queued, which keeps memory flat however large the run.
+     */
+    private final class Writer implements AutoCloseable {
+
+        private final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        private final Semaphore inFlight = new Semaphore(threads * 2);
+        private final List<Future<?>> pending = new ArrayList<>();
+
+        void submit(List<Batch> batches) {
+            inFlight.acquireUninterruptibly();
+            pending.add(pool.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> batches.stream()
+                            .filter(batch -> !batch.rows().isEmpty())
+                            .forEach(batch -> jdbcTemplate.batchUpdate(batch.sql(), batch.rows(), batch.types())));
+                } finally {
+                    inFlight.release();
+                }
+            }));
+            // Surface a failed chunk now rather than after the whole run
+            pending.removeIf(future -> future.isDone() && completed(future));
+        }
+
+        void await() {
+            pending.forEach(this::completed);
+            pending.clear();
+        }
+
+        private boolean completed(Future<?> future) {
+            try {
+                future.get();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while generating data", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Generated batch failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        @Override
+        public void close() {
+            pool.shutdownNow();
+        }
+    }
+
+    private static final class Progress {
+
+        private final String what;
+        private final long total;
+        private final long step;
+        private final long started = System.nanoTime();
+        private long done;
+        private long nextReport;
+
+        Progress(String what, long total) {
+            this.what = what;
+            this.total = total;
+            this.step = Math.max(1, total / 10);
+            this.nextReport = step;
+        }
+
+        void advance(int count) {
+            done += count;
+            if (done >= nextReport) {
+                long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                logger.info("Generated {}/{} {} ({}/s)", done, total, what, done * 1000 / millis);
+                nextReport += step;
+            }
+        }
+    }
+
+    private record Batch(String sql, List<Object[]> rows, int[] types) {
+    }
+
+    private record CounterKey(Long agentId, LocalDate activityDate, PipelineMetric metric, String dimension) {
+
+        CounterDelta withDelta(long delta) {
+            return new CounterDelta(agentId, activityDate, metric, dimension, delta);
+        }
+    }
+}
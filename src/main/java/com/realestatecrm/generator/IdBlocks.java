@@ -0,0 +1,46 @@
+package com.realestatecrm.generator;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Ids for rows written around Hibernate, taken from the entities' own pooled sequences. Every sequence
+ * value v owns the ids {@code v-49..v} (the sequences step by 50), the same block Hibernate's pooled
+ * optimizer would hand out for it, so generated rows and rows saved later by the application never collide.
+ * One query reserves all the blocks a chunk needs.
+ */
+final class IdBlocks {
+
+    private static final int BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean h2;
+
+    IdBlocks(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        this.h2 = "H2".equalsIgnoreCase(product);
+    }
+
+    long[] reserve(String sequence, int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            // One block more than needed covers the truncated block below id 1 on a fresh sequence
+            int blocks = (count - filled) / BLOCK_SIZE + 2;
+            String sql = h2
+                    ? "SELECT NEXT VALUE FOR " + sequence + " FROM SYSTEM_RANGE(1, ?)"
+                    : "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)";
+            List<Long> values = jdbcTemplate.queryForList(sql, Long.class, blocks);
+            for (long value : values) {
+                for (long id = Math.max(1, value - BLOCK_SIZE + 1); id <= value && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,279 @@
+package com.realestatecrm.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.service.PropertyAttributeCatalog.CachedAttribute;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Realistic listings and attribute values for the catalog DataLoader defines. A listing first draws the
+ * facts other values depend on (location, bedrooms, size, price, status, listing date); each attribute
+ * value is then derived from them by attribute name, or drawn by data type for attributes this class does
+ * not know. Select values always come from the attribute's options, earlier options being more common.
+ * Pure function of the random source, so a seed reproduces the same data.
+ */
+final class ListingValues {
+
+    private static final String[] STREETS = {"Maple", "Oak", "Pine", "Cedar", "Elm", "Washington", "Lake", "Hill",
+            "Park", "Main", "Sunset", "River", "Highland", "Meadow", "Forest", "Church", "Spring", "Ridge"};
+    private static final String[] STREET_SUFFIXES = {"St", "Ave", "Rd", "Dr", "Ln", "Ct", "Blvd", "Way", "Pl"};
+    private static final String[] NEIGHBORHOODS = {"Old Town", "Riverside", "Westgate", "Northside", "Hillcrest",
+            "Lakeview", "Midtown", "Brookfield", "Eastwood", "Greenfield", "Harbor Point", "Oak Park"};
+    private static final String[] TITLE_ADJECTIVES = {"Charming", "Spacious", "Modern", "Updated", "Cozy",
+            "Elegant", "Bright", "Renovated", "Classic", "Stunning"};
+
+    // Boolean features that are far from a coin flip
+    private static final double DEFAULT_TRUE_RATE = 0.4;
+
+    private final List<Location> locations = List.of(
+            new Location("Springfield", "IL", "627", 240_000),
+            new Location("Metropolis", "NY", "100", 780_000),
+            new Location("Miami Beach", "FL", "331", 690_000),
+            new Location("Portland", "OR", "972", 520_000),
+            new Location("Aspen", "CO", "816", 1_900_000),
+            new Location("Austin", "TX", "787", 560_000),
+            new Location("Charlotte", "NC", "282", 410_000),
+            new Location("Seattle", "WA", "981", 820_000),
+            new Location("Phoenix", "AZ", "850", 430_000),
+            new Location("Columbus", "OH", "432", 290_000),
+            new Location("Nashville", "TN", "372", 450_000),
+            new Location("Denver", "CO", "802", 600_000),
+            new Location("Atlanta", "GA", "303", 400_000),
+            new Location("Boise", "ID", "837", 470_000),
+            new Location("San Diego", "CA", "921", 950_000),
+            new Location("Madison", "WI", "537", 380_000));
+
+    private final ObjectMapper objectMapper;
+    private final LocalDateTime asOf;
+
+    ListingValues(ObjectMapper objectMapper, LocalDateTime asOf) {
+        this.objectMapper = objectMapper;
+        this.asOf = asOf;
+    }
+
+    /**
+     * The facts of one listing. Most listings are active; listing dates spread over three years.
+     */
+    Listing newListing(SplittableRandom random) {
+        Location location = locations.get(skewed(random, locations.size()));
+        int bedrooms = weighted(random, new int[]{1, 2, 3, 4, 5, 6}, new double[]{8, 20, 38, 24, 8, 2});
+        int squareFeet = (int) Math.round((450 + bedrooms * 420) * Math.exp(0.2 * random.nextGaussian()) / 10) * 10;
+        double price = location.medianPrice() * (squareFeet / 1900.0) * Math.exp(0.25 * random.nextGaussian());
+        PropertyStatus status = weighted(random, PropertyStatus.values(), new double[]{70, 10, 15, 5});
+        LocalDateTime listed = asOf.minusMinutes(random.nextLong(3L * 365 * 24 * 60));
+        LocalDateTime statusChanged = status == PropertyStatus.ACTIVE ? null : between(listed, asOf, random);
+        int yearBuilt = Math.max(1890, asOf.getYear() - (int) Math.abs(random.nextGaussian() * 35));
+        String type = random.nextDouble() < 0.65 ? "Single Family Home" : random.nextBoolean() ? "Condo" : "Townhouse";
+        String title = TITLE_ADJECTIVES[random.nextInt(TITLE_ADJECTIVES.length)] + " " + bedrooms + "-Bed "
+                + type + " in " + location.city();
+        return new Listing(location, title, money(Math.max(50_000, price), 1000), status, listed, statusChanged,
+                bedrooms, squareFeet, yearBuilt, type);
+    }
+
+    String description(Listing listing, SplittableRandom random) {
+        return listing.bedrooms() + "-bed " + listing.type().toLowerCase() + " with " + listing.squareFeet()
+                + " sq ft in " + NEIGHBORHOODS[random.nextInt(NEIGHBORHOODS.length)] + ", " + listing.location().city()
+                + ". Built " + listing.yearBuilt() + ".";
+    }
+
+    /**
+     * Value of the attribute for the listing as {text, number, boolean, multi-select JSON, date}, with
+     * exactly one element set; null when the attribute does not apply (a sale date on an unsold listing).
+     */
+    Object[] value(CachedAttribute attribute, Listing listing, SplittableRandom random) {
+        PropertyDataType dataType = attribute.dataType();
+        return switch (dataType) {
+            case TEXT -> cell(text(attribute.name(), listing, random), null, null, null, null);
+            case NUMBER -> cell(null, number(attribute.name(), listing, random), null, null, null);
+            case BOOLEAN -> cell(null, null, random.nextDouble() < trueRate(attribute.name()), null, null);
+            case SINGLE_SELECT -> {
+                if (attribute.name().equals("Property Type") && attribute.options().contains(listing.type())) {
+                    yield cell(listing.type(), null, null, null, null);
+                }
+                if (attribute.name().equals("Property Status")) {
+                    // The attribute spells the listing's status in title case ("Active", ...)
+                    String status = listing.status().name().charAt(0) + listing.status().name().substring(1).toLowerCase();
+                    if (attribute.options().contains(status)) {
+                        yield cell(status, null, null, null, null);
+                    }
+                }
+                yield attribute.options().isEmpty() ? null
+                        : cell(attribute.options().get(skewed(random, attribute.options().size())), null, null, null, null);
+            }
+            case MULTI_SELECT -> attribute.options().isEmpty() ? null
+                    : cell(null, null, null, json(pick(attribute.options(), 1 + random.nextInt(4), random)), null);
+            case DATE -> {
+                LocalDateTime date = date(attribute.name(), listing, random);
+                yield date == null ? null : cell(null, null, null, null, Timestamp.valueOf(date));
+            }
+        };
+    }
+
+    /**
+     * A typical value of a numeric attribute, for saved search ranges.
+     */
+    BigDecimal typicalNumber(String name, SplittableRandom random) {
+        return number(name, newListing(random), random);
+    }
+
+    String typicalCity(SplittableRandom random) {
+        return locations.get(skewed(random, locations.size())).city();
+    }
+
+    /**
+     * Up to {@code count} distinct options, most common first.
+     */
+    List<String> pick(List<String> options, int count, SplittableRandom random) {
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count * 3 && picked.size() < Math.min(count, options.size()); i++) {
+            String option = options.get(skewed(random, options.size()));
+            if (!picked.contains(option)) {
+                picked.add(option);
+            }
+        }
+        return picked;
+    }
+
+    private String text(String name, Listing listing, SplittableRandom random) {
+        Location location = listing.location();
+        return switch (name) {
+            case "Address" -> (100 + random.nextInt(9900)) + " " + STREETS[random.nextInt(STREETS.length)] + " "
+                    + STREET_SUFFIXES[random.nextInt(STREET_SUFFIXES.length)];
+            case "City" -> location.city();
+            case "State" -> location.state();
+            case "ZIP Code" -> location.zipPrefix() + String.format("%02d", random.nextInt(100));
+            case "MLS Number" -> "MLS" + (10_000_000 + random.nextInt(90_000_000));
+            case "School District" -> location.city() + " " + (random.nextBoolean() ? "Unified" : "Public Schools");
+            case "Neighborhood" -> NEIGHBORHOODS[random.nextInt(NEIGHBORHOODS.length)];
+            case "Subdivision" -> STREETS[random.nextInt(STREETS.length)] + " " + (random.nextBoolean() ? "Estates" : "Heights");
+            default -> NEIGHBORHOODS[random.nextInt(NEIGHBORHOODS.length)] + " " + (1 + random.nextInt(99));
+        };
+    }
+
+    private BigDecimal number(String name, Listing listing, SplittableRandom random) {
+        int bedrooms = listing.bedrooms();
+        double price = listing.price().doubleValue();
+        return switch (name) {
+            case "Bedrooms" -> BigDecimal.valueOf(bedrooms);
+            case "Bathrooms" -> BigDecimal.valueOf(Math.max(1, bedrooms - 1 + random.nextInt(2)));
+            case "Half Bathrooms" -> BigDecimal.valueOf(weighted(random, new int[]{0, 1, 2}, new double[]{55, 38, 7}));
+            case "Total Rooms" -> BigDecimal.valueOf(bedrooms + 3 + random.nextInt(4));
+            case "Square Footage" -> BigDecimal.valueOf(listing.squareFeet());
+            case "Lot Size (sq ft)" -> BigDecimal.valueOf(listing.type().equals("Condo") ? 0
+                    : Math.round(listing.squareFeet() * (1.5 + random.nextDouble() * 6) / 100) * 100);
+            case "Year Built" -> BigDecimal.valueOf(listing.yearBuilt());
+            case "Year Renovated" -> BigDecimal.valueOf(listing.yearBuilt()
+                    + random.nextInt(Math.max(1, asOf.getYear() - listing.yearBuilt() + 1)));
+            case "Stories" -> BigDecimal.valueOf(listing.type().equals("Condo") ? 1
+                    : weighted(random, new int[]{1, 2, 3}, new double[]{45, 48, 7}));
+            case "Garage Spaces" -> BigDecimal.valueOf(weighted(random, new int[]{0, 1, 2, 3}, new double[]{20, 30, 42, 8}));
+            case "Distance to Downtown (miles)" -> money(-Math.log(1 - random.nextDouble()) * 8, 0.1);
+            case "Walkability Score" -> BigDecimal.valueOf(random.nextInt(101));
+            case "Annual Property Tax" -> money(price * (0.006 + random.nextDouble() * 0.016), 1);
+            case "HOA Fee (Monthly)" -> listing.type().equals("Single Family Home") && random.nextDouble() < 0.6
+                    ? BigDecimal.ZERO : money(50 + random.nextDouble() * 650, 5);
+            case "Insurance Cost (Annual)" -> money(price * (0.002 + random.nextDouble() * 0.004), 1);
+            case "Utility Costs (Monthly Average)" -> money(90 + bedrooms * 60 + random.nextDouble() * 150, 1);
+            case "Special Assessments" -> random.nextDouble() < 0.9 ? BigDecimal.ZERO : money(random.nextDouble() * 15_000, 100);
+            case "Roof Age (years)" -> BigDecimal.valueOf(random.nextInt(Math.min(35, asOf.getYear() - listing.yearBuilt() + 1)));
+            default -> BigDecimal.valueOf(random.nextInt(101));
+        };
+    }
+
+    private LocalDateTime date(String name, Listing listing, SplittableRandom random) {
+        return switch (name) {
+            case "Date Listed" -> listing.listed().toLocalDate().atStartOfDay();
+            case "Date Sold" -> listing.status() == PropertyStatus.SOLD
+                    ? listing.statusChanged().toLocalDate().atStartOfDay() : null;
+            case "Last Inspection Date" -> listing.listed().toLocalDate().minusDays(random.nextInt(365)).atStartOfDay();
+            default -> asOf.toLocalDate().minusDays(random.nextInt(5 * 365)).atStartOfDay();
+        };
+    }
+
+    private static double trueRate(String name) {
+        return switch (name) {
+            case "Has Garage" -> 0.7;
+            case "Has Pool" -> 0.15;
+            case "Has Hot Tub/Spa" -> 0.08;
+            case "Has Fireplace" -> 0.35;
+            case "Central Air Conditioning" -> 0.75;
+            case "Has Deck/Patio" -> 0.55;
+            case "Has Balcony" -> 0.2;
+            case "Has Security System" -> 0.3;
+            case "Has Guest House" -> 0.03;
+            case "Internet/Cable Ready" -> 0.9;
+            default -> DEFAULT_TRUE_RATE;
+        };
+    }
+
+    LocalDateTime between(LocalDateTime from, LocalDateTime to, SplittableRandom random) {
+        long minutes = Duration.between(from, to).toMinutes();
+        return minutes <= 0 ? from : from.plusMinutes(random.nextLong(minutes));
+    }
+
+    private String json(List<String> options) {
+        try {
+            return objectMapper.writeValueAsString(options);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize options " + options, e);
+        }
+    }
+
+    private static Object[] cell(String text, BigDecimal number, Boolean bool, String multiSelect, Timestamp date) {
+        return new Object[]{text, number, bool, multiSelect, date};
+    }
+
+    private static BigDecimal money(double value, double step) {
+        return BigDecimal.valueOf(Math.round(value / step) * step).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Index in [0, size) where low indexes are the most common
+    static int skewed(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u);
+    }
+
+    static int weighted(SplittableRandom random, int[] values, double[] weights) {
+        return values[weightedIndex(random, weights)];
+    }
+
+    static <T> T weighted(SplittableRandom random, T[] values, double[] weights) {
+        return values[weightedIndex(random, weights)];
+    }
+
+    private static int weightedIndex(SplittableRandom random, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    record Location(String city, String state, String zipPrefix, int medianPrice) {
+    }
+
+    /**
+     * @param statusChanged when the listing left ACTIVE for its current status (the sale date when SOLD);
+     *                      {@code null} for active listings
+     */
+    record Listing(Location location, String title, BigDecimal price, PropertyStatus status, LocalDateTime listed,
+                   LocalDateTime statusChanged, int bedrooms, int squareFeet, int yearBuilt, String type) {
+    }
+}
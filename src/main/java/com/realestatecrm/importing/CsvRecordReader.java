@@ -0,0 +1,153 @@
+package com.realestatecrm.importing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader: comma separated, fields optionally enclosed in double quotes, quotes escaped
+ * by doubling, line breaks allowed inside quoted fields. The first record is the header.
+ * Record numbers count data records, so record 1 is the first row after the header.
+ */
+public class CsvRecordReader implements ImportRecordReader {
+
+    private static final int EOF = -1;
+
+    private final BufferedReader reader;
+    private final List<String> columns;
+    private long recordNumber = 0;
+
+    public CsvRecordReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        skipByteOrderMark();
+
+        List<String> header = readFields();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        List<String> names = new ArrayList<>(header.size());
+        for (String name : header) {
+            names.add(name.trim().toLowerCase(Locale.ROOT));
+        }
+        this.columns = Collections.unmodifiableList(names);
+    }
+
+    @Override
+    public List<String> columns() {
+        return columns;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        List<String> values;
+        do {
+            values = readFields();
+            if (values == null) {
+                return null;
+            }
+        } while (isBlank(values));
+
+        long number = ++recordNumber;
+        if (values.size() != columns.size()) {
+            return ImportRecord.malformed(number,
+                    "Expected " + columns.size() + " fields but found " + values.size());
+        }
+        Map<String, Object> fields = new LinkedHashMap<>(columns.size() * 2);
+        for (int i = 0; i < columns.size(); i++) {
+            fields.put(columns.get(i), values.get(i));
+        }
+        return ImportRecord.of(number, fields);
+    }
+
+    @Override
+    public void skipTo(long target) throws IOException {
+        while (recordNumber < target) {
+            List<String> values = readFields();
+            if (values == null) {
+                return;
+            }
+            if (!isBlank(values)) {
+                recordNumber++;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Read the fields of one physical record, or {@code null} at the end of the input.
+     */
+    private List<String> readFields() throws IOException {
+        int c = reader.read();
+        if (c == EOF) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("Unterminated quoted field in CSV record " + (recordNumber + 1));
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+                fieldStart = false;
+            }
+            c = reader.read();
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private static boolean isBlank(List<String> values) {
+        return values.size() == 1 && values.get(0).isBlank();
+    }
+}
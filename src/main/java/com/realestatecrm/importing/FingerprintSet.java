@@ -0,0 +1,99 @@
+package com.realestatecrm.importing;
+
+import java.util.Arrays;
+
+/**
+ * Compact set of 64-bit key fingerprints (open addressing over a {@code long[]}), used to
+ * deduplicate imports against hundreds of thousands of existing keys at 8-16 bytes per key
+ * instead of a {@code HashSet<String>}'s ~100.
+ * <p>
+ * Fingerprints can collide: with a million keys the chance of any false "already seen" is around
+ * 1 in 30 million. Importers treat a hit as a duplicate and report the record, so a collision is
+ * visible rather than silent.
+ */
+public class FingerprintSet {
+
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD = 0.6;
+
+    private long[] slots;
+    private int size;
+
+    public FingerprintSet() {
+        this(1024);
+    }
+
+    public FingerprintSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+        this.slots = new long[capacity];
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the key with a SplitMix64 finalizer.
+     */
+    public static long fingerprint(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        hash = hash ^ (hash >>> 31);
+        // 0 marks an empty slot
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    public boolean contains(long fingerprint) {
+        long[] table = slots;
+        int mask = table.length - 1;
+        for (int i = (int) fingerprint & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == fingerprint) {
+                return true;
+            }
+            if (slot == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the fingerprint was not present before
+     */
+    public boolean add(long fingerprint) {
+        if (size + 1 > slots.length * MAX_LOAD) {
+            resize();
+        }
+        if (insert(slots, fingerprint)) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static boolean insert(long[] table, long fingerprint) {
+        int mask = table.length - 1;
+        for (int i = (int) fingerprint & mask; ; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == fingerprint) {
+                return false;
+            }
+            if (slot == EMPTY) {
+                table[i] = fingerprint;
+                return true;
+            }
+        }
+    }
+
+    private void resize() {
+        long[] old = slots;
+        long[] table = new long[old.length << 1];
+        Arrays.stream(old).filter(slot -> slot != EMPTY).forEach(slot -> insert(table, slot));
+        slots = table;
+    }
+}
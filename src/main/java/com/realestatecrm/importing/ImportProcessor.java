@@ -0,0 +1,44 @@
+package com.realestatecrm.importing;
+
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.enums.ImportJobType;
+
+import java.util.List;
+
+/**
+ * Imports records of one {@link ImportJobType}. The job runner owns reading, chunking, transactions
+ * and checkpoints; a processor only turns a chunk of records into rows.
+ */
+public interface ImportProcessor {
+
+    ImportJobType getType();
+
+    /**
+     * Prepare a run of the given job, e.g. resolve the column mapping and lookup tables once.
+     *
+     * @param columns header columns of the file, empty for formats without a header
+     * @throws IllegalArgumentException if the file cannot be imported at all
+     */
+    Run start(ImportJob job, List<String> columns);
+
+    interface Run {
+
+        /**
+         * Write one chunk. Called inside the chunk's transaction; records that fail validation are
+         * added to {@code rejects} instead of failing the chunk. Skipped duplicates are added to
+         * {@code rejects} as well, so they show up in the error file, and counted in the result.
+         */
+        ChunkResult importChunk(List<ImportRecord> records, List<ImportReject> rejects);
+    }
+
+    /**
+     * @param imported   records written
+     * @param duplicates records skipped as duplicates (a subset of the rejects)
+     */
+    record ChunkResult(int imported, int duplicates) {
+
+        public static ChunkResult imported(int imported) {
+            return new ChunkResult(imported, 0);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.realestatecrm.importing;
+
+import java.util.Map;
+
+/**
+ * One record read from an import file.
+ *
+ * @param number 1-based record number in the file, used as the resume checkpoint
+ * @param fields column/field name (lower case) to value; CSV values are always strings
+ * @param error  parse error for a malformed record, {@code null} when the record is usable
+ */
+public record ImportRecord(long number, Map<String, Object> fields, String error) {
+
+    public static ImportRecord of(long number, Map<String, Object> fields) {
+        return new ImportRecord(number, fields, null);
+    }
+
+    public static ImportRecord malformed(long number, String error) {
+        return new ImportRecord(number, Map.of(), error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
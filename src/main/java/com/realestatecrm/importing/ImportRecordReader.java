@@ -0,0 +1,38 @@
+package com.realestatecrm.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.enums.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Forward-only reader over an import file. Records are parsed one at a time, so memory use is
+ * bounded by the largest record rather than the size of the file.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * Column names declared by the file (lower case), or an empty list for formats without a header.
+     */
+    List<String> columns();
+
+    /**
+     * @return the next record, or {@code null} at the end of the input
+     */
+    ImportRecord next() throws IOException;
+
+    /**
+     * Skip forward so the next record returned is the one after {@code recordNumber}.
+     */
+    void skipTo(long recordNumber) throws IOException;
+
+    static ImportRecordReader open(ImportFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRecordReader(in);
+            case NDJSON -> new NdjsonRecordReader(in, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.realestatecrm.importing;
+
+/**
+ * A record that could not be imported, written to the job's error file.
+ */
+public record ImportReject(long recordNumber, String reason) {
+}
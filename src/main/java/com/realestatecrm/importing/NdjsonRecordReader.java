@@ -0,0 +1,80 @@
+package com.realestatecrm.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Newline-delimited JSON reader: one JSON object per line. Record numbers are line numbers,
+ * blank lines included, so a checkpoint always points at the same line of the file.
+ */
+public class NdjsonRecordReader implements ImportRecordReader {
+
+    private static final TypeReference<Map<String, Object>> OBJECT_TYPE = new TypeReference<>() {};
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber = 0;
+
+    public NdjsonRecordReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<String> columns() {
+        return List.of();
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ImportRecord.malformed(lineNumber, "Invalid JSON object: " + e.getOriginalMessage());
+        }
+        // null, numbers, strings and arrays are valid JSON but not a record
+        if (node == null || !node.isObject()) {
+            return ImportRecord.malformed(lineNumber, "Expected a JSON object, got "
+                    + (node == null ? "nothing" : node.getNodeType().name().toLowerCase(Locale.ROOT)));
+        }
+        Map<String, Object> parsed = objectMapper.convertValue(node, OBJECT_TYPE);
+        Map<String, Object> fields = new LinkedHashMap<>(parsed.size() * 2);
+        parsed.forEach((key, value) -> fields.put(key.trim().toLowerCase(Locale.ROOT), value));
+        return ImportRecord.of(lineNumber, fields);
+    }
+
+    @Override
+    public void skipTo(long target) throws IOException {
+        // Skipped lines are never parsed
+        while (lineNumber < target && reader.readLine() != null) {
+            lineNumber++;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
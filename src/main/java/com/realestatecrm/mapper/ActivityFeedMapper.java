@@ -0,0 +1,41 @@
+package com.realestatecrm.mapper;
+
+import com.realestatecrm.dto.activity.response.ActivityFeedItemResponse;
+import com.realestatecrm.enums.ActivityType;
+import com.realestatecrm.repository.projection.ActivityFeedRow;
+import com.realestatecrm.repository.projection.CustomerActivityRow;
+import com.realestatecrm.repository.projection.InteractionActivityRow;
+import com.realestatecrm.repository.projection.NoteActivityRow;
+import com.realestatecrm.repository.projection.StatusChangeActivityRow;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct mapper for activity feed rows to DTO conversions.
+ */
+@Mapper(componentModel = "spring")
+public interface ActivityFeedMapper {
+
+    /**
+     * Maps a feed row of any source to the common feed entry.
+     */
+    default ActivityFeedItemResponse toResponse(ActivityFeedRow row) {
+        return switch (row) {
+            case NoteActivityRow note -> new ActivityFeedItemResponse(ActivityType.NOTE_ADDED,
+                    note.occurredAt(), note.id(), note.userId(), note.userName(), note.customerId(),
+                    note.customerFirstName() + " " + note.customerLastName(), null, null, note.preview());
+            case InteractionActivityRow interaction -> new ActivityFeedItemResponse(ActivityType.INTERACTION_LOGGED,
+                    interaction.occurredAt(), interaction.id(), interaction.userId(), interaction.userName(),
+                    interaction.customerId(),
+                    interaction.customerFirstName() + " " + interaction.customerLastName(),
+                    interaction.relatedPropertyId(), interaction.relatedPropertyTitle(),
+                    interaction.type() + ": " + interaction.subject());
+            case CustomerActivityRow customer -> new ActivityFeedItemResponse(ActivityType.CUSTOMER_CREATED,
+                    customer.occurredAt(), customer.id(), customer.userId(), customer.userName(), customer.id(),
+                    customer.customerFirstName() + " " + customer.customerLastName(), null, null,
+                    customer.leadSource());
+            case StatusChangeActivityRow change -> new ActivityFeedItemResponse(ActivityType.PROPERTY_STATUS_CHANGED,
+                    change.occurredAt(), change.id(), change.userId(), change.userName(), null, null,
+                    change.propertyId(), change.propertyTitle(), change.fromStatus() + " -> " + change.toStatus());
+        };
+    }
+}
@@ -4,11 +4,16 @@ import com.realestatecrm.dto.customer.request.CreateCustomerInteractionRequest;
 import com.realestatecrm.dto.customer.request.CreateCustomerRequest;
 import com.realestatecrm.dto.customer.request.UpdateCustomerRequest;
 import com.realestatecrm.dto.customer.response.CustomerInteractionResponse;
+import com.realestatecrm.dto.customer.response.CustomerInteractionSummaryResponse;
 import com.realestatecrm.dto.customer.response.CustomerNoteResponse;
+import com.realestatecrm.dto.customer.response.CustomerNoteSummaryResponse;
 import com.realestatecrm.dto.customer.response.CustomerResponse;
 import com.realestatecrm.entity.Customer;
 import com.realestatecrm.entity.CustomerInteraction;
 import com.realestatecrm.entity.CustomerNote;
+import com.realestatecrm.repository.projection.CustomerInteractionTimelineRow;
+import com.realestatecrm.repository.projection.CustomerListRow;
+import com.realestatecrm.repository.projection.CustomerNoteTimelineRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -25,6 +30,13 @@ public interface CustomerMapper {
     @Mapping(target = "agentName", expression = "java(customer.getAgent().getFullName())")
     CustomerResponse toResponse(Customer customer);
 
+    /**
+     * Maps a list-view projection to CustomerResponse DTO. Notes are not part of list views.
+     */
+    @Mapping(target = "notes", ignore = true)
+    @Mapping(target = "agentName", expression = "java(row.agentName())")
+    CustomerResponse toResponse(CustomerListRow row);
+
     /**
      * Maps CustomerNote entity to CustomerNoteResponse DTO.
      */
@@ -45,6 +57,22 @@ public interface CustomerMapper {
     @Mapping(target = "relatedPropertyTitle", source = "relatedProperty.title")
     CustomerInteractionResponse toCustomerInteractionResponse(CustomerInteraction interaction);
 
+    /**
+     * Maps a note timeline projection to its summary DTO.
+     */
+    default CustomerNoteSummaryResponse toNoteSummaryResponse(CustomerNoteTimelineRow row) {
+        return new CustomerNoteSummaryResponse(row.id(), row.createdByUserId(), row.createdByUserName(),
+                row.preview(), row.truncated(), row.createdDate());
+    }
+
+    /**
+     * Maps an interaction timeline projection to its summary DTO.
+     */
+    default CustomerInteractionSummaryResponse toInteractionSummaryResponse(CustomerInteractionTimelineRow row) {
+        return new CustomerInteractionSummaryResponse(row.id(), row.type(), row.subject(), row.interactionDate(),
+                row.durationMinutes(), row.userId(), row.userName(), row.relatedPropertyId(), row.relatedPropertyTitle());
+    }
+
     // ==================== Request to Entity Mappings ====================
 
     /**
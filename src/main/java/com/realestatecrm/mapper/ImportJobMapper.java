@@ -0,0 +1,21 @@
+package com.realestatecrm.mapper;
+
+import com.realestatecrm.dto.importjob.response.ImportJobResponse;
+import com.realestatecrm.entity.ImportJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for ImportJob entity to DTO conversions.
+ */
+@Mapper(componentModel = "spring")
+public interface ImportJobMapper {
+
+    /**
+     * Maps ImportJob entity to ImportJobResponse DTO.
+     */
+    @Mapping(target = "createdById", source = "createdBy.id")
+    @Mapping(target = "lastRunRecordsPerSecond",
+            expression = "java(job.getLastRunRecords() * 1000 / Math.max(1, job.getLastRunMillis()))")
+    ImportJobResponse toResponse(ImportJob job);
+}
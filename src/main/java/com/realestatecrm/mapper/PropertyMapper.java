@@ -8,6 +8,7 @@ import com.realestatecrm.dto.property.response.PropertySharingResponse;
 import com.realestatecrm.entity.AttributeValue;
 import com.realestatecrm.entity.Property;
 import com.realestatecrm.entity.PropertySharing;
+import com.realestatecrm.repository.projection.PropertyListRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -41,10 +42,51 @@ public interface PropertyMapper {
     }
 
     /**
-     * Maps Property entity to PropertyResponse DTO with attribute values.
-     * Uses default method to manually construct immutable PropertyResponse.
+     * Maps a list-view projection to PropertyResponse DTO. The description is not part of list views
+     * and is left null.
+     */
+    default PropertyResponse toResponse(PropertyListRow row) {
+        if (row == null) {
+            return null;
+        }
+        return new PropertyResponse(
+                row.id(),
+                row.title(),
+                null,
+                row.price(),
+                row.agentId(),
+                row.agentName(),
+                row.status(),
+                row.createdDate(),
+                row.updatedDate()
+        );
+    }
+
+    /**
+     * Maps a list-view projection to PropertyResponse DTO with already mapped attribute values.
+     */
+    default PropertyResponse toResponse(PropertyListRow row, List<AttributeValueResponse> attributeValues) {
+        if (row == null) {
+            return null;
+        }
+        return new PropertyResponse(
+                row.id(),
+                row.title(),
+                null,
+                row.price(),
+                row.agentId(),
+                row.agentName(),
+                row.status(),
+                row.createdDate(),
+                row.updatedDate(),
+                attributeValues
+        );
+    }
+
+    /**
+     * Maps Property entity to PropertyResponse DTO with already mapped attribute values.
      */
-    default PropertyResponse toResponseWithAttributes(Property property, List<AttributeValue> attributeValues) {
+    default PropertyResponse toResponse(Property property, List<AttributeValueResponse> attributeValues) {
         if (property == null) {
             return null;
         }
@@ -58,7 +100,7 @@ public interface PropertyMapper {
                 property.getStatus(),
                 property.getCreatedDate(),
                 property.getUpdatedDate(),
-                toAttributeValueResponseList(attributeValues)
+                attributeValues
         );
     }
 
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.realestatecrm.dto.savedsearch.SavedSearchResponse;
 import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
 import com.realestatecrm.entity.SavedSearch;
+import com.realestatecrm.repository.projection.SavedSearchListRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -39,6 +40,17 @@ public abstract class SavedSearchMapper {
     @Mapping(target = "filters", source = "filtersJson", qualifiedByName = "jsonToFilters")
     public abstract SavedSearchResponse toResponse(SavedSearch savedSearch);
 
+    /**
+     * Maps a list-view projection to SavedSearchResponse DTO.
+     *
+     * @param row The projection to map
+     * @return SavedSearchResponse DTO
+     */
+    @Mapping(target = "customerName", expression = "java(row.customerName())")
+    @Mapping(target = "agentName", expression = "java(row.agentName())")
+    @Mapping(target = "filters", source = "filtersJson", qualifiedByName = "jsonToFilters")
+    public abstract SavedSearchResponse toResponse(SavedSearchListRow row);
+
     /**
      * Deserializes JSON string to list of SearchFilterDTO.
      *
@@ -0,0 +1,41 @@
+package com.realestatecrm.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the time Hibernate spends executing statements and batches to the current request. Hibernate
+ * creates one instance per session ({@code hibernate.session.events.auto}), so the start time needs no
+ * synchronization.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null && executionStart != 0) {
+            stats.recordJdbcTime(System.nanoTime() - executionStart);
+        }
+        executionStart = 0;
+    }
+}
@@ -0,0 +1,157 @@
+package com.realestatecrm.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements run by the current request: how many, how long they spent in JDBC, and how often each
+ * statement shape repeated. Bound to the request thread by {@link SqlMonitoringFilter} and carried to the
+ * threads the request waits on (bulkhead workers, fan-out branches) by {@link #propagate(Callable)}, so
+ * those branches may record concurrently. Background jobs the request merely starts are not counted.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    // IN lists of different lengths are the same statement shape
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int repeatThreshold;
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final AtomicInteger statements = new AtomicInteger();
+    private final LongAdder jdbcNanos = new LongAdder();
+
+    RequestSqlStats(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    /**
+     * Starts counting on this thread; pair with {@link #end()}.
+     */
+    public static RequestSqlStats begin(int repeatThreshold) {
+        RequestSqlStats stats = new RequestSqlStats(repeatThreshold);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Statistics of the request on this thread, or null outside a monitored request.
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wrap a task handed to another thread so the statements it runs count against the calling request,
+     * in the way {@code DelegatingSecurityContextCallable} carries the security context. Outside a
+     * monitored request the task is returned unchanged.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return task.call();
+            } finally {
+                // Bulkhead workers are pooled; leave the thread as it was found
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    void recordStatement(String sql) {
+        statements.incrementAndGet();
+        String shape = shapeOf(sql);
+        Shape seen = shapes.computeIfAbsent(shape, Shape::new);
+        if (seen.count.incrementAndGet() == repeatThreshold) {
+            // Taken where the repetition happens: the stack points at the loop or lazy association
+            seen.sample = new Throwable("Statement repeated " + repeatThreshold + " times in one request");
+        }
+    }
+
+    void recordJdbcTime(long nanos) {
+        jdbcNanos.add(nanos);
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    /**
+     * Shapes that ran at least the repeat threshold times in this request, most repeated first.
+     */
+    public List<Shape> getRepeatedShapes() {
+        List<Shape> repeated = new ArrayList<>();
+        for (Shape shape : shapes.values()) {
+            if (shape.getCount() >= repeatThreshold) {
+                repeated.add(shape);
+            }
+        }
+        repeated.sort((a, b) -> Integer.compare(b.getCount(), a.getCount()));
+        return repeated;
+    }
+
+    /**
+     * Every shape with its count, most frequent first; for the over-budget log line.
+     */
+    public List<Shape> getShapes() {
+        List<Shape> all = new ArrayList<>(shapes.values());
+        all.sort((a, b) -> Integer.compare(b.getCount(), a.getCount()));
+        return all;
+    }
+
+    static String shapeOf(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(collapsed).replaceAll("(?, ...)");
+    }
+
+    /**
+     * One statement shape and how often it ran. {@code sample} is set once the shape reaches the
+     * repeat threshold.
+     */
+    public static final class Shape {
+
+        private final String sql;
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile Throwable sample;
+
+        private Shape(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+
+        public Throwable getSample() {
+            return sample;
+        }
+    }
+}
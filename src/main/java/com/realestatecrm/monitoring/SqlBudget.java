@@ -0,0 +1,21 @@
+package com.realestatecrm.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements one request to the annotated endpoint may run, authentication included. A request
+ * over budget is logged with its statement shapes and counted in {@code http.server.sql.budget.exceeded};
+ * integration tests compare the {@code X-SQL-Statement-Count} and {@code X-SQL-Statement-Budget}
+ * response headers.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int value();
+}
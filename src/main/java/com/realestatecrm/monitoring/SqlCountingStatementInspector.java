@@ -0,0 +1,19 @@
+package com.realestatecrm.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every statement Hibernate prepares and counts it against the current request. Statements sent
+ * through {@code JdbcTemplate} bypass Hibernate and are not counted.
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,115 @@
+package com.realestatecrm.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements and JDBC time of every HTTP request and records them per endpoint
+ * ({@code http.server.sql.statements}, {@code http.server.sql.time}). A statement shape repeated within one
+ * request is reported as a suspected N+1, logged once per endpoint and shape with the stack trace of
+ * the repetition; a request running more statements than its endpoint's {@link SqlBudget} is logged with
+ * its shapes.
+ */
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlMonitoringFilter.class);
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    // endpoint + shape already logged; the counter keeps counting, the log does not repeat
+    private final Set<String> reportedShapes = ConcurrentHashMap.newKeySet();
+
+    public SqlMonitoringFilter(MeterRegistry meterRegistry, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin(repeatThreshold);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String endpoint = request.getMethod() + " " + uri;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("SQL statements run per HTTP request")
+                .baseUnit("statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.sql.time")
+                .description("Time spent executing JDBC statements per HTTP request")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        for (RequestSqlStats.Shape shape : stats.getRepeatedShapes()) {
+            Counter.builder("http.server.sql.nplusone")
+                    .description("Requests that repeated one statement shape past the threshold")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            if (reportedShapes.add(endpoint + "\n" + shape.getSql())) {
+                logger.warn("Suspected N+1 on {}: statement ran {} times in one request: {}",
+                        endpoint, shape.getCount(), shape.getSql(), shape.getSample());
+            }
+        }
+
+        Integer budget = budgetOf(request);
+        if (budget != null && stats.getStatements() > budget) {
+            Counter.builder("http.server.sql.budget.exceeded")
+                    .description("Requests that ran more SQL statements than their endpoint's budget")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("{} ran {} SQL statements, budget is {}: {}", endpoint, stats.getStatements(), budget,
+                    stats.getShapes().stream()
+                            .map(shape -> shape.getCount() + "x " + shape.getSql())
+                            .collect(Collectors.joining("; ")));
+        }
+    }
+
+    /**
+     * Statement budget of the handler that served the request, or null when it declares none.
+     */
+    static Integer budgetOf(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            SqlBudget budget = handler.getMethodAnnotation(SqlBudget.class);
+            return budget != null ? budget.value() : null;
+        }
+        return null;
+    }
+}
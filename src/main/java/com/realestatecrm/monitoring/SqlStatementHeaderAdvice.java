@@ -0,0 +1,43 @@
+package com.realestatecrm.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports the statements run so far (authentication and the handler, before the body is written) in
+ * {@code X-SQL-Statement-Count}, and the endpoint's {@link SqlBudget} in {@code X-SQL-Statement-Budget},
+ * so integration tests can assert budgets over HTTP. Off in production.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "sql-monitor.expose-headers", havingValue = "true")
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    public static final String STATEMENT_BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, Integer.toString(stats.getStatements()));
+        }
+        SqlBudget budget = returnType.getMethodAnnotation(SqlBudget.class);
+        if (budget != null) {
+            response.getHeaders().set(STATEMENT_BUDGET_HEADER, Integer.toString(budget.value()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,128 @@
+package com.realestatecrm.reporting;
+
+import com.realestatecrm.enums.PipelineMetric;
+import com.realestatecrm.repository.PipelineCounterJdbcRepository;
+import com.realestatecrm.repository.PipelineCounterJdbcRepository.CounterDelta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@code pipeline_daily_counters} in step with the domain events. Increments are collected for the
+ * whole transaction, merged per counter and written as one batch just before commit, so the counters
+ * commit or roll back with the change they count and a bulk import costs one batch per chunk.
+ */
+@Component
+public class PipelineCounterRecorder {
+
+    // Counters are always updated in the same order, so concurrent transactions cannot deadlock on them
+    private static final Comparator<CounterKey> LOCK_ORDER = Comparator
+            .comparing(CounterKey::agentId)
+            .thenComparing(CounterKey::activityDate)
+            .thenComparing(CounterKey::metric)
+            .thenComparing(CounterKey::dimension);
+
+    private final PipelineCounterJdbcRepository pipelineCounterJdbcRepository;
+
+    @Autowired
+    public PipelineCounterRecorder(PipelineCounterJdbcRepository pipelineCounterJdbcRepository) {
+        this.pipelineCounterJdbcRepository = pipelineCounterJdbcRepository;
+    }
+
+    @EventListener
+    public void on(PipelineEvent event) {
+        switch (event) {
+            case PipelineEvent.CustomerStatusChanged changed -> {
+                if (changed.from() != changed.to()) {
+                    add(changed.agentId(), changed.day(), PipelineMetric.CUSTOMER_STATUS_ENTERED, changed.to(), 1);
+                }
+            }
+            case PipelineEvent.InteractionLogged logged ->
+                    add(logged.userId(), logged.day(), PipelineMetric.INTERACTION_LOGGED, logged.type(), 1);
+            case PipelineEvent.InteractionRemoved removed ->
+                    add(removed.userId(), removed.day(), PipelineMetric.INTERACTION_LOGGED, removed.type(), -1);
+            case PipelineEvent.InteractionsRemoved removed ->
+                    add(removed.userId(), removed.day(), PipelineMetric.INTERACTION_LOGGED, removed.type(),
+                            -removed.count());
+            case PipelineEvent.PropertyStatusChanged changed -> {
+                if (changed.from() != changed.to()) {
+                    add(changed.userId(), changed.day(), PipelineMetric.PROPERTY_STATUS_CHANGED, changed.to(), 1);
+                }
+            }
+        }
+    }
+
+    private void add(Long agentId, LocalDate day, PipelineMetric metric, Enum<?> dimension, long delta) {
+        if (agentId == null || day == null || dimension == null) {
+            return;
+        }
+        CounterKey key = new CounterKey(agentId, day, metric, dimension.name());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pipelineCounterJdbcRepository.batchIncrement(List.of(key.withDelta(delta)));
+            return;
+        }
+        pendingIncrements().add(key, delta);
+    }
+
+    // Looked up among the synchronizations rather than bound as a resource, so a suspended outer
+    // transaction keeps its own increments
+    private PendingIncrements pendingIncrements() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingIncrements pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingIncrements pending = new PendingIncrements(this);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void flush(Map<CounterKey, Long> increments) {
+        List<CounterDelta> deltas = new ArrayList<>(increments.size());
+        increments.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(LOCK_ORDER))
+                .forEach(entry -> deltas.add(entry.getKey().withDelta(entry.getValue())));
+        pipelineCounterJdbcRepository.batchIncrement(deltas);
+    }
+
+    private record CounterKey(Long agentId, LocalDate activityDate, PipelineMetric metric, String dimension) {
+
+        CounterDelta withDelta(long delta) {
+            return new CounterDelta(agentId, activityDate, metric, dimension, delta);
+        }
+    }
+
+    // A plain class: synchronizations live in a set, so identity equality is what they need
+    private static final class PendingIncrements implements TransactionSynchronization {
+
+        private final PipelineCounterRecorder owner;
+        private final Map<CounterKey, Long> increments = new HashMap<>();
+
+        PendingIncrements(PipelineCounterRecorder owner) {
+            this.owner = owner;
+        }
+
+        PipelineCounterRecorder owner() {
+            return owner;
+        }
+
+        void add(CounterKey key, long delta) {
+            increments.merge(key, delta, Long::sum);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            owner.flush(increments);
+        }
+    }
+}
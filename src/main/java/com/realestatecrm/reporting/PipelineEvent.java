@@ -0,0 +1,44 @@
+package com.realestatecrm.reporting;
+
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.enums.PropertyStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Domain events the pipeline counters are maintained from. The services publish them inside the
+ * transaction that makes the change; {@link PipelineCounterRecorder} turns them into counter increments
+ * written with that transaction.
+ */
+public sealed interface PipelineEvent {
+
+    /**
+     * A customer was created with, or moved to, {@code to}. {@code from} is null for a new customer.
+     */
+    record CustomerStatusChanged(Long agentId, CustomerStatus from, CustomerStatus to, LocalDate day)
+            implements PipelineEvent {
+    }
+
+    /**
+     * An interaction that took place on {@code day} was logged, or an existing one was moved to this day or type.
+     */
+    record InteractionLogged(Long userId, InteractionType type, LocalDate day) implements PipelineEvent {
+    }
+
+    /**
+     * A logged interaction was deleted, or moved away from this day or type.
+     */
+    record InteractionRemoved(Long userId, InteractionType type, LocalDate day) implements PipelineEvent {
+    }
+
+    /**
+     * {@code count} interactions of this day and type were deleted at once, with the customer they belonged to.
+     */
+    record InteractionsRemoved(Long userId, InteractionType type, LocalDate day, long count) implements PipelineEvent {
+    }
+
+    record PropertyStatusChanged(Long userId, PropertyStatus from, PropertyStatus to, LocalDate day)
+            implements PipelineEvent {
+    }
+}
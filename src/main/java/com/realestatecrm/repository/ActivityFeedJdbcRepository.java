@@ -0,0 +1,149 @@
+package com.realestatecrm.repository;
+
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.projection.CustomerActivityRow;
+import com.realestatecrm.repository.projection.InteractionActivityRow;
+import com.realestatecrm.repository.projection.NoteActivityRow;
+import com.realestatecrm.repository.projection.StatusChangeActivityRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keyset reads of the activity feed sources, strictly older than a (date, id) position, newest first.
+ * <p>
+ * Each source has an index led by the acting user ({@code V7__activity_feed.sql}). A single
+ * {@code user_id IN (...) ORDER BY date, id} query cannot use it to stop early: the database has to collect
+ * and sort every older row of the whole team. So the statement is a {@code UNION ALL} of one branch per
+ * user, each seeking that user's index range and stopping after {@code limit} rows, and only those rows
+ * are merged. Above {@value #MAX_SEEK_USERS} users (admins, who see everyone) the branches would cost
+ * more than they save and a single {@code IN} branch is used instead.
+ */
+@Repository
+public class ActivityFeedJdbcRepository {
+
+    static final int MAX_SEEK_USERS = 100;
+
+    private static final String NOTE_BRANCH =
+            "SELECT n.id, n.created_date AS occurred_at, u.id AS user_id, u.first_name, u.last_name, u.username, " +
+            "c.id AS customer_id, c.first_name AS customer_first_name, c.last_name AS customer_last_name, " +
+            "SUBSTRING(n.content, 1, " + CustomerNoteRepository.PREVIEW_LENGTH + ") AS preview " +
+            "FROM customer_notes n JOIN users u ON u.id = n.created_by_user_id JOIN customers c ON c.id = n.customer_id " +
+            "WHERE n.created_by_user_id %s " +
+            "AND (n.created_date < ? OR (n.created_date = ? AND n.id < ?)) " +
+            "ORDER BY n.created_date DESC, n.id DESC LIMIT ?";
+
+    private static final String INTERACTION_BRANCH =
+            "SELECT i.id, i.interaction_date AS occurred_at, u.id AS user_id, u.first_name, u.last_name, u.username, " +
+            "c.id AS customer_id, c.first_name AS customer_first_name, c.last_name AS customer_last_name, " +
+            "i.type, i.subject, p.id AS property_id, p.title AS property_title " +
+            "FROM customer_interactions i JOIN users u ON u.id = i.user_id JOIN customers c ON c.id = i.customer_id " +
+            "LEFT JOIN properties p ON p.id = i.related_property_id " +
+            "WHERE i.user_id %s " +
+            "AND (i.interaction_date < ? OR (i.interaction_date = ? AND i.id < ?)) " +
+            "ORDER BY i.interaction_date DESC, i.id DESC LIMIT ?";
+
+    private static final String CUSTOMER_BRANCH =
+            "SELECT c.id, c.created_date AS occurred_at, u.id AS user_id, u.first_name, u.last_name, u.username, " +
+            "c.first_name AS customer_first_name, c.last_name AS customer_last_name, c.lead_source " +
+            "FROM customers c JOIN users u ON u.id = c.agent_id " +
+            "WHERE c.agent_id %s " +
+            "AND (c.created_date < ? OR (c.created_date = ? AND c.id < ?)) " +
+            "ORDER BY c.created_date DESC, c.id DESC LIMIT ?";
+
+    private static final String STATUS_CHANGE_BRANCH =
+            "SELECT s.id, s.changed_at AS occurred_at, u.id AS user_id, u.first_name, u.last_name, u.username, " +
+            "p.id AS property_id, p.title AS property_title, s.from_status, s.to_status " +
+            "FROM property_status_changes s JOIN users u ON u.id = s.changed_by_user_id " +
+            "JOIN properties p ON p.id = s.property_id " +
+            "WHERE s.changed_by_user_id %s " +
+            "AND (s.changed_at < ? OR (s.changed_at = ? AND s.id < ?)) " +
+            "ORDER BY s.changed_at DESC, s.id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ActivityFeedJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Activity feed: the users' notes strictly older than the given position (idx_customer_notes_feed)
+    public List<NoteActivityRow> findNotesBefore(Collection<Long> userIds, LocalDateTime beforeDate,
+                                                 Long beforeId, int limit) {
+        return query(NOTE_BRANCH, userIds, beforeDate, beforeId, limit, (rs, row) -> new NoteActivityRow(
+                rs.getLong("id"), occurredAt(rs), rs.getLong("user_id"), rs.getString("first_name"),
+                rs.getString("last_name"), rs.getString("username"), rs.getLong("customer_id"),
+                rs.getString("customer_first_name"), rs.getString("customer_last_name"), rs.getString("preview")));
+    }
+
+    // Activity feed: the users' interactions strictly older than the given position (idx_customer_interactions_feed)
+    public List<InteractionActivityRow> findInteractionsBefore(Collection<Long> userIds, LocalDateTime beforeDate,
+                                                               Long beforeId, int limit) {
+        return query(INTERACTION_BRANCH, userIds, beforeDate, beforeId, limit, (rs, row) -> new InteractionActivityRow(
+                rs.getLong("id"), occurredAt(rs), rs.getLong("user_id"), rs.getString("first_name"),
+                rs.getString("last_name"), rs.getString("username"), rs.getLong("customer_id"),
+                rs.getString("customer_first_name"), rs.getString("customer_last_name"),
+                InteractionType.valueOf(rs.getString("type")), rs.getString("subject"),
+                rs.getObject("property_id", Long.class), rs.getString("property_title")));
+    }
+
+    // Activity feed: customers of the agents created strictly before the given position (idx_customers_feed)
+    public List<CustomerActivityRow> findCustomersBefore(Collection<Long> agentIds, LocalDateTime beforeDate,
+                                                         Long beforeId, int limit) {
+        return query(CUSTOMER_BRANCH, agentIds, beforeDate, beforeId, limit, (rs, row) -> new CustomerActivityRow(
+                rs.getLong("id"), occurredAt(rs), rs.getLong("user_id"), rs.getString("first_name"),
+                rs.getString("last_name"), rs.getString("username"), rs.getString("customer_first_name"),
+                rs.getString("customer_last_name"), rs.getString("lead_source")));
+    }
+
+    // Activity feed: status changes made by the users strictly before the given position (idx_property_status_changes_feed)
+    public List<StatusChangeActivityRow> findStatusChangesBefore(Collection<Long> userIds, LocalDateTime beforeDate,
+                                                                 Long beforeId, int limit) {
+        return query(STATUS_CHANGE_BRANCH, userIds, beforeDate, beforeId, limit, (rs, row) -> new StatusChangeActivityRow(
+                rs.getLong("id"), occurredAt(rs), rs.getLong("user_id"), rs.getString("first_name"),
+                rs.getString("last_name"), rs.getString("username"), rs.getLong("property_id"),
+                rs.getString("property_title"), PropertyStatus.valueOf(rs.getString("from_status")),
+                PropertyStatus.valueOf(rs.getString("to_status"))));
+    }
+
+    private <T> List<T> query(String branch, Collection<Long> userIds, LocalDateTime beforeDate, Long beforeId,
+                              int limit, RowMapper<T> rowMapper) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp before = Timestamp.valueOf(beforeDate);
+        List<Object> args = new ArrayList<>();
+        String sql;
+        if (userIds.size() > MAX_SEEK_USERS) {
+            sql = String.format(branch, "IN (" + String.join(", ", Collections.nCopies(userIds.size(), "?")) + ")");
+            args.addAll(userIds);
+            args.addAll(List.of(before, before, beforeId, limit));
+        } else {
+            // One seek per user; the outer ORDER BY merges the branches' rows and keeps the newest
+            List<String> branches = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                branches.add("(" + String.format(branch, "= ?") + ")");
+                args.addAll(List.of(userId, before, before, beforeId, limit));
+            }
+            sql = "SELECT * FROM (" + String.join(" UNION ALL ", branches) + ") feed " +
+                  "ORDER BY feed.occurred_at DESC, feed.id DESC LIMIT ?";
+            args.add(limit);
+        }
+        return jdbcTemplate.query(sql, rowMapper, args.toArray());
+    }
+
+    private static LocalDateTime occurredAt(ResultSet rs) throws SQLException {
+        return rs.getTimestamp("occurred_at").toLocalDateTime();
+    }
+}
@@ -0,0 +1,132 @@
+package com.realestatecrm.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Set-based writes for {@code attribute_value} that bypass entity hydration.
+ * <p>
+ * Values are written as a native upsert keyed on the unique (property_id, attribute_id) constraint:
+ * {@code INSERT ... ON CONFLICT DO UPDATE} on PostgreSQL and {@code MERGE} on H2. Concurrent writers
+ * for the same pair therefore never need a preceding SELECT or an explicit lock.
+ * Statements are sent as one JDBC batch on the connection of the surrounding transaction.
+ * <p>
+ * New rows take their id straight from {@code attribute_value_seq}. A raw sequence value is always
+ * the top of a block Hibernate's pooled optimizer never hands out, so both writers can share it.
+ */
+@Repository
+public class AttributeValueJdbcRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttributeValueJdbcRepository.class);
+
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO attribute_value (id, property_id, attribute_id, text_value, number_value, " +
+            "boolean_value, multi_select_value, date_value) " +
+            "VALUES (nextval('attribute_value_seq'), ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (property_id, attribute_id) DO UPDATE SET " +
+            "text_value = EXCLUDED.text_value, number_value = EXCLUDED.number_value, " +
+            "boolean_value = EXCLUDED.boolean_value, multi_select_value = EXCLUDED.multi_select_value, " +
+            "date_value = EXCLUDED.date_value";
+
+    private static final String H2_MERGE_SQL =
+            "MERGE INTO attribute_value t USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), " +
+            "CAST(? AS VARCHAR), CAST(? AS NUMERIC(15, 2)), CAST(? AS BOOLEAN), CAST(? AS VARCHAR), " +
+            "CAST(? AS TIMESTAMP))) AS s (property_id, attribute_id, text_value, number_value, boolean_value, " +
+            "multi_select_value, date_value) " +
+            "ON t.property_id = s.property_id AND t.attribute_id = s.attribute_id " +
+            "WHEN MATCHED THEN UPDATE SET text_value = s.text_value, number_value = s.number_value, " +
+            "boolean_value = s.boolean_value, multi_select_value = s.multi_select_value, date_value = s.date_value " +
+            "WHEN NOT MATCHED THEN INSERT (id, property_id, attribute_id, text_value, number_value, boolean_value, " +
+            "multi_select_value, date_value) VALUES (NEXT VALUE FOR attribute_value_seq, s.property_id, " +
+            "s.attribute_id, s.text_value, s.number_value, s.boolean_value, s.multi_select_value, s.date_value)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+
+    @Autowired
+    public AttributeValueJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert or overwrite the given values, one statement per value in a single batch.
+     *
+     * @return number of values written
+     */
+    public int batchUpsert(List<AttributeValueWrite> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = values.stream()
+                .map(v -> new Object[]{
+                        v.propertyId(), v.attributeId(),
+                        text(v.textValue()), number(v.numberValue()), bool(v.booleanValue()),
+                        text(v.multiSelectValue()), timestamp(v.dateValue())})
+                .toList();
+
+        String sql = upsertSql();
+        try {
+            jdbcTemplate.batchUpdate(sql, args);
+        } catch (DuplicateKeyException e) {
+            // H2's MERGE is not atomic: two writers can both take the insert branch for a new pair.
+            // The upsert is idempotent, so replaying the batch turns the loser into an update.
+            logger.debug("Concurrent insert on attribute_value, retrying upsert batch of {}", values.size());
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+        return values.size();
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_MERGE_SQL : POSTGRES_UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    // Typed parameters so NULLs bind correctly on every driver
+    private static SqlParameterValue text(String value) {
+        return new SqlParameterValue(Types.VARCHAR, value);
+    }
+
+    private static SqlParameterValue number(BigDecimal value) {
+        return new SqlParameterValue(Types.NUMERIC, value);
+    }
+
+    private static SqlParameterValue bool(Boolean value) {
+        return new SqlParameterValue(Types.BOOLEAN, value);
+    }
+
+    private static SqlParameterValue timestamp(Date value) {
+        return new SqlParameterValue(Types.TIMESTAMP, value == null ? null : new Timestamp(value.getTime()));
+    }
+
+    /**
+     * One typed attribute value to write. Exactly one value column is expected to be non-null
+     * (or none, to clear the value).
+     */
+    public record AttributeValueWrite(Long propertyId,
+                                      Long attributeId,
+                                      String textValue,
+                                      BigDecimal numberValue,
+                                      Boolean booleanValue,
+                                      String multiSelectValue,
+                                      Date dateValue) {
+    }
+}
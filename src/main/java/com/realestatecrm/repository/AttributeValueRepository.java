@@ -1,12 +1,15 @@
 package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.AttributeValue;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.projection.AttributeValueRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +25,20 @@ public interface AttributeValueRepository extends JpaRepository<AttributeValue,
     // Batch fetch method to avoid N+1 queries
     List<AttributeValue> findByPropertyIdInAndAttributeIdIn(List<Long> propertyIds, List<Long> attributeIds);
 
+    // Values for a whole page of properties in one query; the attribute is not joined
+    @Query("SELECT new com.realestatecrm.repository.projection.AttributeValueRow(" +
+           "pv.id, pv.property.id, pv.attribute.id, pv.textValue, pv.numberValue, pv.booleanValue, " +
+           "pv.multiSelectValue, pv.dateValue) FROM AttributeValue pv WHERE pv.property.id IN :propertyIds")
+    List<AttributeValueRow> findRowsByPropertyIdIn(@Param("propertyIds") Collection<Long> propertyIds);
+
+    // Search fetch stage: the filtered attributes' values of every listing in the given status
+    @Query("SELECT new com.realestatecrm.repository.projection.AttributeValueRow(" +
+           "pv.id, p.id, pv.attribute.id, pv.textValue, pv.numberValue, pv.booleanValue, " +
+           "pv.multiSelectValue, pv.dateValue) FROM AttributeValue pv JOIN pv.property p " +
+           "WHERE pv.attribute.id IN :attributeIds AND p.status = :status")
+    List<AttributeValueRow> findRowsByAttributeIdInAndPropertyStatus(@Param("attributeIds") Collection<Long> attributeIds,
+                                                                     @Param("status") PropertyStatus status);
+
     void deleteByPropertyIdAndAttributeId(Long propertyId, Long attributeId);
 
     List<AttributeValue> findByAttributeIdAndTextValue(Long attributeId, String textValue);
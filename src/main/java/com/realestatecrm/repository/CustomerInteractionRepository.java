@@ -2,23 +2,55 @@ package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.CustomerInteraction;
 import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.repository.projection.CustomerInteractionTimelineRow;
+import com.realestatecrm.repository.projection.InteractionDayCount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CustomerInteractionRepository extends JpaRepository<CustomerInteraction, Long> {
 
+    String TIMELINE_QUERY = "SELECT new com.realestatecrm.repository.projection.CustomerInteractionTimelineRow(" +
+            "i.id, i.type, i.subject, i.interactionDate, i.durationMinutes, u.id, u.firstName, u.lastName, u.username, " +
+            "p.id, p.title) FROM CustomerInteraction i JOIN i.user u LEFT JOIN i.relatedProperty p " +
+            "WHERE i.customer.id = :customerId";
+
     // LAZY FIX: Eagerly fetch customer, user, and relatedProperty to prevent LazyInitializationException
     @EntityGraph(attributePaths = {"customer", "user", "relatedProperty"})
     @Query("SELECT i FROM CustomerInteraction i WHERE i.customer.id = :customerId ORDER BY i.interactionDate DESC")
     List<CustomerInteraction> findByCustomerId(@Param("customerId") Long customerId);
 
+    // Latest interactions only (customer overview); the page size is the section limit
+    @EntityGraph(attributePaths = {"customer", "user", "relatedProperty"})
+    @Query("SELECT i FROM CustomerInteraction i WHERE i.customer.id = :customerId ORDER BY i.interactionDate DESC, i.id DESC")
+    List<CustomerInteraction> findLatestByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    // Timeline, first page: walks idx_customer_interactions_timeline from the most recent interaction
+    @Query(TIMELINE_QUERY + " ORDER BY i.interactionDate DESC, i.id DESC")
+    List<CustomerInteractionTimelineRow> findTimeline(@Param("customerId") Long customerId, Pageable pageable);
+
+    // Timeline, following pages: seeks past the last (interactionDate, id) the client has seen
+    @Query(TIMELINE_QUERY + " AND (i.interactionDate < :beforeDate OR (i.interactionDate = :beforeDate AND i.id < :beforeId))" +
+           " ORDER BY i.interactionDate DESC, i.id DESC")
+    List<CustomerInteractionTimelineRow> findTimelineBefore(@Param("customerId") Long customerId,
+                                                            @Param("beforeDate") LocalDateTime beforeDate,
+                                                            @Param("beforeId") Long beforeId,
+                                                            Pageable pageable);
+
+    // LAZY FIX: Full interaction (with notes) for the timeline's detail view
+    @EntityGraph(attributePaths = {"customer", "user", "relatedProperty"})
+    @Query("SELECT i FROM CustomerInteraction i WHERE i.id = :id AND i.customer.id = :customerId")
+    Optional<CustomerInteraction> findByIdAndCustomerId(@Param("id") Long id, @Param("customerId") Long customerId);
+
     @EntityGraph(attributePaths = {"customer", "user", "relatedProperty"})
     @Query("SELECT i FROM CustomerInteraction i WHERE i.customer.id = :customerId AND i.type = :type ORDER BY i.interactionDate DESC")
     List<CustomerInteraction> findByCustomerIdAndType(@Param("customerId") Long customerId,
@@ -34,4 +66,15 @@ public interface CustomerInteractionRepository extends JpaRepository<CustomerInt
     @EntityGraph(attributePaths = {"customer", "user", "relatedProperty"})
     @Query("SELECT i FROM CustomerInteraction i WHERE i.user.id = :userId ORDER BY i.interactionDate DESC")
     List<CustomerInteraction> findByUserId(@Param("userId") Long userId);
+
+    // Customer deletion: what the customer's interactions added to the pipeline counters, per user, type and day
+    @Query("SELECT new com.realestatecrm.repository.projection.InteractionDayCount(" +
+           "i.user.id, i.type, CAST(i.interactionDate AS LocalDate), COUNT(i)) " +
+           "FROM CustomerInteraction i WHERE i.customer.id = :customerId " +
+           "GROUP BY i.user.id, i.type, CAST(i.interactionDate AS LocalDate)")
+    List<InteractionDayCount> countByUserTypeAndDay(@Param("customerId") Long customerId);
+
+    @Modifying
+    @Query("DELETE FROM CustomerInteraction i WHERE i.customer.id = :customerId")
+    int deleteByCustomerId(@Param("customerId") Long customerId);
 }
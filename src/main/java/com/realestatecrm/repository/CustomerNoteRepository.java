@@ -1,24 +1,62 @@
 package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.CustomerNote;
+import com.realestatecrm.repository.projection.CustomerNoteTimelineRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CustomerNoteRepository extends JpaRepository<CustomerNote, Long> {
 
+    // Characters of a note's content shown in the timeline
+    int PREVIEW_LENGTH = 200;
+
+    String TIMELINE_QUERY = "SELECT new com.realestatecrm.repository.projection.CustomerNoteTimelineRow(" +
+            "n.id, u.id, u.firstName, u.lastName, u.username, SUBSTRING(n.content, 1, " + PREVIEW_LENGTH + "), " +
+            "LENGTH(n.content), n.createdDate) FROM CustomerNote n JOIN n.createdBy u WHERE n.customer.id = :customerId";
+
     // LAZY FIX: Eagerly fetch customer and createdBy to prevent LazyInitializationException
     @EntityGraph(attributePaths = {"customer", "createdBy"})
     @Query("SELECT n FROM CustomerNote n WHERE n.customer.id = :customerId ORDER BY n.createdDate DESC")
     List<CustomerNote> findByCustomerId(@Param("customerId") Long customerId);
 
+    // Latest notes only (customer overview); the page size is the section limit
+    @EntityGraph(attributePaths = {"customer", "createdBy"})
+    @Query("SELECT n FROM CustomerNote n WHERE n.customer.id = :customerId ORDER BY n.createdDate DESC, n.id DESC")
+    List<CustomerNote> findLatestByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    // Timeline, first page: walks idx_customer_notes_timeline from the newest note
+    @Query(TIMELINE_QUERY + " ORDER BY n.createdDate DESC, n.id DESC")
+    List<CustomerNoteTimelineRow> findTimeline(@Param("customerId") Long customerId, Pageable pageable);
+
+    // Timeline, following pages: seeks past the last (createdDate, id) the client has seen
+    @Query(TIMELINE_QUERY + " AND (n.createdDate < :beforeDate OR (n.createdDate = :beforeDate AND n.id < :beforeId))" +
+           " ORDER BY n.createdDate DESC, n.id DESC")
+    List<CustomerNoteTimelineRow> findTimelineBefore(@Param("customerId") Long customerId,
+                                                     @Param("beforeDate") LocalDateTime beforeDate,
+                                                     @Param("beforeId") Long beforeId,
+                                                     Pageable pageable);
+
+    // LAZY FIX: Full note for the timeline's detail view
+    @EntityGraph(attributePaths = {"customer", "createdBy"})
+    @Query("SELECT n FROM CustomerNote n WHERE n.id = :id AND n.customer.id = :customerId")
+    Optional<CustomerNote> findByIdAndCustomerId(@Param("id") Long id, @Param("customerId") Long customerId);
+
     @EntityGraph(attributePaths = {"customer", "createdBy"})
     @Query("SELECT n FROM CustomerNote n WHERE n.customer.id = :customerId AND n.createdBy.id = :userId ORDER BY n.createdDate DESC")
     List<CustomerNote> findByCustomerIdAndCreatedById(@Param("customerId") Long customerId,
                                                        @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM CustomerNote n WHERE n.customer.id = :customerId")
+    int deleteByCustomerId(@Param("customerId") Long customerId);
 }
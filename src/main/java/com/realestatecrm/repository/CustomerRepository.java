@@ -2,21 +2,89 @@ package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.Customer;
 import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.repository.projection.AgentDashboardCount;
+import com.realestatecrm.repository.projection.AgentStatusCount;
+import com.realestatecrm.repository.projection.CustomerContactKey;
+import com.realestatecrm.repository.projection.CustomerListRow;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
+    // List views: only the columns CustomerListRow needs, no entity hydration and no notes TEXT column
+    String LIST_ROW_QUERY = "SELECT new com.realestatecrm.repository.projection.CustomerListRow(" +
+            "c.id, c.firstName, c.lastName, c.phone, c.email, c.budgetMin, c.budgetMax, c.leadSource, c.status, " +
+            "a.id, a.firstName, a.lastName, a.username, c.createdDate, c.updatedDate) FROM Customer c JOIN c.agent a";
+
+    @Query(value = LIST_ROW_QUERY,
+           countQuery = "SELECT COUNT(c) FROM Customer c")
+    Page<CustomerListRow> findAllListRows(Pageable pageable);
+
+    @Query(value = LIST_ROW_QUERY + " WHERE a.id IN :agentIds",
+           countQuery = "SELECT COUNT(c) FROM Customer c WHERE c.agent.id IN :agentIds")
+    Page<CustomerListRow> findListRowsByAgentIdIn(@Param("agentIds") Collection<Long> agentIds, Pageable pageable);
+
+    @Query(value = LIST_ROW_QUERY + " WHERE c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Customer c WHERE c.status = :status")
+    Page<CustomerListRow> findListRowsByStatus(@Param("status") CustomerStatus status, Pageable pageable);
+
+    @Query(value = LIST_ROW_QUERY + " WHERE a.id IN :agentIds AND c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Customer c WHERE c.agent.id IN :agentIds AND c.status = :status")
+    Page<CustomerListRow> findListRowsByAgentIdInAndStatus(@Param("agentIds") Collection<Long> agentIds,
+                                                           @Param("status") CustomerStatus status,
+                                                           Pageable pageable);
+
+    // Slice variants fetch one extra row to tell whether a next page exists and never run the count query
+    @Query(LIST_ROW_QUERY)
+    Slice<CustomerListRow> sliceAllListRows(Pageable pageable);
+
+    @Query(LIST_ROW_QUERY + " WHERE a.id IN :agentIds")
+    Slice<CustomerListRow> sliceListRowsByAgentIdIn(@Param("agentIds") Collection<Long> agentIds, Pageable pageable);
+
+    @Query(LIST_ROW_QUERY + " WHERE c.status = :status")
+    Slice<CustomerListRow> sliceListRowsByStatus(@Param("status") CustomerStatus status, Pageable pageable);
+
+    @Query(LIST_ROW_QUERY + " WHERE a.id IN :agentIds AND c.status = :status")
+    Slice<CustomerListRow> sliceListRowsByAgentIdInAndStatus(@Param("agentIds") Collection<Long> agentIds,
+                                                             @Param("status") CustomerStatus status,
+                                                             Pageable pageable);
+
+    @Query("SELECT new com.realestatecrm.repository.projection.AgentStatusCount(c.agent.id, c.status, COUNT(c)) " +
+           "FROM Customer c GROUP BY c.agent.id, c.status")
+    List<AgentStatusCount> countByAgentAndStatus();
+
+    // Dashboard: per-status counts for every user the given user can see (themselves and two levels of
+    // subordinates; everyone for admins), scoped in the same statement. The outer join keeps users with no rows.
+    @Query("""
+        SELECT new com.realestatecrm.repository.projection.AgentDashboardCount(
+               u.id, u.firstName, u.lastName, u.username, c.status, COUNT(c))
+        FROM User u LEFT JOIN Customer c ON c.agent.id = u.id
+        WHERE :admin = TRUE
+           OR u.username = :username
+           OR u.id IN (SELECT uh.subordinate.id FROM UserHierarchy uh WHERE uh.supervisor.username = :username)
+           OR u.id IN (SELECT uh2.subordinate.id FROM UserHierarchy uh1
+                      JOIN UserHierarchy uh2 ON uh1.subordinate.id = uh2.supervisor.id
+                      WHERE uh1.supervisor.username = :username)
+        GROUP BY u.id, u.firstName, u.lastName, u.username, c.status
+        """)
+    List<AgentDashboardCount> countDashboardByAgentAndStatus(@Param("username") String username,
+                                                             @Param("admin") boolean admin);
+
     // LAZY FIX: Optimized queries with agent eager loading
     @EntityGraph(attributePaths = {"agent"})
     @Query("SELECT c FROM Customer c")
@@ -51,6 +119,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     @EntityGraph(attributePaths = {"agent"})
     List<Customer> findByPhone(String phone);
 
+    // Streams (email, phone) of every customer without hydrating entities; must be consumed inside a transaction
+    @Query("SELECT new com.realestatecrm.repository.projection.CustomerContactKey(c.email, c.phone) FROM Customer c")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<CustomerContactKey> streamContactKeys();
+
+    // Emails must be lower case; matches stored emails of any case (idx_customers_email_lower, V9)
+    @Query("SELECT LOWER(c.email) FROM Customer c WHERE LOWER(c.email) IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     @EntityGraph(attributePaths = {"agent"})
     List<Customer> findByAgentIdIn(List<Long> agentIds);
 
@@ -0,0 +1,63 @@
+package com.realestatecrm.repository;
+
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.enums.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    List<ImportJob> findByCreatedByIdOrderByCreatedDateDesc(Long userId);
+
+    /**
+     * Advance the checkpoint of a job. Runs in the same transaction as the chunk it describes,
+     * so the checkpoint and the imported rows commit (or roll back) together. Returns 0 once the
+     * job is leased by another instance.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.lastCommittedRecord = :lastRecord, " +
+           "j.processedCount = j.processedCount + :processed, " +
+           "j.importedCount = j.importedCount + :imported, " +
+           "j.rejectedCount = j.rejectedCount + :rejected, " +
+           "j.duplicateCount = j.duplicateCount + :duplicates, " +
+           "j.updatedDate = :now WHERE j.id = :id AND j.leaseOwner = :owner")
+    int recordProgress(@Param("id") Long id,
+                       @Param("owner") String owner,
+                       @Param("lastRecord") long lastRecord,
+                       @Param("processed") long processed,
+                       @Param("imported") long imported,
+                       @Param("rejected") long rejected,
+                       @Param("duplicates") long duplicates,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Heartbeat: extend the lease of every active job the given instance holds.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.leaseExpiresAt = :until " +
+           "WHERE j.leaseOwner = :owner AND j.status IN :active")
+    int renewLeases(@Param("owner") String owner,
+                    @Param("active") Collection<ImportJobStatus> active,
+                    @Param("until") LocalDateTime until);
+
+    /**
+     * Move active jobs whose lease has run out (or that never had one) to the given status and release
+     * the lease. Jobs still leased by a live instance are left alone.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.message = :message, j.leaseOwner = NULL, " +
+           "j.leaseExpiresAt = NULL, j.updatedDate = :now " +
+           "WHERE j.status IN :active AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < :now)")
+    int updateStatusWhereLeaseExpired(@Param("active") Collection<ImportJobStatus> active,
+                                      @Param("status") ImportJobStatus status,
+                                      @Param("message") String message,
+                                      @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,114 @@
+package com.realestatecrm.repository;
+
+import com.realestatecrm.enums.PipelineMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.BatchUpdateException;
+import java.sql.Date;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Increments of {@code pipeline_daily_counters}, as a native upsert that adds to the stored total:
+ * {@code INSERT ... ON CONFLICT DO UPDATE} on PostgreSQL and {@code MERGE} on H2. Sent as one JDBC batch
+ * on the connection of the surrounding transaction.
+ */
+@Repository
+public class PipelineCounterJdbcRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(PipelineCounterJdbcRepository.class);
+
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO pipeline_daily_counters (agent_id, activity_date, metric, dimension, total) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (agent_id, activity_date, metric, dimension) " +
+            "DO UPDATE SET total = pipeline_daily_counters.total + EXCLUDED.total";
+
+    // Unlike the PostgreSQL upsert, H2's MERGE is not atomic; a concurrent first insert of the same
+    // counter fails with a duplicate key instead of adding up (see batchIncrement)
+    private static final String H2_MERGE_SQL =
+            "MERGE INTO pipeline_daily_counters t USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), " +
+            "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS BIGINT))) AS s (agent_id, activity_date, metric, " +
+            "dimension, total) ON t.agent_id = s.agent_id AND t.activity_date = s.activity_date " +
+            "AND t.metric = s.metric AND t.dimension = s.dimension " +
+            "WHEN MATCHED THEN UPDATE SET total = t.total + s.total " +
+            "WHEN NOT MATCHED THEN INSERT (agent_id, activity_date, metric, dimension, total) " +
+            "VALUES (s.agent_id, s.activity_date, s.metric, s.dimension, s.total)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+
+    @Autowired
+    public PipelineCounterJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add each delta to its counter, creating counters that do not exist yet.
+     */
+    public void batchIncrement(List<CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = deltas.stream()
+                .map(d -> new Object[]{d.agentId(), Date.valueOf(d.activityDate()), d.metric().name(),
+                        d.dimension(), d.delta()})
+                .toList();
+        String sql = upsertSql();
+        try {
+            jdbcTemplate.batchUpdate(sql, args);
+        } catch (DuplicateKeyException e) {
+            // H2's MERGE lost the race for a new counter. Unlike the attribute value upsert, an increment is
+            // not idempotent, so only the statements that failed are replayed; they now take the update branch
+            List<Object[]> failed = failedStatements(e, args);
+            if (failed == null) {
+                throw e;
+            }
+            logger.debug("Concurrent insert on pipeline_daily_counters, retrying {} of {} increments",
+                    failed.size(), args.size());
+            jdbcTemplate.batchUpdate(sql, failed);
+        }
+    }
+
+    // The arguments of the statements a batch reported as failed, or null when the driver did not say which
+    private static List<Object[]> failedStatements(DuplicateKeyException e, List<Object[]> args) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batch) {
+                int[] counts = batch.getUpdateCounts();
+                if (counts == null || counts.length != args.size()) {
+                    return null;
+                }
+                List<Object[]> failed = new ArrayList<>();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == Statement.EXECUTE_FAILED) {
+                        failed.add(args.get(i));
+                    }
+                }
+                return failed;
+            }
+        }
+        return null;
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_MERGE_SQL : POSTGRES_UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    public record CounterDelta(Long agentId, LocalDate activityDate, PipelineMetric metric, String dimension, long delta) {
+    }
+}
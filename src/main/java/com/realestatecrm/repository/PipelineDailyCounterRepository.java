@@ -0,0 +1,24 @@
+package com.realestatecrm.repository;
+
+import com.realestatecrm.entity.PipelineDailyCounter;
+import com.realestatecrm.repository.projection.PipelineCounterRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PipelineDailyCounterRepository extends JpaRepository<PipelineDailyCounter, PipelineDailyCounter.Key> {
+
+    // Reports: a primary key range per agent, bounded by the date range rather than the history
+    @Query("SELECT new com.realestatecrm.repository.projection.PipelineCounterRow(" +
+           "c.id.agentId, c.id.activityDate, c.id.metric, c.id.dimension, c.total) FROM PipelineDailyCounter c " +
+           "WHERE c.id.agentId IN :agentIds AND c.id.activityDate BETWEEN :from AND :to")
+    List<PipelineCounterRow> findRows(@Param("agentIds") Collection<Long> agentIds,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
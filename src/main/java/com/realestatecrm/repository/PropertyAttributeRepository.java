@@ -3,8 +3,10 @@ package com.realestatecrm.repository;
 import com.realestatecrm.entity.PropertyAttribute;
 import com.realestatecrm.enums.PropertyCategory;
 import com.realestatecrm.enums.PropertyDataType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,12 +24,18 @@ public interface PropertyAttributeRepository extends JpaRepository<PropertyAttri
 
     List<PropertyAttribute> findByCategoryOrderByDisplayOrderAsc(PropertyCategory category);
 
+    // Query cache: the attribute screens list the whole catalog, entities come from the property-attributes region
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT pa FROM PropertyAttribute pa ORDER BY pa.category ASC, pa.displayOrder ASC, pa.name ASC")
     List<PropertyAttribute> findAllOrderedByDisplay();
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("SELECT pa FROM PropertyAttribute pa WHERE pa.isSearchable = true ORDER BY pa.category ASC, pa.displayOrder ASC")
     List<PropertyAttribute> findSearchableOrderedByDisplay();
 
+    @Query("SELECT DISTINCT pa FROM PropertyAttribute pa LEFT JOIN FETCH pa.options")
+    List<PropertyAttribute> findAllWithOptions();
+
     boolean existsByName(String name);
 
     List<PropertyAttribute> findByNameContainingIgnoreCase(String name);
@@ -2,8 +2,13 @@ package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.Property;
 import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.projection.AgentDashboardCount;
+import com.realestatecrm.repository.projection.AgentStatusCount;
+import com.realestatecrm.repository.projection.PropertyListRow;
+import com.realestatecrm.repository.projection.PropertySearchRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,12 +16,64 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Long> {
 
+    // List views: only the columns PropertyListRow needs, no entity hydration and no description TEXT column
+    String LIST_ROW_QUERY = "SELECT new com.realestatecrm.repository.projection.PropertyListRow(" +
+            "p.id, p.title, p.price, p.status, a.id, a.firstName, a.lastName, a.username, " +
+            "p.createdDate, p.updatedDate) FROM Property p JOIN p.agent a";
+
+    @Query(value = LIST_ROW_QUERY,
+           countQuery = "SELECT COUNT(p) FROM Property p")
+    Page<PropertyListRow> findAllListRows(Pageable pageable);
+
+    @Query(value = LIST_ROW_QUERY + " WHERE a.id IN :agentIds",
+           countQuery = "SELECT COUNT(p) FROM Property p WHERE p.agent.id IN :agentIds")
+    Page<PropertyListRow> findListRowsByAgentIdIn(@Param("agentIds") Collection<Long> agentIds, Pageable pageable);
+
+    // Slice variants fetch one extra row to tell whether a next page exists and never run the count query
+    @Query(LIST_ROW_QUERY)
+    Slice<PropertyListRow> sliceAllListRows(Pageable pageable);
+
+    @Query(LIST_ROW_QUERY + " WHERE a.id IN :agentIds")
+    Slice<PropertyListRow> sliceListRowsByAgentIdIn(@Param("agentIds") Collection<Long> agentIds, Pageable pageable);
+
+    @Query("SELECT new com.realestatecrm.repository.projection.AgentStatusCount(p.agent.id, p.status, COUNT(p)) " +
+           "FROM Property p GROUP BY p.agent.id, p.status")
+    List<AgentStatusCount> countByAgentAndStatus();
+
+    // Dashboard: per-status counts for every user the given user can see (themselves and two levels of
+    // subordinates; everyone for admins), scoped in the same statement. The outer join keeps users with no rows.
+    @Query("""
+        SELECT new com.realestatecrm.repository.projection.AgentDashboardCount(
+               u.id, u.firstName, u.lastName, u.username, p.status, COUNT(p))
+        FROM User u LEFT JOIN Property p ON p.agent.id = u.id
+        WHERE :admin = TRUE
+           OR u.username = :username
+           OR u.id IN (SELECT uh.subordinate.id FROM UserHierarchy uh WHERE uh.supervisor.username = :username)
+           OR u.id IN (SELECT uh2.subordinate.id FROM UserHierarchy uh1
+                      JOIN UserHierarchy uh2 ON uh1.subordinate.id = uh2.supervisor.id
+                      WHERE uh1.supervisor.username = :username)
+        GROUP BY u.id, u.firstName, u.lastName, u.username, p.status
+        """)
+    List<AgentDashboardCount> countDashboardByAgentAndStatus(@Param("username") String username,
+                                                             @Param("admin") boolean admin);
+
+    // Search fetch stage: sort keys only, no text columns beyond the title
+    @Query("SELECT new com.realestatecrm.repository.projection.PropertySearchRow(" +
+           "p.id, p.title, p.price, p.createdDate, p.updatedDate) FROM Property p WHERE p.status = :status")
+    List<PropertySearchRow> findSearchRowsByStatus(@Param("status") PropertyStatus status);
+
+    // LAZY FIX: Page of search results with their agents
+    @EntityGraph(attributePaths = {"agent"})
+    @Query("SELECT p FROM Property p WHERE p.id IN :ids")
+    List<Property> findWithAgentByIdIn(@Param("ids") Collection<Long> ids);
+
     // LAZY FIX: Optimized query with agent eager loading to avoid LazyInitializationException
     @EntityGraph(attributePaths = {"agent"})
     @Query("SELECT p FROM Property p WHERE p.id = :id")
@@ -69,6 +126,9 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
     @Query("SELECT DISTINCT p FROM Property p LEFT JOIN FETCH p.agent LEFT JOIN PropertySharing ps ON p.id = ps.property.id WHERE (p.agent.id = :agentId OR ps.sharedWithUser.id = :agentId) AND p.status = :status")
     List<Property> findAccessibleByAgentAndStatus(@Param("agentId") Long agentId, @Param("status") PropertyStatus status);
 
+    @Query("SELECT p.id FROM Property p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COUNT(p) FROM Property p WHERE p.agent.id = :agentId AND p.status = :status")
     long countByAgentIdAndStatus(@Param("agentId") Long agentId, @Param("status") PropertyStatus status);
 
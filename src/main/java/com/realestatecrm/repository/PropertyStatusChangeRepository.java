@@ -0,0 +1,13 @@
+package com.realestatecrm.repository;
+
+import com.realestatecrm.entity.PropertyStatusChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PropertyStatusChangeRepository extends JpaRepository<PropertyStatusChange, Long> {
+
+    List<PropertyStatusChange> findByPropertyIdOrderByChangedAtDesc(Long propertyId);
+}
@@ -1,27 +1,52 @@
 package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.RefreshToken;
-import com.realestatecrm.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    // LAZY FIX: Fetch user with the token - the refresh flow needs it to issue the access token
+    @EntityGraph(attributePaths = {"user"})
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    Optional<RefreshToken> findByUser(User user);
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Rotate a token in place. Only succeeds while the presented hash is still current,
+     * not revoked and not expired, so a token can be redeemed at most once.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken rt SET rt.tokenHash = :newHash, rt.expiryDate = :newExpiry " +
+           "WHERE rt.id = :id AND rt.tokenHash = :currentHash AND rt.revoked = false AND rt.expiryDate > :now")
+    int rotate(@Param("id") Long id,
+               @Param("currentHash") String currentHash,
+               @Param("newHash") String newHash,
+               @Param("newExpiry") Instant newExpiry,
+               @Param("now") Instant now);
 
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.user = :user")
-    void deleteByUser(User user);
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash AND rt.revoked = false")
+    int revokeByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiryDate < :now OR rt.revoked = true ORDER BY rt.id")
+    List<Long> findPurgeableIds(@Param("now") Instant now, Pageable pageable);
 
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :now")
-    void deleteExpiredTokens(Instant now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
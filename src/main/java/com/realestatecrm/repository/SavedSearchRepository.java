@@ -1,6 +1,8 @@
 package com.realestatecrm.repository;
 
 import com.realestatecrm.entity.SavedSearch;
+import com.realestatecrm.repository.projection.SavedSearchListRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +15,21 @@ import java.util.Optional;
 @Repository
 public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
 
+    // List views: saved search columns plus customer/agent names, without hydrating Customer or User
+    String LIST_ROW_QUERY = "SELECT new com.realestatecrm.repository.projection.SavedSearchListRow(" +
+            "s.id, c.id, c.firstName, c.lastName, a.id, a.firstName, a.lastName, a.username, " +
+            "s.name, s.description, s.filtersJson, s.createdDate, s.updatedDate) " +
+            "FROM SavedSearch s JOIN s.customer c JOIN c.agent a";
+
+    @Query(LIST_ROW_QUERY + " WHERE c.id = :customerId ORDER BY s.updatedDate DESC")
+    List<SavedSearchListRow> findListRowsByCustomerId(@Param("customerId") Long customerId);
+
+    @Query(LIST_ROW_QUERY + " WHERE c.id = :customerId ORDER BY s.updatedDate DESC, s.id DESC")
+    List<SavedSearchListRow> findListRowsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query(LIST_ROW_QUERY + " WHERE a.id = :agentId ORDER BY c.lastName, s.updatedDate DESC")
+    List<SavedSearchListRow> findListRowsByAgentId(@Param("agentId") Long agentId);
+
     // LAZY FIX: Optimized query with customer eager loading to avoid LazyInitializationException
     @EntityGraph(attributePaths = {"customer", "customer.agent"})
     @Query("SELECT s FROM SavedSearch s WHERE s.id = :id")
@@ -23,16 +40,6 @@ public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long>
     @Query("SELECT s FROM SavedSearch s")
     List<SavedSearch> findAllWithCustomer();
 
-    // LAZY FIX: Find all searches for a specific customer
-    @EntityGraph(attributePaths = {"customer", "customer.agent"})
-    @Query("SELECT s FROM SavedSearch s WHERE s.customer.id = :customerId ORDER BY s.updatedDate DESC")
-    List<SavedSearch> findByCustomerIdWithCustomer(@Param("customerId") Long customerId);
-
-    // Find all searches for customers belonging to a specific agent
-    @EntityGraph(attributePaths = {"customer", "customer.agent"})
-    @Query("SELECT s FROM SavedSearch s WHERE s.customer.agent.id = :agentId ORDER BY s.customer.lastName, s.updatedDate DESC")
-    List<SavedSearch> findByCustomerAgentId(@Param("agentId") Long agentId);
-
     // Check if a saved search exists for a customer
     boolean existsByIdAndCustomerId(Long id, Long customerId);
 
@@ -3,8 +3,10 @@ package com.realestatecrm.repository;
 import com.realestatecrm.entity.User;
 import com.realestatecrm.enums.Role;
 import com.realestatecrm.enums.UserStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,8 +16,18 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Query cache: resolved on every authenticated request; the cached id is then served from the users region
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<User> findByUsername(String username);
 
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<User> findAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<User> findAllById(Iterable<Long> ids);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
@@ -52,6 +64,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByRoleAndActiveStatus(@Param("role") Role role);
 
     // ADDED: Get all user IDs in hierarchy chain (for permission checking)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     @Query("""
         SELECT DISTINCT u.id FROM User u 
         WHERE u.id = :userId 
@@ -0,0 +1,29 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the team activity feed, read by one query per source. Every source is ordered by
+ * {@code (occurredAt DESC, id DESC)}, which is what the feed merges on.
+ */
+public sealed interface ActivityFeedRow
+        permits NoteActivityRow, InteractionActivityRow, CustomerActivityRow, StatusChangeActivityRow {
+
+    Long id();
+
+    LocalDateTime occurredAt();
+
+    Long userId();
+
+    String userFirstName();
+
+    String userLastName();
+
+    String userUsername();
+
+    default String userName() {
+        return User.fullName(userFirstName(), userLastName(), userUsername());
+    }
+}
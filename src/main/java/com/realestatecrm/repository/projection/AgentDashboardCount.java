@@ -0,0 +1,9 @@
+package com.realestatecrm.repository.projection;
+
+/**
+ * Row count for one agent/status pair of the dashboard, with the agent's name columns so the agent rows
+ * need no separate user lookup. {@code status} is null (and {@code count} zero) for an agent with no rows.
+ */
+public record AgentDashboardCount(Long agentId, String firstName, String lastName, String username,
+                                  Enum<?> status, Long count) {
+}
@@ -0,0 +1,7 @@
+package com.realestatecrm.repository.projection;
+
+/**
+ * Row count for one agent/status pair, read with a single GROUP BY.
+ */
+public record AgentStatusCount(Long agentId, Enum<?> status, Long count) {
+}
@@ -0,0 +1,31 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.enums.PropertyDataType;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Raw attribute value columns, without the attribute or property entity. Attribute metadata
+ * (name, data type) comes from the cached catalog.
+ */
+public record AttributeValueRow(Long id,
+                                Long propertyId,
+                                Long attributeId,
+                                String textValue,
+                                BigDecimal numberValue,
+                                Boolean booleanValue,
+                                String multiSelectValue,
+                                Date dateValue) {
+
+    // Same column selection as AttributeValue#getValue
+    public Object value(PropertyDataType dataType) {
+        return switch (dataType) {
+            case TEXT, SINGLE_SELECT -> textValue;
+            case NUMBER -> numberValue;
+            case BOOLEAN -> booleanValue;
+            case MULTI_SELECT -> multiSelectValue;
+            case DATE -> dateValue;
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.realestatecrm.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A new customer in the activity feed, attributed to its agent.
+ */
+public record CustomerActivityRow(Long id,
+                                  LocalDateTime occurredAt,
+                                  Long userId,
+                                  String userFirstName,
+                                  String userLastName,
+                                  String userUsername,
+                                  String customerFirstName,
+                                  String customerLastName,
+                                  String leadSource) implements ActivityFeedRow {
+}
@@ -0,0 +1,7 @@
+package com.realestatecrm.repository.projection;
+
+/**
+ * Contact details used to detect duplicate customers.
+ */
+public record CustomerContactKey(String email, String phone) {
+}
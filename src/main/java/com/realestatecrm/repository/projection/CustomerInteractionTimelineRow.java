@@ -0,0 +1,27 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.InteractionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A customer interaction as listed in the timeline: everything but the TEXT notes, which are fetched per
+ * interaction.
+ */
+public record CustomerInteractionTimelineRow(Long id,
+                                             InteractionType type,
+                                             String subject,
+                                             LocalDateTime interactionDate,
+                                             Integer durationMinutes,
+                                             Long userId,
+                                             String userFirstName,
+                                             String userLastName,
+                                             String userUsername,
+                                             Long relatedPropertyId,
+                                             String relatedPropertyTitle) {
+
+    public String userName() {
+        return User.fullName(userFirstName, userLastName, userUsername);
+    }
+}
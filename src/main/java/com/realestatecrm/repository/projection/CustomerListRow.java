@@ -0,0 +1,31 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.CustomerStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a customer shown in list views (everything but the TEXT notes), plus the agent's name.
+ */
+public record CustomerListRow(Long id,
+                              String firstName,
+                              String lastName,
+                              String phone,
+                              String email,
+                              BigDecimal budgetMin,
+                              BigDecimal budgetMax,
+                              String leadSource,
+                              CustomerStatus status,
+                              Long agentId,
+                              String agentFirstName,
+                              String agentLastName,
+                              String agentUsername,
+                              LocalDateTime createdDate,
+                              LocalDateTime updatedDate) {
+
+    public String agentName() {
+        return User.fullName(agentFirstName, agentLastName, agentUsername);
+    }
+}
@@ -0,0 +1,28 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * A customer note as listed in the timeline: the author and the first
+ * {@value com.realestatecrm.repository.CustomerNoteRepository#PREVIEW_LENGTH} characters of the content.
+ * The full text is fetched per note.
+ */
+public record CustomerNoteTimelineRow(Long id,
+                                      Long createdByUserId,
+                                      String createdByFirstName,
+                                      String createdByLastName,
+                                      String createdByUsername,
+                                      String preview,
+                                      Integer contentLength,
+                                      LocalDateTime createdDate) {
+
+    public String createdByUserName() {
+        return User.fullName(createdByFirstName, createdByLastName, createdByUsername);
+    }
+
+    public boolean truncated() {
+        return contentLength != null && preview != null && contentLength > preview.length();
+    }
+}
@@ -0,0 +1,23 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.enums.InteractionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An interaction in the activity feed, dated by when it took place rather than when it was logged.
+ */
+public record InteractionActivityRow(Long id,
+                                     LocalDateTime occurredAt,
+                                     Long userId,
+                                     String userFirstName,
+                                     String userLastName,
+                                     String userUsername,
+                                     Long customerId,
+                                     String customerFirstName,
+                                     String customerLastName,
+                                     InteractionType type,
+                                     String subject,
+                                     Long relatedPropertyId,
+                                     String relatedPropertyTitle) implements ActivityFeedRow {
+}
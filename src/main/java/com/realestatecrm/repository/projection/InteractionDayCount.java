@@ -0,0 +1,11 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.enums.InteractionType;
+
+import java.time.LocalDate;
+
+/**
+ * Number of interactions one user logged of one type on one day, read with a single GROUP BY.
+ */
+public record InteractionDayCount(Long userId, InteractionType type, LocalDate day, Long count) {
+}
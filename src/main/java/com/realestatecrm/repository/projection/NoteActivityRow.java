@@ -0,0 +1,18 @@
+package com.realestatecrm.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A note in the activity feed: who wrote it, on which customer, and the start of its content.
+ */
+public record NoteActivityRow(Long id,
+                              LocalDateTime occurredAt,
+                              Long userId,
+                              String userFirstName,
+                              String userLastName,
+                              String userUsername,
+                              Long customerId,
+                              String customerFirstName,
+                              String customerLastName,
+                              String preview) implements ActivityFeedRow {
+}
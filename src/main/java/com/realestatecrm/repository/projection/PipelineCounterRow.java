@@ -0,0 +1,15 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.enums.PipelineMetric;
+
+import java.time.LocalDate;
+
+/**
+ * One agent/day/metric/dimension counter as read by the reports.
+ */
+public record PipelineCounterRow(Long agentId,
+                                 LocalDate activityDate,
+                                 PipelineMetric metric,
+                                 String dimension,
+                                 long total) {
+}
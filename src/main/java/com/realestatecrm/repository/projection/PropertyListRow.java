@@ -0,0 +1,27 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.PropertyStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Columns of a property shown in list views. Selected with a constructor expression, so neither the
+ * property (with its TEXT description) nor its agent is hydrated as an entity.
+ */
+public record PropertyListRow(Long id,
+                              String title,
+                              BigDecimal price,
+                              PropertyStatus status,
+                              Long agentId,
+                              String agentFirstName,
+                              String agentLastName,
+                              String agentUsername,
+                              LocalDateTime createdDate,
+                              LocalDateTime updatedDate) {
+
+    public String agentName() {
+        return User.fullName(agentFirstName, agentLastName, agentUsername);
+    }
+}
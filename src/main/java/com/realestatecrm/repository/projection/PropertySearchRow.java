@@ -0,0 +1,14 @@
+package com.realestatecrm.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A search candidate: the listing id plus the columns results can be sorted by.
+ */
+public record PropertySearchRow(Long id,
+                                String title,
+                                BigDecimal price,
+                                LocalDateTime createdDate,
+                                LocalDateTime updatedDate) {
+}
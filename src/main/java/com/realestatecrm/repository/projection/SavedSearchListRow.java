@@ -0,0 +1,31 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * A saved search with the names of its customer and agent, selected without loading either entity.
+ */
+public record SavedSearchListRow(Long id,
+                                 Long customerId,
+                                 String customerFirstName,
+                                 String customerLastName,
+                                 Long agentId,
+                                 String agentFirstName,
+                                 String agentLastName,
+                                 String agentUsername,
+                                 String name,
+                                 String description,
+                                 String filtersJson,
+                                 LocalDateTime createdDate,
+                                 LocalDateTime updatedDate) {
+
+    public String customerName() {
+        return customerFirstName + " " + customerLastName;
+    }
+
+    public String agentName() {
+        return User.fullName(agentFirstName, agentLastName, agentUsername);
+    }
+}
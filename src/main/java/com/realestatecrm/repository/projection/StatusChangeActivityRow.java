@@ -0,0 +1,20 @@
+package com.realestatecrm.repository.projection;
+
+import com.realestatecrm.enums.PropertyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A property status change in the activity feed, attributed to the user who made it.
+ */
+public record StatusChangeActivityRow(Long id,
+                                      LocalDateTime occurredAt,
+                                      Long userId,
+                                      String userFirstName,
+                                      String userLastName,
+                                      String userUsername,
+                                      Long propertyId,
+                                      String propertyTitle,
+                                      PropertyStatus fromStatus,
+                                      PropertyStatus toStatus) implements ActivityFeedRow {
+}
@@ -0,0 +1,175 @@
+package com.realestatecrm.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
+import com.realestatecrm.repository.projection.AttributeValueRow;
+import com.realestatecrm.repository.projection.PropertySearchRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CPU-bound stage of the property search: filters and sorts a {@link PropertySearchSnapshot}.
+ * Works on snapshots only and never touches the database.
+ */
+@Component
+public class PropertySearchMatcher {
+
+    private static final TypeReference<List<String>> STRING_LIST_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public PropertySearchMatcher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Ids of the candidates matching every filter, in the given order.
+     */
+    public List<Long> match(PropertySearchSnapshot snapshot, List<SearchFilterDTO> filters,
+                            Comparator<PropertySearchRow> ordering) {
+        return snapshot.candidates().stream()
+                .filter(candidate -> matchesAllFilters(candidate.id(), filters, snapshot))
+                .sorted(ordering)
+                .map(PropertySearchRow::id)
+                .toList();
+    }
+
+    /**
+     * Result order for a sort specification; ties are broken by id so pages stay stable.
+     * Rejects fields a search cannot be sorted by before any data is fetched.
+     */
+    public Comparator<PropertySearchRow> ordering(Sort sort) {
+        Comparator<PropertySearchRow> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<PropertySearchRow> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(PropertySearchRow::id);
+                case "title" -> nullsLast(PropertySearchRow::title, String.CASE_INSENSITIVE_ORDER);
+                case "price" -> nullsLast(PropertySearchRow::price, Comparator.naturalOrder());
+                case "createdDate" -> nullsLast(PropertySearchRow::createdDate, Comparator.naturalOrder());
+                case "updatedDate" -> nullsLast(PropertySearchRow::updatedDate, Comparator.naturalOrder());
+                default -> throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty()
+                        + " (expected id, title, price, createdDate or updatedDate)");
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<PropertySearchRow> byId = Comparator.comparing(PropertySearchRow::id);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private static <T> Comparator<PropertySearchRow> nullsLast(Function<PropertySearchRow, T> key, Comparator<T> order) {
+        return Comparator.comparing(key, Comparator.nullsLast(order));
+    }
+
+    private boolean matchesAllFilters(Long propertyId, List<SearchFilterDTO> filters, PropertySearchSnapshot snapshot) {
+        for (SearchFilterDTO filter : filters) {
+            AttributeValueRow value = snapshot.value(propertyId, filter.getAttributeId());
+            if (value == null || !matchesFilter(value, filter)) {
+                return false; // Property doesn't have this specific attribute value
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesFilter(AttributeValueRow value, SearchFilterDTO filter) {
+        return switch (filter.getDataType()) {
+            case NUMBER -> matchesNumberFilter(value.numberValue(), filter.getMinValue(), filter.getMaxValue());
+            case DATE -> matchesDateFilter(value.dateValue(), filter.getMinDate(), filter.getMaxDate());
+            case TEXT -> matchesTextFilter(value.textValue(), filter.getTextValue());
+            case SINGLE_SELECT -> matchesSingleSelectFilter(value.textValue(), filter.getSelectedValues());
+            case MULTI_SELECT -> matchesMultiSelectFilter(value.multiSelectValue(), filter.getSelectedValues());
+            case BOOLEAN -> matchesBooleanFilter(value.booleanValue(), filter.getBooleanValue());
+        };
+    }
+
+    private boolean matchesNumberFilter(BigDecimal propertyValue, BigDecimal minValue, BigDecimal maxValue) {
+        if (propertyValue == null) return false;
+
+        if (minValue != null && propertyValue.compareTo(minValue) < 0) {
+            return false;
+        }
+
+        if (maxValue != null && propertyValue.compareTo(maxValue) > 0) {
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean matchesDateFilter(Date propertyDateValue, LocalDate minDate, LocalDate maxDate) {
+        if (propertyDateValue == null) return false;
+
+        // Convert Date to LocalDate for comparison
+        LocalDate propertyDate = propertyDateValue.toInstant()
+                .atZone(ZoneId.systemDefault())
+                .toLocalDate();
+
+        if (minDate != null && propertyDate.isBefore(minDate)) {
+            return false;
+        }
+
+        if (maxDate != null && propertyDate.isAfter(maxDate)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean matchesTextFilter(String propertyValue, String searchText) {
+        if (searchText == null || searchText.trim().isEmpty()) return true;
+        if (propertyValue == null) return false;
+
+        // Case-insensitive contains search
+        return propertyValue.toLowerCase().contains(searchText.toLowerCase());
+    }
+
+    private boolean matchesSingleSelectFilter(String propertyValue, List<String> selectedValues) {
+        if (selectedValues == null || selectedValues.isEmpty()) return true;
+        if (propertyValue == null) return false;
+
+        // Property value must match one of the selected values (OR logic)
+        return selectedValues.stream()
+                .anyMatch(value -> value.equalsIgnoreCase(propertyValue));
+    }
+
+    private boolean matchesMultiSelectFilter(String propertyMultiSelectValue, List<String> selectedValues) {
+        if (selectedValues == null || selectedValues.isEmpty()) return true;
+        if (propertyMultiSelectValue == null) return false;
+
+        // Property's multi-select value should contain at least one of the selected values
+        // The multiSelectValue is stored as a JSON array string, e.g., ["option1", "option2"]
+        try {
+            List<String> propertyValues = objectMapper.readValue(propertyMultiSelectValue, STRING_LIST_TYPE);
+
+            // Check if property has ANY of the selected values (OR logic)
+            return selectedValues.stream()
+                    .anyMatch(selectedValue -> propertyValues.stream()
+                            .anyMatch(pv -> pv.equalsIgnoreCase(selectedValue)));
+        } catch (JsonProcessingException e) {
+            // Fallback to simple string contains if JSON parsing fails
+            return selectedValues.stream()
+                    .anyMatch(value -> propertyMultiSelectValue.contains(value));
+        }
+    }
+
+    private boolean matchesBooleanFilter(Boolean propertyValue, Boolean filterValue) {
+        if (filterValue == null) return true;
+        if (propertyValue == null) return false;
+
+        return propertyValue.equals(filterValue);
+    }
+}
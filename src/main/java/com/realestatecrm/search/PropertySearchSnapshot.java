@@ -0,0 +1,40 @@
+package com.realestatecrm.search;
+
+import com.realestatecrm.repository.projection.AttributeValueRow;
+import com.realestatecrm.repository.projection.PropertySearchRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the matching stage needs, read in one short transaction: the candidate listings and,
+ * per listing, the values of the filtered attributes. Immutable and free of entities, so it can be
+ * matched after the connection has gone back to the pool.
+ *
+ * @param candidates listings in the searched status
+ * @param values     listing id -> attribute id -> value
+ */
+public record PropertySearchSnapshot(List<PropertySearchRow> candidates,
+                                     Map<Long, Map<Long, AttributeValueRow>> values) {
+
+    public PropertySearchSnapshot {
+        candidates = List.copyOf(candidates);
+        values = Map.copyOf(values);
+    }
+
+    public static PropertySearchSnapshot of(List<PropertySearchRow> candidates, List<AttributeValueRow> valueRows) {
+        Map<Long, Map<Long, AttributeValueRow>> byProperty = new HashMap<>();
+        for (AttributeValueRow row : valueRows) {
+            byProperty.computeIfAbsent(row.propertyId(), k -> new HashMap<>()).put(row.attributeId(), row);
+        }
+        Map<Long, Map<Long, AttributeValueRow>> values = new HashMap<>(byProperty.size() * 2);
+        byProperty.forEach((propertyId, attributes) -> values.put(propertyId, Map.copyOf(attributes)));
+        return new PropertySearchSnapshot(candidates, values);
+    }
+
+    public AttributeValueRow value(Long propertyId, Long attributeId) {
+        Map<Long, AttributeValueRow> attributes = values.get(propertyId);
+        return attributes == null ? null : attributes.get(attributeId);
+    }
+}
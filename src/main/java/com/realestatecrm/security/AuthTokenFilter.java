@@ -1,6 +1,8 @@
 package com.realestatecrm.security;
 
 import com.realestatecrm.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,11 +30,23 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Token validation and user lookup are timed in {@code auth.token.filter}, tagged with the outcome
+     * (none, authenticated, invalid, error); the rest of the chain is not included.
+     */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "none";
         try {
             String jwt = parseJwt(request);
+            if (jwt != null) {
+                outcome = "invalid";
+            }
             if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
                 String username = jwtUtils.getUsernameFromJwtToken(jwt);
 
@@ -42,9 +56,13 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = "authenticated";
             }
         } catch (Exception e) {
+            outcome = "error";
             logger.error("Cannot set user authentication: {}", e);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.token.filter", "outcome", outcome));
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,163 @@
+package com.realestatecrm.service;
+
+import com.realestatecrm.dto.common.CursorPage;
+import com.realestatecrm.dto.common.KeysetCursor;
+import com.realestatecrm.repository.ActivityFeedJdbcRepository;
+import com.realestatecrm.repository.projection.ActivityFeedRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Team activity feed: notes, interactions, new customers and property status changes of a set of users,
+ * newest first. Each source is read with its own keyset query (at most one page plus one row), and the
+ * sources are merged with a heap holding one head row per source. Within a source every user's rows are
+ * read with a seek on that user's index range that stops after the limit (see
+ * {@link ActivityFeedJdbcRepository}), so a page costs the same whatever the length of the team's history.
+ * The cursor carries one position per source and resumes all of them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ActivityFeedService {
+
+    public static final int MAX_FEED_PAGE_SIZE = 100;
+
+    // Position ahead of every row: a source that has not been read yet starts from here
+    private static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    // Cursor parts are separated by '.' and a source with nothing left is marked '~'; neither is base64url
+    private static final String SEPARATOR = ".";
+    private static final String EXHAUSTED = "~";
+
+    private static final Comparator<Head> NEWEST_FIRST = Comparator
+            .comparing((Head head) -> head.row().occurredAt(), Comparator.reverseOrder())
+            .thenComparing(head -> head.row().id(), Comparator.reverseOrder())
+            .thenComparingInt(Head::source);
+
+    private final List<FeedSource> sources;
+
+    @Autowired
+    public ActivityFeedService(ActivityFeedJdbcRepository activityFeedRepository) {
+        // The order is part of the cursor format: one position per source, in this order
+        this.sources = List.of(
+                activityFeedRepository::findNotesBefore,
+                activityFeedRepository::findInteractionsBefore,
+                activityFeedRepository::findCustomersBefore,
+                activityFeedRepository::findStatusChangesBefore);
+    }
+
+    /**
+     * One page of the feed for the given users. Pass the returned {@code nextCursor} back as {@code cursor}
+     * for the following page; it is null once every source is exhausted.
+     */
+    public CursorPage<ActivityFeedRow> getFeed(Collection<Long> userIds, String cursor, int size) {
+        if (size < 1 || size > MAX_FEED_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_FEED_PAGE_SIZE);
+        }
+        List<KeysetCursor> positions = decodeCursor(cursor);
+        if (userIds.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        // One row more than the page tells whether a source still has rows after the page
+        int limit = size + 1;
+        List<List<? extends ActivityFeedRow>> fetched = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            KeysetCursor position = positions.get(i);
+            fetched.add(position == null ? List.of()
+                    : sources.get(i).findActivityBefore(userIds, position.timestamp(), position.id(), limit));
+        }
+
+        // k-way merge: the heap holds the next unread row of each source
+        PriorityQueue<Head> heads = new PriorityQueue<>(sources.size(), NEWEST_FIRST);
+        for (int i = 0; i < fetched.size(); i++) {
+            if (!fetched.get(i).isEmpty()) {
+                heads.add(new Head(i, fetched.get(i).get(0)));
+            }
+        }
+        int[] consumed = new int[sources.size()];
+        List<ActivityFeedRow> items = new ArrayList<>(size);
+        while (items.size() < size && !heads.isEmpty()) {
+            Head head = heads.poll();
+            items.add(head.row());
+            List<? extends ActivityFeedRow> rows = fetched.get(head.source());
+            int next = ++consumed[head.source()];
+            if (next < rows.size()) {
+                heads.add(new Head(head.source(), rows.get(next)));
+            }
+        }
+
+        if (heads.isEmpty()) {
+            // Every fetched row made it into the page, so no source had more than a page left
+            return new CursorPage<>(items, null);
+        }
+        List<KeysetCursor> nextPositions = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            List<? extends ActivityFeedRow> rows = fetched.get(i);
+            if (consumed[i] == rows.size()) {
+                // Fewer rows than the limit came back and all of them were used
+                nextPositions.add(null);
+            } else if (consumed[i] > 0) {
+                ActivityFeedRow last = rows.get(consumed[i] - 1);
+                nextPositions.add(new KeysetCursor(last.occurredAt(), last.id()));
+            } else {
+                nextPositions.add(positions.get(i));
+            }
+        }
+        return new CursorPage<>(items, encodeCursor(nextPositions));
+    }
+
+    // One part per source: empty (not read yet), EXHAUSTED, or the source's KeysetCursor
+    private List<KeysetCursor> decodeCursor(String cursor) {
+        List<KeysetCursor> positions = new ArrayList<>(sources.size());
+        if (cursor == null || cursor.isBlank()) {
+            sources.forEach(source -> positions.add(START));
+            return positions;
+        }
+        String[] parts = cursor.trim().split("\\" + SEPARATOR, -1);
+        if (parts.length != sources.size()) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        for (String part : parts) {
+            if (part.equals(EXHAUSTED)) {
+                positions.add(null);
+            } else if (part.isEmpty()) {
+                positions.add(START);
+            } else {
+                positions.add(KeysetCursor.decode(part));
+            }
+        }
+        return positions;
+    }
+
+    private static String encodeCursor(List<KeysetCursor> positions) {
+        List<String> parts = new ArrayList<>(positions.size());
+        for (KeysetCursor position : positions) {
+            if (position == null) {
+                parts.add(EXHAUSTED);
+            } else if (position.equals(START)) {
+                parts.add("");
+            } else {
+                parts.add(position.encode());
+            }
+        }
+        return String.join(SEPARATOR, parts);
+    }
+
+    // A keyset query over one source, newest first, strictly after the given position
+    @FunctionalInterface
+    private interface FeedSource {
+        List<? extends ActivityFeedRow> findActivityBefore(Collection<Long> userIds, LocalDateTime beforeDate,
+                                                           Long beforeId, int limit);
+    }
+
+    private record Head(int source, ActivityFeedRow row) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.realestatecrm.service;
+
+import com.realestatecrm.repository.CustomerRepository;
+import com.realestatecrm.repository.PropertyRepository;
+import com.realestatecrm.repository.projection.AgentStatusCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-agent/per-status row counters for properties and customers, so paged list endpoints can
+ * report a total without running {@code COUNT(*)} on every request.
+ * The counters are seeded with one GROUP BY per table, adjusted after each committed create,
+ * delete or status change, and re-seeded periodically so writes that bypass the services
+ * (manual SQL, other instances) only skew the totals until the next refresh.
+ */
+@Service
+public class ApproximateCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApproximateCountService.class);
+
+    public enum Counted {
+        PROPERTY,
+        CUSTOMER
+    }
+
+    private record Key(Counted counted, Long agentId, Enum<?> status) {
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Serialises the first load; a lock rather than synchronized so virtual threads waiting on the GROUP BYs unmount
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Map<Key, LongAdder> counters;
+
+    @Autowired
+    public ApproximateCountService(PropertyRepository propertyRepository,
+                                   CustomerRepository customerRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.propertyRepository = propertyRepository;
+        this.customerRepository = customerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Approximate number of rows owned by the given agents (all agents when {@code agentIds} is null)
+     * with the given status (any status when {@code status} is null).
+     */
+    public long count(Counted counted, Collection<Long> agentIds, Enum<?> status) {
+        Set<Long> agents = agentIds == null ? null : new HashSet<>(agentIds);
+        long total = 0;
+        for (Map.Entry<Key, LongAdder> entry : counters().entrySet()) {
+            Key key = entry.getKey();
+            if (key.counted() == counted
+                    && (agents == null || agents.contains(key.agentId()))
+                    && (status == null || status == key.status())) {
+                total += entry.getValue().sum();
+            }
+        }
+        return Math.max(total, 0);
+    }
+
+    /**
+     * Turn a slice into a page carrying an approximate total. The total is clamped to what the slice
+     * itself proves: at least one more row when it has a next page, exactly the rows seen when it has none.
+     */
+    public static <T> Page<T> withApproximateTotal(Slice<T> slice, long approximateTotal) {
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        long total = slice.hasNext() ? Math.max(approximateTotal, seen + 1) : seen;
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    public void recordCreated(Counted counted, Long agentId, Enum<?> status) {
+        adjust(counted, agentId, status, 1);
+    }
+
+    public void recordDeleted(Counted counted, Long agentId, Enum<?> status) {
+        adjust(counted, agentId, status, -1);
+    }
+
+    public void recordStatusChange(Counted counted, Long agentId, Enum<?> from, Enum<?> to) {
+        if (from != to) {
+            adjust(counted, agentId, from, -1);
+            adjust(counted, agentId, to, 1);
+        }
+    }
+
+    /**
+     * Inside a transaction the delta is applied after commit, so a rollback never skews the counters.
+     */
+    public void adjust(Counted counted, Long agentId, Enum<?> status, long delta) {
+        if (agentId == null || status == null || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(counted, agentId, status, delta);
+                }
+            });
+        } else {
+            apply(counted, agentId, status, delta);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${counts.refresh-interval:300000}",
+               initialDelayString = "${counts.refresh-interval:300000}")
+    public void refresh() {
+        counters = readOnlyTransaction.execute(status -> load());
+    }
+
+    private void apply(Counted counted, Long agentId, Enum<?> status, long delta) {
+        Map<Key, LongAdder> current = counters;
+        // Not seeded yet: the first load reads the committed state, delta included
+        if (current != null) {
+            current.computeIfAbsent(new Key(counted, agentId, status), k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private Map<Key, LongAdder> counters() {
+        Map<Key, LongAdder> current = counters;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                current = counters;
+                if (current == null) {
+                    current = readOnlyTransaction.execute(status -> load());
+                    counters = current;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Map<Key, LongAdder> load() {
+        Map<Key, LongAdder> loaded = new ConcurrentHashMap<>();
+        put(loaded, Counted.PROPERTY, propertyRepository.countByAgentAndStatus());
+        put(loaded, Counted.CUSTOMER, customerRepository.countByAgentAndStatus());
+        logger.debug("Loaded {} row counters", loaded.size());
+        return loaded;
+    }
+
+    private static void put(Map<Key, LongAdder> target, Counted counted, List<AgentStatusCount> rows) {
+        for (AgentStatusCount row : rows) {
+            LongAdder adder = new LongAdder();
+            adder.add(row.count());
+            target.put(new Key(counted, row.agentId(), row.status()), adder);
+        }
+    }
+}
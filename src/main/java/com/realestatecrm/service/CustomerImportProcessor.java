@@ -0,0 +1,369 @@
+package com.realestatecrm.service;
+
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.enums.UserStatus;
+import com.realestatecrm.importing.FingerprintSet;
+import com.realestatecrm.importing.ImportProcessor;
+import com.realestatecrm.importing.ImportRecord;
+import com.realestatecrm.importing.ImportReject;
+import com.realestatecrm.reporting.PipelineEvent;
+import com.realestatecrm.repository.CustomerRepository;
+import com.realestatecrm.repository.UserRepository;
+import com.realestatecrm.repository.projection.CustomerContactKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Imports customers (leads) without a per-row duplicate lookup.
+ * <p>
+ * The email and phone of every existing customer are streamed once into a {@link FingerprintSet};
+ * each record is then checked in memory against those keys and against the records already
+ * accepted from the same file. Emails are normalized to lower case, phones to their digits.
+ * Right before each chunk is inserted its emails are probed with one case-insensitive {@code IN}
+ * query, which catches customers created through the API while the import is running.
+ * <p>
+ * Records without an {@code agent} column value are assigned round-robin to the active agents the
+ * importing user can access.
+ */
+@Component
+public class CustomerImportProcessor implements ImportProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerImportProcessor.class);
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    // Column names with '_', '-' and spaces removed, so first_name, firstName and "First Name" all match
+    private static final Set<String> CUSTOMER_COLUMNS = Set.of("firstname", "lastname", "phone", "email",
+            "budgetmin", "budgetmax", "notes", "leadsource", "status", "agent");
+
+    private final CustomerRepository customerRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final ApproximateCountService approximateCountService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public CustomerImportProcessor(CustomerRepository customerRepository,
+                                   UserRepository userRepository,
+                                   UserService userService,
+                                   ApproximateCountService approximateCountService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager) {
+        this.customerRepository = customerRepository;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.approximateCountService = approximateCountService;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public ImportJobType getType() {
+        return ImportJobType.CUSTOMER;
+    }
+
+    @Override
+    public Run start(ImportJob job, List<String> columns) {
+        List<String> unknown = columns.stream()
+                .filter(column -> !CUSTOMER_COLUMNS.contains(columnKey(column)))
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown column(s): " + String.join(", ", unknown));
+        }
+
+        Long ownerId = job.getCreatedBy().getId();
+        Map<String, Long> agentIds = new HashMap<>();
+        List<Long> roundRobinAgents = new ArrayList<>();
+        for (User user : userService.getAccessibleUsers(ownerId)) {
+            agentIds.put(user.getUsername().toLowerCase(Locale.ROOT), user.getId());
+            if (user.getRole() == Role.AGENT && user.getStatus() == UserStatus.ACTIVE) {
+                roundRobinAgents.add(user.getId());
+            }
+        }
+        if (roundRobinAgents.isEmpty()) {
+            roundRobinAgents.add(ownerId);
+        }
+        // Sorted so resumed runs keep assigning the same agent to the same record
+        roundRobinAgents.sort(null);
+
+        return new CustomerImportRun(ownerId, agentIds, roundRobinAgents, loadExistingKeys());
+    }
+
+    private FingerprintSet loadExistingKeys() {
+        long started = System.nanoTime();
+        FingerprintSet keys = new FingerprintSet((int) Math.min(Integer.MAX_VALUE / 4, customerRepository.count() * 2));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CustomerContactKey> contacts = customerRepository.streamContactKeys()) {
+                contacts.forEach(contact -> {
+                    String email = normalizeEmail(contact.email());
+                    if (email != null) {
+                        keys.add(emailKey(email));
+                    }
+                    String phone = normalizePhone(contact.phone());
+                    if (phone != null) {
+                        keys.add(phoneKey(phone));
+                    }
+                });
+            }
+        });
+        logger.info("Loaded {} existing customer keys in {} ms", keys.size(), (System.nanoTime() - started) / 1_000_000);
+        return keys;
+    }
+
+    private class CustomerImportRun implements Run {
+
+        private final Long ownerId;
+        private final Map<String, Long> agentIdsByUsername;
+        private final List<Long> roundRobinAgents;
+        private final FingerprintSet existingKeys;
+        private final FingerprintSet fileKeys = new FingerprintSet();
+
+        CustomerImportRun(Long ownerId, Map<String, Long> agentIdsByUsername, List<Long> roundRobinAgents,
+                          FingerprintSet existingKeys) {
+            this.ownerId = ownerId;
+            this.agentIdsByUsername = agentIdsByUsername;
+            this.roundRobinAgents = roundRobinAgents;
+            this.existingKeys = existingKeys;
+        }
+
+        @Override
+        public ChunkResult importChunk(List<ImportRecord> records, List<ImportReject> rejects) {
+            List<Customer> customers = new ArrayList<>(records.size());
+            List<Long> recordNumbers = new ArrayList<>(records.size());
+            int duplicates = 0;
+
+            for (ImportRecord record : records) {
+                if (record.isMalformed()) {
+                    rejects.add(new ImportReject(record.number(), record.error()));
+                    continue;
+                }
+                Customer customer;
+                try {
+                    customer = toCustomer(record);
+                } catch (IllegalArgumentException e) {
+                    rejects.add(new ImportReject(record.number(), e.getMessage()));
+                    continue;
+                }
+
+                String duplicate = findDuplicate(customer);
+                if (duplicate != null) {
+                    rejects.add(new ImportReject(record.number(), duplicate));
+                    duplicates++;
+                    continue;
+                }
+                remember(customer);
+                customers.add(customer);
+                recordNumbers.add(record.number());
+            }
+
+            // Customers created through the API since the keys were loaded
+            Set<String> emails = new HashSet<>();
+            customers.forEach(customer -> {
+                if (customer.getEmail() != null) {
+                    emails.add(customer.getEmail());
+                }
+            });
+            if (!emails.isEmpty()) {
+                Set<String> taken = new HashSet<>(customerRepository.findExistingEmails(emails));
+                for (int i = customers.size() - 1; i >= 0; i--) {
+                    if (taken.contains(customers.get(i).getEmail())) {
+                        rejects.add(new ImportReject(recordNumbers.get(i), "Duplicate of an existing customer (email)"));
+                        customers.remove(i);
+                        duplicates++;
+                    }
+                }
+            }
+
+            if (!customers.isEmpty()) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(customers.size());
+                customerRepository.saveAll(customers);
+                LocalDate today = LocalDate.now();
+                for (Customer customer : customers) {
+                    approximateCountService.recordCreated(ApproximateCountService.Counted.CUSTOMER,
+                            customer.getAgent().getId(), customer.getStatus());
+                    eventPublisher.publishEvent(new PipelineEvent.CustomerStatusChanged(
+                            customer.getAgent().getId(), null, customer.getStatus(), today));
+                }
+            }
+            return new ChunkResult(customers.size(), duplicates);
+        }
+
+        private String findDuplicate(Customer customer) {
+            long phone = phoneKey(normalizePhone(customer.getPhone()));
+            Long email = customer.getEmail() != null ? emailKey(customer.getEmail()) : null;
+
+            if (email != null && existingKeys.contains(email)) {
+                return "Duplicate of an existing customer (email)";
+            }
+            if (existingKeys.contains(phone)) {
+                return "Duplicate of an existing customer (phone)";
+            }
+            if (email != null && fileKeys.contains(email)) {
+                return "Duplicate of an earlier record (email)";
+            }
+            if (fileKeys.contains(phone)) {
+                return "Duplicate of an earlier record (phone)";
+            }
+            return null;
+        }
+
+        private void remember(Customer customer) {
+            fileKeys.add(phoneKey(normalizePhone(customer.getPhone())));
+            if (customer.getEmail() != null) {
+                fileKeys.add(emailKey(customer.getEmail()));
+            }
+        }
+
+        private Customer toCustomer(ImportRecord record) {
+            Map<String, String> fields = new HashMap<>();
+            record.fields().forEach((key, value) -> {
+                String column = columnKey(key);
+                if (!CUSTOMER_COLUMNS.contains(column)) {
+                    throw new IllegalArgumentException("Unknown field: " + key);
+                }
+                fields.put(column, text(value));
+            });
+
+            String firstName = required(fields, "firstname", "First name");
+            String lastName = required(fields, "lastname", "Last name");
+            String phone = required(fields, "phone", "Phone");
+            if (normalizePhone(phone) == null) {
+                throw new IllegalArgumentException("Invalid phone: " + phone);
+            }
+
+            Customer customer = new Customer(firstName, lastName, phone,
+                    userRepository.getReferenceById(agentId(fields.get("agent"), record.number())));
+
+            String email = normalizeEmail(fields.get("email"));
+            if (email != null && !EMAIL.matcher(email).matches()) {
+                throw new IllegalArgumentException("Invalid email: " + fields.get("email"));
+            }
+            customer.setEmail(email);
+
+            customer.setBudgetMin(decimal(fields.get("budgetmin"), "budget_min"));
+            customer.setBudgetMax(decimal(fields.get("budgetmax"), "budget_max"));
+            if (customer.getBudgetMin() != null && customer.getBudgetMax() != null &&
+                    customer.getBudgetMin().compareTo(customer.getBudgetMax()) > 0) {
+                throw new IllegalArgumentException("Minimum budget cannot be greater than maximum budget");
+            }
+
+            customer.setNotes(fields.get("notes"));
+            customer.setLeadSource(fields.get("leadsource"));
+            customer.setStatus(status(fields.get("status")));
+            return customer;
+        }
+
+        private Long agentId(String username, long recordNumber) {
+            if (username == null) {
+                return roundRobinAgents.get((int) (recordNumber % roundRobinAgents.size()));
+            }
+            Long agentId = agentIdsByUsername.get(username.toLowerCase(Locale.ROOT));
+            if (agentId == null) {
+                throw new IllegalArgumentException("Agent not found or not accessible: " + username);
+            }
+            return agentId;
+        }
+    }
+
+    private static String columnKey(String column) {
+        return column.toLowerCase(Locale.ROOT).replace("_", "").replace("-", "").replace(" ", "");
+    }
+
+    private static long emailKey(String normalizedEmail) {
+        return FingerprintSet.fingerprint("e:" + normalizedEmail);
+    }
+
+    private static long phoneKey(String normalizedPhone) {
+        return FingerprintSet.fingerprint("p:" + normalizedPhone);
+    }
+
+    private static String normalizeEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Digits only, so "+1 (555) 010-2000" and "15550102000" are the same key
+    private static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.isEmpty() ? null : digits.toString();
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static String required(Map<String, String> fields, String column, String label) {
+        String value = fields.get(column);
+        if (value == null) {
+            throw new IllegalArgumentException(label + " is required");
+        }
+        return value;
+    }
+
+    private static BigDecimal decimal(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static CustomerStatus status(String value) {
+        if (value == null) {
+            return CustomerStatus.LEAD;
+        }
+        try {
+            return CustomerStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + value);
+        }
+    }
+}
@@ -1,38 +1,61 @@
 package com.realestatecrm.service;
 
+import com.realestatecrm.config.MetricsConfig;
+import com.realestatecrm.dto.common.CursorPage;
+import com.realestatecrm.dto.common.KeysetCursor;
 import com.realestatecrm.entity.*;
+import com.realestatecrm.enums.CountMode;
 import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.reporting.PipelineEvent;
 import com.realestatecrm.repository.*;
+import com.realestatecrm.repository.projection.CustomerInteractionTimelineRow;
+import com.realestatecrm.repository.projection.InteractionDayCount;
+import com.realestatecrm.repository.projection.CustomerListRow;
+import com.realestatecrm.repository.projection.CustomerNoteTimelineRow;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class CustomerService {
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
     private final CustomerRepository customerRepository;
     private final PropertyRepository propertyRepository;
     private final CustomerNoteRepository customerNoteRepository;
     private final CustomerInteractionRepository customerInteractionRepository;
+    private final ApproximateCountService approximateCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CustomerService(CustomerRepository customerRepository,
                            PropertyRepository propertyRepository,
                            CustomerNoteRepository customerNoteRepository,
-                           CustomerInteractionRepository customerInteractionRepository) {
+                           CustomerInteractionRepository customerInteractionRepository,
+                           ApproximateCountService approximateCountService,
+                           ApplicationEventPublisher eventPublisher) {
         this.customerRepository = customerRepository;
         this.propertyRepository = propertyRepository;
         this.customerNoteRepository = customerNoteRepository;
         this.customerInteractionRepository = customerInteractionRepository;
+        this.approximateCountService = approximateCountService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -47,6 +70,49 @@ public class CustomerService {
         return customerRepository.findAllWithAgent(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Page<CustomerListRow> getCustomerListRows(CustomerStatus status, Pageable pageable) {
+        return status == null
+                ? customerRepository.findAllListRows(pageable)
+                : customerRepository.findListRowsByStatus(status, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CustomerListRow> getCustomerListRowsByAgents(List<Long> agentIds, CustomerStatus status, Pageable pageable) {
+        return status == null
+                ? customerRepository.findListRowsByAgentIdIn(agentIds, pageable)
+                : customerRepository.findListRowsByAgentIdInAndStatus(agentIds, status, pageable);
+    }
+
+    /**
+     * List rows for the given agents (all agents when {@code agentIds} is null). EXACT runs the COUNT(*),
+     * APPROX takes the total from the in-memory counters and NONE returns a slice without any total.
+     */
+    @Transactional(readOnly = true)
+    public Slice<CustomerListRow> getCustomerListRows(List<Long> agentIds, CustomerStatus status,
+                                                      CountMode countMode, Pageable pageable) {
+        if (countMode == CountMode.EXACT) {
+            return agentIds == null
+                    ? getCustomerListRows(status, pageable)
+                    : getCustomerListRowsByAgents(agentIds, status, pageable);
+        }
+        Slice<CustomerListRow> slice;
+        if (agentIds == null) {
+            slice = status == null
+                    ? customerRepository.sliceAllListRows(pageable)
+                    : customerRepository.sliceListRowsByStatus(status, pageable);
+        } else {
+            slice = status == null
+                    ? customerRepository.sliceListRowsByAgentIdIn(agentIds, pageable)
+                    : customerRepository.sliceListRowsByAgentIdInAndStatus(agentIds, status, pageable);
+        }
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+        return ApproximateCountService.withApproximateTotal(slice,
+                approximateCountService.count(ApproximateCountService.Counted.CUSTOMER, agentIds, status));
+    }
+
     @Transactional(readOnly = true)
     public Optional<Customer> getCustomerById(Long id) {
         // LAZY FIX: Use findByIdWithAgent to eagerly fetch agent relationship
@@ -85,7 +151,12 @@ public class CustomerService {
 
     public Customer createCustomer(Customer customer) {
         validateCustomer(customer);
-        return customerRepository.save(customer);
+        Customer saved = customerRepository.save(customer);
+        approximateCountService.recordCreated(ApproximateCountService.Counted.CUSTOMER,
+                saved.getAgent().getId(), saved.getStatus());
+        eventPublisher.publishEvent(new PipelineEvent.CustomerStatusChanged(
+                saved.getAgent().getId(), null, saved.getStatus(), LocalDate.now()));
+        return saved;
     }
 
     public Customer updateCustomer(Long id, Customer updatedCustomer) {
@@ -103,22 +174,41 @@ public class CustomerService {
         existingCustomer.setBudgetMax(updatedCustomer.getBudgetMax());
         existingCustomer.setNotes(updatedCustomer.getNotes());
         existingCustomer.setLeadSource(updatedCustomer.getLeadSource());
+        approximateCountService.recordStatusChange(ApproximateCountService.Counted.CUSTOMER,
+                existingCustomer.getAgent().getId(), existingCustomer.getStatus(), updatedCustomer.getStatus());
+        eventPublisher.publishEvent(new PipelineEvent.CustomerStatusChanged(existingCustomer.getAgent().getId(),
+                existingCustomer.getStatus(), updatedCustomer.getStatus(), LocalDate.now()));
         existingCustomer.setStatus(updatedCustomer.getStatus());
 
         return customerRepository.save(existingCustomer);
     }
 
+    /**
+     * Delete a customer with its notes and interactions. The interactions are removed in bulk, so their
+     * pipeline counters are decremented in bulk first, one event per user, type and day.
+     */
     public void deleteCustomer(Long id) {
-        if (!customerRepository.existsById(id)) {
-            throw new EntityNotFoundException("Customer not found with id: " + id);
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Customer not found with id: " + id));
+        for (InteractionDayCount removed : customerInteractionRepository.countByUserTypeAndDay(id)) {
+            eventPublisher.publishEvent(new PipelineEvent.InteractionsRemoved(
+                    removed.userId(), removed.type(), removed.day(), removed.count()));
         }
-        customerRepository.deleteById(id);
+        customerInteractionRepository.deleteByCustomerId(id);
+        customerNoteRepository.deleteByCustomerId(id);
+        customerRepository.delete(customer);
+        approximateCountService.recordDeleted(ApproximateCountService.Counted.CUSTOMER,
+                customer.getAgent().getId(), customer.getStatus());
     }
 
     public Customer updateCustomerStatus(Long id, CustomerStatus status) {
         // LAZY FIX: Use findByIdWithAgent to eagerly fetch agent relationship
         Customer customer = customerRepository.findByIdWithAgent(id)
                 .orElseThrow(() -> new EntityNotFoundException("Customer not found with id: " + id));
+        approximateCountService.recordStatusChange(ApproximateCountService.Counted.CUSTOMER,
+                customer.getAgent().getId(), customer.getStatus(), status);
+        eventPublisher.publishEvent(new PipelineEvent.CustomerStatusChanged(
+                customer.getAgent().getId(), customer.getStatus(), status, LocalDate.now()));
         customer.setStatus(status);
         return customerRepository.save(customer);
     }
@@ -201,6 +291,35 @@ public class CustomerService {
         return customerNoteRepository.findByCustomerId(customerId);
     }
 
+    /**
+     * The customer's newest notes, at most {@code limit} of them. Does not check that the customer exists.
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerNote> getLatestCustomerNotes(Long customerId, int limit) {
+        return customerNoteRepository.findLatestByCustomerId(customerId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * One page of the customer's notes, newest first, as lightweight rows (author and a content preview).
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CustomerNoteTimelineRow> getCustomerNoteTimeline(Long customerId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable limit = timelineLimit(customerId, size);
+        List<CustomerNoteTimelineRow> rows = after == null
+                ? customerNoteRepository.findTimeline(customerId, limit)
+                : customerNoteRepository.findTimelineBefore(customerId, after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, row -> new KeysetCursor(row.createdDate(), row.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerNote getCustomerNote(Long customerId, Long noteId) {
+        return customerNoteRepository.findByIdAndCustomerId(noteId, customerId)
+                .orElseThrow(() -> new EntityNotFoundException("Customer note not found with id: " + noteId));
+    }
+
     @Transactional(readOnly = true)
     public Optional<CustomerNote> getCustomerNoteById(Long noteId) {
         return customerNoteRepository.findById(noteId);
@@ -228,7 +347,10 @@ public class CustomerService {
             interaction.setRelatedProperty(property);
         }
 
-        return customerInteractionRepository.save(interaction);
+        CustomerInteraction saved = customerInteractionRepository.save(interaction);
+        eventPublisher.publishEvent(new PipelineEvent.InteractionLogged(
+                user.getId(), saved.getType(), saved.getInteractionDate().toLocalDate()));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -239,6 +361,46 @@ public class CustomerService {
         return customerInteractionRepository.findByCustomerId(customerId);
     }
 
+    /**
+     * The customer's most recent interactions, at most {@code limit} of them. Does not check that the customer exists.
+     */
+    @Transactional(readOnly = true)
+    public List<CustomerInteraction> getLatestCustomerInteractions(Long customerId, int limit) {
+        return customerInteractionRepository.findLatestByCustomerId(customerId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * One page of the customer's interactions, most recent first, without their TEXT notes.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CustomerInteractionTimelineRow> getCustomerInteractionTimeline(Long customerId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Pageable limit = timelineLimit(customerId, size);
+        List<CustomerInteractionTimelineRow> rows = after == null
+                ? customerInteractionRepository.findTimeline(customerId, limit)
+                : customerInteractionRepository.findTimelineBefore(customerId, after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, row -> new KeysetCursor(row.interactionDate(), row.id()));
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerInteraction getCustomerInteraction(Long customerId, Long interactionId) {
+        return customerInteractionRepository.findByIdAndCustomerId(interactionId, customerId)
+                .orElseThrow(() -> new EntityNotFoundException("Customer interaction not found with id: " + interactionId));
+    }
+
+    // Validates a timeline request; one row more than the page size tells whether another page follows
+    private Pageable timelineLimit(Long customerId, int size) {
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_TIMELINE_PAGE_SIZE);
+        }
+        if (!customerRepository.existsById(customerId)) {
+            throw new EntityNotFoundException("Customer not found with id: " + customerId);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
     @Transactional(readOnly = true)
     public Optional<CustomerInteraction> getCustomerInteractionById(Long interactionId) {
         return customerInteractionRepository.findById(interactionId);
@@ -248,6 +410,16 @@ public class CustomerService {
         CustomerInteraction existingInteraction = customerInteractionRepository.findById(interactionId)
                 .orElseThrow(() -> new EntityNotFoundException("Customer interaction not found with id: " + interactionId));
 
+        // Moving an interaction to another day or type moves it between counters
+        if (existingInteraction.getType() != updatedInteraction.getType()
+                || !existingInteraction.getInteractionDate().toLocalDate().equals(updatedInteraction.getInteractionDate().toLocalDate())) {
+            Long userId = existingInteraction.getUser().getId();
+            eventPublisher.publishEvent(new PipelineEvent.InteractionRemoved(
+                    userId, existingInteraction.getType(), existingInteraction.getInteractionDate().toLocalDate()));
+            eventPublisher.publishEvent(new PipelineEvent.InteractionLogged(
+                    userId, updatedInteraction.getType(), updatedInteraction.getInteractionDate().toLocalDate()));
+        }
+
         existingInteraction.setType(updatedInteraction.getType());
         existingInteraction.setSubject(updatedInteraction.getSubject());
         existingInteraction.setNotes(updatedInteraction.getNotes());
@@ -264,9 +436,10 @@ public class CustomerService {
     }
 
     public void deleteCustomerInteraction(Long interactionId) {
-        if (!customerInteractionRepository.existsById(interactionId)) {
-            throw new EntityNotFoundException("Customer interaction not found with id: " + interactionId);
-        }
-        customerInteractionRepository.deleteById(interactionId);
+        CustomerInteraction interaction = customerInteractionRepository.findById(interactionId)
+                .orElseThrow(() -> new EntityNotFoundException("Customer interaction not found with id: " + interactionId));
+        customerInteractionRepository.delete(interaction);
+        eventPublisher.publishEvent(new PipelineEvent.InteractionRemoved(interaction.getUser().getId(),
+                interaction.getType(), interaction.getInteractionDate().toLocalDate()));
     }
 }
\ No newline at end of file
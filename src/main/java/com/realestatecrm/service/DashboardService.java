@@ -0,0 +1,128 @@
+package com.realestatecrm.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestatecrm.dto.dashboard.response.AgentDashboardResponse;
+import com.realestatecrm.dto.dashboard.response.DashboardResponse;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.CustomerRepository;
+import com.realestatecrm.repository.PropertyRepository;
+import com.realestatecrm.repository.projection.AgentDashboardCount;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Broker dashboard: property and customer counts per agent and status for the agents a user can see.
+ * The whole dashboard comes from two {@code GROUP BY agent, status} queries (one per table) that also
+ * resolve the user's team and the agents' names, instead of a user lookup, a hierarchy lookup and a query
+ * per agent/status pair. The assembled dashboard is cached per user for a short time, so repeated loads
+ * within the TTL run no query at all.
+ */
+@Service
+public class DashboardService {
+
+    private final PropertyRepository propertyRepository;
+    private final CustomerRepository customerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, DashboardResponse> dashboards;
+
+    @Autowired
+    public DashboardService(PropertyRepository propertyRepository,
+                            CustomerRepository customerRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${dashboard.cache-ttl:30s}") Duration cacheTtl,
+                            @Value("${dashboard.cache-size:1000}") long cacheSize) {
+        this.propertyRepository = propertyRepository;
+        this.customerRepository = customerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, dashboards, "dashboard");
+    }
+
+    /**
+     * Dashboard of the user with this username; {@code admin} users see every agent.
+     */
+    public DashboardResponse getDashboard(String username, boolean admin) {
+        return dashboards.get(username, key -> readOnlyTransaction.execute(status -> load(username, admin)));
+    }
+
+    private DashboardResponse load(String username, boolean admin) {
+        List<AgentDashboardCount> propertyCounts = propertyRepository.countDashboardByAgentAndStatus(username, admin);
+        List<AgentDashboardCount> customerCounts = customerRepository.countDashboardByAgentAndStatus(username, admin);
+
+        // Both queries return every visible agent at least once, so either one names them all
+        Map<Long, String> agentNames = new HashMap<>();
+        for (AgentDashboardCount count : propertyCounts) {
+            agentNames.putIfAbsent(count.agentId(),
+                    User.fullName(count.firstName(), count.lastName(), count.username()));
+        }
+        Map<Long, Map<PropertyStatus, Long>> propertiesByAgent = byAgent(propertyCounts, PropertyStatus.class);
+        Map<Long, Map<CustomerStatus, Long>> customersByAgent = byAgent(customerCounts, CustomerStatus.class);
+
+        List<AgentDashboardResponse> rows = agentNames.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(String.CASE_INSENSITIVE_ORDER))
+                .map(agent -> new AgentDashboardResponse(agent.getKey(), agent.getValue(),
+                        propertiesByAgent.getOrDefault(agent.getKey(), zeroCounts(PropertyStatus.class)),
+                        customersByAgent.getOrDefault(agent.getKey(), zeroCounts(CustomerStatus.class))))
+                .toList();
+
+        return new DashboardResponse(LocalDateTime.now(),
+                totals(propertyCounts, PropertyStatus.class),
+                totals(customerCounts, CustomerStatus.class),
+                rows);
+    }
+
+    private static <E extends Enum<E>> Map<Long, Map<E, Long>> byAgent(List<AgentDashboardCount> counts, Class<E> statusType) {
+        Map<Long, Map<E, Long>> byAgent = new HashMap<>();
+        for (AgentDashboardCount count : counts) {
+            Map<E, Long> perStatus = byAgent.computeIfAbsent(count.agentId(),
+                    agentId -> new EnumMap<>(zeroCounts(statusType)));
+            // A null status is the outer join's row for an agent with nothing in this table
+            if (count.status() != null) {
+                perStatus.merge(statusType.cast(count.status()), count.count(), Long::sum);
+            }
+        }
+        // Cached and shared between requests
+        byAgent.replaceAll((agentId, perStatus) -> Collections.unmodifiableMap(perStatus));
+        return byAgent;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> totals(List<AgentDashboardCount> counts, Class<E> statusType) {
+        Map<E, Long> totals = new EnumMap<>(zeroCounts(statusType));
+        for (AgentDashboardCount count : counts) {
+            if (count.status() != null) {
+                totals.merge(statusType.cast(count.status()), count.count(), Long::sum);
+            }
+        }
+        return Collections.unmodifiableMap(totals);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> statusType) {
+        Map<E, Long> zero = new EnumMap<>(statusType);
+        for (E status : statusType.getEnumConstants()) {
+            zero.put(status, 0L);
+        }
+        return zero;
+    }
+}
@@ -0,0 +1,345 @@
+package com.realestatecrm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.enums.ImportJobStatus;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.importing.ImportProcessor;
+import com.realestatecrm.importing.ImportRecord;
+import com.realestatecrm.importing.ImportRecordReader;
+import com.realestatecrm.importing.ImportReject;
+import com.realestatecrm.repository.ImportJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Executes import jobs in the background. The file is streamed record by record and committed in
+ * chunks: each chunk's rows and the job checkpoint are written in one transaction, so a failed or
+ * interrupted job resumes right after its last committed chunk. Rejected records are appended to the
+ * job's error file before their chunk commits, so a committed checkpoint never skips reject lines; lines
+ * of a chunk that did not commit are trimmed from the file when the job resumes and written again.
+ * <p>
+ * Every job is leased by the instance that queued it ({@link #claim}) and renewed by that instance's
+ * heartbeat ({@link #renewLeases}). A runner only writes progress and the final status while it still
+ * holds the lease, so once another instance has taken an expired job over the old runner stops.
+ */
+@Component
+public class ImportJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobRunner.class);
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final ImportJobRepository importJobRepository;
+    private final Map<ImportJobType, ImportProcessor> processors = new EnumMap<>(ImportJobType.class);
+    private final ThreadPoolTaskExecutor importExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate statusTransaction;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final String instanceId;
+    private final Duration leaseDuration;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public ImportJobRunner(ImportJobRepository importJobRepository,
+                           List<ImportProcessor> processors,
+                           @Qualifier("importExecutor") ThreadPoolTaskExecutor importExecutor,
+                           PlatformTransactionManager transactionManager,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${imports.chunk-size:500}") int chunkSize,
+                           @Value("${imports.instance-id:}") String instanceId,
+                           @Value("${imports.lease-duration:2m}") Duration leaseDuration) {
+        this.importJobRepository = importJobRepository;
+        processors.forEach(processor -> this.processors.put(processor.getType(), processor));
+        this.importExecutor = importExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // submit() runs in the creating transaction's afterCommit(), where that transaction is still bound
+        // but can no longer commit; joining it would silently drop the status update
+        this.statusTransaction = new TransactionTemplate(transactionManager);
+        this.statusTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.leaseDuration = leaseDuration;
+        this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                .description("Tasks rejected because the bulkhead was saturated")
+                .tag("bulkhead", "import")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lease a job that is about to be queued to this instance.
+     */
+    public void claim(ImportJob job) {
+        job.setLeaseOwner(instanceId);
+        job.setLeaseExpiresAt(LocalDateTime.now().plus(leaseDuration));
+    }
+
+    /**
+     * Extend the leases of the jobs this instance has queued or is running.
+     */
+    public int renewLeases() {
+        return importJobRepository.renewLeases(instanceId, EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING),
+                LocalDateTime.now().plus(leaseDuration));
+    }
+
+    public void submit(Long jobId) {
+        try {
+            importExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            // Lost the race for the last queue slot after the capacity check; the job can be resumed later
+            rejectedCounter.increment();
+            logger.warn("Import queue is full, job {} was not queued", jobId);
+            finish(jobId, ImportJobStatus.FAILED, "The import queue was full. Resume to try again.", new RunStats(0));
+        }
+    }
+
+    /**
+     * Whether another job would be rejected by the import queue right now.
+     */
+    public boolean isQueueFull() {
+        return importExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0;
+    }
+
+    /**
+     * Count an upload turned away because the queue was full.
+     */
+    public void recordRejected() {
+        rejectedCounter.increment();
+    }
+
+    private void run(Long jobId) {
+        ImportJob job = transactionTemplate.execute(status -> {
+            ImportJob current = importJobRepository.findById(jobId).orElse(null);
+            if (current == null || current.getStatus() != ImportJobStatus.QUEUED
+                    || !instanceId.equals(current.getLeaseOwner())) {
+                return null;
+            }
+            current.setStatus(ImportJobStatus.RUNNING);
+            current.setMessage(null);
+            if (current.getStartedAt() == null) {
+                current.setStartedAt(LocalDateTime.now());
+            }
+            return current;
+        });
+        if (job == null) {
+            logger.warn("Import job {} is no longer queued on this instance, skipping", jobId);
+            return;
+        }
+
+        ImportProcessor processor = processors.get(job.getType());
+        RunStats stats = new RunStats(job.getLastCommittedRecord());
+        try {
+            trimRejects(Path.of(job.getErrorPath()), stats.lastCommitted);
+        } catch (IOException e) {
+            logger.error("Import job {} could not trim its error file", jobId, e);
+            finish(jobId, ImportJobStatus.FAILED, "Could not prepare the error file: " + e.getMessage(), stats);
+            return;
+        }
+        try (InputStream in = Files.newInputStream(Path.of(job.getSourcePath()));
+             ImportRecordReader reader = ImportRecordReader.open(job.getFormat(), in, objectMapper)) {
+
+            ImportProcessor.Run run = processor.start(job, reader.columns());
+            reader.skipTo(stats.lastCommitted);
+
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    commitChunk(job, run, chunk, stats);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(job, run, chunk, stats);
+            }
+
+            finish(jobId, ImportJobStatus.COMPLETED, null, stats);
+            Files.deleteIfExists(Path.of(job.getSourcePath()));
+        } catch (IllegalArgumentException e) {
+            // The file itself cannot be imported (bad header, empty file)
+            finish(jobId, ImportJobStatus.FAILED, e.getMessage(), stats);
+        } catch (Exception e) {
+            logger.error("Import job {} failed after record {}", jobId, stats.lastCommitted, e);
+            finish(jobId, ImportJobStatus.FAILED,
+                    "Stopped after record " + stats.lastCommitted + ": " + e.getMessage() + ". Resume to continue.",
+                    stats);
+        }
+    }
+
+    /**
+     * Write one chunk, its reject lines and the checkpoint. The rejects are appended inside the chunk's
+     * transaction, so a failed append rolls the chunk back and the checkpoint only commits once they are
+     * on disk.
+     */
+    private void commitChunk(ImportJob job, ImportProcessor.Run run, List<ImportRecord> chunk, RunStats stats) {
+        long lastRecord = chunk.get(chunk.size() - 1).number();
+        List<ImportReject> rejects = new ArrayList<>();
+
+        ImportProcessor.ChunkResult result = transactionTemplate.execute(status -> {
+            ImportProcessor.ChunkResult chunkResult = run.importChunk(chunk, rejects);
+            try {
+                appendRejects(Path.of(job.getErrorPath()), rejects);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int updated = importJobRepository.recordProgress(job.getId(), instanceId, lastRecord, chunk.size(),
+                    chunkResult.imported(), rejects.size() - chunkResult.duplicates(), chunkResult.duplicates(),
+                    LocalDateTime.now());
+            if (updated == 0) {
+                // The lease expired and another instance took the job over; roll this chunk back
+                throw new IllegalStateException("Import job " + job.getId() + " is no longer leased by this instance");
+            }
+            return chunkResult;
+        });
+
+        stats.add(lastRecord, chunk.size(), result.imported(), result.duplicates(), rejects.size() - result.duplicates());
+    }
+
+    /**
+     * Drop reject lines past the checkpoint: they belong to a chunk whose transaction rolled back and will
+     * be written again when the chunk is retried. Chunks append in record order, so everything from the
+     * first such line on goes; the file is scanned as a stream and truncated in place.
+     */
+    private static void trimRejects(Path errorFile, long lastCommitted) throws IOException {
+        if (!Files.exists(errorFile)) {
+            return;
+        }
+        long truncateAt = -1;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(errorFile))) {
+            long position = 0;
+            long lineStart = 0;
+            boolean header = true;
+            boolean inNumber = true;
+            long number = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    lineStart = position;
+                    header = false;
+                    inNumber = true;
+                    number = 0;
+                } else if (!header && inNumber) {
+                    // Every line after the header starts with its record number
+                    if (b >= '0' && b <= '9') {
+                        number = number * 10 + (b - '0');
+                    } else {
+                        inNumber = false;
+                        if (number > lastCommitted) {
+                            truncateAt = lineStart;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        if (truncateAt >= 0) {
+            try (FileChannel channel = FileChannel.open(errorFile, StandardOpenOption.WRITE)) {
+                channel.truncate(truncateAt);
+            }
+        }
+    }
+
+    private void appendRejects(Path errorFile, List<ImportReject> rejects) throws IOException {
+        if (rejects.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ImportReject reject : rejects) {
+                writer.write(reject.recordNumber() + "," + csvQuote(reject.reason()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private void finish(Long jobId, ImportJobStatus status, String message, RunStats stats) {
+        long elapsedMillis = stats.elapsedMillis();
+        // A job taken over by another instance after its lease expired is no longer this runner's to finish
+        statusTransaction.executeWithoutResult(tx -> importJobRepository.findById(jobId)
+                .filter(job -> instanceId.equals(job.getLeaseOwner()))
+                .ifPresent(job -> {
+                    job.setStatus(status);
+                    job.setMessage(message != null && message.length() > MAX_MESSAGE_LENGTH
+                            ? message.substring(0, MAX_MESSAGE_LENGTH) : message);
+                    job.setFinishedAt(status == ImportJobStatus.COMPLETED ? LocalDateTime.now() : null);
+                    job.setLastRunRecords(stats.records);
+                    job.setLastRunMillis(elapsedMillis);
+                    job.setLeaseOwner(null);
+                    job.setLeaseExpiresAt(null);
+                }));
+
+        logger.info("Import job {} {}: {} records in {} ms ({} records/s) - imported {}, duplicates {}, rejected {}",
+                jobId, status, stats.records, elapsedMillis, stats.records * 1000 / Math.max(1, elapsedMillis),
+                stats.imported, stats.duplicates, stats.rejected);
+    }
+
+    private static String csvQuote(String value) {
+        // One line per reject, so the file can be trimmed back to a checkpoint by record number
+        String text = value == null ? "" : value.replace("\r", " ").replace("\n", " ");
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Counters for one run of a job, reported when the run ends.
+     */
+    private static class RunStats {
+
+        private final long startedNanos = System.nanoTime();
+        private long lastCommitted;
+        private long records;
+        private long imported;
+        private long duplicates;
+        private long rejected;
+
+        RunStats(long lastCommitted) {
+            this.lastCommitted = lastCommitted;
+        }
+
+        void add(long lastRecord, int records, int imported, int duplicates, int rejected) {
+            this.lastCommitted = lastRecord;
+            this.records += records;
+            this.imported += imported;
+            this.duplicates += duplicates;
+            this.rejected += rejected;
+        }
+
+        long elapsedMillis() {
+            return (System.nanoTime() - startedNanos) / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.realestatecrm.service;
+
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobStatus;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.exception.BulkheadFullException;
+import com.realestatecrm.repository.ImportJobRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@Transactional
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    private static final String ERROR_FILE_HEADER = "record,reason\n";
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportJobRunner importJobRunner;
+    private final Path storageDir;
+    private final Duration retryAfter;
+
+    @Autowired
+    public ImportJobService(ImportJobRepository importJobRepository,
+                            ImportJobRunner importJobRunner,
+                            @Value("${imports.storage-dir:${java.io.tmpdir}/real-estate-crm-imports}") String storageDir,
+                            @Value("${imports.retry-after:60s}") Duration retryAfter) {
+        this.importJobRepository = importJobRepository;
+        this.importJobRunner = importJobRunner;
+        this.storageDir = Path.of(storageDir);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Store the upload on local disk and queue it. The multipart file is copied as a stream,
+     * so the file is never held in memory.
+     */
+    public ImportJob createJob(ImportJobType type, MultipartFile file, ImportFormat format, User user) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        rejectIfQueueFull();
+        ImportFormat resolvedFormat = format != null ? format : detectFormat(file.getOriginalFilename());
+
+        ImportJob job = new ImportJob(type, resolvedFormat, user, file.getOriginalFilename());
+        importJobRunner.claim(job);
+        job = importJobRepository.save(job);
+        Path source = storageDir.resolve("import-" + job.getId() + "." + resolvedFormat.name().toLowerCase(Locale.ROOT));
+        Path errors = storageDir.resolve("import-" + job.getId() + "-errors.csv");
+        try {
+            Files.createDirectories(storageDir);
+            file.transferTo(source);
+            Files.writeString(errors, ERROR_FILE_HEADER, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+        job.setSourcePath(source.toString());
+        job.setErrorPath(errors.toString());
+
+        submitAfterCommit(job.getId());
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public ImportJob getJob(Long id, User user) {
+        ImportJob job = importJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Import job not found with id: " + id));
+        if (user.getRole() != Role.ADMIN && !job.getCreatedBy().getId().equals(user.getId())) {
+            throw new AccessDeniedException("Import job belongs to another user");
+        }
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ImportJob> getJobs(User user) {
+        return importJobRepository.findByCreatedByIdOrderByCreatedDateDesc(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Path getErrorFile(Long id, User user) {
+        return Path.of(getJob(id, user).getErrorPath());
+    }
+
+    /**
+     * Queue a failed or interrupted job again. It continues after its last committed record.
+     */
+    public ImportJob resumeJob(Long id, User user) {
+        ImportJob job = getJob(id, user);
+        if (job.getStatus() != ImportJobStatus.FAILED && job.getStatus() != ImportJobStatus.INTERRUPTED) {
+            throw new IllegalArgumentException("Only failed or interrupted imports can be resumed");
+        }
+        if (!Files.exists(Path.of(job.getSourcePath()))) {
+            throw new IllegalArgumentException("Import file is no longer available; upload it again");
+        }
+        rejectIfQueueFull();
+        job.setStatus(ImportJobStatus.QUEUED);
+        job.setMessage(null);
+        importJobRunner.claim(job);
+
+        submitAfterCommit(job.getId());
+        return job;
+    }
+
+    /**
+     * Heartbeat for the import leases. Renews the leases of the jobs queued or running on this instance,
+     * then marks jobs whose lease has expired as interrupted: their instance stopped (or crashed) and they
+     * will never finish on their own, but can be resumed from their checkpoint. Jobs another live instance
+     * is working on keep a fresh lease and are left alone. Runs at startup and every heartbeat interval,
+     * which must stay well below {@code imports.lease-duration}.
+     */
+    @Scheduled(fixedDelayString = "${imports.heartbeat-interval:30000}")
+    public void maintainLeases() {
+        importJobRunner.renewLeases();
+        int interrupted = importJobRepository.updateStatusWhereLeaseExpired(
+                EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING), ImportJobStatus.INTERRUPTED,
+                "Interrupted because the instance running it stopped. Resume to continue.", LocalDateTime.now());
+        if (interrupted > 0) {
+            logger.info("Marked {} unfinished import job(s) with an expired lease as interrupted", interrupted);
+        }
+    }
+
+    // Turn the upload away (429) before storing the file rather than queueing without bound
+    private void rejectIfQueueFull() {
+        if (importJobRunner.isQueueFull()) {
+            importJobRunner.recordRejected();
+            throw new BulkheadFullException("import", retryAfter);
+        }
+    }
+
+    // The runner reads the job in its own transaction, so hand it over only once this one has committed
+    private void submitAfterCommit(Long jobId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                importJobRunner.submit(jobId);
+            }
+        });
+    }
+
+    private static ImportFormat detectFormat(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? ImportFormat.NDJSON : ImportFormat.CSV;
+    }
+}
@@ -0,0 +1,77 @@
+package com.realestatecrm.service;
+
+import com.realestatecrm.dto.report.response.PipelineReportResponse;
+import com.realestatecrm.dto.report.response.PipelineReportResponse.AgentPipelineResponse;
+import com.realestatecrm.dto.report.response.PipelineReportResponse.DailyPipelineResponse;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.PipelineMetric;
+import com.realestatecrm.repository.PipelineDailyCounterRepository;
+import com.realestatecrm.repository.projection.PipelineCounterRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Pipeline reports over the daily counters kept by {@code PipelineCounterRecorder}. A report never touches
+ * the customer, interaction or property tables: it reads at most agents x days x dimensions counter rows
+ * and rolls them up by team, agent and day.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PipelineReportService {
+
+    public static final int MAX_REPORT_DAYS = 366;
+
+    private final PipelineDailyCounterRepository pipelineDailyCounterRepository;
+
+    @Autowired
+    public PipelineReportService(PipelineDailyCounterRepository pipelineDailyCounterRepository) {
+        this.pipelineDailyCounterRepository = pipelineDailyCounterRepository;
+    }
+
+    public PipelineReportResponse getPipelineReport(List<User> agents, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) {
+            throw new IllegalArgumentException("A report covers at most " + MAX_REPORT_DAYS + " days");
+        }
+
+        List<PipelineCounterRow> rows = agents.isEmpty() ? List.of()
+                : pipelineDailyCounterRepository.findRows(agents.stream().map(User::getId).toList(), from, to);
+
+        Map<PipelineMetric, Map<String, Long>> team = new EnumMap<>(PipelineMetric.class);
+        Map<Long, Map<PipelineMetric, Map<String, Long>>> byAgent = new HashMap<>();
+        Map<LocalDate, Map<PipelineMetric, Map<String, Long>>> byDay = new TreeMap<>();
+        for (PipelineCounterRow row : rows) {
+            add(team, row);
+            add(byAgent.computeIfAbsent(row.agentId(), agentId -> new EnumMap<>(PipelineMetric.class)), row);
+            add(byDay.computeIfAbsent(row.activityDate(), day -> new EnumMap<>(PipelineMetric.class)), row);
+        }
+
+        List<AgentPipelineResponse> agentRows = agents.stream()
+                .sorted(Comparator.comparing(User::getFullName, String.CASE_INSENSITIVE_ORDER))
+                .map(agent -> new AgentPipelineResponse(agent.getId(), agent.getFullName(),
+                        byAgent.getOrDefault(agent.getId(), Map.of())))
+                .toList();
+        List<DailyPipelineResponse> dayRows = byDay.entrySet().stream()
+                .map(entry -> new DailyPipelineResponse(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return new PipelineReportResponse(from, to, team, agentRows, dayRows);
+    }
+
+    private static void add(Map<PipelineMetric, Map<String, Long>> counts, PipelineCounterRow row) {
+        counts.computeIfAbsent(row.metric(), metric -> new TreeMap<>())
+                .merge(row.dimension(), row.total(), Long::sum);
+    }
+}
@@ -0,0 +1,141 @@
+package com.realestatecrm.service;
+
+import com.realestatecrm.entity.PropertyAttribute;
+import com.realestatecrm.entity.PropertyAttributeOption;
+import com.realestatecrm.enums.PropertyCategory;
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.repository.PropertyAttributeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory snapshot of the attribute catalog (attributes and their options).
+ * The catalog changes rarely but is consulted on every attribute write and search,
+ * so it is loaded once and rebuilt lazily after {@link #invalidate()}.
+ */
+@Component
+public class PropertyAttributeCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAttributeCatalog.class);
+
+    private final PropertyAttributeRepository propertyAttributeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Not a monitor: the load runs a JDBC transaction, and blocking on a monitor pins a virtual thread's carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public PropertyAttributeCatalog(PropertyAttributeRepository propertyAttributeRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.propertyAttributeRepository = propertyAttributeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Optional<CachedAttribute> findById(Long attributeId) {
+        return Optional.ofNullable(snapshot().byId().get(attributeId));
+    }
+
+    public Optional<CachedAttribute> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot().byName().get(normalizeName(name)));
+    }
+
+    public Collection<CachedAttribute> getAll() {
+        return snapshot().byId().values();
+    }
+
+    /**
+     * Drop the snapshot. Inside a transaction it is dropped again once the transaction completes,
+     * so a reload that raced with the write cannot keep serving the pre-commit state.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshot = null;
+                }
+            });
+        }
+        snapshot = null;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    current = readOnlyTransaction.execute(status -> load());
+                    snapshot = current;
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        List<PropertyAttribute> attributes = propertyAttributeRepository.findAllWithOptions();
+        Map<Long, CachedAttribute> byId = new LinkedHashMap<>();
+        Map<String, CachedAttribute> byName = new LinkedHashMap<>();
+        for (PropertyAttribute attribute : attributes) {
+            List<String> options = attribute.getOptions() == null ? List.of() : attribute.getOptions().stream()
+                    .map(PropertyAttributeOption::getOptionValue)
+                    .toList();
+            CachedAttribute cached = new CachedAttribute(
+                    attribute.getId(),
+                    attribute.getName(),
+                    attribute.getDataType(),
+                    attribute.getCategory(),
+                    Boolean.TRUE.equals(attribute.getIsRequired()),
+                    Boolean.TRUE.equals(attribute.getIsSearchable()),
+                    options);
+            byId.put(cached.id(), cached);
+            byName.put(normalizeName(cached.name()), cached);
+        }
+        logger.debug("Loaded attribute catalog with {} attributes", byId.size());
+        return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName));
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(Map<Long, CachedAttribute> byId, Map<String, CachedAttribute> byName) {
+    }
+
+    /**
+     * Immutable view of one attribute definition.
+     */
+    public record CachedAttribute(Long id,
+                                  String name,
+                                  PropertyDataType dataType,
+                                  PropertyCategory category,
+                                  boolean required,
+                                  boolean searchable,
+                                  List<String> options) {
+    }
+}
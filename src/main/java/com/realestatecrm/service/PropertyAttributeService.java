@@ -24,12 +24,15 @@ public class PropertyAttributeService {
 
     private final PropertyAttributeRepository propertyAttributeRepository;
     private final PropertyAttributeOptionRepository propertyAttributeOptionRepository;
+    private final PropertyAttributeCatalog attributeCatalog;
 
     @Autowired
     public PropertyAttributeService(PropertyAttributeRepository propertyAttributeRepository,
-                                    PropertyAttributeOptionRepository propertyAttributeOptionRepository) {
+                                    PropertyAttributeOptionRepository propertyAttributeOptionRepository,
+                                    PropertyAttributeCatalog attributeCatalog) {
         this.propertyAttributeRepository = propertyAttributeRepository;
         this.propertyAttributeOptionRepository = propertyAttributeOptionRepository;
+        this.attributeCatalog = attributeCatalog;
     }
 
     @Transactional(readOnly = true)
@@ -84,6 +87,7 @@ public class PropertyAttributeService {
             }
         }
 
+        attributeCatalog.invalidate();
         return savedAttribute;
     }
 
@@ -107,6 +111,7 @@ public class PropertyAttributeService {
             existingAttribute.setDataType(updatedAttribute.getDataType());
         }
 
+        attributeCatalog.invalidate();
         return propertyAttributeRepository.save(existingAttribute);
     }
 
@@ -121,6 +126,7 @@ public class PropertyAttributeService {
         }
 
         propertyAttributeRepository.deleteById(id);
+        attributeCatalog.invalidate();
     }
 
     // Option management methods
@@ -133,6 +139,7 @@ public class PropertyAttributeService {
         }
 
         PropertyAttributeOption option = new PropertyAttributeOption(attribute, optionValue, displayOrder);
+        attributeCatalog.invalidate();
         return propertyAttributeOptionRepository.save(option);
     }
 
@@ -147,6 +154,7 @@ public class PropertyAttributeService {
 
         // In a production system, you might want to check if this option is used in property values
         propertyAttributeOptionRepository.deleteById(optionId);
+        attributeCatalog.invalidate();
     }
 
     public void reorderAttributes(PropertyCategory category, List<Long> attributeIds) {
@@ -162,6 +170,7 @@ public class PropertyAttributeService {
             attribute.setDisplayOrder(i + 1);
             propertyAttributeRepository.save(attribute);
         }
+        attributeCatalog.invalidate();
     }
 
     public void updateAttributeDisplayOrders(java.util.List<com.realestatecrm.controller.PropertyAttributeController.AttributeDisplayOrderUpdate> updates) {
@@ -172,6 +181,7 @@ public class PropertyAttributeService {
             attribute.setDisplayOrder(update.getNewDisplayOrder());
             propertyAttributeRepository.save(attribute);
         }
+        attributeCatalog.invalidate();
     }
 
     private void validateAttribute(PropertyAttribute attribute) {
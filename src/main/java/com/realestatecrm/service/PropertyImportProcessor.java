@@ -0,0 +1,281 @@
+package com.realestatecrm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.importing.ImportProcessor;
+import com.realestatecrm.importing.ImportRecord;
+import com.realestatecrm.importing.ImportReject;
+import com.realestatecrm.repository.AttributeValueJdbcRepository;
+import com.realestatecrm.repository.AttributeValueJdbcRepository.AttributeValueWrite;
+import com.realestatecrm.repository.PropertyRepository;
+import com.realestatecrm.repository.UserRepository;
+import com.realestatecrm.service.PropertyAttributeCatalog.CachedAttribute;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports listings. Besides the fixed columns ({@code title}, {@code description}, {@code price},
+ * {@code status}, {@code agent}) every column names a {@link com.realestatecrm.entity.PropertyAttribute},
+ * matched case-insensitively against the attribute catalog. Fixed columns win over attributes of the same name.
+ * <p>
+ * Listings of a chunk are inserted as one JDBC batch (pooled ids, no per-row round trip) and their
+ * attribute values with a single batched native upsert.
+ */
+@Component
+public class PropertyImportProcessor implements ImportProcessor {
+
+    private static final Set<String> PROPERTY_COLUMNS = Set.of("title", "description", "price", "status", "agent");
+
+    private final PropertyRepository propertyRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final PropertyAttributeCatalog attributeCatalog;
+    private final AttributeValueJdbcRepository attributeValueJdbcRepository;
+    private final ApproximateCountService approximateCountService;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public PropertyImportProcessor(PropertyRepository propertyRepository,
+                                   UserRepository userRepository,
+                                   UserService userService,
+                                   PropertyAttributeCatalog attributeCatalog,
+                                   AttributeValueJdbcRepository attributeValueJdbcRepository,
+                                   ApproximateCountService approximateCountService,
+                                   ObjectMapper objectMapper) {
+        this.propertyRepository = propertyRepository;
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.attributeCatalog = attributeCatalog;
+        this.attributeValueJdbcRepository = attributeValueJdbcRepository;
+        this.approximateCountService = approximateCountService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportJobType getType() {
+        return ImportJobType.PROPERTY;
+    }
+
+    @Override
+    public Run start(ImportJob job, List<String> columns) {
+        List<String> unknown = columns.stream()
+                .filter(column -> !PROPERTY_COLUMNS.contains(column) && attributeCatalog.findByName(column).isEmpty())
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown column(s): " + String.join(", ", unknown));
+        }
+        if (!columns.isEmpty() && (!columns.contains("title") || !columns.contains("price"))) {
+            throw new IllegalArgumentException("Columns 'title' and 'price' are required");
+        }
+
+        Long ownerId = job.getCreatedBy().getId();
+        Map<String, Long> agentIds = new HashMap<>();
+        for (User user : userService.getAccessibleUsers(ownerId)) {
+            agentIds.put(user.getUsername().toLowerCase(Locale.ROOT), user.getId());
+        }
+        List<CachedAttribute> requiredAttributes = attributeCatalog.getAll().stream()
+                .filter(CachedAttribute::required)
+                .toList();
+
+        return new PropertyImportRun(ownerId, agentIds, requiredAttributes);
+    }
+
+    private class PropertyImportRun implements Run {
+
+        private final Long ownerId;
+        private final Map<String, Long> agentIdsByUsername;
+        private final List<CachedAttribute> requiredAttributes;
+
+        PropertyImportRun(Long ownerId, Map<String, Long> agentIdsByUsername, List<CachedAttribute> requiredAttributes) {
+            this.ownerId = ownerId;
+            this.agentIdsByUsername = agentIdsByUsername;
+            this.requiredAttributes = requiredAttributes;
+        }
+
+        @Override
+        public ChunkResult importChunk(List<ImportRecord> records, List<ImportReject> rejects) {
+            List<Property> properties = new ArrayList<>(records.size());
+            List<Map<CachedAttribute, Object>> attributeValues = new ArrayList<>(records.size());
+
+            for (ImportRecord record : records) {
+                if (record.isMalformed()) {
+                    rejects.add(new ImportReject(record.number(), record.error()));
+                    continue;
+                }
+                try {
+                    Map<CachedAttribute, Object> values = new LinkedHashMap<>();
+                    properties.add(toProperty(record.fields(), values));
+                    attributeValues.add(values);
+                } catch (IllegalArgumentException e) {
+                    rejects.add(new ImportReject(record.number(), e.getMessage()));
+                }
+            }
+
+            if (properties.isEmpty()) {
+                return ChunkResult.imported(0);
+            }
+
+            // Send the whole chunk per statement type instead of the global hibernate.jdbc.batch_size
+            entityManager.unwrap(Session.class).setJdbcBatchSize(properties.size());
+            propertyRepository.saveAll(properties);
+            // The attribute upsert goes through JDBC, so the listing rows must be written first
+            propertyRepository.flush();
+
+            List<AttributeValueWrite> writes = new ArrayList<>();
+            for (int i = 0; i < properties.size(); i++) {
+                Long propertyId = properties.get(i).getId();
+                attributeValues.get(i).forEach((attribute, value) -> writes.add(
+                        PropertyService.toAttributeValueWrite(propertyId, attribute.id(), attribute.dataType(), value)));
+            }
+            attributeValueJdbcRepository.batchUpsert(writes);
+            for (Property property : properties) {
+                approximateCountService.recordCreated(ApproximateCountService.Counted.PROPERTY,
+                        property.getAgent().getId(), property.getStatus());
+            }
+
+            return ChunkResult.imported(properties.size());
+        }
+
+        private Property toProperty(Map<String, Object> fields, Map<CachedAttribute, Object> attributeValues) {
+            String title = text(fields.get("title"));
+            if (title == null) {
+                throw new IllegalArgumentException("Title is required");
+            }
+            BigDecimal price = price(fields.get("price"));
+
+            Property property = new Property(title, price, userRepository.getReferenceById(agentId(fields.get("agent"))));
+            property.setDescription(text(fields.get("description")));
+            property.setStatus(status(fields.get("status")));
+
+            for (Map.Entry<String, Object> field : fields.entrySet()) {
+                if (PROPERTY_COLUMNS.contains(field.getKey())) {
+                    continue;
+                }
+                CachedAttribute attribute = attributeCatalog.findByName(field.getKey())
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown attribute: " + field.getKey()));
+                Object value = toAttributeInput(attribute, field.getValue());
+                if (value != null) {
+                    PropertyService.validateAttributeValue(attribute.name(), attribute.dataType(), attribute.required(), value);
+                    attributeValues.put(attribute, value);
+                }
+            }
+
+            for (CachedAttribute attribute : requiredAttributes) {
+                if (!attributeValues.containsKey(attribute)) {
+                    throw new IllegalArgumentException("Value is required for attribute: " + attribute.name());
+                }
+            }
+            return property;
+        }
+
+        private Long agentId(Object value) {
+            String username = text(value);
+            if (username == null) {
+                return ownerId;
+            }
+            Long agentId = agentIdsByUsername.get(username.toLowerCase(Locale.ROOT));
+            if (agentId == null) {
+                throw new IllegalArgumentException("Agent not found or not accessible: " + username);
+            }
+            return agentId;
+        }
+    }
+
+    /**
+     * Normalize a raw CSV/JSON value into what {@link PropertyService#validateAttributeValue} expects.
+     * Blank values mean "not set" and are skipped.
+     */
+    private Object toAttributeInput(CachedAttribute attribute, Object raw) {
+        if (raw == null || (raw instanceof String s && s.isBlank())) {
+            return null;
+        }
+        Object value = raw instanceof String s ? s.trim() : raw;
+
+        return switch (attribute.dataType()) {
+            case BOOLEAN -> value instanceof String s ? parseBoolean(attribute, s) : value;
+            case MULTI_SELECT -> value instanceof Collection<?> ? toJson(attribute, value) : value;
+            case SINGLE_SELECT -> {
+                if (!attribute.options().isEmpty() && !attribute.options().contains(value)) {
+                    throw new IllegalArgumentException("Invalid option '" + value + "' for attribute: " + attribute.name());
+                }
+                yield value;
+            }
+            case DATE -> throw new IllegalArgumentException("DATE attributes cannot be imported: " + attribute.name());
+            default -> value;
+        };
+    }
+
+    private Boolean parseBoolean(CachedAttribute attribute, String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Expected true/false for attribute: " + attribute.name());
+        };
+    }
+
+    private String toJson(CachedAttribute attribute, Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid MULTI_SELECT value for attribute: " + attribute.name());
+        }
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static BigDecimal price(Object value) {
+        String text = text(value);
+        if (text == null) {
+            throw new IllegalArgumentException("Price is required");
+        }
+        BigDecimal price;
+        try {
+            price = new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid price: " + text);
+        }
+        if (price.signum() <= 0) {
+            throw new IllegalArgumentException("Property price must be positive");
+        }
+        return price;
+    }
+
+    private static PropertyStatus status(Object value) {
+        String text = text(value);
+        if (text == null) {
+            return PropertyStatus.ACTIVE;
+        }
+        try {
+            return PropertyStatus.valueOf(text.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + text);
+        }
+    }
+}
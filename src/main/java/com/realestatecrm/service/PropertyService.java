@@ -1,41 +1,82 @@
 package com.realestatecrm.service;
 
+import com.realestatecrm.config.MetricsConfig;
+import com.realestatecrm.dto.property.response.AttributeValueResponse;
 import com.realestatecrm.entity.*;
+import com.realestatecrm.enums.CountMode;
+import com.realestatecrm.enums.PropertyDataType;
 import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.reporting.PipelineEvent;
 import com.realestatecrm.repository.*;
+import com.realestatecrm.repository.AttributeValueJdbcRepository.AttributeValueWrite;
+import com.realestatecrm.repository.projection.AttributeValueRow;
+import com.realestatecrm.repository.projection.PropertyListRow;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class PropertyService {
 
+    // Upper bound on a single bulk attribute write (~500 listings x 40 attributes)
+    private static final int MAX_BULK_ATTRIBUTE_VALUES = 20_000;
+
+    // Property ids per IN list when loading attribute values for many listings
+    private static final int ATTRIBUTE_LOAD_BATCH_SIZE = 1_000;
+
     private final PropertyRepository propertyRepository;
     private final AttributeValueRepository attributeValueRepository;
     private final PropertySharingRepository propertySharingRepository;
     private final UserRepository userRepository;
-    private final PropertyAttributeRepository propertyAttributeRepository;
+    private final AttributeValueJdbcRepository attributeValueJdbcRepository;
+    private final PropertyAttributeCatalog attributeCatalog;
+    private final ApproximateCountService approximateCountService;
+    private final PropertyStatusChangeRepository propertyStatusChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public PropertyService(PropertyRepository propertyRepository,
                            AttributeValueRepository attributeValueRepository,
                            PropertySharingRepository propertySharingRepository,
                            UserRepository userRepository,
-                           PropertyAttributeRepository propertyAttributeRepository) {
+                           AttributeValueJdbcRepository attributeValueJdbcRepository,
+                           PropertyAttributeCatalog attributeCatalog,
+                           ApproximateCountService approximateCountService,
+                           PropertyStatusChangeRepository propertyStatusChangeRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.propertyRepository = propertyRepository;
         this.attributeValueRepository = attributeValueRepository;
         this.propertySharingRepository = propertySharingRepository;
         this.userRepository = userRepository;
-        this.propertyAttributeRepository = propertyAttributeRepository;
+        this.attributeValueJdbcRepository = attributeValueJdbcRepository;
+        this.attributeCatalog = attributeCatalog;
+        this.approximateCountService = approximateCountService;
+        this.propertyStatusChangeRepository = propertyStatusChangeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -50,6 +91,35 @@ public class PropertyService {
         return propertyRepository.findAllWithAgent(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Page<PropertyListRow> getPropertyListRows(Pageable pageable) {
+        return propertyRepository.findAllListRows(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PropertyListRow> getPropertyListRowsByAgents(List<Long> agentIds, Pageable pageable) {
+        return propertyRepository.findListRowsByAgentIdIn(agentIds, pageable);
+    }
+
+    /**
+     * List rows for the given agents (all agents when {@code agentIds} is null). EXACT runs the COUNT(*),
+     * APPROX takes the total from the in-memory counters and NONE returns a slice without any total.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PropertyListRow> getPropertyListRows(List<Long> agentIds, CountMode countMode, Pageable pageable) {
+        if (countMode == CountMode.EXACT) {
+            return agentIds == null ? getPropertyListRows(pageable) : getPropertyListRowsByAgents(agentIds, pageable);
+        }
+        Slice<PropertyListRow> slice = agentIds == null
+                ? propertyRepository.sliceAllListRows(pageable)
+                : propertyRepository.sliceListRowsByAgentIdIn(agentIds, pageable);
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+        return ApproximateCountService.withApproximateTotal(slice,
+                approximateCountService.count(ApproximateCountService.Counted.PROPERTY, agentIds, null));
+    }
+
     @Transactional(readOnly = true)
     public Optional<Property> getPropertyById(Long id) {
         // LAZY FIX: Use findByIdWithAgent to eagerly fetch agent relationship
@@ -83,7 +153,10 @@ public class PropertyService {
 
     public Property createProperty(Property property) {
         validateProperty(property);
-        return propertyRepository.save(property);
+        Property saved = propertyRepository.save(property);
+        approximateCountService.recordCreated(ApproximateCountService.Counted.PROPERTY,
+                saved.getAgent().getId(), saved.getStatus());
+        return saved;
     }
 
     public Property updateProperty(Long id, Property updatedProperty) {
@@ -94,51 +167,108 @@ public class PropertyService {
         existingProperty.setTitle(updatedProperty.getTitle());
         existingProperty.setDescription(updatedProperty.getDescription());
         existingProperty.setPrice(updatedProperty.getPrice());
+        approximateCountService.recordStatusChange(ApproximateCountService.Counted.PROPERTY,
+                existingProperty.getAgent().getId(), existingProperty.getStatus(), updatedProperty.getStatus());
+        recordStatusChange(existingProperty, updatedProperty.getStatus());
         existingProperty.setStatus(updatedProperty.getStatus());
 
         return propertyRepository.save(existingProperty);
     }
 
     public void deleteProperty(Long id) {
-        if (!propertyRepository.existsById(id)) {
-            throw new EntityNotFoundException("Property not found with id: " + id);
-        }
-        propertyRepository.deleteById(id);
+        Property property = propertyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
+        propertyRepository.delete(property);
+        approximateCountService.recordDeleted(ApproximateCountService.Counted.PROPERTY,
+                property.getAgent().getId(), property.getStatus());
     }
 
     public Property updatePropertyStatus(Long id, PropertyStatus status) {
         // LAZY FIX: Use findByIdWithAgent to eagerly fetch agent relationship
         Property property = propertyRepository.findByIdWithAgent(id)
                 .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + id));
+        approximateCountService.recordStatusChange(ApproximateCountService.Counted.PROPERTY,
+                property.getAgent().getId(), property.getStatus(), status);
+        recordStatusChange(property, status);
         property.setStatus(status);
         return propertyRepository.save(property);
     }
 
-    public AttributeValue setAttributeValue(Long propertyId, Long attributeId, Object value) {
-        // LAZY FIX: Use findByIdWithAgent when we might access agent later
-        Property property = propertyRepository.findByIdWithAgent(propertyId)
-                .orElseThrow(() -> new EntityNotFoundException("Property not found with id: " + propertyId));
+    // History for the activity feed and the pipeline reports; attributed to the acting user, or to the
+    // listing agent outside a request
+    private void recordStatusChange(Property property, PropertyStatus newStatus) {
+        if (newStatus == null || property.getStatus() == newStatus) {
+            return;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User changedBy = authentication == null ? null
+                : userRepository.findByUsername(authentication.getName()).orElse(null);
+        PropertyStatusChange change = propertyStatusChangeRepository.save(new PropertyStatusChange(property,
+                changedBy != null ? changedBy : property.getAgent(), property.getStatus(), newStatus));
+        eventPublisher.publishEvent(new PipelineEvent.PropertyStatusChanged(
+                change.getChangedBy().getId(), change.getFromStatus(), change.getToStatus(), LocalDate.now()));
+    }
 
-        PropertyAttribute attribute = propertyAttributeRepository.findById(attributeId)
+    /**
+     * Set a single attribute value with a native upsert - no preceding lookup, so concurrent writers
+     * for the same property/attribute pair neither collide nor serialize. The stored row is read back
+     * afterwards for the response.
+     */
+    public AttributeValue setAttributeValue(Long propertyId, Long attributeId, Object value) {
+        PropertyAttributeCatalog.CachedAttribute attribute = attributeCatalog.findById(attributeId)
                 .orElseThrow(() -> new EntityNotFoundException("Attribute not found with id: " + attributeId));
 
-        validateAttributeValue(attribute, value);
+        validateAttributeValue(attribute.name(), attribute.dataType(), attribute.required(), value);
 
-        Optional<AttributeValue> existingValue = attributeValueRepository
-                .findByPropertyIdAndAttributeId(propertyId, attributeId);
+        try {
+            attributeValueJdbcRepository.batchUpsert(
+                    List.of(toAttributeValueWrite(propertyId, attributeId, attribute.dataType(), value)));
+        } catch (DataIntegrityViolationException e) {
+            if (isForeignKeyViolation(e)) {
+                throw new EntityNotFoundException("Property not found with id: " + propertyId);
+            }
+            throw e;
+        }
+
+        return attributeValueRepository.findByPropertyIdAndAttributeId(propertyId, attributeId)
+                .orElseThrow(() -> new IllegalStateException("Attribute value missing after upsert"));
+    }
 
-        AttributeValue attributeValue = existingValue.orElse(new AttributeValue(property, attribute));
+    /**
+     * Bulk write of attribute values for one or many properties (propertyId -> attributeId -> value).
+     * Attributes are validated against the cached catalog and every value is written with one native
+     * upsert statement, sent as a single JDBC batch.
+     *
+     * @return number of values written
+     */
+    public int setAttributeValues(Map<Long, Map<Long, Object>> valuesByProperty) {
+        int total = valuesByProperty.values().stream().mapToInt(Map::size).sum();
+        if (total > MAX_BULK_ATTRIBUTE_VALUES) {
+            throw new IllegalArgumentException("Bulk request exceeds the maximum of " +
+                    MAX_BULK_ATTRIBUTE_VALUES + " attribute values");
+        }
 
-        // Set value based on attribute type
-        clearAttributeValueFields(attributeValue);
-        switch (attribute.getDataType()) {
-            case TEXT, SINGLE_SELECT -> attributeValue.setTextValue((String) value);
-            case NUMBER -> attributeValue.setNumberValue(coerceToBigDecimal(value));
-            case BOOLEAN -> attributeValue.setBooleanValue((Boolean) value);
-            case MULTI_SELECT -> attributeValue.setMultiSelectValue((String) value);
+        Set<Long> propertyIds = valuesByProperty.keySet();
+        Set<Long> existingPropertyIds = new HashSet<>(propertyRepository.findExistingIds(propertyIds));
+        for (Long propertyId : propertyIds) {
+            if (!existingPropertyIds.contains(propertyId)) {
+                throw new EntityNotFoundException("Property not found with id: " + propertyId);
+            }
         }
 
-        return attributeValueRepository.save(attributeValue);
+        List<AttributeValueWrite> writes = new ArrayList<>(total);
+        valuesByProperty.forEach((propertyId, values) -> values.forEach((attributeId, value) -> {
+            PropertyAttributeCatalog.CachedAttribute attribute = attributeCatalog.findById(attributeId)
+                    .orElseThrow(() -> new EntityNotFoundException("Attribute not found with id: " + attributeId));
+            validateAttributeValue(attribute.name(), attribute.dataType(), attribute.required(), value);
+            writes.add(toAttributeValueWrite(propertyId, attribute.id(), attribute.dataType(), value));
+        }));
+
+        if (writes.isEmpty()) {
+            return 0;
+        }
+
+        return attributeValueJdbcRepository.batchUpsert(writes);
     }
 
     @Transactional(readOnly = true)
@@ -146,6 +276,32 @@ public class PropertyService {
         return attributeValueRepository.findByPropertyId(propertyId);
     }
 
+    /**
+     * Attribute values of many properties at once, grouped by property id (include=attributes on list views).
+     * Values are loaded with one IN query per {@value #ATTRIBUTE_LOAD_BATCH_SIZE} properties;
+     * attribute names and data types come from the cached catalog instead of a join.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<AttributeValueResponse>> getAttributeValuesByProperty(Collection<Long> propertyIds) {
+        Map<Long, List<AttributeValueResponse>> valuesByProperty = new HashMap<>();
+        if (propertyIds.isEmpty()) {
+            return valuesByProperty;
+        }
+
+        List<Long> ids = new ArrayList<>(new HashSet<>(propertyIds));
+        for (int from = 0; from < ids.size(); from += ATTRIBUTE_LOAD_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ATTRIBUTE_LOAD_BATCH_SIZE, ids.size()));
+            for (AttributeValueRow row : attributeValueRepository.findRowsByPropertyIdIn(batch)) {
+                // Skip values of an attribute deleted since the catalog was loaded
+                attributeCatalog.findById(row.attributeId()).ifPresent(attribute ->
+                        valuesByProperty.computeIfAbsent(row.propertyId(), id -> new ArrayList<>())
+                                .add(new AttributeValueResponse(row.id(), row.propertyId(), attribute.id(),
+                                        attribute.name(), attribute.dataType(), row.value(attribute.dataType()))));
+            }
+        }
+        return valuesByProperty;
+    }
+
     public void deleteAttributeValue(Long propertyId, Long attributeId) {
         attributeValueRepository.deleteByPropertyIdAndAttributeId(propertyId, attributeId);
     }
@@ -202,16 +358,17 @@ public class PropertyService {
         }
     }
 
-    private void validateAttributeValue(PropertyAttribute attribute, Object value) {
-        if (value == null && attribute.getIsRequired()) {
-            throw new IllegalArgumentException("Value is required for attribute: " + attribute.getName());
+    // Static helpers are shared with PropertyImportProcessor, which validates rows outside this service
+    static void validateAttributeValue(String attributeName, PropertyDataType dataType, boolean required, Object value) {
+        if (value == null && required) {
+            throw new IllegalArgumentException("Value is required for attribute: " + attributeName);
         }
 
         if (value != null) {
-            switch (attribute.getDataType()) {
+            switch (dataType) {
                 case TEXT, SINGLE_SELECT -> {
                     if (!(value instanceof String)) {
-                        throw new IllegalArgumentException("Expected String value for " + attribute.getDataType());
+                        throw new IllegalArgumentException("Expected String value for " + dataType);
                     }
                 }
                 case NUMBER -> {
@@ -237,7 +394,28 @@ public class PropertyService {
         }
     }
 
-    private BigDecimal coerceToBigDecimal(Object value) {
+    static AttributeValueWrite toAttributeValueWrite(Long propertyId, Long attributeId,
+                                                     PropertyDataType dataType, Object value) {
+        String textValue = null;
+        BigDecimal numberValue = null;
+        Boolean booleanValue = null;
+        String multiSelectValue = null;
+        if (value != null) {
+            switch (dataType) {
+                case TEXT, SINGLE_SELECT -> textValue = (String) value;
+                case NUMBER -> numberValue = coerceToBigDecimal(value);
+                case BOOLEAN -> booleanValue = (Boolean) value;
+                case MULTI_SELECT -> multiSelectValue = (String) value;
+                default -> {
+                    // DATE values are not settable through the API yet (same as setAttributeValue)
+                }
+            }
+        }
+        return new AttributeValueWrite(propertyId, attributeId, textValue, numberValue, booleanValue,
+                multiSelectValue, null);
+    }
+
+    private static BigDecimal coerceToBigDecimal(Object value) {
         if (value == null) return null;
         BigDecimal bd;
         switch (value) {
@@ -259,7 +437,7 @@ public class PropertyService {
         return bd.setScale(2, RoundingMode.HALF_UP);
     }
 
-    private boolean isNumericString(String s) {
+    private static boolean isNumericString(String s) {
         if (s == null) return false;
         String str = s.trim();
         if (str.isEmpty()) return false;
@@ -267,10 +445,10 @@ public class PropertyService {
         return str.matches("[+-]?\\d+(\\.\\d+)?");
     }
 
-    private void clearAttributeValueFields(AttributeValue attributeValue) {
-        attributeValue.setTextValue(null);
-        attributeValue.setNumberValue(null);
-        attributeValue.setBooleanValue(null);
-        attributeValue.setMultiSelectValue(null);
+    private boolean isForeignKeyViolation(DataIntegrityViolationException e) {
+        // 23503 = PostgreSQL foreign_key_violation, 23506 = H2 referential integrity (parent missing)
+        Throwable cause = e.getMostSpecificCause();
+        return cause instanceof SQLException sqlException
+                && ("23503".equals(sqlException.getSQLState()) || "23506".equals(sqlException.getSQLState()));
     }
-}
\ No newline at end of file
+}
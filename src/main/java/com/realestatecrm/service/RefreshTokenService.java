@@ -1,17 +1,23 @@
 package com.realestatecrm.service;
 
 import com.realestatecrm.entity.RefreshToken;
-import com.realestatecrm.entity.User;
 import com.realestatecrm.repository.RefreshTokenRepository;
 import com.realestatecrm.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +29,9 @@ public class RefreshTokenService {
     @Value("${jwt.refresh-expiration:604800000}") // 7 days default
     private Long refreshTokenDurationMs;
 
+    @Value("${jwt.refresh-purge-batch-size:500}")
+    private int purgeBatchSize;
+
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
@@ -35,38 +44,42 @@ public class RefreshTokenService {
      */
     @Transactional
     public RefreshToken createRefreshToken(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
 
         // Delete any existing refresh tokens for this user
-        refreshTokenRepository.deleteByUser(user);
+        refreshTokenRepository.deleteByUserId(userId);
 
-        // Create new refresh token
+        // Create new refresh token - only the digest is stored
+        String token = generateToken();
         RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setUser(user);
-        refreshToken.setToken(UUID.randomUUID().toString());
+        refreshToken.setUser(userRepository.getReferenceById(userId));
+        refreshToken.setTokenHash(hashToken(token));
         refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
         refreshToken.setRevoked(false);
 
         refreshToken = refreshTokenRepository.save(refreshToken);
-        logger.info("Created refresh token for user: {}", user.getUsername());
+        refreshToken.setToken(token);
+        logger.info("Created refresh token for user id: {}", userId);
 
         return refreshToken;
     }
 
     /**
-     * Find refresh token by token string
+     * Find refresh token by the raw token string presented by the client
      */
+    @Transactional(readOnly = true)
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        return refreshTokenRepository.findByTokenHash(hashToken(token));
     }
 
     /**
-     * Verify refresh token is valid (not expired and not revoked)
+     * Verify refresh token is valid (not expired and not revoked).
+     * Expired rows are left for the scheduled purge.
      */
     public RefreshToken verifyExpiration(RefreshToken token) {
         if (token.isExpired()) {
-            refreshTokenRepository.delete(token);
             throw new RuntimeException("Refresh token expired. Please sign in again.");
         }
 
@@ -82,11 +95,9 @@ public class RefreshTokenService {
      */
     @Transactional
     public void revokeToken(String token) {
-        refreshTokenRepository.findByToken(token).ifPresent(rt -> {
-            rt.setRevoked(true);
-            refreshTokenRepository.save(rt);
-            logger.info("Revoked refresh token for user: {}", rt.getUser().getUsername());
-        });
+        if (refreshTokenRepository.revokeByTokenHash(hashToken(token)) > 0) {
+            logger.info("Revoked refresh token");
+        }
     }
 
     /**
@@ -94,36 +105,73 @@ public class RefreshTokenService {
      */
     @Transactional
     public void revokeAllUserTokens(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        refreshTokenRepository.deleteByUser(user);
-        logger.info("Revoked all refresh tokens for user: {}", user.getUsername());
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+        refreshTokenRepository.deleteByUserId(userId);
+        logger.info("Revoked all refresh tokens for user id: {}", userId);
     }
 
     /**
-     * Cleanup expired tokens (should be run periodically)
+     * Purge expired and revoked tokens in bounded batches.
+     * Each batch is deleted in its own short transaction so the purge never holds long locks.
      */
-    @Transactional
-    public void cleanupExpiredTokens() {
-        refreshTokenRepository.deleteExpiredTokens(Instant.now());
-        logger.info("Cleaned up expired refresh tokens");
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval:3600000}",
+               initialDelayString = "${jwt.refresh-purge-initial-delay:60000}")
+    public void purgeExpiredTokens() {
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = refreshTokenRepository.findPurgeableIds(Instant.now(), PageRequest.of(0, purgeBatchSize));
+            if (!ids.isEmpty()) {
+                purged += refreshTokenRepository.deleteByIdIn(ids);
+            }
+        } while (ids.size() == purgeBatchSize);
+
+        if (purged > 0) {
+            logger.info("Purged {} expired or revoked refresh tokens", purged);
+        }
     }
 
     /**
-     * Rotate refresh token - create new one and revoke old one
+     * Rotate refresh token - one lookup, then a single conditional update that swaps the digest
+     * and extends the expiry. A token that was already rotated (or revoked/expired in between)
+     * matches no row, so replaying an old token fails.
      */
     @Transactional
     public RefreshToken rotateRefreshToken(String oldToken) {
         RefreshToken existingToken = findByToken(oldToken)
-                .orElseThrow(() -> new RuntimeException("Refresh token not found"));
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
 
         verifyExpiration(existingToken);
 
-        // Revoke old token
-        existingToken.setRevoked(true);
-        refreshTokenRepository.save(existingToken);
+        String newToken = generateToken();
+        String newHash = hashToken(newToken);
+        Instant newExpiry = Instant.now().plusMillis(refreshTokenDurationMs);
 
-        // Create new token
-        return createRefreshToken(existingToken.getUser().getId());
+        int updated = refreshTokenRepository.rotate(
+                existingToken.getId(), existingToken.getTokenHash(), newHash, newExpiry, Instant.now());
+        if (updated == 0) {
+            throw new RuntimeException("Refresh token is no longer valid. Please sign in again.");
+        }
+
+        // The update cleared the persistence context, so the instance is detached and safe to adjust
+        existingToken.setTokenHash(newHash);
+        existingToken.setExpiryDate(newExpiry);
+        existingToken.setToken(newToken);
+        return existingToken;
+    }
+
+    private String generateToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -4,30 +4,43 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.realestatecrm.concurrency.Bulkheaded;
 import com.realestatecrm.dto.savedsearch.PropertySearchCriteriaRequest;
 import com.realestatecrm.dto.savedsearch.SavedSearchRequest;
 import com.realestatecrm.dto.savedsearch.SavedSearchResponse;
 import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
 import com.realestatecrm.entity.*;
+import com.realestatecrm.enums.PropertyDataType;
 import com.realestatecrm.enums.PropertyStatus;
 import com.realestatecrm.mapper.SavedSearchMapper;
 import com.realestatecrm.repository.*;
+import com.realestatecrm.repository.projection.PropertySearchRow;
+import com.realestatecrm.search.PropertySearchMatcher;
+import com.realestatecrm.search.PropertySearchSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.ZoneId;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -53,32 +66,78 @@ public class SavedSearchService {
     // TypeReference constants for JSON deserialization optimization
     private static final TypeReference<List<SearchFilterDTO>> SEARCH_FILTER_LIST_TYPE =
             new TypeReference<List<SearchFilterDTO>>() {};
-    private static final TypeReference<List<String>> STRING_LIST_TYPE =
-            new TypeReference<List<String>>() {};
 
     private final SavedSearchRepository savedSearchRepository;
     private final CustomerRepository customerRepository;
     private final PropertyRepository propertyRepository;
     private final AttributeValueRepository attributeValueRepository;
-    private final PropertyAttributeRepository propertyAttributeRepository;
+    private final PropertyAttributeCatalog attributeCatalog;
+    private final PropertySearchMatcher searchMatcher;
     private final SavedSearchMapper savedSearchMapper;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer fetchStageTimer;
+    private final Timer matchStageTimer;
+    private final Timer hydrateStageTimer;
+    private final DistributionSummary candidatesSummary;
+    private final DistributionSummary matchesSummary;
+    private final Map<PropertyDataType, Counter> filterCounters;
+    private final Counter slowSearchCounter;
+    private final Duration slowSearchThreshold;
 
     @Autowired
     public SavedSearchService(SavedSearchRepository savedSearchRepository,
                               CustomerRepository customerRepository,
                               PropertyRepository propertyRepository,
                               AttributeValueRepository attributeValueRepository,
-                              PropertyAttributeRepository propertyAttributeRepository,
-                              SavedSearchMapper savedSearchMapper) {
+                              PropertyAttributeCatalog attributeCatalog,
+                              PropertySearchMatcher searchMatcher,
+                              SavedSearchMapper savedSearchMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${search.slow-threshold:1s}") Duration slowSearchThreshold) {
         this.savedSearchRepository = savedSearchRepository;
         this.customerRepository = customerRepository;
         this.propertyRepository = propertyRepository;
         this.attributeValueRepository = attributeValueRepository;
-        this.propertyAttributeRepository = propertyAttributeRepository;
+        this.attributeCatalog = attributeCatalog;
+        this.searchMatcher = searchMatcher;
         this.savedSearchMapper = savedSearchMapper;
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchStageTimer = searchStageTimer(meterRegistry, "fetch");
+        this.matchStageTimer = searchStageTimer(meterRegistry, "match");
+        this.hydrateStageTimer = searchStageTimer(meterRegistry, "hydrate");
+        this.candidatesSummary = DistributionSummary.builder("property.search.candidates")
+                .description("ACTIVE listings read by the fetch stage of a search")
+                .baseUnit("properties")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesSummary = DistributionSummary.builder("property.search.matches")
+                .description("Listings matching every filter of a search, before paging")
+                .baseUnit("properties")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.filterCounters = new EnumMap<>(PropertyDataType.class);
+        for (PropertyDataType dataType : PropertyDataType.values()) {
+            filterCounters.put(dataType, Counter.builder("property.search.filters")
+                    .description("Search filters applied, by attribute data type")
+                    .tag("dataType", dataType.name())
+                    .register(meterRegistry));
+        }
+        this.slowSearchCounter = Counter.builder("property.search.slow")
+                .description("Searches slower than search.slow-threshold")
+                .register(meterRegistry);
+        this.slowSearchThreshold = slowSearchThreshold;
+    }
+
+    private static Timer searchStageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("property.search.stage")
+                .description("Property search stage duration; fetch and hydrate hold a database connection, match does not")
+                .tag("stage", stage)
+                .register(meterRegistry);
     }
 
     @Transactional(readOnly = true)
@@ -90,14 +149,24 @@ public class SavedSearchService {
 
     @Transactional(readOnly = true)
     public List<SavedSearchResponse> getSavedSearchesByCustomer(Long customerId) {
-        return savedSearchRepository.findByCustomerIdWithCustomer(customerId).stream()
+        return savedSearchRepository.findListRowsByCustomerId(customerId).stream()
+                .map(savedSearchMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The customer's most recently updated saved searches, at most {@code limit} of them.
+     */
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getLatestSavedSearchesByCustomer(Long customerId, int limit) {
+        return savedSearchRepository.findListRowsByCustomerId(customerId, PageRequest.of(0, limit)).stream()
                 .map(savedSearchMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<SavedSearchResponse> getSavedSearchesByAgent(Long agentId) {
-        return savedSearchRepository.findByCustomerAgentId(agentId).stream()
+        return savedSearchRepository.findListRowsByAgentId(agentId).stream()
                 .map(savedSearchMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -194,101 +263,85 @@ public class SavedSearchService {
     }
 
     /**
-     * Execute a property search based on dynamic criteria.
-     * <p>
-     * PERFORMANCE WARNING:
-     * This method currently uses IN-MEMORY FILTERING which has significant limitations:
-     * - Loads ALL ACTIVE properties into memory
-     * - Applies filters in Java rather than at the database level
-     * - Performance degrades with large datasets (10,000+ properties)
-     * - Not suitable for production at scale
-     * <p>
-     * OPTIMIZATION NEEDED (High Priority):
-     * For production deployment with large property datasets, this method should be
-     * rewritten to use JPA Criteria API or QueryDSL to build dynamic database queries.
-     * This would allow:
-     * - Database-level filtering and pagination
-     * - Proper indexing utilization
-     * - Better query performance (from O(n) to O(log n) with indexes)
-     * - Reduced memory consumption
-     * <p>
-     * CURRENT OPTIMIZATIONS:
-     * - Batch fetching of AttributeValues to avoid N+1 queries
-     * - Performance logging with warnings for slow queries (>1s)
-     * <p>
-     * RECOMMENDED APPROACH FOR REFACTORING:
-     * 1. Use JPA Criteria API with CriteriaBuilder
-     * 2. Build JOIN queries to AttributeValue based on filters
-     * 3. Apply filtering at SQL level using WHERE clauses
-     * 4. Use database pagination with LIMIT/OFFSET
+     * Execute a property search based on dynamic criteria, in three stages so the pooled connection is
+     * only held while rows are being read:
+     * <ol>
+     *   <li>fetch - one short read-only transaction returns immutable snapshots: the ACTIVE listings'
+     *   sort keys and the values of the filtered attributes;</li>
+     *   <li>match - filtering, sorting and paging run on the snapshots with no transaction;</li>
+     *   <li>hydrate - a second short transaction loads only the requested page of listings.</li>
+     * </ol>
+     * Validation uses the cached attribute catalog and never opens a connection. Each stage's duration
+     * is recorded in the {@code property.search.stage} timer; fetch and hydrate are the connection hold times.
+     * Candidate and match counts, filters by data type and searches over {@code search.slow-threshold} are
+     * recorded alongside, under {@code property.search.*}.
+     * Searches run on the {@code search} bulkhead, away from the request threads serving CRUD.
      *
      * @param searchRequest Search criteria with filters, pagination, and sorting
      * @return Page of matching properties
      */
-    @Transactional(readOnly = true)
+    @Bulkheaded("search")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<Property> executeSearch(PropertySearchCriteriaRequest searchRequest) {
-        long startTime = System.currentTimeMillis();
         logger.debug("Starting property search with {} filters", searchRequest.getFilters().size());
 
         validateSearchRequest(searchRequest);
-
-        // Get all ACTIVE properties
-        List<Property> allProperties = propertyRepository.findByStatus(PropertyStatus.ACTIVE);
-        logger.debug("Retrieved {} ACTIVE properties from database", allProperties.size());
-
-        // Batch fetch all AttributeValues to avoid N+1 query problem
-        Set<Long> propertyIds = allProperties.stream()
-                .map(Property::getId)
-                .collect(Collectors.toSet());
+        Pageable pageable = createPageable(searchRequest);
+        Comparator<PropertySearchRow> ordering = searchMatcher.ordering(pageable.getSort());
 
         Set<Long> attributeIds = searchRequest.getFilters().stream()
                 .map(SearchFilterDTO::getAttributeId)
                 .collect(Collectors.toSet());
 
-        Map<Long, Map<Long, AttributeValue>> attributeValueCache =
-                batchFetchAttributeValues(propertyIds, attributeIds);
-
-        long batchFetchTime = System.currentTimeMillis();
-        logger.debug("Batch fetched attribute values in {} ms", (batchFetchTime - startTime));
-
-        // Filter properties based on search criteria
-        List<Property> matchedProperties = allProperties.stream()
-                .filter(property -> matchesAllFilters(property, searchRequest.getFilters(), attributeValueCache))
-                .collect(Collectors.toList());
-
-        long filterTime = System.currentTimeMillis();
-        logger.debug("Filtered to {} matching properties in {} ms",
-                matchedProperties.size(), (filterTime - batchFetchTime));
-
-        // Apply sorting and pagination
-        Pageable pageable = createPageable(searchRequest);
-
-        // Manual pagination since we're filtering in memory
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), matchedProperties.size());
-
-        List<Property> pageContent = start < matchedProperties.size()
-            ? matchedProperties.subList(start, end)
-            : List.of();
-
-        long totalTime = System.currentTimeMillis() - startTime;
-        logger.info("Property search completed: {} matches out of {} properties, returning page {} with {} results (total time: {} ms)",
-                matchedProperties.size(), allProperties.size(), searchRequest.getPage(),
-                pageContent.size(), totalTime);
+        for (SearchFilterDTO filter : searchRequest.getFilters()) {
+            filterCounters.get(filter.getDataType()).increment();
+        }
 
-        if (totalTime > 1000) {
-            logger.warn("Property search took longer than 1 second ({} ms). Consider optimization for {} total properties.",
-                    totalTime, allProperties.size());
+        long fetchStart = System.nanoTime();
+        PropertySearchSnapshot snapshot = readOnlyTransaction.execute(status -> PropertySearchSnapshot.of(
+                propertyRepository.findSearchRowsByStatus(PropertyStatus.ACTIVE),
+                attributeValueRepository.findRowsByAttributeIdInAndPropertyStatus(attributeIds, PropertyStatus.ACTIVE)));
+        long fetchNanos = System.nanoTime() - fetchStart;
+        fetchStageTimer.record(fetchNanos, TimeUnit.NANOSECONDS);
+
+        long matchStart = System.nanoTime();
+        List<Long> matchedIds = searchMatcher.match(snapshot, searchRequest.getFilters(), ordering);
+        int start = (int) Math.min(pageable.getOffset(), matchedIds.size());
+        int end = Math.min(start + pageable.getPageSize(), matchedIds.size());
+        List<Long> pageIds = matchedIds.subList(start, end);
+        long matchNanos = System.nanoTime() - matchStart;
+        matchStageTimer.record(matchNanos, TimeUnit.NANOSECONDS);
+
+        long hydrateStart = System.nanoTime();
+        List<Property> pageContent = pageIds.isEmpty() ? List.of() : loadInOrder(pageIds);
+        long hydrateNanos = System.nanoTime() - hydrateStart;
+        hydrateStageTimer.record(hydrateNanos, TimeUnit.NANOSECONDS);
+
+        candidatesSummary.record(snapshot.candidates().size());
+        matchesSummary.record(matchedIds.size());
+
+        long totalNanos = fetchNanos + matchNanos + hydrateNanos;
+        logger.info("Property search completed: {} matches out of {} properties, returning page {} with {} results " +
+                        "(fetch {} ms, match {} ms, hydrate {} ms)",
+                matchedIds.size(), snapshot.candidates().size(), searchRequest.getPage(), pageContent.size(),
+                TimeUnit.NANOSECONDS.toMillis(fetchNanos), TimeUnit.NANOSECONDS.toMillis(matchNanos),
+                TimeUnit.NANOSECONDS.toMillis(hydrateNanos));
+
+        if (totalNanos > slowSearchThreshold.toNanos()) {
+            slowSearchCounter.increment();
+            logger.warn("Property search took longer than {} ms ({} ms). Consider optimization for {} total properties.",
+                    slowSearchThreshold.toMillis(), TimeUnit.NANOSECONDS.toMillis(totalNanos), snapshot.candidates().size());
         }
 
-        return new PageImpl<>(pageContent, pageable, matchedProperties.size());
+        return new PageImpl<>(pageContent, pageable, matchedIds.size());
     }
 
-    @Transactional(readOnly = true)
+    @Bulkheaded("search")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<Property> executeSavedSearch(Long searchId, Long agentId, Integer page, Integer size, String sort) {
         logger.debug("Executing saved search id={} for agent id={}", searchId, agentId);
 
-        SavedSearch savedSearch = savedSearchRepository.findByIdWithCustomer(searchId)
+        SavedSearch savedSearch = readOnlyTransaction.execute(status -> savedSearchRepository.findByIdWithCustomer(searchId))
                 .orElseThrow(() -> new EntityNotFoundException("Saved search not found with id: " + searchId));
 
         // Authorization check: ensure the agent owns this customer's saved search
@@ -323,141 +376,16 @@ public class SavedSearchService {
     }
 
     /**
-     * Batch fetch all AttributeValues for given properties and attributes to avoid N+1 queries.
-     *
-     * @param propertyIds Set of property IDs
-     * @param attributeIds Set of attribute IDs
-     * @return Map of propertyId -> (attributeId -> AttributeValue)
+     * Hydrate stage: the page's listings (with their agents) in match order.
      */
-    private Map<Long, Map<Long, AttributeValue>> batchFetchAttributeValues(
-            Set<Long> propertyIds, Set<Long> attributeIds) {
-
-        if (propertyIds.isEmpty() || attributeIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        // Fetch all relevant AttributeValues in one query
-        List<AttributeValue> attributeValues = attributeValueRepository
-                .findByPropertyIdInAndAttributeIdIn(new ArrayList<>(propertyIds), new ArrayList<>(attributeIds));
-
-        // Build nested map: propertyId -> attributeId -> AttributeValue
-        Map<Long, Map<Long, AttributeValue>> cache = new HashMap<>();
-        for (AttributeValue av : attributeValues) {
-            cache.computeIfAbsent(av.getProperty().getId(), k -> new HashMap<>())
-                    .put(av.getAttribute().getId(), av);
-        }
-
-        return cache;
-    }
-
-    private boolean matchesAllFilters(Property property, List<SearchFilterDTO> filters,
-                                      Map<Long, Map<Long, AttributeValue>> attributeValueCache) {
-        for (SearchFilterDTO filter : filters) {
-            if (!matchesFilter(property, filter, attributeValueCache)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private boolean matchesFilter(Property property, SearchFilterDTO filter,
-                                  Map<Long, Map<Long, AttributeValue>> attributeValueCache) {
-        // Get AttributeValue from cache instead of querying database
-        Map<Long, AttributeValue> propertyAttributes = attributeValueCache.get(property.getId());
-        if (propertyAttributes == null) {
-            return false; // Property has no attribute values
-        }
-
-        AttributeValue value = propertyAttributes.get(filter.getAttributeId());
-        if (value == null) {
-            return false; // Property doesn't have this specific attribute value
-        }
-
-        return switch (filter.getDataType()) {
-            case NUMBER -> matchesNumberFilter(value.getNumberValue(), filter.getMinValue(), filter.getMaxValue());
-            case DATE -> matchesDateFilter(value.getDateValue(), filter.getMinDate(), filter.getMaxDate());
-            case TEXT -> matchesTextFilter(value.getTextValue(), filter.getTextValue());
-            case SINGLE_SELECT -> matchesSingleSelectFilter(value.getTextValue(), filter.getSelectedValues());
-            case MULTI_SELECT -> matchesMultiSelectFilter(value.getMultiSelectValue(), filter.getSelectedValues());
-            case BOOLEAN -> matchesBooleanFilter(value.getBooleanValue(), filter.getBooleanValue());
-        };
-    }
-
-    private boolean matchesNumberFilter(BigDecimal propertyValue, BigDecimal minValue, BigDecimal maxValue) {
-        if (propertyValue == null) return false;
-
-        if (minValue != null && propertyValue.compareTo(minValue) < 0) {
-            return false;
-        }
-
-        if (maxValue != null && propertyValue.compareTo(maxValue) > 0) {
-            return false;
-        }
-
-        return true;
-    }
-
-    private boolean matchesDateFilter(Date propertyDateValue, LocalDate minDate, LocalDate maxDate) {
-        if (propertyDateValue == null) return false;
-
-        // Convert Date to LocalDate for comparison
-        LocalDate propertyDate = propertyDateValue.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDate();
-
-        if (minDate != null && propertyDate.isBefore(minDate)) {
-            return false;
-        }
-
-        if (maxDate != null && propertyDate.isAfter(maxDate)) {
-            return false;
-        }
-
-        return true;
-    }
-
-    private boolean matchesTextFilter(String propertyValue, String searchText) {
-        if (searchText == null || searchText.trim().isEmpty()) return true;
-        if (propertyValue == null) return false;
-
-        // Case-insensitive contains search
-        return propertyValue.toLowerCase().contains(searchText.toLowerCase());
-    }
-
-    private boolean matchesSingleSelectFilter(String propertyValue, List<String> selectedValues) {
-        if (selectedValues == null || selectedValues.isEmpty()) return true;
-        if (propertyValue == null) return false;
-
-        // Property value must match one of the selected values (OR logic)
-        return selectedValues.stream()
-                .anyMatch(value -> value.equalsIgnoreCase(propertyValue));
-    }
-
-    private boolean matchesMultiSelectFilter(String propertyMultiSelectValue, List<String> selectedValues) {
-        if (selectedValues == null || selectedValues.isEmpty()) return true;
-        if (propertyMultiSelectValue == null) return false;
-
-        // Property's multi-select value should contain at least one of the selected values
-        // The multiSelectValue is stored as a JSON array string, e.g., ["option1", "option2"]
-        try {
-            List<String> propertyValues = objectMapper.readValue(propertyMultiSelectValue, STRING_LIST_TYPE);
-
-            // Check if property has ANY of the selected values (OR logic)
-            return selectedValues.stream()
-                    .anyMatch(selectedValue -> propertyValues.stream()
-                            .anyMatch(pv -> pv.equalsIgnoreCase(selectedValue)));
-        } catch (JsonProcessingException e) {
-            // Fallback to simple string contains if JSON parsing fails
-            return selectedValues.stream()
-                    .anyMatch(value -> propertyMultiSelectValue.contains(value));
-        }
-    }
-
-    private boolean matchesBooleanFilter(Boolean propertyValue, Boolean filterValue) {
-        if (filterValue == null) return true;
-        if (propertyValue == null) return false;
-
-        return propertyValue.equals(filterValue);
+    private List<Property> loadInOrder(List<Long> ids) {
+        List<Property> properties = readOnlyTransaction.execute(status -> propertyRepository.findWithAgentByIdIn(ids));
+        Map<Long, Property> byId = properties.stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull) // deleted between the stages
+                .collect(Collectors.toList());
     }
 
     private void validateSavedSearchRequest(SavedSearchRequest request) {
@@ -494,16 +422,16 @@ public class SavedSearchService {
             throw new IllegalArgumentException("Data type is required for each filter");
         }
 
-        // Verify that the attribute exists and is searchable
-        PropertyAttribute attribute = propertyAttributeRepository.findById(filter.getAttributeId())
+        // Verify that the attribute exists and is searchable (cached catalog, no database round trip)
+        PropertyAttributeCatalog.CachedAttribute attribute = attributeCatalog.findById(filter.getAttributeId())
                 .orElseThrow(() -> new EntityNotFoundException("Property attribute not found with id: " + filter.getAttributeId()));
 
-        if (!attribute.getIsSearchable()) {
-            throw new IllegalArgumentException("Attribute '" + attribute.getName() + "' is not searchable");
+        if (!attribute.searchable()) {
+            throw new IllegalArgumentException("Attribute '" + attribute.name() + "' is not searchable");
         }
 
         // Validate data type matches
-        if (!attribute.getDataType().equals(filter.getDataType())) {
+        if (!attribute.dataType().equals(filter.getDataType())) {
             throw new IllegalArgumentException("Filter data type does not match attribute data type");
         }
 
@@ -1,11 +1,13 @@
 package com.realestatecrm.service;
 
+import com.realestatecrm.config.MetricsConfig;
 import com.realestatecrm.entity.User;
 import com.realestatecrm.entity.UserHierarchy;
 import com.realestatecrm.enums.Role;
 import com.realestatecrm.enums.UserStatus;
 import com.realestatecrm.repository.UserHierarchyRepository;
 import com.realestatecrm.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,6 +19,7 @@ import java.util.Optional;
 
 @Service
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class UserService {
 
     private final UserRepository userRepository;
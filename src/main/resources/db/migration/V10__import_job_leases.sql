@@ -0,0 +1,6 @@
+-- Import jobs are leased by the instance that queued them and renewed by its heartbeat. Another
+-- instance only marks a queued or running job interrupted once its lease has expired; jobs from
+-- before this migration have no lease and are taken over by the first sweep.
+
+ALTER TABLE import_jobs ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE import_jobs ADD COLUMN lease_expires_at TIMESTAMP(6);
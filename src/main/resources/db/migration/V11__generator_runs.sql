@@ -0,0 +1,9 @@
+-- Completion marker of the synthetic data set (generator profile). Written only after every row and
+-- counter is in, so a run that stopped half way is recognised and cleared on the next start.
+
+CREATE TABLE generator_runs (
+    seed BIGINT PRIMARY KEY,
+    as_of DATE NOT NULL,
+    row_count BIGINT NOT NULL,
+    completed_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,131 @@
+-- Baseline schema (PostgreSQL), matching the JPA mappings at the point migrations were introduced.
+-- Existing databases are baselined at this version by Flyway (spring.flyway.baseline-on-migrate),
+-- so this script only runs against an empty schema.
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username      VARCHAR(255) NOT NULL UNIQUE,
+    password      VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL UNIQUE,
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    role          VARCHAR(255) NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    created_date  TIMESTAMP(6) NOT NULL,
+    updated_date  TIMESTAMP(6)
+);
+
+CREATE TABLE user_hierarchy (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    supervisor_id   BIGINT NOT NULL REFERENCES users (id),
+    subordinate_id  BIGINT NOT NULL REFERENCES users (id),
+    created_date    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_user_hierarchy_supervisor_subordinate UNIQUE (supervisor_id, subordinate_id)
+);
+
+CREATE TABLE properties (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title         VARCHAR(255) NOT NULL,
+    description   TEXT,
+    price         NUMERIC(15, 2) NOT NULL,
+    agent_id      BIGINT NOT NULL REFERENCES users (id),
+    status        VARCHAR(255) NOT NULL,
+    created_date  TIMESTAMP(6) NOT NULL,
+    updated_date  TIMESTAMP(6)
+);
+
+CREATE TABLE property_attributes (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255) NOT NULL,
+    data_type      VARCHAR(255) NOT NULL,
+    is_required    BOOLEAN NOT NULL,
+    is_searchable  BOOLEAN NOT NULL,
+    category       VARCHAR(255) NOT NULL,
+    display_order  INTEGER,
+    created_date   TIMESTAMP(6) NOT NULL,
+    updated_date   TIMESTAMP(6)
+);
+
+CREATE TABLE property_attribute_options (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    attribute_id   BIGINT NOT NULL REFERENCES property_attributes (id),
+    option_value   VARCHAR(255) NOT NULL,
+    display_order  INTEGER,
+    CONSTRAINT uk_property_attribute_options_attribute_value UNIQUE (attribute_id, option_value)
+);
+
+CREATE TABLE attribute_value (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id         BIGINT NOT NULL REFERENCES properties (id),
+    attribute_id        BIGINT NOT NULL REFERENCES property_attributes (id),
+    text_value          VARCHAR(255),
+    number_value        NUMERIC(15, 2),
+    boolean_value       BOOLEAN,
+    multi_select_value  TEXT,
+    date_value          TIMESTAMP(6),
+    CONSTRAINT uk_attribute_value_property_attribute UNIQUE (property_id, attribute_id)
+);
+
+CREATE TABLE property_sharing (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    property_id          BIGINT NOT NULL REFERENCES properties (id),
+    shared_with_user_id  BIGINT NOT NULL REFERENCES users (id),
+    shared_by_user_id    BIGINT NOT NULL REFERENCES users (id),
+    created_date         TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_property_sharing_property_user UNIQUE (property_id, shared_with_user_id)
+);
+
+CREATE TABLE customers (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    phone         VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) UNIQUE,
+    budget_min    NUMERIC(15, 2),
+    budget_max    NUMERIC(15, 2),
+    notes         TEXT,
+    lead_source   VARCHAR(255),
+    status        VARCHAR(255) NOT NULL,
+    agent_id      BIGINT NOT NULL REFERENCES users (id),
+    created_date  TIMESTAMP(6) NOT NULL,
+    updated_date  TIMESTAMP(6)
+);
+
+CREATE TABLE customer_notes (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id         BIGINT NOT NULL REFERENCES customers (id),
+    created_by_user_id  BIGINT NOT NULL REFERENCES users (id),
+    content             TEXT NOT NULL,
+    created_date        TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE customer_interactions (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id          BIGINT NOT NULL REFERENCES customers (id),
+    user_id              BIGINT NOT NULL REFERENCES users (id),
+    type                 VARCHAR(255) NOT NULL,
+    subject              VARCHAR(255) NOT NULL,
+    notes                TEXT,
+    interaction_date     TIMESTAMP(6) NOT NULL,
+    duration_minutes     INTEGER,
+    related_property_id  BIGINT REFERENCES properties (id),
+    created_date         TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE saved_searches (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id   BIGINT NOT NULL REFERENCES customers (id) ON DELETE CASCADE,
+    name          VARCHAR(100) NOT NULL,
+    description   VARCHAR(500),
+    filters_json  TEXT NOT NULL,
+    created_date  TIMESTAMP(6) NOT NULL,
+    updated_date  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE refresh_tokens (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT NOT NULL REFERENCES users (id),
+    token        VARCHAR(255) NOT NULL UNIQUE,
+    expiry_date  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked      BOOLEAN NOT NULL
+);
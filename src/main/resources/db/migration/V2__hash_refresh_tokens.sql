@@ -0,0 +1,10 @@
+-- Refresh tokens are stored as SHA-256 hex digests instead of the raw token value.
+-- Existing rows are hashed in place so outstanding sessions keep working.
+
+UPDATE refresh_tokens SET token = encode(sha256(convert_to(token, 'UTF8')), 'hex');
+
+ALTER TABLE refresh_tokens RENAME COLUMN token TO token_hash;
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash TYPE VARCHAR(64);
+
+-- Supports the scheduled purge of expired rows
+CREATE INDEX idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
@@ -0,0 +1,54 @@
+-- Switch primary keys from IDENTITY columns to pooled sequences (allocationSize = 50 in the entities).
+-- With IDENTITY, Hibernate has to execute every INSERT on its own to read the key back, which
+-- disables JDBC batching. Each sequence must use INCREMENT BY 50 to match the pooled optimizer.
+--
+-- Each sequence is positioned one full block above the current MAX(id), so ids handed out by the
+-- pooled optimizer (next value - 49 .. next value) never collide with existing rows.
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE user_hierarchy_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('user_hierarchy_seq', COALESCE((SELECT MAX(id) FROM user_hierarchy), 0) + 50);
+ALTER TABLE user_hierarchy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE properties_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('properties_seq', COALESCE((SELECT MAX(id) FROM properties), 0) + 50);
+ALTER TABLE properties ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE property_attributes_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('property_attributes_seq', COALESCE((SELECT MAX(id) FROM property_attributes), 0) + 50);
+ALTER TABLE property_attributes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE property_attribute_options_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('property_attribute_options_seq', COALESCE((SELECT MAX(id) FROM property_attribute_options), 0) + 50);
+ALTER TABLE property_attribute_options ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE attribute_value_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('attribute_value_seq', COALESCE((SELECT MAX(id) FROM attribute_value), 0) + 50);
+ALTER TABLE attribute_value ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE property_sharing_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('property_sharing_seq', COALESCE((SELECT MAX(id) FROM property_sharing), 0) + 50);
+ALTER TABLE property_sharing ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE customers_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('customers_seq', COALESCE((SELECT MAX(id) FROM customers), 0) + 50);
+ALTER TABLE customers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE customer_notes_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('customer_notes_seq', COALESCE((SELECT MAX(id) FROM customer_notes), 0) + 50);
+ALTER TABLE customer_notes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE customer_interactions_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('customer_interactions_seq', COALESCE((SELECT MAX(id) FROM customer_interactions), 0) + 50);
+ALTER TABLE customer_interactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE saved_searches_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('saved_searches_seq', COALESCE((SELECT MAX(id) FROM saved_searches), 0) + 50);
+ALTER TABLE saved_searches ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('refresh_tokens_seq', COALESCE((SELECT MAX(id) FROM refresh_tokens), 0) + 50);
+ALTER TABLE refresh_tokens ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,26 @@
+-- Background file imports (POST /api/imports/...). Each row tracks one uploaded file and the
+-- checkpoint of its last committed chunk, so failed or interrupted imports can be resumed.
+
+CREATE SEQUENCE import_jobs_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE import_jobs (
+    id                     BIGINT PRIMARY KEY,
+    type                   VARCHAR(255) NOT NULL,
+    format                 VARCHAR(255) NOT NULL,
+    status                 VARCHAR(255) NOT NULL,
+    created_by             BIGINT NOT NULL REFERENCES users (id),
+    original_filename      VARCHAR(255),
+    source_path            VARCHAR(1000) NOT NULL,
+    error_path             VARCHAR(1000) NOT NULL,
+    last_committed_record  BIGINT NOT NULL,
+    processed_count        BIGINT NOT NULL,
+    imported_count         BIGINT NOT NULL,
+    rejected_count         BIGINT NOT NULL,
+    message                VARCHAR(1000),
+    started_at             TIMESTAMP(6),
+    finished_at            TIMESTAMP(6),
+    created_date           TIMESTAMP(6) NOT NULL,
+    updated_date           TIMESTAMP(6)
+);
+
+CREATE INDEX idx_import_jobs_created_by ON import_jobs (created_by);
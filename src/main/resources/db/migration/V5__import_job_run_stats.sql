@@ -0,0 +1,6 @@
+-- Customer imports skip duplicates separately from rejects, and every run (upload or resume)
+-- records its size and duration so throughput can be reported per run.
+
+ALTER TABLE import_jobs ADD COLUMN duplicate_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE import_jobs ADD COLUMN last_run_records BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE import_jobs ADD COLUMN last_run_millis BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Keyset-paginated customer timelines: newest first per customer, ties broken by id.
+-- Each page seeks straight to the last (date, id) seen instead of scanning the customer's history.
+
+CREATE INDEX idx_customer_notes_timeline ON customer_notes (customer_id, created_date DESC, id DESC);
+CREATE INDEX idx_customer_interactions_timeline ON customer_interactions (customer_id, interaction_date DESC, id DESC);
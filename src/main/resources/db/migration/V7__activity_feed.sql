@@ -0,0 +1,21 @@
+-- Team activity feed: notes, interactions, new customers and property status changes of a set of users,
+-- merged newest first. Each source is read through an index led by the acting user, so a page seeks to
+-- the last (date, id) seen per source instead of scanning the team's history.
+
+CREATE SEQUENCE property_status_changes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE property_status_changes (
+    id BIGINT PRIMARY KEY,
+    property_id BIGINT NOT NULL REFERENCES properties(id) ON DELETE CASCADE,
+    changed_by_user_id BIGINT NOT NULL REFERENCES users(id),
+    from_status VARCHAR(255) NOT NULL,
+    to_status VARCHAR(255) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_property_status_changes_property ON property_status_changes (property_id);
+CREATE INDEX idx_property_status_changes_feed ON property_status_changes (changed_by_user_id, changed_at DESC, id DESC);
+
+CREATE INDEX idx_customer_notes_feed ON customer_notes (created_by_user_id, created_date DESC, id DESC);
+CREATE INDEX idx_customer_interactions_feed ON customer_interactions (user_id, interaction_date DESC, id DESC);
+CREATE INDEX idx_customers_feed ON customers (agent_id, created_date DESC, id DESC);
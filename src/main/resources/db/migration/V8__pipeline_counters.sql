@@ -0,0 +1,24 @@
+-- Pre-aggregated pipeline counters for the reports: one row per agent, day, metric and dimension
+-- (status entered or interaction type). Maintained incrementally in the transaction of each change, so a
+-- report reads at most agents x days x dimensions rows however long the history is.
+
+CREATE TABLE pipeline_daily_counters (
+    agent_id BIGINT NOT NULL REFERENCES users(id),
+    activity_date DATE NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    dimension VARCHAR(50) NOT NULL,
+    total BIGINT NOT NULL,
+    PRIMARY KEY (agent_id, activity_date, metric, dimension)
+);
+
+-- Seed what the existing rows record exactly. Customer status transitions were never stored, so those
+-- counters start empty and fill from here on.
+INSERT INTO pipeline_daily_counters (agent_id, activity_date, metric, dimension, total)
+SELECT user_id, CAST(interaction_date AS DATE), 'INTERACTION_LOGGED', type, COUNT(*)
+FROM customer_interactions
+GROUP BY user_id, CAST(interaction_date AS DATE), type;
+
+INSERT INTO pipeline_daily_counters (agent_id, activity_date, metric, dimension, total)
+SELECT changed_by_user_id, CAST(changed_at AS DATE), 'PROPERTY_STATUS_CHANGED', to_status, COUNT(*)
+FROM property_status_changes
+GROUP BY changed_by_user_id, CAST(changed_at AS DATE), to_status;
@@ -0,0 +1,4 @@
+-- Customer imports compare emails in lower case, including the per-chunk IN probe for customers created
+-- while an import runs. The unique index on email cannot serve LOWER(email) IN (...), this one can.
+
+CREATE INDEX idx_customers_email_lower ON customers (LOWER(email));
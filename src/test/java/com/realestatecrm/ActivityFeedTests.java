@@ -0,0 +1,180 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.CustomerInteraction;
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.ActivityFeedJdbcRepository;
+import com.realestatecrm.repository.projection.InteractionActivityRow;
+import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.PropertyService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class ActivityFeedTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ActivityFeedJdbcRepository activityFeedRepository;
+
+    private User agent;
+
+    @BeforeEach
+    void createAgent() {
+        agent = TestUsers.newAgent(userService, "feed");
+    }
+
+    @Test
+    @DisplayName("Walking the feed by cursor returns every activity of every source once, most recent first")
+    void feedMergesAllSourcesAcrossPages() throws Exception {
+        Customer customer = customerService.createCustomer(new Customer("Feed", "Customer", "555-0142", agent));
+        LocalDateTime base = LocalDateTime.of(2024, 6, 1, 9, 0);
+        for (int i = 0; i < 3; i++) {
+            customerService.createCustomerInteraction(customer.getId(), agent,
+                    new CustomerInteraction(null, null, InteractionType.PHONE_CALL, "Call " + i, base.plusHours(i)));
+        }
+        customerService.createCustomerNote(customer.getId(), agent, "First note");
+        customerService.createCustomerNote(customer.getId(), agent, "Second note");
+        Property property = propertyService.createProperty(new Property("Feed listing", new BigDecimal("250000"), agent));
+        propertyService.updatePropertyStatus(property.getId(), PropertyStatus.PENDING);
+        // Setting the current status again is not a change
+        propertyService.updatePropertyStatus(property.getId(), PropertyStatus.PENDING);
+        propertyService.updatePropertyStatus(property.getId(), PropertyStatus.SOLD);
+
+        List<JsonNode> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = fetch("/api/activity?size=3" + (cursor != null ? "&cursor=" + cursor : ""));
+            assertThat(page.get("items").size()).isLessThanOrEqualTo(3);
+            page.get("items").forEach(seen::add);
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(8);
+        Set<String> keys = new HashSet<>();
+        LocalDateTime previous = LocalDateTime.MAX;
+        for (JsonNode item : seen) {
+            assertThat(keys.add(item.get("type").asText() + ":" + item.get("id").asLong())).isTrue();
+            assertThat(item.get("userId").asLong()).isEqualTo(agent.getId());
+            LocalDateTime occurredAt = LocalDateTime.parse(item.get("occurredAt").asText());
+            assertThat(occurredAt).isBeforeOrEqualTo(previous);
+            previous = occurredAt;
+        }
+
+        assertThat(seen.get(0).get("type").asText()).isEqualTo("PROPERTY_STATUS_CHANGED");
+        assertThat(seen.get(0).get("summary").asText()).isEqualTo("PENDING -> SOLD");
+        assertThat(seen.stream().filter(item -> item.get("type").asText().equals("NOTE_ADDED"))
+                .map(item -> item.get("summary").asText()))
+                .containsExactly("Second note", "First note");
+        assertThat(seen.stream().filter(item -> item.get("type").asText().equals("CUSTOMER_CREATED"))
+                .map(item -> item.get("customerId").asLong()))
+                .containsExactly(customer.getId());
+        // The interactions took place before anything else was recorded, so they close the feed
+        assertThat(seen.subList(5, 8)).extracting(item -> item.get("summary").asText())
+                .containsExactly("PHONE_CALL: Call 2", "PHONE_CALL: Call 1", "PHONE_CALL: Call 0");
+    }
+
+    @Test
+    @DisplayName("Per-user seeks and the single IN query for large user sets return the same rows")
+    void perUserSeeksMatchInQuery() {
+        User other = TestUsers.newAgent(userService, "feedother");
+        Customer mine = customerService.createCustomer(new Customer("Seek", "Mine", "555-0144", agent));
+        Customer theirs = customerService.createCustomer(new Customer("Seek", "Theirs", "555-0145", other));
+        LocalDateTime base = LocalDateTime.of(2024, 7, 1, 9, 0);
+        for (int i = 0; i < 4; i++) {
+            customerService.createCustomerInteraction(mine.getId(), agent,
+                    new CustomerInteraction(null, null, InteractionType.EMAIL, "Mine " + i, base.plusHours(2 * i)));
+            customerService.createCustomerInteraction(theirs.getId(), other,
+                    new CustomerInteraction(null, null, InteractionType.EMAIL, "Theirs " + i, base.plusHours(2 * i + 1)));
+        }
+
+        List<Long> team = List.of(agent.getId(), other.getId());
+        // Ids no user has push the set over the per-user limit without adding rows
+        List<Long> large = new ArrayList<>(team);
+        for (long id = -1; large.size() <= 101; id--) {
+            large.add(id);
+        }
+        LocalDateTime before = base.plusHours(7);
+
+        List<InteractionActivityRow> seeks = activityFeedRepository.findInteractionsBefore(team, before, 0L, 5);
+        List<InteractionActivityRow> in = activityFeedRepository.findInteractionsBefore(large, before, 0L, 5);
+
+        assertThat(seeks).extracting(InteractionActivityRow::subject)
+                .containsExactly("Mine 3", "Theirs 2", "Mine 2", "Theirs 1", "Mine 1");
+        assertThat(in).isEqualTo(seeks);
+    }
+
+    @Test
+    @DisplayName("The feed only covers the users the caller can see")
+    void feedIsLimitedToAccessibleUsers() throws Exception {
+        Customer customer = customerService.createCustomer(new Customer("Hidden", "Customer", "555-0143", agent));
+        customerService.createCustomerNote(customer.getId(), agent, "Not for alice");
+
+        String body = mockMvc.perform(get("/api/activity?size=100").with(user("alice").roles("AGENT")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        for (JsonNode item : objectMapper.readTree(body).get("items")) {
+            assertThat(item.get("userId").asLong()).isNotEqualTo(agent.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("A malformed cursor or page size is rejected with 400")
+    void rejectsBadCursorAndSize() throws Exception {
+        mockMvc.perform(get("/api/activity?cursor=not-a-cursor").with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/activity?size=0").with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url).with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,123 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.repository.PropertyRepository;
+import com.realestatecrm.repository.UserRepository;
+import com.realestatecrm.service.PropertyAttributeCatalog;
+import com.realestatecrm.service.PropertyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class AttributeValueUpsertConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 50;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyAttributeCatalog attributeCatalog;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long propertyId;
+    private Long numberAttributeId;
+    private Long textAttributeId;
+
+    @BeforeEach
+    void createProperty() {
+        User agent = userRepository.findAll().get(0);
+        Property property = new Property();
+        property.setTitle("Concurrency Test Listing");
+        property.setPrice(new BigDecimal("100000"));
+        property.setAgent(agent);
+        propertyId = propertyRepository.save(property).getId();
+
+        numberAttributeId = attributeCatalog.findByName("Bedrooms").orElseThrow().id();
+        textAttributeId = attributeCatalog.findByName("City").orElseThrow().id();
+    }
+
+    @AfterEach
+    void deleteProperty() {
+        jdbcTemplate.update("DELETE FROM attribute_value WHERE property_id = ?", propertyId);
+        jdbcTemplate.update("DELETE FROM properties WHERE id = ?", propertyId);
+    }
+
+    @Test
+    @DisplayName("Concurrent upserts of the same keys never fail and leave exactly one row per key")
+    void concurrentUpserts_sameKeys_noConstraintViolations() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                        int bedrooms = (thread + i) % 6 + 1;
+                        if (i % 2 == 0) {
+                            propertyService.setAttributeValue(propertyId, numberAttributeId, bedrooms);
+                            propertyService.setAttributeValue(propertyId, textAttributeId, "City " + thread);
+                        } else {
+                            propertyService.setAttributeValues(Map.of(propertyId, Map.<Long, Object>of(
+                                    numberAttributeId, bedrooms,
+                                    textAttributeId, "City " + thread)));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(failures).isEmpty();
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT attribute_id, number_value, text_value FROM attribute_value WHERE property_id = ?",
+                propertyId);
+        assertThat(rows).hasSize(2);
+        assertThat(rows).anySatisfy(row -> {
+            assertThat(((Number) row.get("ATTRIBUTE_ID")).longValue()).isEqualTo(numberAttributeId);
+            assertThat((BigDecimal) row.get("NUMBER_VALUE")).isBetween(BigDecimal.ONE, new BigDecimal("6"));
+        });
+        assertThat(rows).anySatisfy(row -> {
+            assertThat(((Number) row.get("ATTRIBUTE_ID")).longValue()).isEqualTo(textAttributeId);
+            assertThat((String) row.get("TEXT_VALUE")).startsWith("City ");
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.repository.PropertyRepository;
+import com.realestatecrm.service.PropertyAttributeCatalog;
+import com.realestatecrm.service.PropertyService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@WithMockUser(username = "alice", roles = {"AGENT"})
+class BulkAttributeValueTests {
+
+    // PropertyService.MAX_BULK_ATTRIBUTE_VALUES
+    private static final int MAX_VALUES = 20_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyAttributeCatalog attributeCatalog;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long bedrooms;
+    private Long city;
+    private Long hasGarage;
+
+    @BeforeEach
+    void findAttributes() {
+        bedrooms = attributeCatalog.findByName("Bedrooms").orElseThrow().id();
+        city = attributeCatalog.findByName("City").orElseThrow().id();
+        hasGarage = attributeCatalog.findByName("Has Garage").orElseThrow().id();
+    }
+
+    @Test
+    @DisplayName("A multi-listing request writes every value, inserting new rows and updating existing ones")
+    void writesValuesForManyListings() throws Exception {
+        User agent = TestUsers.newAgent(userService, "bulk");
+        Long first = newListing(agent, "Bulk Listing 1");
+        Long second = newListing(agent, "Bulk Listing 2");
+        propertyService.setAttributeValue(first, bedrooms, 1);
+
+        Map<Long, Map<Long, Object>> properties = new LinkedHashMap<>();
+        properties.put(first, Map.of(bedrooms, 4, city, "Springfield", hasGarage, true));
+        properties.put(second, Map.of(bedrooms, 2, city, "Shelbyville"));
+
+        JsonNode response = objectMapper.readTree(mockMvc.perform(post("/api/properties/attribute-values/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("properties", properties))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        assertThat(response.get("propertyCount").asInt()).isEqualTo(2);
+        assertThat(response.get("valueCount").asInt()).isEqualTo(5);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT property_id, attribute_id, text_value, " +
+                "number_value, boolean_value FROM attribute_value WHERE property_id IN (?, ?)", first, second);
+        assertThat(rows).hasSize(5);
+        assertThat((BigDecimal) value(rows, first, bedrooms, "NUMBER_VALUE")).isEqualByComparingTo("4");
+        assertThat(value(rows, first, city, "TEXT_VALUE")).isEqualTo("Springfield");
+        assertThat(value(rows, first, hasGarage, "BOOLEAN_VALUE")).isEqualTo(true);
+        assertThat((BigDecimal) value(rows, second, bedrooms, "NUMBER_VALUE")).isEqualByComparingTo("2");
+        assertThat(value(rows, second, city, "TEXT_VALUE")).isEqualTo("Shelbyville");
+    }
+
+    @Test
+    @DisplayName("A request with more values than the per-request limit is rejected with 400 and writes nothing")
+    void rejectsRequestsOverTheLimit() throws Exception {
+        Long listing = newListing(TestUsers.newAgent(userService, "bulklimit"), "Bulk Limit Listing");
+        // Checked before anything else, so the attribute ids do not need to exist
+        Map<Long, Object> values = new LinkedHashMap<>();
+        for (long attributeId = 1; attributeId <= MAX_VALUES + 1; attributeId++) {
+            values.put(attributeId, 1);
+        }
+
+        mockMvc.perform(post("/api/properties/" + listing + "/attribute-values/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("values", values))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attribute_value WHERE property_id = ?",
+                Integer.class, listing)).isZero();
+    }
+
+    private Long newListing(User agent, String title) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setPrice(new BigDecimal("250000"));
+        property.setAgent(agent);
+        return propertyRepository.save(property).getId();
+    }
+
+    private static Object value(List<Map<String, Object>> rows, Long propertyId, Long attributeId, String column) {
+        return rows.stream()
+                .filter(row -> ((Number) row.get("PROPERTY_ID")).longValue() == propertyId
+                        && ((Number) row.get("ATTRIBUTE_ID")).longValue() == attributeId)
+                .findFirst().orElseThrow()
+                .get(column);
+    }
+}
@@ -0,0 +1,168 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.importing.ImportProcessor;
+import com.realestatecrm.importing.ImportRecord;
+import com.realestatecrm.importing.ImportReject;
+import com.realestatecrm.repository.CustomerRepository;
+import com.realestatecrm.service.CustomerImportProcessor;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class CustomerImportProcessorTests {
+
+    private static final List<String> COLUMNS = List.of("first_name", "last_name", "phone", "email", "agent");
+
+    @Autowired
+    private CustomerImportProcessor customerImportProcessor;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String suffix;
+    private User agent;
+
+    @BeforeEach
+    void createAgent() {
+        suffix = String.valueOf(System.nanoTime());
+        agent = TestUsers.newUser(userService, "importer", Role.AGENT);
+    }
+
+    @Test
+    @DisplayName("Records repeating an earlier record's email (in any case) or phone (in any format) are skipped")
+    void skipsDuplicatesWithinFile() {
+        List<ImportReject> rejects = new ArrayList<>();
+        ImportProcessor.ChunkResult result = importChunk(agent, rejects,
+                record(1, email("first"), phone(1)),
+                record(2, email("first").toUpperCase(), phone(2)),
+                record(3, email("third"), "+" + phone(1).charAt(0) + " (" + phone(1).substring(1) + ")"),
+                record(4, email("fourth"), phone(4)));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.duplicates()).isEqualTo(2);
+        assertThat(rejects).containsExactlyInAnyOrder(
+                new ImportReject(2, "Duplicate of an earlier record (email)"),
+                new ImportReject(3, "Duplicate of an earlier record (phone)"));
+        assertThat(customerRepository.findByEmail(email("first"))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Existing customers are matched case-insensitively, whether loaded at start or created during the run")
+    void skipsDuplicatesOfExistingCustomers() {
+        saveCustomer("Preloaded" + suffix + "@Example.com", phone(1));
+        ImportProcessor.Run run = customerImportProcessor.start(job(agent), COLUMNS);
+        // Created through the API after the keys were loaded: only the IN probe before the insert sees it
+        saveCustomer("Late" + suffix + "@Example.com", phone(2));
+
+        List<ImportReject> rejects = new ArrayList<>();
+        ImportProcessor.ChunkResult result = new TransactionTemplate(transactionManager).execute(status ->
+                run.importChunk(List.of(
+                        record(1, "preloaded" + suffix + "@example.com", phone(11)),
+                        record(2, email("other"), phone(1)),
+                        record(3, "late" + suffix + "@example.com", phone(13)),
+                        record(4, email("new"), phone(14))), rejects));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.duplicates()).isEqualTo(3);
+        assertThat(rejects).containsExactlyInAnyOrder(
+                new ImportReject(1, "Duplicate of an existing customer (email)"),
+                new ImportReject(2, "Duplicate of an existing customer (phone)"),
+                new ImportReject(3, "Duplicate of an existing customer (email)"));
+        assertThat(customerRepository.findByEmail("late" + suffix + "@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Records without an agent go round-robin to the importer's active agents; named agents must be accessible")
+    void assignsAgents() {
+        User broker = TestUsers.newUser(userService, "broker", Role.BROKER);
+        User first = TestUsers.newUser(userService, "first", Role.AGENT);
+        User second = TestUsers.newUser(userService, "second", Role.AGENT);
+        userService.addSupervisorRelationship(broker.getId(), first.getId());
+        userService.addSupervisorRelationship(broker.getId(), second.getId());
+        List<Long> agentIds = first.getId() < second.getId()
+                ? List.of(first.getId(), second.getId()) : List.of(second.getId(), first.getId());
+
+        List<ImportReject> rejects = new ArrayList<>();
+        importChunk(broker, rejects,
+                record(1, email("r1"), phone(1)),
+                record(2, email("r2"), phone(2)),
+                record(3, email("r3"), phone(3), second.getUsername().toUpperCase()),
+                record(4, email("r4"), phone(4), agent.getUsername()));
+
+        assertThat(agentOf(email("r1"))).isEqualTo(agentIds.get(1));
+        assertThat(agentOf(email("r2"))).isEqualTo(agentIds.get(0));
+        assertThat(agentOf(email("r3"))).isEqualTo(second.getId());
+        // The importing agent from the other tests is not in this broker's team
+        assertThat(rejects).containsExactly(
+                new ImportReject(4, "Agent not found or not accessible: " + agent.getUsername()));
+    }
+
+    private ImportProcessor.ChunkResult importChunk(User importer, List<ImportReject> rejects, ImportRecord... records) {
+        ImportProcessor.Run run = customerImportProcessor.start(job(importer), COLUMNS);
+        return new TransactionTemplate(transactionManager).execute(status -> run.importChunk(List.of(records), rejects));
+    }
+
+    private Long agentOf(String email) {
+        return customerRepository.findByEmail(email).orElseThrow().getAgent().getId();
+    }
+
+    private void saveCustomer(String email, String phone) {
+        Customer customer = new Customer("Existing", "Customer", phone, agent);
+        customer.setEmail(email);
+        customerRepository.save(customer);
+    }
+
+    private static ImportJob job(User importer) {
+        return new ImportJob(ImportJobType.CUSTOMER, ImportFormat.CSV, importer, "customers.csv");
+    }
+
+    private ImportRecord record(long number, String email, String phone) {
+        return record(number, email, phone, null);
+    }
+
+    private ImportRecord record(long number, String email, String phone, String agentUsername) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("first_name", "Lead");
+        fields.put("last_name", String.valueOf(number));
+        fields.put("phone", phone);
+        fields.put("email", email);
+        fields.put("agent", agentUsername);
+        return ImportRecord.of(number, fields);
+    }
+
+    private String email(String name) {
+        return name + suffix + "@example.com";
+    }
+
+    // Unique per test run so the keys of customers from other tests never match
+    private String phone(int n) {
+        return suffix + String.format("%02d", n);
+    }
+}
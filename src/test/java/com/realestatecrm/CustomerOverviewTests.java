@@ -0,0 +1,104 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.repository.CustomerRepository;
+import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class CustomerOverviewTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("The overview returns the customer with its newest notes, cut to the requested limit")
+    @WithMockUser(username = "alice", roles = {"AGENT"})
+    void overviewReturnsLimitedSections() throws Exception {
+        Customer customer = customerRepository.findByEmail("john.smith@example.com").orElseThrow();
+        User alice = userService.getUserByUsername("alice").orElseThrow();
+        customerService.createCustomerNote(customer.getId(), alice, "Overview note 1");
+        customerService.createCustomerNote(customer.getId(), alice, "Overview note 2");
+        customerService.createCustomerNote(customer.getId(), alice, "Overview note 3");
+
+        JsonNode overview = fetch("/api/customers/" + customer.getId() + "/overview?notes=2&interactions=0");
+
+        assertThat(overview.get("customer").get("id").asLong()).isEqualTo(customer.getId());
+        assertThat(overview.get("notes")).hasSize(2);
+        assertThat(overview.get("notes").get(0).get("content").asText()).isEqualTo("Overview note 3");
+        assertThat(overview.get("notes").get(1).get("content").asText()).isEqualTo("Overview note 2");
+        assertThat(overview.get("interactions")).isEmpty();
+        // alice is the customer's agent, so her saved searches are included
+        assertThat(overview.get("savedSearches").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Saved searches are neither queried nor returned for users who are not the customer's agent")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void savedSearchesOnlyForOwningAgent() throws Exception {
+        Customer customer = customerRepository.findByEmail("john.smith@example.com").orElseThrow();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        JsonNode overview = fetch("/api/customers/" + customer.getId() + "/overview");
+
+        assertThat(overview.get("customer").get("id").asLong()).isEqualTo(customer.getId());
+        assertThat(overview.get("savedSearches").isNull()).isTrue();
+        assertThat(Arrays.stream(statistics.getQueries())).noneMatch(query -> query.contains("FROM SavedSearch"));
+    }
+
+    @Test
+    @DisplayName("Unknown customers give 404 and out-of-range limits give 400")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void rejectsUnknownCustomerAndBadLimits() throws Exception {
+        mockMvc.perform(get("/api/customers/999999/overview"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/customers/1/overview?notes=51"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
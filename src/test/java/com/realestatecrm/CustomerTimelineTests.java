@@ -0,0 +1,129 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.CustomerInteraction;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@WithMockUser(username = "admin", roles = {"ADMIN"})
+class CustomerTimelineTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private UserService userService;
+
+    private User agent;
+    private Customer customer;
+
+    @BeforeEach
+    void createCustomer() {
+        agent = userService.getUserByUsername("alice").orElseThrow();
+        Customer newCustomer = new Customer("Timeline", "Customer " + System.nanoTime(), "555-0199", agent);
+        newCustomer.setStatus(CustomerStatus.LEAD);
+        customer = customerService.createCustomer(newCustomer);
+    }
+
+    @Test
+    @DisplayName("Walking the interaction timeline by cursor returns every interaction once, most recent first")
+    void interactionTimelinePagesByCursor() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2024, 6, 1, 9, 0);
+        List<Long> expected = new ArrayList<>();
+        // Two interactions share a timestamp so the id tie-breaker is exercised
+        for (LocalDateTime when : List.of(base, base.plusHours(1), base.plusHours(1), base.plusHours(2), base.plusHours(3))) {
+            CustomerInteraction interaction = new CustomerInteraction(null, null, InteractionType.PHONE_CALL, "Call", when);
+            interaction.setNotes("Long call notes that the timeline leaves out");
+            expected.add(customerService.createCustomerInteraction(customer.getId(), agent, interaction).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = fetch("/api/customers/" + customer.getId() + "/interactions/timeline?size=2"
+                    + (cursor != null ? "&cursor=" + cursor : ""));
+            for (JsonNode item : page.get("items")) {
+                seen.add(item.get("id").asLong());
+                assertThat(item.has("notes")).isFalse();
+            }
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        // Most recent first; of the two at the same time, the higher id first
+        assertThat(seen).containsExactly(expected.get(4), expected.get(3), expected.get(2), expected.get(1), expected.get(0));
+
+        JsonNode detail = fetch("/api/customers/" + customer.getId() + "/interactions/" + expected.get(0));
+        assertThat(detail.get("notes").asText()).isEqualTo("Long call notes that the timeline leaves out");
+    }
+
+    @Test
+    @DisplayName("Note timeline entries carry a preview and flag notes that were cut short")
+    void noteTimelineShowsPreview() throws Exception {
+        String longContent = "x".repeat(500);
+        customerService.createCustomerNote(customer.getId(), agent, "Short note");
+        Long longNoteId = customerService.createCustomerNote(customer.getId(), agent, longContent).getId();
+
+        JsonNode page = fetch("/api/customers/" + customer.getId() + "/notes/timeline");
+
+        assertThat(page.get("items")).hasSize(2);
+        assertThat(page.get("nextCursor").isNull()).isTrue();
+        JsonNode newest = page.get("items").get(0);
+        assertThat(newest.get("id").asLong()).isEqualTo(longNoteId);
+        assertThat(newest.get("truncated").asBoolean()).isTrue();
+        assertThat(newest.get("preview").asText()).hasSizeLessThan(longContent.length());
+        assertThat(page.get("items").get(1).get("truncated").asBoolean()).isFalse();
+
+        JsonNode detail = fetch("/api/customers/" + customer.getId() + "/notes/" + longNoteId);
+        assertThat(detail.get("content").asText()).isEqualTo(longContent);
+    }
+
+    @Test
+    @DisplayName("A malformed cursor or page size is rejected with 400")
+    void rejectsBadCursorAndSize() throws Exception {
+        mockMvc.perform(get("/api/customers/" + customer.getId() + "/notes/timeline?cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/customers/" + customer.getId() + "/interactions/timeline?size=0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,120 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.CustomerRepository;
+import com.realestatecrm.repository.PropertyRepository;
+import com.realestatecrm.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@WithMockUser(username = "alice", roles = {"AGENT"})
+class DashboardTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("The dashboard matches the per-agent, per-status counts and lists every status")
+    void dashboardMatchesPerStatusCounts() throws Exception {
+        User alice = userService.getUserByUsername("alice").orElseThrow();
+
+        JsonNode dashboard = fetch();
+
+        JsonNode aliceRow = null;
+        for (JsonNode agent : dashboard.get("agents")) {
+            if (agent.get("agentId").asLong() == alice.getId()) {
+                aliceRow = agent;
+            }
+        }
+        assertThat(aliceRow).isNotNull();
+        for (PropertyStatus status : PropertyStatus.values()) {
+            assertThat(aliceRow.get("properties").get(status.name()).asLong())
+                    .isEqualTo(propertyRepository.countByAgentIdAndStatus(alice.getId(), status));
+        }
+        for (CustomerStatus status : CustomerStatus.values()) {
+            assertThat(aliceRow.get("customers").get(status.name()).asLong())
+                    .isEqualTo(customerRepository.countByAgentIdAndStatus(alice.getId(), status));
+        }
+        assertThat(dashboard.get("properties").get(PropertyStatus.ACTIVE.name()).asLong())
+                .isGreaterThanOrEqualTo(aliceRow.get("properties").get(PropertyStatus.ACTIVE.name()).asLong());
+    }
+
+    @Test
+    @DisplayName("A second load within the cache TTL is served from the cache")
+    void dashboardIsCached() throws Exception {
+        String first = fetch().get("generatedAt").asText();
+        String second = fetch().get("generatedAt").asText();
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("A cold load runs exactly two statements for the whole dashboard; a load within the TTL runs none")
+    void coldLoadRunsTwoStatements() throws Exception {
+        // A user nobody has loaded the dashboard for, so the first load misses the cache
+        String username = TestUsers.newAgent(userService, "dashboard").getUsername();
+        RequestPostProcessor agent = user(username).roles("AGENT");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        statistics.clear();
+        JsonNode dashboard = fetch(agent);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        // The new agent has no rows but is still listed, named from the same statements
+        assertThat(dashboard.get("agents")).hasSize(1);
+        assertThat(dashboard.get("agents").get(0).get("agentName").asText()).isEqualTo(username);
+
+        statistics.clear();
+        fetch(agent);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private JsonNode fetch() throws Exception {
+        return fetch(request -> request);
+    }
+
+    private JsonNode fetch(RequestPostProcessor user) throws Exception {
+        String body = mockMvc.perform(get("/api/dashboard").with(user))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,200 @@
+package com.realestatecrm;
+
+import com.realestatecrm.generator.DataGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:generator",
+        "generator.users=20",
+        "generator.properties=300",
+        "generator.customers=120",
+        "generator.batch-size=50",
+        "generator.threads=2",
+        "generator.as-of=2025-06-30"})
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "generator"})
+class DataGeneratorTests {
+
+    private static final List<String> GENERATOR_PROPERTIES = List.of("generator.users", "generator.properties",
+            "generator.customers", "generator.batch-size", "generator.threads", "generator.as-of");
+
+    // The generated data set row by row, identified by natural keys (usernames, emails, listing facts) rather
+    // than ids and sorted on every column that could tie; TEXT columns are cast so rows compare by value
+    private static final List<String> CONTENT_QUERIES = List.of(
+            "SELECT username, email, first_name, last_name, role, created_date FROM users " +
+                    "WHERE username LIKE 'gen-%' ORDER BY 1",
+            "SELECT sup.username AS supervisor, sub.username AS subordinate FROM user_hierarchy h " +
+                    "JOIN users sup ON sup.id = h.supervisor_id JOIN users sub ON sub.id = h.subordinate_id " +
+                    "WHERE sub.username LIKE 'gen-%' ORDER BY 2, 1",
+            "SELECT u.username, p.title, CAST(p.description AS VARCHAR(4000)) AS description, p.price, p.status, " +
+                    "p.created_date, p.updated_date FROM properties p JOIN users u ON u.id = p.agent_id " +
+                    "WHERE u.username LIKE 'gen-%' ORDER BY 6, 2, 1, 3, 4, 5, 7",
+            "SELECT u.username, p.title, p.created_date, c.username AS changed_by, s.from_status, s.to_status, " +
+                    "s.changed_at FROM property_status_changes s JOIN properties p ON p.id = s.property_id " +
+                    "JOIN users u ON u.id = p.agent_id JOIN users c ON c.id = s.changed_by_user_id " +
+                    "WHERE u.username LIKE 'gen-%' ORDER BY 3, 2, 1, 7, 4, 5, 6",
+            "SELECT p.title, p.created_date, a.name, v.text_value, v.number_value, v.boolean_value, " +
+                    "CAST(v.multi_select_value AS VARCHAR(4000)) AS multi_select_value, v.date_value " +
+                    "FROM attribute_value v JOIN properties p ON p.id = v.property_id " +
+                    "JOIN property_attributes a ON a.id = v.attribute_id JOIN users u ON u.id = p.agent_id " +
+                    "WHERE u.username LIKE 'gen-%' ORDER BY 2, 1, 3, 4, 5, 6, 7, 8",
+            "SELECT c.email, c.first_name, c.last_name, c.phone, c.budget_min, c.budget_max, " +
+                    "CAST(c.notes AS VARCHAR(4000)) AS notes, c.lead_source, c.status, u.username, c.created_date, " +
+                    "c.updated_date FROM customers c JOIN users u ON u.id = c.agent_id " +
+                    "WHERE u.username LIKE 'gen-%' ORDER BY 1",
+            "SELECT c.email, CAST(n.content AS VARCHAR(4000)) AS content, n.created_date FROM customer_notes n " +
+                    "JOIN customers c ON c.id = n.customer_id WHERE c.email LIKE '%@example.net' ORDER BY 1, 3, 2",
+            "SELECT c.email, i.type, i.subject, CAST(i.notes AS VARCHAR(4000)) AS notes, i.interaction_date, " +
+                    "i.duration_minutes, p.title, p.created_date AS listed FROM customer_interactions i " +
+                    "JOIN customers c ON c.id = i.customer_id LEFT JOIN properties p ON p.id = i.related_property_id " +
+                    "WHERE c.email LIKE '%@example.net' ORDER BY 1, 5, 2, 3, 4, 6, 7, 8",
+            "SELECT c.email, s.name, s.description, s.created_date FROM saved_searches s " +
+                    "JOIN customers c ON c.id = s.customer_id WHERE c.email LIKE '%@example.net' ORDER BY 1, 2, 3, 4",
+            "SELECT u.username, k.activity_date, k.metric, k.dimension, k.total FROM pipeline_daily_counters k " +
+                    "JOIN users u ON u.id = k.agent_id WHERE u.username LIKE 'gen-%' ORDER BY 1, 2, 3, 4");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private DataGenerator dataGenerator;
+
+    @Test
+    @DisplayName("The generator writes the configured users, listings and customers with their related rows")
+    void generatesConfiguredDataSet() {
+        assertThat(count("SELECT COUNT(*) FROM users WHERE username LIKE 'gen-%'")).isEqualTo(20);
+        // Everyone but the managing broker reports to someone
+        assertThat(count("SELECT COUNT(*) FROM user_hierarchy h JOIN users u ON u.id = h.subordinate_id " +
+                "WHERE u.username LIKE 'gen-%'")).isEqualTo(19);
+        assertThat(count("SELECT COUNT(*) FROM properties p JOIN users u ON u.id = p.agent_id " +
+                "WHERE u.username LIKE 'gen-%'")).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM customers c JOIN users u ON u.id = c.agent_id " +
+                "WHERE u.username LIKE 'gen-%'")).isEqualTo(120);
+
+        long values = count("SELECT COUNT(*) FROM attribute_value v JOIN properties p ON p.id = v.property_id " +
+                "JOIN users u ON u.id = p.agent_id WHERE u.username LIKE 'gen-%'");
+        assertThat(values).isBetween(300L * 20, 300L * 40);
+        // Required attributes are on every listing
+        assertThat(count("SELECT COUNT(*) FROM attribute_value v JOIN property_attributes a ON a.id = v.attribute_id " +
+                "JOIN properties p ON p.id = v.property_id JOIN users u ON u.id = p.agent_id " +
+                "WHERE u.username LIKE 'gen-%' AND a.is_required = TRUE")).isEqualTo(300L * 5);
+    }
+
+    @Test
+    @DisplayName("The pipeline counters cover every generated interaction")
+    void countersMatchGeneratedInteractions() {
+        long interactions = count("SELECT COUNT(*) FROM customer_interactions i JOIN users u ON u.id = i.user_id " +
+                "WHERE u.username LIKE 'gen-%'");
+        long counted = count("SELECT COALESCE(SUM(c.total), 0) FROM pipeline_daily_counters c " +
+                "JOIN users u ON u.id = c.agent_id WHERE u.username LIKE 'gen-%' AND c.metric = 'INTERACTION_LOGGED'");
+
+        assertThat(interactions).isPositive();
+        assertThat(counted).isEqualTo(interactions);
+    }
+
+    @Test
+    @DisplayName("Listings that left ACTIVE have the status history that led there, counted in the pipeline counters")
+    void generatesStatusHistory() {
+        long changes = count("SELECT COUNT(*) FROM property_status_changes s JOIN users u ON u.id = s.changed_by_user_id " +
+                "WHERE u.username LIKE 'gen-%'");
+        // ACTIVE -> status, with SOLD going through PENDING
+        long expected = count("SELECT COALESCE(SUM(CASE p.status WHEN 'ACTIVE' THEN 0 WHEN 'SOLD' THEN 2 ELSE 1 END), 0) " +
+                "FROM properties p JOIN users u ON u.id = p.agent_id WHERE u.username LIKE 'gen-%'");
+        assertThat(changes).isPositive().isEqualTo(expected);
+
+        // The last change of every non-active listing moved it to its current status
+        assertThat(count("SELECT COUNT(*) FROM properties p JOIN users u ON u.id = p.agent_id " +
+                "WHERE u.username LIKE 'gen-%' AND p.status <> 'ACTIVE' AND NOT EXISTS (" +
+                "SELECT 1 FROM property_status_changes s WHERE s.property_id = p.id AND s.to_status = p.status " +
+                "AND s.changed_at = p.updated_date AND s.changed_by_user_id = p.agent_id)")).isZero();
+
+        long counted = count("SELECT COALESCE(SUM(c.total), 0) FROM pipeline_daily_counters c " +
+                "JOIN users u ON u.id = c.agent_id WHERE u.username LIKE 'gen-%' AND c.metric = 'PROPERTY_STATUS_CHANGED'");
+        assertThat(counted).isEqualTo(changes);
+    }
+
+    @Test
+    @DisplayName("The same seed and sizes generate the same data into a fresh database")
+    void sameSeedGeneratesSameData() {
+        // Arguments rather than builder properties, which application.yml would override
+        List<String> args = new ArrayList<>(List.of("--spring.datasource.url=jdbc:h2:mem:generator-again",
+                "--server.port=0"));
+        GENERATOR_PROPERTIES.forEach(name -> args.add("--" + name + "=" + environment.getProperty(name)));
+
+        try (ConfigurableApplicationContext again = new SpringApplicationBuilder(RealEstateCrmApplication.class)
+                .profiles("dev", "generator")
+                .run(args.toArray(String[]::new))) {
+            JdbcTemplate otherDatabase = again.getBean(JdbcTemplate.class);
+            for (String query : CONTENT_QUERIES) {
+                List<Map<String, Object>> expected = jdbcTemplate.queryForList(query);
+                assertThat(expected).as(query).isNotEmpty();
+                assertThat(otherDatabase.queryForList(query)).as(query).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A data set without its completion marker is deleted and generated again; a complete one is kept")
+    void partialRunIsGeneratedAgain() {
+        long savedSearches = count("SELECT COUNT(*) FROM saved_searches s JOIN customers c ON c.id = s.customer_id " +
+                "WHERE c.email LIKE '%@example.net'");
+        assertThat(count("SELECT COUNT(*) FROM generator_runs")).isEqualTo(1);
+
+        dataGenerator.generate();
+        assertThat(count("SELECT COUNT(*) FROM users WHERE username LIKE 'gen-%'")).isEqualTo(20);
+
+        // As if the run had stopped before the saved searches and the marker were written
+        jdbcTemplate.update("DELETE FROM saved_searches WHERE customer_id IN " +
+                "(SELECT id FROM customers WHERE email LIKE '%@example.net')");
+        jdbcTemplate.update("DELETE FROM generator_runs");
+        dataGenerator.generate();
+
+        assertThat(count("SELECT COUNT(*) FROM generator_runs")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE username LIKE 'gen-%'")).isEqualTo(20);
+        assertThat(count("SELECT COUNT(*) FROM properties p JOIN users u ON u.id = p.agent_id " +
+                "WHERE u.username LIKE 'gen-%'")).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM customers c JOIN users u ON u.id = c.agent_id " +
+                "WHERE u.username LIKE 'gen-%'")).isEqualTo(120);
+        assertThat(count("SELECT COUNT(*) FROM saved_searches s JOIN customers c ON c.id = s.customer_id " +
+                "WHERE c.email LIKE '%@example.net'")).isEqualTo(savedSearches);
+    }
+
+    @Test
+    @DisplayName("Generated listings are served by the API to their agent")
+    void generatedListingsAreReadable() throws Exception {
+        String agent = jdbcTemplate.queryForObject("SELECT u.username FROM properties p JOIN users u " +
+                "ON u.id = p.agent_id WHERE u.username LIKE 'gen-%' ORDER BY p.id FETCH FIRST 1 ROWS ONLY", String.class);
+
+        mockMvc.perform(get("/api/properties").with(user(agent).roles("AGENT")))
+                .andExpect(status().isOk());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
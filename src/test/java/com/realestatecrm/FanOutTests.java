@@ -0,0 +1,90 @@
+package com.realestatecrm;
+
+import com.realestatecrm.concurrency.FanOut;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutTests {
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Branches run concurrently: total time is close to the slowest branch, not the sum")
+    void branchesRunConcurrently() {
+        long start = System.nanoTime();
+        try (FanOut fanOut = FanOut.open()) {
+            FanOut.Branch<String> a = fanOut.fork(() -> sleepThen(300, "a"));
+            FanOut.Branch<String> b = fanOut.fork(() -> sleepThen(300, "b"));
+            FanOut.Branch<String> c = fanOut.fork(() -> sleepThen(300, "c"));
+            fanOut.join();
+
+            assertThat(List.of(a.get(), b.get(), c.get())).containsExactly("a", "b", "c");
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(800));
+    }
+
+    @Test
+    @DisplayName("The first failure cancels the other branches and reaches the caller unchanged")
+    void failureCancelsSiblings() {
+        AtomicBoolean slowBranchInterrupted = new AtomicBoolean();
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> {
+            try (FanOut fanOut = FanOut.open()) {
+                fanOut.fork(() -> {
+                    slowStarted.countDown();
+                    try {
+                        return never.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        slowBranchInterrupted.set(true);
+                        throw e;
+                    }
+                });
+                fanOut.fork(() -> {
+                    slowStarted.await(5, TimeUnit.SECONDS);
+                    throw new EntityNotFoundException("missing");
+                });
+                fanOut.join();
+            }
+        }).isInstanceOf(EntityNotFoundException.class).hasMessage("missing");
+
+        assertThat(slowBranchInterrupted).isTrue();
+    }
+
+    @Test
+    @DisplayName("Branches see the caller's authentication")
+    void branchesInheritSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("agent1", null, List.of()));
+
+        try (FanOut fanOut = FanOut.open()) {
+            FanOut.Branch<String> username = fanOut.fork(
+                    () -> SecurityContextHolder.getContext().getAuthentication().getName());
+            fanOut.join();
+
+            assertThat(username.get()).isEqualTo("agent1");
+        }
+    }
+
+    private static String sleepThen(long millis, String value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.realestatecrm;
+
+import com.realestatecrm.importing.FingerprintSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FingerprintSetTests {
+
+    @Test
+    void keepsEveryFingerprintAcrossResizes() {
+        FingerprintSet set = new FingerprintSet(16);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(set.add(FingerprintSet.fingerprint("key-" + i)));
+        }
+
+        assertEquals(10_000, set.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(set.contains(FingerprintSet.fingerprint("key-" + i)), "key-" + i);
+        }
+        for (int i = 10_000; i < 20_000; i++) {
+            assertFalse(set.contains(FingerprintSet.fingerprint("key-" + i)), "key-" + i);
+        }
+    }
+
+    @Test
+    void addReportsFingerprintsAlreadyPresent() {
+        FingerprintSet set = new FingerprintSet();
+        long fingerprint = FingerprintSet.fingerprint("e:lead@example.com");
+
+        assertTrue(set.add(fingerprint));
+        assertFalse(set.add(fingerprint));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void fingerprintIsNeverTheEmptySlotMarker() {
+        assertNotEquals(0L, FingerprintSet.fingerprint(""));
+        assertEquals(FingerprintSet.fingerprint("p:15550102000"), FingerprintSet.fingerprint("p:15550102000"));
+    }
+}
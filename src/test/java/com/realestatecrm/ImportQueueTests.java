@@ -0,0 +1,92 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobStatus;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.repository.ImportJobRepository;
+import com.realestatecrm.service.ImportJobService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class ImportQueueTests {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("importExecutor")
+    private ThreadPoolTaskExecutor importExecutor;
+
+    @Test
+    @DisplayName("A job the import queue rejects after its upload committed is saved as FAILED, not left QUEUED")
+    void jobRejectedAtHandOffIsFailed() throws Exception {
+        User user = TestUsers.newAgent(userService, "importer");
+        MockMultipartFile file = new MockMultipartFile("file", "listings.csv", "text/csv",
+                "title,price\nCottage,100000\n".getBytes(StandardCharsets.UTF_8));
+
+        ThreadPoolExecutor executor = importExecutor.getThreadPoolExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            // Occupy every worker, then all but one queue slot so the upload passes the capacity check
+            for (int i = 0; i < executor.getMaximumPoolSize(); i++) {
+                importExecutor.execute(blocker);
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (executor.getActiveCount() < executor.getMaximumPoolSize() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            while (executor.getQueue().remainingCapacity() > 1) {
+                importExecutor.execute(blocker);
+            }
+
+            // The last slot is taken before the upload's transaction commits and hands the job over
+            ImportJob job = new TransactionTemplate(transactionManager).execute(status -> {
+                ImportJob created = importJobService.createJob(ImportJobType.PROPERTY, file, ImportFormat.CSV, user);
+                importExecutor.execute(blocker);
+                return created;
+            });
+
+            ImportJob saved = importJobRepository.findById(job.getId()).orElseThrow();
+            assertThat(saved.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+            assertThat(saved.getMessage()).contains("queue was full");
+        } finally {
+            release.countDown();
+        }
+    }
+}
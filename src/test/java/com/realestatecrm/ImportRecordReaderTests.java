@@ -0,0 +1,110 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.importing.CsvRecordReader;
+import com.realestatecrm.importing.ImportRecord;
+import com.realestatecrm.importing.NdjsonRecordReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportRecordReaderTests {
+
+    @Test
+    void csvReaderHandlesQuotesEmbeddedNewlinesAndBlankLines() throws IOException {
+        String csv = "\uFEFFTitle,Price,Description\r\n" +
+                "\"Villa, with pool\",100,\"Line one\nline \"\"two\"\"\"\r\n" +
+                "\r\n" +
+                "Flat,200,\n";
+
+        try (CsvRecordReader reader = new CsvRecordReader(stream(csv))) {
+            assertEquals(List.of("title", "price", "description"), reader.columns());
+
+            ImportRecord first = reader.next();
+            assertEquals(1, first.number());
+            assertEquals("Villa, with pool", first.fields().get("title"));
+            assertEquals("Line one\nline \"two\"", first.fields().get("description"));
+
+            ImportRecord second = reader.next();
+            assertEquals(2, second.number());
+            assertEquals("Flat", second.fields().get("title"));
+            assertEquals("", second.fields().get("description"));
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void csvReaderFlagsRecordsWithWrongFieldCount() throws IOException {
+        try (CsvRecordReader reader = new CsvRecordReader(stream("title,price\nonly-one\n"))) {
+            ImportRecord record = reader.next();
+            assertTrue(record.isMalformed());
+            assertEquals(1, record.number());
+        }
+    }
+
+    @Test
+    void csvReaderSkipsToCheckpoint() throws IOException {
+        try (CsvRecordReader reader = new CsvRecordReader(stream("title\na\nb\nc\n"))) {
+            reader.skipTo(2);
+            ImportRecord record = reader.next();
+            assertEquals(3, record.number());
+            assertEquals("c", record.fields().get("title"));
+        }
+    }
+
+    @Test
+    void ndjsonReaderNumbersRecordsByLineAndFlagsInvalidJson() throws IOException {
+        String ndjson = "{\"Title\":\"A\",\"price\":1}\n\nnot json\n{\"title\":\"B\"}\n";
+
+        try (NdjsonRecordReader reader = new NdjsonRecordReader(stream(ndjson), new ObjectMapper())) {
+            ImportRecord first = reader.next();
+            assertEquals(1, first.number());
+            assertEquals("A", first.fields().get("title"));
+            assertEquals(1, first.fields().get("price"));
+
+            ImportRecord invalid = reader.next();
+            assertEquals(3, invalid.number());
+            assertTrue(invalid.isMalformed());
+
+            ImportRecord last = reader.next();
+            assertEquals(4, last.number());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void ndjsonReaderFlagsLinesThatAreNotObjects() throws IOException {
+        String ndjson = "null
+42
+[]
+"text"
+{"title":"C"}
+";
+
+        try (NdjsonRecordReader reader = new NdjsonRecordReader(stream(ndjson), new ObjectMapper())) {
+            for (long number = 1; number <= 4; number++) {
+                ImportRecord record = reader.next();
+                assertEquals(number, record.number());
+                assertTrue(record.isMalformed());
+                assertTrue(record.error().startsWith("Expected a JSON object"), record.error());
+            }
+
+            ImportRecord object = reader.next();
+            assertEquals(5, object.number());
+            assertFalse(object.isMalformed());
+            assertEquals("C", object.fields().get("title"));
+            assertNull(reader.next());
+        }
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.ImportJob;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.ImportFormat;
+import com.realestatecrm.enums.ImportJobStatus;
+import com.realestatecrm.enums.ImportJobType;
+import com.realestatecrm.repository.ImportJobRepository;
+import com.realestatecrm.service.ImportJobService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class ImportResumeTests {
+
+    @Autowired
+    private ImportJobService importJobService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @TempDir
+    private Path storage;
+
+    @Test
+    @DisplayName("Reject lines past the checkpoint are dropped on resume and written once by the retried chunk")
+    void resumeTrimsRejectsOfUncommittedChunk() throws Exception {
+        User user = TestUsers.newAgent(userService, "resumer");
+
+        // Both records are rejected (no title); record 1 was committed before the job failed, record 2 was not
+        Path source = Files.writeString(storage.resolve("listings.csv"), "title,price\n,100000\n,200000\n");
+        Path errors = Files.writeString(storage.resolve("errors.csv"),
+                "record,reason\n1,\"Title is required\"\n2,\"Written before the chunk rolled back\"\n",
+                StandardCharsets.UTF_8);
+        ImportJob job = new ImportJob(ImportJobType.PROPERTY, ImportFormat.CSV, user, "listings.csv");
+        job.setSourcePath(source.toString());
+        job.setErrorPath(errors.toString());
+        job.setStatus(ImportJobStatus.FAILED);
+        job.setLastCommittedRecord(1);
+        job = importJobRepository.save(job);
+
+        importJobService.resumeJob(job.getId(), user);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ImportJob finished = importJobRepository.findById(job.getId()).orElseThrow();
+        while (finished.getStatus() != ImportJobStatus.COMPLETED && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            finished = importJobRepository.findById(job.getId()).orElseThrow();
+        }
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+
+        List<String> lines = Files.readAllLines(errors, StandardCharsets.UTF_8);
+        assertThat(lines).containsExactly("record,reason", "1,\"Title is required\"", "2,\"Title is required\"");
+    }
+
+    @Test
+    @DisplayName("The lease sweep interrupts jobs whose lease expired and leaves jobs of live instances alone")
+    void leaseSweepOnlyTakesOverExpiredLeases() throws Exception {
+        User user = TestUsers.newAgent(userService, "leaser");
+        ImportJob live = importJobRepository.save(runningJob(user, "other-instance", LocalDateTime.now().plusMinutes(5)));
+        ImportJob expired = importJobRepository.save(runningJob(user, "stopped-instance", LocalDateTime.now().minusMinutes(1)));
+
+        importJobService.maintainLeases();
+
+        assertThat(importJobRepository.findById(live.getId()).orElseThrow().getStatus())
+                .isEqualTo(ImportJobStatus.RUNNING);
+        ImportJob interrupted = importJobRepository.findById(expired.getId()).orElseThrow();
+        assertThat(interrupted.getStatus()).isEqualTo(ImportJobStatus.INTERRUPTED);
+        assertThat(interrupted.getLeaseOwner()).isNull();
+    }
+
+    private ImportJob runningJob(User user, String leaseOwner, LocalDateTime leaseExpiresAt) throws Exception {
+        ImportJob job = new ImportJob(ImportJobType.PROPERTY, ImportFormat.CSV, user, "listings.csv");
+        job.setSourcePath(Files.writeString(storage.resolve(leaseOwner + ".csv"), "title,price\n").toString());
+        job.setErrorPath(storage.resolve(leaseOwner + "-errors.csv").toString());
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setLeaseOwner(leaseOwner);
+        job.setLeaseExpiresAt(leaseExpiresAt);
+        return job;
+    }
+}
@@ -0,0 +1,132 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.*;
+import com.realestatecrm.enums.InteractionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the DataLoader seed flow (demo properties with their attribute values, customers, notes and
+ * interactions), replayed for several rounds with one transaction per round, goes out as JDBC batches.
+ * Hibernate prepares one statement per batch, so with pooled sequences the prepared statements are the
+ * batches plus one sequence call per allocation block; with IDENTITY keys every row would be its own statement.
+ * <p>
+ * Runs on its own in-memory database so the templates are exactly the DataLoader rows.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:insert-batching")
+@ActiveProfiles("dev")
+class InsertBatchingTests {
+
+    private static final int ROUNDS = 10;
+
+    // allocationSize of every sequence the seed flow draws from
+    private static final int ALLOCATION_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    @DisplayName("The DataLoader seed flow, replayed for several rounds, prepares one statement per JDBC batch")
+    void seedFlowInsertsInBatches() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        List<AttributeValue> valueTemplates = tx.execute(status -> entityManager.createQuery(
+                "SELECT av FROM AttributeValue av JOIN FETCH av.property p JOIN FETCH p.agent JOIN FETCH av.attribute",
+                AttributeValue.class).getResultList());
+        List<Property> propertyTemplates = valueTemplates.stream().map(AttributeValue::getProperty).distinct().toList();
+        List<Customer> customerTemplates = tx.execute(status -> entityManager.createQuery(
+                "SELECT c FROM Customer c JOIN FETCH c.agent", Customer.class).getResultList());
+        assertThat(valueTemplates).isNotEmpty();
+        assertThat(customerTemplates).isNotEmpty();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            final int r = round;
+            tx.executeWithoutResult(status -> seedRound(r, propertyTemplates, valueTemplates, customerTemplates));
+        }
+
+        // Rows per table in one round: properties, attribute values, then customers with a note and an interaction each
+        List<Integer> rowsPerRound = List.of(propertyTemplates.size(), valueTemplates.size(),
+                customerTemplates.size(), customerTemplates.size(), customerTemplates.size());
+        long rows = ROUNDS * rowsPerRound.stream().mapToLong(Integer::longValue).sum();
+        long batches = ROUNDS * rowsPerRound.stream().mapToLong(n -> blocks(n, batchSize)).sum();
+        long sequenceCalls = rowsPerRound.stream().mapToLong(n -> blocks((long) ROUNDS * n, ALLOCATION_SIZE) + 1).sum();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(batches + sequenceCalls)
+                .isLessThan(rows);
+    }
+
+    private static long blocks(long rows, int size) {
+        return (rows + size - 1) / size;
+    }
+
+    private void seedRound(int round,
+                           List<Property> propertyTemplates,
+                           List<AttributeValue> valueTemplates,
+                           List<Customer> customerTemplates) {
+        Map<Long, Property> clones = new HashMap<>();
+        for (Property template : propertyTemplates) {
+            Property property = new Property(template.getTitle() + " #" + round, template.getPrice(),
+                    entityManager.getReference(User.class, template.getAgent().getId()));
+            property.setDescription(template.getDescription());
+            entityManager.persist(property);
+            clones.put(template.getId(), property);
+        }
+
+        for (AttributeValue template : valueTemplates) {
+            AttributeValue value = new AttributeValue(clones.get(template.getProperty().getId()),
+                    entityManager.getReference(PropertyAttribute.class, template.getAttribute().getId()));
+            value.setTextValue(template.getTextValue());
+            value.setNumberValue(template.getNumberValue());
+            value.setBooleanValue(template.getBooleanValue());
+            value.setMultiSelectValue(template.getMultiSelectValue());
+            entityManager.persist(value);
+        }
+
+        for (Customer template : customerTemplates) {
+            User agent = entityManager.getReference(User.class, template.getAgent().getId());
+            Customer customer = new Customer(template.getFirstName(), template.getLastName(), template.getPhone(), agent);
+            customer.setEmail(round + "." + template.getEmail());
+            customer.setBudgetMin(template.getBudgetMin());
+            customer.setBudgetMax(template.getBudgetMax());
+            customer.setLeadSource(template.getLeadSource());
+            entityManager.persist(customer);
+
+            entityManager.persist(new CustomerNote(customer, agent, "Initial consultation notes, round " + round));
+            entityManager.persist(new CustomerInteraction(customer, agent, InteractionType.PHONE_CALL,
+                    "Intro call", LocalDateTime.now().minusDays(round % 30)));
+        }
+    }
+}
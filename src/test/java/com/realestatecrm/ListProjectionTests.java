@@ -0,0 +1,94 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.monitoring.SqlStatementHeaderAdvice;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@WithMockUser(username = "alice", roles = {"AGENT"})
+class ListProjectionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("The property list loads no Property entities, leaves the description out and runs no statement per row")
+    void propertyListReadsProjections() throws Exception {
+        statistics.clear();
+        MockHttpServletResponse single = fetch("/api/properties?size=1");
+
+        MockHttpServletResponse page = fetch("/api/properties?size=20");
+        assertThat(statistics.getEntityStatistics(Property.class.getName()).getLoadCount()).isZero();
+        JsonNode content = objectMapper.readTree(page.getContentAsString()).get("content");
+        assertThat(content.size()).isGreaterThan(1);
+        for (JsonNode property : content) {
+            assertThat(property.get("title").isNull()).isFalse();
+            assertThat(property.get("description").isNull()).isTrue();
+        }
+        // A count query is skipped when the page is not full, so a longer page may run fewer statements, never more
+        assertThat(statementCount(page)).isLessThanOrEqualTo(statementCount(single));
+    }
+
+    @Test
+    @DisplayName("The customer list loads no Customer entities, leaves the notes out and runs no statement per row")
+    void customerListReadsProjections() throws Exception {
+        statistics.clear();
+        MockHttpServletResponse single = fetch("/api/customers?size=1");
+
+        MockHttpServletResponse page = fetch("/api/customers?size=20");
+        assertThat(statistics.getEntityStatistics(Customer.class.getName()).getLoadCount()).isZero();
+        JsonNode content = objectMapper.readTree(page.getContentAsString()).get("content");
+        assertThat(content.size()).isGreaterThan(1);
+        for (JsonNode customer : content) {
+            assertThat(customer.get("lastName").isNull()).isFalse();
+            assertThat(customer.get("notes").isNull()).isTrue();
+        }
+        // A count query is skipped when the page is not full, so a longer page may run fewer statements, never more
+        assertThat(statementCount(page)).isLessThanOrEqualTo(statementCount(single));
+    }
+
+    private MockHttpServletResponse fetch(String url) throws Exception {
+        return mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static int statementCount(MockHttpServletResponse response) {
+        return Integer.parseInt(response.getHeader(SqlStatementHeaderAdvice.STATEMENT_COUNT_HEADER));
+    }
+}
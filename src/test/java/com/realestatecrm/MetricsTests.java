@@ -0,0 +1,73 @@
+package com.realestatecrm;
+
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("dev")
+@WithMockUser(username = "alice", roles = {"AGENT"})
+class MetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("Service calls are timed per class and method")
+    void serviceCallsAreTimed() {
+        userService.getUserByUsername("alice");
+
+        Timer timer = meterRegistry.find("service.calls")
+                .tags("class", UserService.class.getName(), "method", "getUserByUsername")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Search filter counters exist for every data type")
+    void searchFilterCountersAreRegistered() {
+        for (PropertyDataType dataType : PropertyDataType.values()) {
+            assertThat(meterRegistry.find("property.search.filters").tag("dataType", dataType.name()).counter())
+                    .isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Prometheus serves service, search and auth filter meters with histogram buckets")
+    void prometheusServesHistograms() throws Exception {
+        mockMvc.perform(get("/api/dashboard")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("service_calls_seconds_bucket")
+                .contains("auth_token_filter_seconds_bucket")
+                .contains("property_search_candidates_properties_bucket")
+                .contains("http_server_sql_statements");
+    }
+}
@@ -0,0 +1,78 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.service.ApproximateCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class PagedListCountModeTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApproximateCountService approximateCountService;
+
+    @BeforeEach
+    void reseedCounters() {
+        // Other tests in the shared context may write rows behind the services' back
+        approximateCountService.refresh();
+    }
+
+    @Test
+    @DisplayName("count=none returns a slice without a total, count=approx matches the exact total when idle")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void countModes_onPropertyList() throws Exception {
+        JsonNode exact = fetch("/api/properties?size=2");
+        JsonNode approx = fetch("/api/properties?size=2&count=approx");
+        JsonNode none = fetch("/api/properties?size=2&count=none");
+
+        assertThat(approx.get("totalElements").asLong()).isEqualTo(exact.get("totalElements").asLong());
+        assertThat(none.has("totalElements")).isFalse();
+        assertThat(none.get("content").size()).isEqualTo(exact.get("content").size());
+        assertThat(none.get("last").asBoolean()).isEqualTo(exact.get("last").asBoolean());
+    }
+
+    @Test
+    @DisplayName("count=approx honours the status filter on the customer list")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void approxCount_onCustomerListWithStatus() throws Exception {
+        JsonNode exact = fetch("/api/customers?status=LEAD");
+        JsonNode approx = fetch("/api/customers?status=LEAD&count=approx");
+
+        assertThat(approx.get("totalElements").asLong()).isEqualTo(exact.get("totalElements").asLong());
+    }
+
+    @Test
+    @DisplayName("An unknown count mode is rejected with 400")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void unknownCountMode_isBadRequest() throws Exception {
+        mockMvc.perform(get("/api/properties?count=sometimes"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
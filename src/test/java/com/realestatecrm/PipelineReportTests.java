@@ -0,0 +1,160 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.CustomerInteraction;
+import com.realestatecrm.entity.Property;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.CustomerStatus;
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.enums.PipelineMetric;
+import com.realestatecrm.enums.PropertyStatus;
+import com.realestatecrm.repository.PipelineDailyCounterRepository;
+import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.PropertyService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class PipelineReportTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PipelineDailyCounterRepository pipelineDailyCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User agent;
+
+    @BeforeEach
+    void createAgent() {
+        agent = TestUsers.newAgent(userService, "report");
+    }
+
+    @Test
+    @DisplayName("The report rolls up the counters maintained by every change, by team, agent and day")
+    void reportReflectsDomainChanges() throws Exception {
+        Customer customer = customerService.createCustomer(new Customer("Report", "Customer", "555-0171", agent));
+        customerService.updateCustomerStatus(customer.getId(), CustomerStatus.QUALIFIED);
+
+        LocalDate day = LocalDate.now().minusDays(2);
+        CustomerInteraction call = logInteraction(customer, InteractionType.PHONE_CALL, day);
+        logInteraction(customer, InteractionType.PHONE_CALL, day);
+        logInteraction(customer, InteractionType.EMAIL, day);
+        customerService.deleteCustomerInteraction(call.getId());
+
+        Property property = propertyService.createProperty(new Property("Report listing", new BigDecimal("310000"), agent));
+        propertyService.updatePropertyStatus(property.getId(), PropertyStatus.PENDING);
+
+        JsonNode report = fetch("/api/reports/pipeline");
+
+        JsonNode team = report.get("team");
+        assertThat(team.get("CUSTOMER_STATUS_ENTERED").get("LEAD").asLong()).isEqualTo(1);
+        assertThat(team.get("CUSTOMER_STATUS_ENTERED").get("QUALIFIED").asLong()).isEqualTo(1);
+        assertThat(team.get("INTERACTION_LOGGED").get("PHONE_CALL").asLong()).isEqualTo(1);
+        assertThat(team.get("INTERACTION_LOGGED").get("EMAIL").asLong()).isEqualTo(1);
+        assertThat(team.get("PROPERTY_STATUS_CHANGED").get("PENDING").asLong()).isEqualTo(1);
+
+        assertThat(report.get("agents")).hasSize(1);
+        assertThat(report.get("agents").get(0).get("agentId").asLong()).isEqualTo(agent.getId());
+        JsonNode interactionDay = null;
+        for (JsonNode dayRow : report.get("days")) {
+            if (dayRow.get("day").asText().equals(day.toString())) {
+                interactionDay = dayRow;
+            }
+        }
+        assertThat(interactionDay).isNotNull();
+        assertThat(interactionDay.get("counts").get("INTERACTION_LOGGED").get("EMAIL").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Counters are written with the change's transaction and discarded on rollback")
+    void countersRollBackWithTheChange() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            customerService.createCustomer(new Customer("Rolled", "Back", "555-0172", agent));
+            status.setRollbackOnly();
+        });
+
+        LocalDate today = LocalDate.now();
+        assertThat(pipelineDailyCounterRepository.findRows(List.of(agent.getId()), today, today)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deleting a customer takes its interactions out of the counters")
+    void customerDeletionDecrementsInteractionCounters() {
+        Customer customer = customerService.createCustomer(new Customer("Deleted", "Customer", "555-0173", agent));
+        LocalDate day = LocalDate.now().minusDays(1);
+        logInteraction(customer, InteractionType.PHONE_CALL, day);
+        logInteraction(customer, InteractionType.PHONE_CALL, day);
+        logInteraction(customer, InteractionType.MEETING, day);
+        customerService.createCustomerNote(customer.getId(), agent, "Goes with the customer");
+
+        customerService.deleteCustomer(customer.getId());
+
+        assertThat(pipelineDailyCounterRepository.findRows(List.of(agent.getId()), day, day))
+                .filteredOn(row -> row.metric() == PipelineMetric.INTERACTION_LOGGED)
+                .hasSize(2)
+                .allSatisfy(row -> assertThat(row.total()).isZero());
+        assertThat(customerService.getCustomerById(customer.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("An inverted or over-long date range is rejected with 400")
+    void rejectsBadRange() throws Exception {
+        mockMvc.perform(get("/api/reports/pipeline?from=2025-02-01&to=2025-01-01")
+                        .with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/reports/pipeline?from=2023-01-01&to=2025-01-01")
+                        .with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private CustomerInteraction logInteraction(Customer customer, InteractionType type, LocalDate day) {
+        return customerService.createCustomerInteraction(customer.getId(), agent,
+                new CustomerInteraction(null, null, type, "Report " + type, day.atTime(10, 0)));
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url).with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
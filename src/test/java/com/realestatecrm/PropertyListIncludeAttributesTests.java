@@ -0,0 +1,70 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class PropertyListIncludeAttributesTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("include=attributes adds a single query per page, however many cards it has")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void listWithAttributes_loadsValuesInOneQuery() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // Warm up the attribute catalog so it does not count against either request
+        fetch("/api/properties?include=attributes&size=50");
+
+        statistics.clear();
+        JsonNode plain = fetch("/api/properties?size=50");
+        long plainStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        JsonNode withAttributes = fetch("/api/properties?include=attributes&size=50");
+        long withAttributesStatements = statistics.getPrepareStatementCount();
+
+        assertThat(withAttributes.get("content").size()).isEqualTo(plain.get("content").size());
+        assertThat(withAttributesStatements).isEqualTo(plainStatements + 1);
+
+        boolean anyAttributes = false;
+        for (JsonNode property : withAttributes.get("content")) {
+            assertThat(property.get("attributeValues").isArray()).isTrue();
+            anyAttributes |= property.get("attributeValues").size() > 0;
+        }
+        assertThat(anyAttributes).as("seeded properties carry attribute values").isTrue();
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
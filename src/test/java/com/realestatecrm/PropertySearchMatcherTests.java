@@ -0,0 +1,91 @@
+package com.realestatecrm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realestatecrm.dto.savedsearch.SearchFilterDTO;
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.repository.projection.AttributeValueRow;
+import com.realestatecrm.repository.projection.PropertySearchRow;
+import com.realestatecrm.search.PropertySearchMatcher;
+import com.realestatecrm.search.PropertySearchSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The matching stage of the property search runs on detached snapshots, so it is tested without a database.
+ */
+class PropertySearchMatcherTests {
+
+    private static final long BEDROOMS = 1L;
+    private static final long FEATURES = 2L;
+
+    private final PropertySearchMatcher matcher = new PropertySearchMatcher(new ObjectMapper());
+
+    private final PropertySearchSnapshot snapshot = PropertySearchSnapshot.of(
+            List.of(row(10L, "Cottage", "250000"), row(11L, "Villa", "900000"),
+                    row(12L, "Loft", "400000"), row(13L, "Studio", "150000")),
+            List.of(number(10L, 2), number(11L, 5), number(12L, 3), number(13L, 1),
+                    features(10L, "[\"Garden\"]"), features(11L, "[\"Pool\", \"Garden\"]"),
+                    features(12L, "[\"Balcony\"]")));
+
+    @Test
+    @DisplayName("Only listings matching every filter are returned, in the requested order")
+    void matchesAllFiltersAndSorts() {
+        List<Long> ids = matcher.match(snapshot, List.of(minBedrooms(2), anyFeature("garden", "balcony")),
+                matcher.ordering(Sort.by(Sort.Direction.DESC, "price")));
+
+        assertThat(ids).containsExactly(11L, 12L, 10L);
+    }
+
+    @Test
+    @DisplayName("A listing without a value for a filtered attribute does not match")
+    void missingValueDoesNotMatch() {
+        List<Long> ids = matcher.match(snapshot, List.of(anyFeature("Garden", "Balcony", "Pool")),
+                matcher.ordering(Sort.by("title")));
+
+        assertThat(ids).containsExactly(10L, 12L, 11L);
+    }
+
+    @Test
+    @DisplayName("Sorting by a field the snapshot does not carry is rejected")
+    void unknownSortFieldIsRejected() {
+        assertThatThrownBy(() -> matcher.ordering(Sort.by("description")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PropertySearchRow row(Long id, String title, String price) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id);
+        return new PropertySearchRow(id, title, new BigDecimal(price), created, created);
+    }
+
+    private static AttributeValueRow number(Long propertyId, int value) {
+        return new AttributeValueRow(propertyId * 100, propertyId, BEDROOMS, null, BigDecimal.valueOf(value), null, null, null);
+    }
+
+    private static AttributeValueRow features(Long propertyId, String json) {
+        return new AttributeValueRow(propertyId * 100 + 1, propertyId, FEATURES, null, null, null, json, null);
+    }
+
+    private static SearchFilterDTO minBedrooms(int min) {
+        SearchFilterDTO filter = new SearchFilterDTO();
+        filter.setAttributeId(BEDROOMS);
+        filter.setDataType(PropertyDataType.NUMBER);
+        filter.setMinValue(BigDecimal.valueOf(min));
+        return filter;
+    }
+
+    private static SearchFilterDTO anyFeature(String... features) {
+        SearchFilterDTO filter = new SearchFilterDTO();
+        filter.setAttributeId(FEATURES);
+        filter.setDataType(PropertyDataType.MULTI_SELECT);
+        filter.setSelectedValues(List.of(features));
+        return filter;
+    }
+}
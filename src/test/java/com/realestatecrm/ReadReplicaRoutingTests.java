@@ -0,0 +1,137 @@
+package com.realestatecrm;
+
+import com.realestatecrm.config.ReplicaDataSourceConfig;
+import com.realestatecrm.datasource.ReadYourWritesTracker;
+import com.realestatecrm.datasource.ReplicaDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Routing between two local H2 databases standing in for the primary and the replica.
+ * Each query asks H2 for the name of the database that answered it.
+ */
+class ReadReplicaRoutingTests {
+
+    private static final DataSource PRIMARY = h2("routing_primary");
+    private static final DataSource REPLICA = h2("routing_replica");
+    private static final DataSource UNREACHABLE = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/routing_missing", "sa", "");
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions go to the replica, read-write transactions to the primary")
+    void routesByReadOnlyFlag() {
+        Routing routing = new Routing(REPLICA, ReplicaDataSource.Failover.PRIMARY, Duration.ofSeconds(5));
+
+        assertThat(routing.databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+        assertThat(routing.databaseName(false)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+    }
+
+    @Test
+    @DisplayName("A user who just wrote reads from the primary until the window closes; other users stay on the replica")
+    void readYourWritesWindow() throws InterruptedException {
+        Routing routing = new Routing(REPLICA, ReplicaDataSource.Failover.PRIMARY, Duration.ofMillis(300));
+
+        authenticate("alice");
+        routing.databaseName(false);
+        assertThat(routing.databaseName(true)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+
+        authenticate("bob");
+        assertThat(routing.databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+
+        Thread.sleep(400);
+        authenticate("alice");
+        assertThat(routing.databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+    }
+
+    @Test
+    @DisplayName("With failover=primary an unreachable replica falls back to the primary")
+    void failoverToPrimary() {
+        Routing routing = new Routing(UNREACHABLE, ReplicaDataSource.Failover.PRIMARY, Duration.ofSeconds(5));
+
+        assertThat(routing.databaseName(true)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+        assertThat(routing.databaseName(true)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+    }
+
+    @Test
+    @DisplayName("With failover=fail an unreachable replica surfaces the connection error")
+    void failoverDisabled() {
+        Routing routing = new Routing(UNREACHABLE, ReplicaDataSource.Failover.FAIL, Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> routing.databaseName(true))
+                .isInstanceOf(DataAccessException.class);
+        assertThat(routing.databaseName(false)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+    }
+
+    @Test
+    @DisplayName("Connections requested with explicit credentials are routed the same way")
+    void routesConnectionsWithCredentials() throws SQLException {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        DataSource reads = new ReplicaDataSource(PRIMARY, REPLICA, tracker, ReplicaDataSource.Failover.PRIMARY,
+                Duration.ofSeconds(30));
+        DataSource unreachable = new ReplicaDataSource(PRIMARY, UNREACHABLE, tracker,
+                ReplicaDataSource.Failover.PRIMARY, Duration.ofSeconds(30));
+
+        try (Connection connection = reads.getConnection("sa", "")) {
+            assertThat(connection.getCatalog()).isEqualToIgnoringCase("ROUTING_REPLICA");
+        }
+        try (Connection connection = unreachable.getConnection("sa", "")) {
+            assertThat(connection.getCatalog()).isEqualToIgnoringCase("ROUTING_PRIMARY");
+        }
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static final class Routing {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        Routing(DataSource replica, ReplicaDataSource.Failover failover, Duration window) {
+            ReadYourWritesTracker tracker = new ReadYourWritesTracker(window);
+            DataSource dataSource = ReplicaDataSourceConfig.routingDataSource(
+                    PRIMARY, replica, tracker, failover, Duration.ofSeconds(30));
+
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            transactionManager.setTransactionExecutionListeners(List.of(tracker));
+
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String databaseName(boolean readOnlyTransaction) {
+            TransactionTemplate template = readOnlyTransaction ? readOnly : readWrite;
+            return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+        }
+    }
+}
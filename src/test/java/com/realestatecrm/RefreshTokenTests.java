@@ -0,0 +1,84 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.RefreshToken;
+import com.realestatecrm.repository.RefreshTokenRepository;
+import com.realestatecrm.service.RefreshTokenService;
+import com.realestatecrm.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class RefreshTokenTests {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("Only the SHA-256 digest of a refresh token is stored, never the token itself")
+    void storesDigestOfToken() throws Exception {
+        RefreshToken created = refreshTokenService.createRefreshToken(TestUsers.newAgent(userService, "digest").getId());
+
+        RefreshToken stored = refreshTokenRepository.findById(created.getId()).orElseThrow();
+        String digest = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(created.getToken().getBytes(StandardCharsets.UTF_8)));
+        assertThat(stored.getTokenHash()).isEqualTo(digest).isNotEqualTo(created.getToken());
+        assertThat(stored.getToken()).isNull();
+        assertThat(refreshTokenRepository.findByTokenHash(created.getToken())).isEmpty();
+        assertThat(refreshTokenService.findByToken(created.getToken())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Rotation issues a new token and the old one can no longer be redeemed")
+    void rotationRejectsOldToken() {
+        String oldToken = refreshTokenService.createRefreshToken(TestUsers.newAgent(userService, "rotate").getId())
+                .getToken();
+
+        String newToken = refreshTokenService.rotateRefreshToken(oldToken).getToken();
+
+        assertThat(newToken).isNotEqualTo(oldToken);
+        assertThat(refreshTokenService.findByToken(oldToken)).isEmpty();
+        assertThat(refreshTokenService.findByToken(newToken)).isPresent();
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(oldToken))
+                .isInstanceOf(RuntimeException.class);
+        // The failed replay leaves the current token usable
+        assertThat(refreshTokenService.rotateRefreshToken(newToken).getToken()).isNotEqualTo(newToken);
+    }
+
+    @Test
+    @DisplayName("The scheduled purge deletes expired and revoked tokens and keeps valid ones")
+    void purgeDeletesExpiredAndRevokedTokens() {
+        RefreshToken expired = refreshTokenService.createRefreshToken(TestUsers.newAgent(userService, "expired").getId());
+        RefreshToken revoked = refreshTokenService.createRefreshToken(TestUsers.newAgent(userService, "revoked").getId());
+        RefreshToken valid = refreshTokenService.createRefreshToken(TestUsers.newAgent(userService, "valid").getId());
+
+        RefreshToken expiring = refreshTokenRepository.findById(expired.getId()).orElseThrow();
+        expiring.setExpiryDate(Instant.now().minus(1, ChronoUnit.MINUTES));
+        refreshTokenRepository.save(expiring);
+        refreshTokenService.revokeToken(revoked.getToken());
+
+        refreshTokenService.purgeExpiredTokens();
+
+        assertThat(refreshTokenRepository.findById(expired.getId())).isEmpty();
+        assertThat(refreshTokenRepository.findById(revoked.getId())).isEmpty();
+        assertThat(refreshTokenRepository.findById(valid.getId())).isPresent();
+    }
+}
@@ -0,0 +1,79 @@
+package com.realestatecrm;
+
+import com.realestatecrm.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The application context with replica routing switched on. The replica pool points at the same in-memory
+ * database, since the schema is only created on the primary; the pools' active connections show which one
+ * a transaction used.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:testdb",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password="})
+@ActiveProfiles("dev")
+class ReplicaDataSourceConfigTests {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryPool")
+    private HikariDataSource primaryPool;
+
+    @Autowired
+    @Qualifier("replicaPool")
+    private HikariDataSource replicaPool;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("With the replica enabled the context starts and the routing data source is the primary one")
+    void routingDataSourceIsPrimary() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isSameAs(primaryPool);
+        assertThat(primaryPool.getPoolName()).isEqualTo("primary");
+        assertThat(replicaPool.getPoolName()).isEqualTo("replica");
+        assertThat(context.getBeansOfType(ReadYourWritesTracker.class)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Read-only transactions take a replica connection and read-write ones a primary connection")
+    void transactionsAreRouted() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        readOnly.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            assertThat(replicaPool.getHikariPoolMXBean().getActiveConnections()).isPositive();
+        });
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            assertThat(replicaPool.getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertThat(primaryPool.getHikariPoolMXBean().getActiveConnections()).isPositive();
+        });
+    }
+}
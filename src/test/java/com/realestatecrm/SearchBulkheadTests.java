@@ -0,0 +1,165 @@
+package com.realestatecrm;
+
+import com.realestatecrm.concurrency.Bulkhead;
+import com.realestatecrm.dto.savedsearch.PropertySearchCriteriaRequest;
+import com.realestatecrm.exception.BulkheadFullException;
+import com.realestatecrm.exception.BulkheadTimeoutException;
+import com.realestatecrm.service.SavedSearchService;
+import com.realestatecrm.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class SearchBulkheadTests {
+
+    private static final int CRUD_REQUESTS = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    @Qualifier("searchBulkhead")
+    private Bulkhead searchBulkhead;
+
+    @Autowired
+    private SavedSearchService savedSearchService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Property searches run on the search bulkhead and its exceptions reach the caller unchanged")
+    void searchRunsOnSearchBulkhead() {
+        long before = meterRegistry.timer("bulkhead.execution", "bulkhead", "search").count();
+
+        PropertySearchCriteriaRequest request = new PropertySearchCriteriaRequest();
+        request.setFilters(List.of());
+
+        assertThatThrownBy(() -> savedSearchService.executeSearch(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least one filter");
+        assertThat(meterRegistry.timer("bulkhead.execution", "bulkhead", "search").count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("A saturated bulkhead rejects further work immediately and counts the rejection")
+    void saturatedBulkheadRejects() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(1), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> release.await(5, TimeUnit.SECONDS)));
+            waitForGauge(registry, "bulkhead.active");
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> true));
+            waitForGauge(registry, "bulkhead.queue.depth");
+
+            assertThatThrownBy(() -> bulkhead.call(() -> true))
+                    .isInstanceOf(BulkheadFullException.class);
+            assertThat(registry.counter("bulkhead.rejected", "bulkhead", "test").count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A task that outlasts the timeout fails as a timeout, counted apart from rejections")
+    void slowTaskTimesOut() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofMillis(100), Duration.ofSeconds(1), registry);
+        try {
+            assertThatThrownBy(() -> bulkhead.call(() -> {
+                Thread.sleep(5_000);
+                return true;
+            })).isInstanceOf(BulkheadTimeoutException.class);
+
+            assertThat(registry.counter("bulkhead.timeouts", "bulkhead", "test").count()).isEqualTo(1);
+            assertThat(registry.counter("bulkhead.rejected", "bulkhead", "test").count()).isZero();
+        } finally {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A search storm that fills the search bulkhead does not raise the p99 of CRUD requests")
+    void searchStormLeavesCrudLatencyAlone() throws Exception {
+        String username = TestUsers.newAgent(userService, "storm").getUsername();
+        long baselineP99 = crudP99(username);
+
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newCachedThreadPool();
+        try {
+            // Slow searches, each holding a pooled connection, until the bulkhead turns the next one away
+            TestBulkheads.fill(searchBulkhead, meterRegistry, callers, () -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return release.await(30, TimeUnit.SECONDS);
+                }
+            });
+
+            long stormP99 = crudP99(username);
+
+            // Generous bound for a shared CI machine; waiting for a search slot or connection would take seconds
+            assertThat(stormP99).isLessThan(Math.max(baselineP99 * 5, TimeUnit.MILLISECONDS.toNanos(250)));
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    // p99 of listing the agent's properties, in nanoseconds
+    private long crudP99(String username) throws Exception {
+        long[] latencies = new long[CRUD_REQUESTS];
+        for (int i = 0; i < CRUD_REQUESTS; i++) {
+            long start = System.nanoTime();
+            mockMvc.perform(get("/api/properties").with(user(username).roles("AGENT")))
+                    .andExpect(status().isOk());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies[(int) Math.ceil(CRUD_REQUESTS * 0.99) - 1];
+    }
+
+    private static void waitForGauge(SimpleMeterRegistry registry, String gauge) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(gauge).gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
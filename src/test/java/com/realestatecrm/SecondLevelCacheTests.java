@@ -0,0 +1,108 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.PropertyAttribute;
+import com.realestatecrm.entity.PropertyAttributeOption;
+import com.realestatecrm.enums.PropertyDataType;
+import com.realestatecrm.repository.PropertyAttributeRepository;
+import com.realestatecrm.service.PropertyAttributeService;
+import com.realestatecrm.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("dev")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PropertyAttributeService propertyAttributeService;
+
+    @Autowired
+    private PropertyAttributeRepository propertyAttributeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("A repeated user lookup by username is served by the query cache and users region without SQL")
+    void userByUsername_secondReadIssuesNoSql() {
+        userService.getUserByUsername("admin").orElseThrow();
+
+        statistics.clear();
+        userService.getUserByUsername("admin").orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("An attribute and its options list are read from the cache on the second load")
+    void attributeWithOptions_secondReadIssuesNoSql() {
+        Long attributeId = selectAttributeId();
+        readOptions(attributeId);
+
+        statistics.clear();
+        List<String> options = readOptions(attributeId);
+
+        assertThat(options).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Adding an option through the service evicts the cached options list")
+    void addOption_evictsCachedOptionsList() {
+        Long attributeId = selectAttributeId();
+        List<String> before = readOptions(attributeId);
+
+        propertyAttributeService.addAttributeOption(attributeId, "Cache Test Option", 999);
+
+        List<String> after = readOptions(attributeId);
+        assertThat(after).hasSize(before.size() + 1).contains("Cache Test Option");
+    }
+
+    private Long selectAttributeId() {
+        return readOnly.execute(status -> propertyAttributeRepository.findByDataType(PropertyDataType.SINGLE_SELECT)
+                .stream()
+                .filter(attribute -> !attribute.getOptions().isEmpty())
+                .map(PropertyAttribute::getId)
+                .findFirst()
+                .orElseThrow());
+    }
+
+    private List<String> readOptions(Long attributeId) {
+        return readOnly.execute(status -> propertyAttributeRepository.findById(attributeId).orElseThrow()
+                .getOptions().stream()
+                .map(PropertyAttributeOption::getOptionValue)
+                .toList());
+    }
+}
@@ -0,0 +1,158 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.Customer;
+import com.realestatecrm.entity.CustomerInteraction;
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.InteractionType;
+import com.realestatecrm.monitoring.RequestSqlStats;
+import com.realestatecrm.monitoring.SqlCountingStatementInspector;
+import com.realestatecrm.monitoring.SqlStatementHeaderAdvice;
+import com.realestatecrm.service.CustomerService;
+import com.realestatecrm.service.UserService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class SqlBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private UserService userService;
+
+    private User agent;
+    private Customer customer;
+
+    @BeforeEach
+    void createData() {
+        agent = TestUsers.newAgent(userService, "budget");
+        customer = customerService.createCustomer(new Customer("Budget", "Customer", "555-0181", agent));
+        // More rows than the N+1 threshold: a per-row lookup would show up as a repeated statement
+        for (int i = 0; i < 8; i++) {
+            customerService.createCustomerNote(customer.getId(), agent, "Note " + i);
+            customerService.createCustomerInteraction(customer.getId(), agent,
+                    new CustomerInteraction(null, null, InteractionType.EMAIL, "Email " + i, LocalDateTime.now().minusHours(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Every endpoint with a declared budget stays within it")
+    void endpointsStayWithinTheirBudget() throws Exception {
+        for (String url : List.of(
+                "/api/activity",
+                "/api/customers/" + customer.getId() + "/notes/timeline",
+                "/api/customers/" + customer.getId() + "/interactions/timeline",
+                "/api/dashboard",
+                "/api/reports/pipeline")) {
+            MockHttpServletResponse response = mockMvc.perform(get(url).with(user(agent.getUsername()).roles("AGENT")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            String budget = response.getHeader(SqlStatementHeaderAdvice.STATEMENT_BUDGET_HEADER);
+            String count = response.getHeader(SqlStatementHeaderAdvice.STATEMENT_COUNT_HEADER);
+            assertThat(budget).as("budget of %s", url).isNotNull();
+            assertThat(count).as("statement count of %s", url).isNotNull();
+            assertThat(Integer.parseInt(count)).as("statements run by %s", url)
+                    .isPositive()
+                    .isLessThanOrEqualTo(Integer.parseInt(budget));
+        }
+    }
+
+    @Test
+    @DisplayName("Statements run on fan-out branches count against the request's budget")
+    void fanOutBranchesCountAgainstTheBudget() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/customers/" + customer.getId() + "/overview")
+                        .with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        int budget = Integer.parseInt(response.getHeader(SqlStatementHeaderAdvice.STATEMENT_BUDGET_HEADER));
+        int count = Integer.parseInt(response.getHeader(SqlStatementHeaderAdvice.STATEMENT_COUNT_HEADER));
+        // Only the user and customer lookups run on the request thread; the sections are read on branch threads
+        assertThat(count).isGreaterThan(2).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    @DisplayName("A statement counted on another thread through propagate() lands in the caller's statistics")
+    void propagatedTaskCountsAgainstTheCaller() throws Exception {
+        SqlCountingStatementInspector inspector = new SqlCountingStatementInspector();
+        RequestSqlStats stats = RequestSqlStats.begin(5);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            executor.submit(RequestSqlStats.propagate(() -> inspector.inspect("select * from users where id = ?"))).get();
+            assertThat(executor.submit(RequestSqlStats::current).get()).isNull();
+        } finally {
+            RequestSqlStats.end();
+        }
+
+        assertThat(stats.getStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Statement counts are recorded per endpoint")
+    void statementCountsAreRecordedPerEndpoint() throws Exception {
+        mockMvc.perform(get("/api/customers/" + customer.getId() + "/notes/timeline")
+                        .with(user(agent.getUsername()).roles("AGENT")))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("http.server.sql.statements")
+                .tags("method", "GET", "uri", "/api/customers/{id}/notes/timeline")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+        assertThat(meterRegistry.find("http.server.sql.time")
+                .tags("uri", "/api/customers/{id}/notes/timeline").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("A statement repeated with different IN-list lengths is one shape and flagged with a stack trace")
+    void repeatedShapeIsFlagged() {
+        SqlCountingStatementInspector inspector = new SqlCountingStatementInspector();
+        RequestSqlStats stats = RequestSqlStats.begin(3);
+        try {
+            inspector.inspect("select * from customers where id in (?)");
+            inspector.inspect("select * from customers where id in (?, ?)");
+            inspector.inspect("select * from users where id = ?");
+            inspector.inspect("select * from customers where id in (?,?,?)");
+            inspector.inspect("select * from customers where id in (?, ?,  ?, ?)");
+        } finally {
+            RequestSqlStats.end();
+        }
+
+        assertThat(stats.getStatements()).isEqualTo(5);
+        assertThat(stats.getRepeatedShapes()).singleElement().satisfies(shape -> {
+            assertThat(shape.getSql()).isEqualTo("select * from customers where id in (?, ...)");
+            assertThat(shape.getCount()).isEqualTo(4);
+            assertThat(shape.getSample()).isNotNull();
+            assertThat(shape.getSample().getStackTrace()).isNotEmpty();
+        });
+        assertThat(RequestSqlStats.current()).isNull();
+    }
+}
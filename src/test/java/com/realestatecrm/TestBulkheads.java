@@ -0,0 +1,48 @@
+package com.realestatecrm;
+
+import com.realestatecrm.concurrency.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saturating the application's bulkheads from integration tests, watching their gauges in the shared
+ * meter registry.
+ */
+final class TestBulkheads {
+
+    private TestBulkheads() {
+    }
+
+    // Submit the task from background callers until the bulkhead rejects one
+    static void fill(Bulkhead bulkhead, MeterRegistry meterRegistry, ExecutorService callers, Callable<Boolean> task)
+            throws InterruptedException {
+        CompletableFuture<Boolean> call;
+        int submitted = 0;
+        do {
+            call = CompletableFuture.supplyAsync(() -> bulkhead.call(task), callers);
+            submitted++;
+            waitUntilHeld(bulkhead.getName(), meterRegistry, call, submitted);
+        } while (!call.isCompletedExceptionally() && submitted < 1000);
+        assertThat(call).isCompletedExceptionally();
+    }
+
+    // Until the call is running or queued, or was rejected
+    private static void waitUntilHeld(String bulkhead, MeterRegistry meterRegistry, CompletableFuture<Boolean> call,
+                                      int submitted) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!call.isDone() && System.nanoTime() < deadline) {
+            double held = meterRegistry.get("bulkhead.active").tag("bulkhead", bulkhead).gauge().value()
+                    + meterRegistry.get("bulkhead.queue.depth").tag("bulkhead", bulkhead).gauge().value();
+            if (held >= submitted) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+    }
+}
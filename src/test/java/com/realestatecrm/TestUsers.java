@@ -0,0 +1,26 @@
+package com.realestatecrm;
+
+import com.realestatecrm.entity.User;
+import com.realestatecrm.enums.Role;
+import com.realestatecrm.service.UserService;
+
+/**
+ * Users for integration tests. Tests share one application context and database, so every user gets a
+ * unique name: the prefix followed by {@link System#nanoTime()}. The password is always {@code password}.
+ */
+final class TestUsers {
+
+    static final String PASSWORD = "password";
+
+    private TestUsers() {
+    }
+
+    static User newAgent(UserService userService, String prefix) {
+        return newUser(userService, prefix, Role.AGENT);
+    }
+
+    static User newUser(UserService userService, String prefix, Role role) {
+        String username = prefix + System.nanoTime();
+        return userService.createUser(new User(username, PASSWORD, username + "@example.com", role));
+    }
+}